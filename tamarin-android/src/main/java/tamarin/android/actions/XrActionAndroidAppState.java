@@ -10,12 +10,16 @@ import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.Action;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionManifest;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionRegistry;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionSet;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.actionprofile.SuggestedBindingsProfileView;
-import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.ActionStateSnapshot;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
+import com.onemillionworlds.tamarin.actions.state.PoseActionStateCache;
 import com.onemillionworlds.tamarin.actions.state.Vector2fActionState;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.openxrbindings.BufferUtils;
@@ -108,12 +112,14 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
 
     private static final Logger LOGGER = Logger.getLogger(XrActionAndroidAppState.class.getName());
 
+    private static final HandJoint[] HAND_JOINTS = HandJoint.values();
+
     private static final SingleOccurrenceLog SINGLE_LOGGER = new SingleOccurrenceLog(LOGGER);
 
     /**
-     * A map of the action -> input -> handle for action space. Typically one for each hand.
+     * Gives each action and each (action, sub action path) a dense index that the arrays below are indexed by.
      */
-    private final Map<ActionHandle,Map<String, Long>> poseActionInputSpaceHandles = new HashMap<>();
+    private final ActionRegistry actionRegistry;
 
     /**
      * A map of paths (e.g. /user/hand/right) to the handle used to address it.
@@ -133,12 +139,45 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
     private Map<String, XrActionSet> actionSets;
 
     /**
-     * This is action set -> action name -> action
+     * The XrAction for each action, indexed by the action's registry index. Null until the actions are registered
+     */
+    private XrAction[] registeredActions;
+
+    /**
+     * The sub action path handle for each registry slot (NULL for the unrestricted slots).
      */
-    private Map<String, Map<String, XrAction>> actions;
+    private long[] slotSubActionPaths;
+
+    /**
+     * The action space for each registry slot of a pose action (null for other slots). Typically one for each hand.
+     */
+    private XrSpace[] slotSpaces;
 
     private final EnumMap<HandSide, XrHandTrackerEXT> handTrackers = new EnumMap<>(HandSide.class);
 
+    /**
+     * Holds the boolean/float/vector2f action states as sampled just after the last sync (if snapshots are enabled).
+     */
+    private final ActionStateSnapshot actionStateSnapshot;
+
+    /**
+     * Holds the poses located for the current predicted frame time, so repeated queries within a frame don't
+     * locate the space again (and all consumers see the same pose).
+     */
+    private final PoseActionStateCache poseCache;
+
+    /**
+     * The registry slots that have a pose action space, in the order they are batch located.
+     */
+    private int[] poseSlots = new int[0];
+
+    /**
+     * These are only used when batch locating poses. They are created once (after the actions are registered)
+     * and reused every frame.
+     */
+    private XrSpaceLocation batchSpaceLocation;
+    private XrSpaceVelocity batchSpaceVelocity;
+
     /**
      * Contains the currently active profiles
      */
@@ -190,6 +229,9 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             throw new RuntimeException("No starting action sets specified, that means no actions will be usable. Probably not what you want. If you really really want that then set anything here then call setActiveActionSets() with no arguments later");
         }
         this.pendingActions = new PendingActions(manifest, startingActionSets);
+        this.actionRegistry = new ActionRegistry(manifest);
+        this.actionStateSnapshot = new ActionStateSnapshot(actionRegistry);
+        this.poseCache = new PoseActionStateCache(actionRegistry.getNumberOfSlots());
     }
 
 
@@ -199,6 +241,9 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         this.openXRGL = xrAppState.getXrSession();
         this.xrSessionHandle = openXRGL.getXrSession();
         this.xrInstance = openXRGL.getXrInstance();
+        if (xrAppState.getXrSettings().isBatchPoseLocating()){
+            setBatchPoseLocatingEnabled(true);
+        }
     }
 
     @Override
@@ -227,7 +272,7 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             XrBoundSourcesForActionEnumerateInfo enumerateInfo = XrBoundSourcesForActionEnumerateInfo.malloc(stack)
                     .type$Default()
                     .next(0)
-                    .action(obtainActionFromHandle(actionHandle));
+                    .action(obtainActionHandle(actionHandle));
 
             XrSession xrSession = xrAppState.getXrSession().getXrSession();
 
@@ -275,7 +320,8 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         LOGGER.log(Level.INFO, "Registering manifest");
 
         actionSets = new HashMap<>();
-        actions = new HashMap<>();
+        registeredActions = new XrAction[actionRegistry.getNumberOfActions()];
+        slotSpaces = new XrSpace[actionRegistry.getNumberOfSlots()];
 
 
         try (MemoryStack stack = MemoryStack.stackGet().push()){
@@ -327,7 +373,8 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
 
                     withResponseCodeLogging("xrStringToPath", XR10.xrCreateAction(xrActionSet, xrActionCreateInfo, actionPointer));
                     XrAction xrAction = new XrAction(actionPointer.get(0));
-                    actions.computeIfAbsent(actionSet.getName(), name -> new HashMap<>()).put(action.getActionName(), xrAction);
+                    int actionIndex = actionRegistry.findActionIndex(action.getActionHandle());
+                    registeredActions[actionIndex] = xrAction;
 
                     if(action.getActionType() == ActionType.POSE){
                         if(action.getSupportedSubActionPaths().isEmpty()){
@@ -350,7 +397,7 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
 
                             withResponseCodeLogging("Create pose space", XR10.xrCreateActionSpace(xrSessionHandle, actionSpaceCreateInfo, spacePointer));
 
-                            poseActionInputSpaceHandles.computeIfAbsent(new ActionHandle(action.getActionSetName(), action.getActionName()), key -> new HashMap<>()).put(input, spacePointer.get(0));
+                            slotSpaces[actionRegistry.findSlot(actionIndex, input)] = new XrSpace(spacePointer.get(0));
                         }
 
                     }
@@ -371,7 +418,7 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
                     LongBufferView bindingHandleBuffer = stack.callocLong(1);
                     checkResponseCode("xrStringToPath:" + actionAndBinding.getValue(), XR10.xrStringToPath(xrInstance, stack.utf8(actionAndBinding.getValue()), bindingHandleBuffer));
 
-                    XrAction action = actions.get(actionAndBinding.getKey().getActionSet()).get(actionAndBinding.getKey().getActionName());
+                    XrAction action = obtainActionHandle(new ActionHandle(actionAndBinding.getKey().getActionSet(), actionAndBinding.getKey().getActionName()));
                     if(action == null){
                         throw new RuntimeException("Handle for " + actionAndBinding.getKey().getActionName() + " is (java) null");
                     }
@@ -414,8 +461,16 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             actionSetsAttachInfo.actionSets(actionSetsBuffer);
             checkResponseCode("xrAttachSessionActionSets", XR10.xrAttachSessionActionSets(xrSessionHandle, actionSetsAttachInfo));
 
+            slotSubActionPaths = new long[actionRegistry.getNumberOfSlots()];
+            for(int slot = 0; slot < slotSubActionPaths.length; slot++){
+                String subActionPath = actionRegistry.getSlotSubActionPath(slot);
+                slotSubActionPaths[slot] = subActionPath == null ? NULL : pathToLong(subActionPath, true);
+            }
+
             setActiveActionSets(startingActionSets);
 
+            createBatchPoseLocationBuffers();
+
             if(xrAppState.checkExtensionLoaded(XR10Constants.XR_EXT_HAND_TRACKING_EXTENSION_NAME)){
                 for(HandSide handSide : HandSide.values()){
                     XrHandTrackerCreateInfoEXT createHandTracking = XrHandTrackerCreateInfoEXT.malloc(stack)
@@ -441,6 +496,75 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         }
     }
 
+    /**
+     * Samples every action in the active action sets into the snapshot. If any sample fails the snapshot is left
+     * invalid, so the getters fall back to querying directly (and report the problem there).
+     */
+    private void sampleActionStateSnapshot(){
+        actionStateSnapshot.invalidate();
+        boolean allSucceeded = true;
+        try(MemoryStack stack = MemoryStack.stackGet().push()){
+            XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
+            actionInfo.type$Default();
+            XrActionStateBoolean booleanState = XrActionStateBoolean.calloc(stack);
+            booleanState.type$Default();
+            XrActionStateFloat floatState = XrActionStateFloat.calloc(stack);
+            floatState.type$Default();
+            XrActionStateVector2f vector2fState = XrActionStateVector2f.calloc(stack);
+            vector2fState.type$Default();
+
+            for(int slot : actionStateSnapshot.getActiveSlots()){
+                actionInfo.action(registeredActions[actionRegistry.getSlotActionIndex(slot)]);
+                actionInfo.subactionPath(slotSubActionPaths[slot]);
+                switch(actionStateSnapshot.getSlotType(slot)){
+                    case BOOLEAN -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateBoolean", XR10.xrGetActionStateBoolean(xrSessionHandle, actionInfo, booleanState));
+                        actionStateSnapshot.recordBoolean(slot, booleanState.currentState() != 0, booleanState.changedSinceLastSync() != 0);
+                    }
+                    case FLOAT -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateFloat", XR10.xrGetActionStateFloat(xrSessionHandle, actionInfo, floatState));
+                        actionStateSnapshot.recordFloat(slot, floatState.currentState(), floatState.changedSinceLastSync() == XR10Constants.XR_TRUE);
+                    }
+                    case VECTOR2F -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateVector2f", XR10.xrGetActionStateVector2f(xrSessionHandle, actionInfo, vector2fState));
+                        actionStateSnapshot.recordVector2f(slot, vector2fState.currentState().x(), vector2fState.currentState().y(), vector2fState.changedSinceLastSync() == XR10Constants.XR_TRUE);
+                    }
+                    default -> throw new IllegalStateException("Unexpected snapshot action type " + actionStateSnapshot.getSlotType(slot));
+                }
+            }
+        }
+        if (allSucceeded){
+            actionStateSnapshot.markValid();
+        }
+    }
+
+    /**
+     * @return if the query can be answered from the snapshot, rather than going to OpenXR directly
+     */
+    private boolean useSnapshot(int slot, ActionType actionType){
+        return isActionStateSnapshotsEnabled() && actionStateSnapshot.canAnswer(slot, actionType);
+    }
+
+    /**
+     * @return the path handle for the restriction, the slot's handle if available otherwise looked up from the string
+     */
+    private long subActionPathHandle(int slot, String restrictToInput){
+        return slot == ActionRegistry.NOT_FOUND ? pathToLong(restrictToInput, true) : slotSubActionPaths[slot];
+    }
+
+    private int findActionIndex(ActionHandle actionHandle){
+        int actionIndex = actionRegistry.findActionIndex(actionHandle);
+        if (actionIndex == ActionRegistry.NOT_FOUND){
+            throw new RuntimeException("No action found for " + actionHandle + ". Have you registered it in the manifest?");
+        }
+        return actionIndex;
+    }
+
+    @Override
+    public ResolvedActionHandle resolveActionHandle(ActionHandle action, String restrictToInput){
+        return actionRegistry.resolve(action, restrictToInput);
+    }
+
     @Override
     public void setActiveActionSets(List<String> actionSets){
 
@@ -463,6 +587,8 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             activeActionSetsBuffer.get(i).actionSet(activeActionSets.get(i));
         }
         this.xrActionsSyncInfo.activeActionSets(activeActionSetsBuffer);
+
+        actionStateSnapshot.setActiveActionSets(actionSets);
     }
 
     private static ByteBuffer stringToByte(String str){
@@ -510,16 +636,35 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         if (!isReady()){
             return new BooleanActionState(false, false);
         }
+        int actionIndex = findActionIndex(action);
+        return getBooleanActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
+
+    @Override
+    public BooleanActionState getBooleanActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getBooleanActionState(action.actionHandle(), action.restrictToInput());
+        }
+        if (!isReady()){
+            return new BooleanActionState(false, false);
+        }
+        return getBooleanActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private BooleanActionState getBooleanActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.BOOLEAN)){
+            return actionStateSnapshot.getBooleanActionState(slot);
+        }
 
         try(MemoryStack stack = MemoryStack.stackGet().push()){
             XrActionStateBoolean actionState = XrActionStateBoolean.calloc(stack);
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionFromHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
 
             if (restrictToInput != null){
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
 
             XrResult responseCode = XR10.xrGetActionStateBoolean(xrSessionHandle, actionInfo, actionState);
@@ -532,12 +677,20 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         }
     }
 
-    private XrAction obtainActionFromHandle(ActionHandle actionHandle){
-        try{
-            return actions.get(actionHandle.actionSetName()).get(actionHandle.actionName());
-        }catch(NullPointerException nullPointerException){
-            throw new RuntimeException("No action found for " + actionHandle + ". Have you registered it in the manifest?", nullPointerException);
+    private XrAction obtainActionHandle(ActionHandle actionHandle){
+        return registeredActions[findActionIndex(actionHandle)];
+    }
+
+    /**
+     * @return the registry slot of the pose action on that hand (which will have an action space)
+     */
+    private int obtainPoseSlot(ActionHandle poseAction, HandSide handSide){
+        int actionIndex = actionRegistry.findActionIndex(poseAction);
+        int slot = actionIndex == ActionRegistry.NOT_FOUND ? ActionRegistry.NOT_FOUND : actionRegistry.findHandSlot(actionIndex, handSide);
+        if (slot == ActionRegistry.NOT_FOUND || slotSpaces[slot] == null){
+            throw new RuntimeException("No pose action found for " + poseAction + " and handSide " + handSide + ". Have you registered it in the manifest?");
         }
+        return slot;
     }
 
     @Override
@@ -564,14 +717,23 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         if (!isReady()){
             return Optional.empty();
         }
+        long predictedTime = openXRGL.getPredictedFrameTime();
+        if (predictedTime == 0) {
+            //not set up yet
+            return Optional.empty();
+        }
 
-        try(MemoryStack stack = MemoryStack.stackGet().push()) {
-            long predictedTime = openXRGL.getPredictedFrameTime();
-            if (predictedTime == 0) {
-                //not set up yet
-                return Optional.empty();
-            }
+        int slot = obtainPoseSlot(action, handSide);
+        if (poseCache.isCached(slot, stageRelative, predictedTime)){
+            return poseCache.get(slot, stageRelative);
+        }
+        Optional<PoseActionState> pose = locatePose(slotSpaces[slot], stageRelative, predictedTime);
+        poseCache.put(slot, stageRelative, predictedTime, pose);
+        return pose;
+    }
 
+    private Optional<PoseActionState> locatePose(XrSpace poseSpace, boolean stageRelative, long predictedTime){
+        try(MemoryStack stack = MemoryStack.stackGet().push()) {
             XrSpaceVelocity spaceVelocity = XrSpaceVelocity.calloc(stack)
                     .type$Default();
 
@@ -579,56 +741,78 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
                     .type$Default()
                     .next(spaceVelocity.address());
 
-            long spaceHandle;
-            try {
-                spaceHandle = poseActionInputSpaceHandles.get(action).get(handSide.restrictToInputString);
-            } catch (NullPointerException nullPointerException) {
-                throw new RuntimeException("No pose action found for " + action + " and handSide " + handSide + ". Have you registered in it the manifest?", nullPointerException);
-            }
-
-            XrSpace poseSpace = new XrSpace(spaceHandle);
             long handleForReferenceSpace = getOrCreateReferenceSpaceHandle(stageRelative ? XrReferenceSpaceType.REFERENCE_SPACE_TYPE_STAGE: XrReferenceSpaceType.REFERENCE_SPACE_TYPE_LOCAL);
             XrSpace relativeToSpace = new XrSpace(handleForReferenceSpace);
             withResponseCodeLogging("getPose", XR10.xrLocateSpace(poseSpace, relativeToSpace, predictedTime, spaceLocation));
 
-            long locationFlags = spaceLocation.locationFlags();
-            if ((locationFlags & XR10Constants.XR_SPACE_LOCATION_POSITION_VALID_BIT) != 0 &&
-                    (locationFlags & XR10Constants.XR_SPACE_LOCATION_ORIENTATION_VALID_BIT) != 0) {
-                // The pose is valid. You can use spaceLocation.pose() to get the position and orientation of the hand.
-                XrPosef handPose = spaceLocation.pose();
-                Vector3f position = xrVector3fToJME(handPose.position$());
-                Quaternion rotation = xrQuaternionToJme(handPose.orientation());
-
-                long velocityFlags = spaceVelocity.velocityFlags();
-                if ((velocityFlags & XR10Constants.XR_SPACE_VELOCITY_ANGULAR_VALID_BIT) != 0 && (velocityFlags & XR10Constants.XR_SPACE_VELOCITY_LINEAR_VALID_BIT) != 0) {
-                    // full data available, yay!
-                    return Optional.of(new PoseActionState(position, rotation, xrVector3fToJME(spaceVelocity.linearVelocity()), xrVector3fToJME(spaceVelocity.angularVelocity())));
-                } else {
-                    //fall back to just the position data
-                    return Optional.of(new PoseActionState(position, rotation));
-                }
+            return toPoseActionState(spaceLocation.locationFlags(), spaceLocation.pose(), spaceVelocity.velocityFlags(), spaceVelocity.linearVelocity(), spaceVelocity.angularVelocity());
+        }
+    }
+
+    private Optional<PoseActionState> toPoseActionState(long locationFlags, XrPosef pose, long velocityFlags, XrVector3f linearVelocity, XrVector3f angularVelocity){
+        if ((locationFlags & XR10Constants.XR_SPACE_LOCATION_POSITION_VALID_BIT) != 0 &&
+                (locationFlags & XR10Constants.XR_SPACE_LOCATION_ORIENTATION_VALID_BIT) != 0) {
+            // The pose is valid
+            Vector3f position = xrVector3fToJME(pose.position$());
+            Quaternion rotation = xrQuaternionToJme(pose.orientation());
+
+            if ((velocityFlags & XR10Constants.XR_SPACE_VELOCITY_ANGULAR_VALID_BIT) != 0 && (velocityFlags & XR10Constants.XR_SPACE_VELOCITY_LINEAR_VALID_BIT) != 0) {
+                // full data available, yay!
+                return Optional.of(new PoseActionState(position, rotation, xrVector3fToJME(linearVelocity), xrVector3fToJME(angularVelocity)));
             } else {
-                // The pose is not valid. The hand may be out of tracking range. Probably fine
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.fine("Hand pose is not valid. But may just be out of tracking range.");
-                }
-                return Optional.empty();
+                //fall back to just the position data
+                return Optional.of(new PoseActionState(position, rotation));
+            }
+        } else {
+            // The pose is not valid. The hand may be out of tracking range. Probably fine
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Hand pose is not valid. But may just be out of tracking range.");
+            }
+            return Optional.empty();
+        }
+    }
+
+    private void createBatchPoseLocationBuffers(){
+        List<Integer> slotsWithSpaces = new ArrayList<>();
+        for(int slot = 0; slot < slotSpaces.length; slot++){
+            if (slotSpaces[slot] != null){
+                slotsWithSpaces.add(slot);
             }
         }
+        poseSlots = slotsWithSpaces.stream().mapToInt(Integer::intValue).toArray();
+
+        // because these are reused every frame they are intentionally not on the stack
+        batchSpaceVelocity = XrSpaceVelocity.create()
+                .type$Default();
+        batchSpaceLocation = XrSpaceLocation.create()
+                .type$Default()
+                .next(batchSpaceVelocity.address());
     }
 
     /**
-     * Gets the joint positions of the hand in the coordinate system defined by the pose (So if the pose is a grip
-     * pose it's relative to the grip, if it's the aim pose its relative to the aim).
+     * Locates every pose action space against the stage and publishes the results into the pose cache, so the
+     * getPose calls for the rest of the frame make no native calls.
      * <p>
-     * It's only really a good idea to call this if the pose fetch has already succeeded
+     * The android bindings don't expose XR_KHR_locate_spaces so this is always a loop over the preallocated structs.
      * </p>
-     * @param poseAction the pose (just for the coordinate system)
-     * @param handSide the handside to get the joint positions for
      */
-    public Optional<Map<HandJoint, BonePose>> getSkeleton(ActionHandle poseAction, HandSide handSide){
+    private void batchLocatePoses(){
+        long predictedTime = openXRGL.getPredictedFrameTime();
+        if (predictedTime == 0 || poseSlots.length == 0){
+            return;
+        }
+        XrSpace stageSpace = new XrSpace(getOrCreateReferenceSpaceHandle(XrReferenceSpaceType.REFERENCE_SPACE_TYPE_STAGE));
+
+        for(int poseSlot : poseSlots){
+            withResponseCodeLogging("getPose", XR10.xrLocateSpace(slotSpaces[poseSlot], stageSpace, predictedTime, batchSpaceLocation));
+            poseCache.put(poseSlot, true, predictedTime, toPoseActionState(batchSpaceLocation.locationFlags(), batchSpaceLocation.pose(), batchSpaceVelocity.velocityFlags(), batchSpaceVelocity.linearVelocity(), batchSpaceVelocity.angularVelocity()));
+        }
+    }
+
+    @Override
+    public boolean getSkeleton(ActionHandle poseAction, HandSide handSide, HandSkeletonPose store){
         if (!isReady()){
-            return Optional.empty();
+            return false;
         }
 
         try(MemoryStack stack = MemoryStack.stackGet().push()) {
@@ -636,18 +820,10 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             long predictedTime = openXRGL.getPredictedFrameTime();
             if (predictedTime == 0) {
                 //not set up yet
-                return Optional.empty();
-            }
-
-            long spaceHandle;
-            try {
-                spaceHandle = poseActionInputSpaceHandles.get(poseAction).get(handSide.restrictToInputString);
-            } catch (NullPointerException nullPointerException) {
-                throw new RuntimeException("No pose action found for " + poseAction + " and handSide " + handSide + ". Have you registered it in the manifest?", nullPointerException);
+                return false;
             }
 
-
-            XrSpace poseSpace = new XrSpace(spaceHandle);
+            XrSpace poseSpace = slotSpaces[obtainPoseSlot(poseAction, handSide)];
 
             XrHandJointLocationsEXT handJointLocations = XrHandJointLocationsEXT.calloc(stack)
                     .type$Default()
@@ -658,48 +834,66 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
                     .baseSpace(poseSpace)
                     .time(predictedTime);
             if (handTrackers.containsKey(handSide)) {
-                Map<HandJoint, BonePose> results = new HashMap<>();
-
                 withResponseCodeLogging("Get joint locations", XR10.xrLocateHandJointsEXT(handTrackers.get(handSide), locateInfo, handJointLocations));
 
                 if(handJointLocations.isActive() == XR10Constants.XR_FALSE){
                     SINGLE_LOGGER.info("xrLocateHandJointsEXT reporting inactive hand tracking");
-                    return Optional.empty();
+                    return false;
                 }
 
                 XrHandJointLocationEXT.Buffer xrHandJointLocationEXTS = handJointLocations.jointLocations();
 
-                for (HandJoint joint : HandJoint.values()) {
+                for (HandJoint joint : HAND_JOINTS) {
                     XrHandJointLocationEXT xrHandJointLocationEXT = xrHandJointLocationEXTS.get(joint.getJointIndex());
-                    results.put(joint, new BonePose(
-                            xrVector3fToJME(xrHandJointLocationEXT.pose().position$()),
-                            xrQuaternionToJme(xrHandJointLocationEXT.pose().orientation()),
-                            xrHandJointLocationEXT.radius())
-                    );
+                    XrVector3f position = xrHandJointLocationEXT.pose().position$();
+                    XrQuaternionf orientation = xrHandJointLocationEXT.pose().orientation();
+                    store.set(joint,
+                            position.x(), position.y(), position.z(),
+                            orientation.x(), orientation.y(), orientation.z(), orientation.w(),
+                            xrHandJointLocationEXT.radius());
                 }
-                return Optional.of(results);
+                return true;
             } else {
                 LOGGER.warning("No hand tracker for handSide " + handSide);
-                return Optional.empty();
+                return false;
             }
         }
     }
 
     @Override
-    public FloatActionState getFloatActionState(ActionHandle action, String restrictToInput ){
+    public FloatActionState getFloatActionState(ActionHandle action, String restrictToInput){
+        if (!isReady()){
+            return new FloatActionState(0, false);
+        }
+        int actionIndex = findActionIndex(action);
+        return getFloatActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
+
+    @Override
+    public FloatActionState getFloatActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getFloatActionState(action.actionHandle(), action.restrictToInput());
+        }
         if (!isReady()){
             return new FloatActionState(0, false);
         }
+        return getFloatActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private FloatActionState getFloatActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.FLOAT)){
+            return actionStateSnapshot.getFloatActionState(slot);
+        }
 
         try(MemoryStack stack = MemoryStack.stackGet().push()) {
             XrActionStateFloat actionState = XrActionStateFloat.calloc(stack);
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionFromHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
 
             if (restrictToInput != null) {
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
             XrResult responseCode = XR10.xrGetActionStateFloat(xrSessionHandle, actionInfo, actionState);
             if (responseCode == XrResult.ERROR_ACTION_TYPE_MISMATCH) {
@@ -716,11 +910,29 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
     }
 
     @Override
-    public Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput ){
+    public Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput){
+        if (!isReady()){
+            return new Vector2fActionState(0, 0, false);
+        }
+        int actionIndex = findActionIndex(action);
+        return getVector2fActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
 
+    @Override
+    public Vector2fActionState getVector2fActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getVector2fActionState(action.actionHandle(), action.restrictToInput());
+        }
         if (!isReady()){
             return new Vector2fActionState(0, 0, false);
         }
+        return getVector2fActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private Vector2fActionState getVector2fActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.VECTOR2F)){
+            return actionStateSnapshot.getVector2fActionState(slot);
+        }
 
         try(MemoryStack stack = MemoryStack.stackGet().push()) {
 
@@ -728,9 +940,9 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionFromHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
             if (restrictToInput != null) {
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
 
             XrResult responseCode = XR10.xrGetActionStateVector2f(xrSessionHandle, actionInfo, actionState);
@@ -762,7 +974,7 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
 
         XrHapticActionInfo hapticActionInfo = XrHapticActionInfo.create()
                 .type$Default()
-                .action(obtainActionFromHandle(action));
+                .action(obtainActionHandle(action));
 
         if (restrictToInput!=null){
             hapticActionInfo.subactionPath(pathToLong(restrictToInput, true));
@@ -788,6 +1000,16 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
         if (xrActionsSyncInfo !=null){
             boolean success = withResponseCodeLogging("xrSyncActions", XR10.xrSyncActions(xrSessionHandle, this.xrActionsSyncInfo));
 
+            if (success && isActionStateSnapshotsEnabled()){
+                sampleActionStateSnapshot();
+            }else{
+                actionStateSnapshot.invalidate();
+            }
+
+            if (success && isBatchPoseLocatingEnabled()){
+                batchLocatePoses();
+            }
+
             if (success && !runAfterActionsSync.isEmpty()){
                 runAfterActionsSync.forEach(Runnable::run);
                 runAfterActionsSync.clear();
@@ -797,7 +1019,7 @@ public class XrActionAndroidAppState extends XrActionBaseAppState {
 
     @Override
     public boolean isReady(){
-        return actions!=null;
+        return registeredActions!=null;
     }
 
     @Override
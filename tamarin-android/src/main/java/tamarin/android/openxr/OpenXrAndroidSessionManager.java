@@ -8,11 +8,14 @@ import com.jme3.texture.Image;
 import com.jme3.texture.Texture2D;
 import com.onemillionworlds.tamarin.openxr.DrawMode;
 import com.onemillionworlds.tamarin.openxr.EyeSide;
+import com.onemillionworlds.tamarin.openxr.FrameTimingStats;
 import com.onemillionworlds.tamarin.openxr.InProgressXrRender;
 import com.onemillionworlds.tamarin.openxr.OpenXrDeviceNotAvailableException;
+import com.onemillionworlds.tamarin.openxr.RenderScaleController;
 import com.onemillionworlds.tamarin.openxr.SessionState;
 import com.onemillionworlds.tamarin.openxr.SwapchainImage;
 import com.onemillionworlds.tamarin.openxr.XrSettings;
+import com.onemillionworlds.tamarin.openxr.XrSessionBackend;
 import com.onemillionworlds.tamarin.openxr.XrVrMode;
 import com.onemillionworlds.tamarin.openxrbindings.XR10;
 import com.onemillionworlds.tamarin.openxrbindings.XR10Constants;
@@ -96,7 +99,7 @@ import com.onemillionworlds.tamarin.openxrbindings.thickc.InitialisationData;
 import com.onemillionworlds.tamarin.openxrbindings.thickc.ThickC;
 
 
-public class OpenXrAndroidSessionManager {
+public class OpenXrAndroidSessionManager implements XrSessionBackend {
 
     public static final String XR_KHR_OPENGL_ES_ENABLE_EXTENSION_NAME = "XR_KHR_opengl_es_enable";
 
@@ -152,6 +155,17 @@ public class OpenXrAndroidSessionManager {
 
     private long predictedFrameTime;
 
+    private final FrameTimingStats frameTimingStats = new FrameTimingStats();
+
+    private RenderScaleController renderScaleController;
+
+    /**
+     * In pixels the runtime's recommended size for each eye, that the render scale is relative to (the swapchains may
+     * be bigger, see {@link XrSettings#setRenderScaleRange(float, float)})
+     */
+    private int recommendedWidth;
+    private int recommendedHeight;
+
     /**
      * The data on the  extensions that were secured by the OpenXR instance. A map of the extension name and if
      * it was successfully loaded. This is provided for library clients to check if the requested extensions were
@@ -161,9 +175,10 @@ public class OpenXrAndroidSessionManager {
 
     /**
      * Because of buffering the OpenXR swapchains ask for a series of images to be used to write to, these are
-     * the buffers that are used to write to those images.
+     * the buffers that are used to write to those images. Indexed by view (i.e. eye) then by swapchain image index,
+     * they are all created along with the swapchains.
      */
-    private final Map<Integer, FrameBuffer> frameBuffers_direct = new HashMap<>();
+    private FrameBuffer[][] frameBuffers_direct = new FrameBuffer[0][];
 
     /**
      * These bufferes are used to write to a texture, then copy the texture into the swapchain images. This is an
@@ -206,10 +221,12 @@ public class OpenXrAndroidSessionManager {
         this.renderer = renderer;
     }
 
+    @Override
     public int getSwapchainWidth(){
         return swapchainWidth;
     }
 
+    @Override
     public int getSwapchainHeight(){
         return swapchainHeight;
     }
@@ -226,27 +243,48 @@ public class OpenXrAndroidSessionManager {
         return xrInstance;
     }
 
+    @Override
     public long getPredictedFrameTime(){
         return predictedFrameTime;
     }
 
+    /**
+     * Chooses the resolution each frame is rendered at (within the swapchains), can be used to change the render scale
+     * while running
+     */
+    public RenderScaleController getRenderScaleController(){
+        return renderScaleController;
+    }
+
+    /**
+     * The timings of each phase of the frame loop
+     */
+    @Override
+    public FrameTimingStats getFrameTimingStats(){
+        return frameTimingStats;
+    }
+
     /**
      * The data on the  extensions that were secured by the OpenXR instance. A map of the extension name and if
      * it was successfully loaded. This is provided for library clients to check if the requested extensions were
      * available before using optional features (or giving a user-friendly error message if they aren't optional.
      */
+    @Override
     public Map<String, Boolean> getExtensionsLoaded(){
         return extensionsLoaded;
     }
 
+    @Override
     public boolean isSessionRunning(){
         return sessionState.isAtLeastReady();
     }
 
+    @Override
     public boolean isSessionFocused(){
         return sessionState == SessionState.FOCUSED;
     }
 
+    @Override
     public void setXrVrBlendMode(XrVrMode xrVrBlendMode){
         this.xrVrBlendMode = xrVrBlendMode;
     }
@@ -326,6 +364,7 @@ public class OpenXrAndroidSessionManager {
         }
     }
 
+    @Override
     public String getSystemName(){
         try (MemoryStack stack = MemoryStack.stackGet().push()){
             XrSystemProperties systemProperties = XrSystemProperties.calloc(stack)
@@ -526,6 +565,9 @@ public class OpenXrAndroidSessionManager {
             swapchains = new Swapchain[viewCountNumber];
             for (int i = 0; i < viewCountNumber; i++) {
                 XrViewConfigurationView viewConfig = viewConfigs.get(i);
+                // allocated at the maximum render scale, each frame only the part needed for the current scale is used
+                int allocatedWidth = Math.min(Math.round(viewConfig.recommendedImageRectWidth() * xrSettings.getMaxRenderScale()), viewConfig.maxImageRectWidth());
+                int allocatedHeight = Math.min(Math.round(viewConfig.recommendedImageRectHeight() * xrSettings.getMaxRenderScale()), viewConfig.maxImageRectHeight());
                 LOGGER.info("Before create swap chain");
                 LOGGER.info("glColorFormat:" + glColorFormat);
                 LOGGER.info("width:" + viewConfig.recommendedImageRectWidth());
@@ -537,14 +579,16 @@ public class OpenXrAndroidSessionManager {
                         .usageFlags(XR10Constants.XR_SWAPCHAIN_USAGE_SAMPLED_BIT | XR10Constants.XR_SWAPCHAIN_USAGE_COLOR_ATTACHMENT_BIT)
                         .format(glColorFormat)
                         .sampleCount(viewConfig.recommendedSwapchainSampleCount())
-                        .width(viewConfig.recommendedImageRectWidth())
-                        .height(viewConfig.recommendedImageRectHeight())
+                        .width(allocatedWidth)
+                        .height(allocatedHeight)
                         .faceCount(1)
                         .arraySize(1)
                         .mipCount(1);
 
-                this.swapchainHeight = viewConfig.recommendedImageRectHeight();
-                this.swapchainWidth = viewConfig.recommendedImageRectWidth();
+                this.recommendedWidth = viewConfig.recommendedImageRectWidth();
+                this.recommendedHeight = viewConfig.recommendedImageRectHeight();
+                this.swapchainWidth = allocatedWidth;
+                this.swapchainHeight = allocatedHeight;
 
                 XrSwapchain.HandleBuffer swapchainHanglePointerBuffer = XrSwapchain.create(1,stack);
                 checkResponseCode(XR10.xrCreateSwapchain(xrSession, swapchainCreateInfo, swapchainHanglePointerBuffer));
@@ -562,6 +606,8 @@ public class OpenXrAndroidSessionManager {
 
                 swapchains[i] = new Swapchain(swapchainHandle, swapchainCreateInfo.width(), swapchainCreateInfo.height(), swapchainImageBuffer);
             }
+            createFrameBuffers();
+            renderScaleController = new RenderScaleController(xrSettings);
 
         }
     }
@@ -672,8 +718,13 @@ public class OpenXrAndroidSessionManager {
      * This begins the XR frame and reports where the cameras should be for this frame.
      * The frame is left open, and must be completed within the post render phase.
      */
+    @Override
     public InProgressXrRender startXrFrame(){
+        long time = frameTimingStats.frameStarted();
         pollEvents();
+        time = frameTimingStats.recordSince(FrameTimingStats.Phase.POLL_EVENTS, time);
+        // based on the frame that has just finished (before this frame's wait is recorded)
+        renderScaleController.update(frameTimingStats);
         if (!isSessionRunning()){
             return InProgressXrRender.NO_XR_FRAME;
         }
@@ -688,12 +739,18 @@ public class OpenXrAndroidSessionManager {
                             .type$Default(),
                     frameState
             ));
+            long waitStart = time;
+            time = frameTimingStats.recordSince(FrameTimingStats.Phase.WAIT_FRAME, time);
+            // there is no frame pacing thread so the main thread is blocked for the whole wait
+            frameTimingStats.record(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED, time - waitStart);
+            frameTimingStats.recordDisplayTiming(frameState.predictedDisplayTime(), frameState.predictedDisplayPeriod());
 
             checkResponseCode(XR10.xrBeginFrame(
                     xrSession,
                     XrFrameBeginInfo.calloc(stack)
                             .type$Default()
             ));
+            time = frameTimingStats.recordSince(FrameTimingStats.Phase.BEGIN_FRAME, time);
 
             XrViewState viewState = XrViewState.calloc(stack)
                     .type$Default();
@@ -712,6 +769,7 @@ public class OpenXrAndroidSessionManager {
                     pi,
                     views
             ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.LOCATE_VIEWS, time);
 
             this.predictedFrameTime = frameState.predictedDisplayTime();
 
@@ -750,11 +808,13 @@ public class OpenXrAndroidSessionManager {
             int rightSwapchainImageIndex = -1;
 
             if (frameState.shouldRender() == XR10Constants.XR_TRUE) {
+                long acquireNanos = 0;
 
                 // set up to render view to the appropriate part of the swapchain image.
                 for (int viewIndex = 0; viewIndex < 2; viewIndex++) {
                     // Each view has a separate swapchain which is acquired, rendered to, and released.
                     Swapchain viewSwapchain = swapchains[viewIndex];
+                    long acquireStart = System.nanoTime();
 
                     checkResponseCode(XR10.xrAcquireSwapchainImage(
                             viewSwapchain.handle,
@@ -773,23 +833,15 @@ public class OpenXrAndroidSessionManager {
                                     .next(NULL)
                                     .timeout(XR10Constants.XR_INFINITE_DURATION)
                     ));
-
-                    int image = viewSwapchain.images.get(swapchainImageIndex).image();
+                    acquireNanos += System.nanoTime() - acquireStart;
 
                     if(viewIndex == 0){
-                        leftSwapchainImageIndex = image;
+                        leftSwapchainImageIndex = swapchainImageIndex;
                     }else{
-                        rightSwapchainImageIndex = image;
+                        rightSwapchainImageIndex = swapchainImageIndex;
                     }
 
-                    FrameBuffer frameBuffer;
-                    if(xrSettings.getDrawMode() == DrawMode.DIRECT){
-                        frameBuffer = getOrCreateDirectFrameBuffer(image);
-                    }else if(xrSettings.getDrawMode() == DrawMode.BLITTED){
-                        frameBuffer = getOrCreateCopiedFrameBuffer(viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT);
-                    } else {
-                        throw new IllegalStateException("Unsupported draw mode " + xrSettings.getDrawMode());
-                    }
+                    FrameBuffer frameBuffer = getFrameBuffer(viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT, swapchainImageIndex);
 
                     if (viewIndex == 0){
                         leftFrameBuffer = frameBuffer;
@@ -798,23 +850,59 @@ public class OpenXrAndroidSessionManager {
                     }
 
                 }
+                frameTimingStats.record(FrameTimingStats.Phase.ACQUIRE_SWAPCHAIN, acquireNanos);
 
             }
 
-            return new InProgressXrRender(true, frameState.shouldRender() == XR10Constants.XR_TRUE, frameState.predictedDisplayTime(), leftEye, rightEye, leftFrameBuffer, rightFrameBuffer, leftSwapchainImageIndex, rightSwapchainImageIndex);
+            return new InProgressXrRender(true, frameState.shouldRender() == XR10Constants.XR_TRUE, frameState.predictedDisplayTime(), leftEye, rightEye, leftFrameBuffer, rightFrameBuffer, leftSwapchainImageIndex, rightSwapchainImageIndex, renderScaleController.scaledSize(recommendedWidth, swapchainWidth), renderScaleController.scaledSize(recommendedHeight, swapchainHeight));
         }
     }
 
-    private FrameBuffer getOrCreateDirectFrameBuffer(int swapchainImageId){
-        return frameBuffers_direct.computeIfAbsent(swapchainImageId, id -> {
-            Image.Format format = DESIRED_SWAPCHAIN_FORMATS.get(glColorFormat);
-            Texture2D texture = new Texture2D(new SwapchainImage(id, format, swapchainWidth, swapchainHeight));
-            FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
-            frameBuffer.setName("OpenXR direct buffer " + id);
-            frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
-            frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(Image.Format.Depth));
-            return frameBuffer;
-        });
+    /**
+     * Creates all the framebuffers up front (rather than as each swapchain image is first acquired) so that the first
+     * frames don't hitch. Each eye has a single depth buffer shared by the framebuffers of all its swapchain images, as
+     * only one of them is ever being rendered to at a time.
+     */
+    private void createFrameBuffers(){
+        Image.Format format = DESIRED_SWAPCHAIN_FORMATS.get(glColorFormat);
+        frameBuffers_direct = new FrameBuffer[swapchains.length][];
+        for(int viewIndex = 0; viewIndex < swapchains.length; viewIndex++){
+            EyeSide eyeSide = viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT;
+            Swapchain viewSwapchain = swapchains[viewIndex];
+            // in blitted mode the swapchain images are only ever blitted into (colour only), so don't need a depth buffer
+            Texture2D sharedDepth = xrSettings.getDrawMode() == DrawMode.DIRECT ? new Texture2D(swapchainWidth, swapchainHeight, Image.Format.Depth) : null;
+
+            FrameBuffer[] eyeFrameBuffers = new FrameBuffer[viewSwapchain.images.capacity()];
+            for(int imageIndex = 0; imageIndex < eyeFrameBuffers.length; imageIndex++){
+                int image = viewSwapchain.images.get(imageIndex).image();
+                Texture2D texture = new Texture2D(new SwapchainImage(image, format, swapchainWidth, swapchainHeight));
+                FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
+                frameBuffer.setName("OpenXR " + eyeSide + " direct buffer " + imageIndex);
+                frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
+                if(sharedDepth != null){
+                    frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(sharedDepth));
+                }
+                eyeFrameBuffers[imageIndex] = frameBuffer;
+            }
+            frameBuffers_direct[viewIndex] = eyeFrameBuffers;
+
+            if(xrSettings.getDrawMode() == DrawMode.BLITTED){
+                getOrCreateCopiedFrameBuffer(eyeSide);
+            }
+        }
+    }
+
+    @Override
+    public int getSwapchainLength(EyeSide eyeSide){
+        return frameBuffers_direct[eyeSide == EyeSide.LEFT ? 0 : 1].length;
+    }
+
+    @Override
+    public FrameBuffer getFrameBuffer(EyeSide eyeSide, int swapchainImageIndex){
+        if(xrSettings.getDrawMode() == DrawMode.BLITTED){
+            return getOrCreateCopiedFrameBuffer(eyeSide);
+        }
+        return frameBuffers_direct[eyeSide == EyeSide.LEFT ? 0 : 1][swapchainImageIndex];
     }
 
     public FrameBuffer getOrCreateCopiedFrameBuffer(EyeSide side){
@@ -849,6 +937,7 @@ public class OpenXrAndroidSessionManager {
         glErrorCheck("Resolve");
     }
 
+    @Override
     public void presentFrameBuffersToOpenXr(InProgressXrRender continuation){
 
         if (!continuation.inProgressXr){
@@ -864,6 +953,8 @@ public class OpenXrAndroidSessionManager {
             boolean didRender = false;
 
             if (continuation.isShouldRender()) {
+                long resolveNanos = 0;
+                long releaseNanos = 0;
 
                 XrCompositionLayerProjectionView.Buffer projectionLayerViews = XrCompositionLayerProjectionView.calloc(2, stack);
                 for (int i = 0; i < projectionLayerViews.capacity(); i++) {
@@ -877,7 +968,9 @@ public class OpenXrAndroidSessionManager {
                         // into the final swapchain buffer (which resolves samples as it goes)
                         int viewSwapchainImageIndex = viewIndex == 0 ? continuation.getLeftSwapchainImageIndex() : continuation.getRightSwapchainImageIndex();
                         FrameBuffer viewBuffer = viewIndex == 0 ? continuation.getLeftBufferToRenderTo() : continuation.getRightBufferToRenderTo();
-                        resolveDownMultiSampled(viewBuffer, getOrCreateDirectFrameBuffer(viewSwapchainImageIndex));
+                        long resolveStart = System.nanoTime();
+                        resolveDownMultiSampled(viewBuffer, frameBuffers_direct[viewIndex][viewSwapchainImageIndex]);
+                        resolveNanos += System.nanoTime() - resolveStart;
                     }
 
                     XrCompositionLayerProjectionView projectionLayerView = projectionLayerViews.get(viewIndex);
@@ -889,15 +982,21 @@ public class OpenXrAndroidSessionManager {
                     subimage.swapchain(viewSwapchain.handle);
                     XrRect2Di sumImageREct = subimage.imageRect();
                     sumImageREct.offset().x(0).y(0);
-                    sumImageREct.extent().width(viewSwapchain.width).height(viewSwapchain.height);
+                    sumImageREct.extent().width(continuation.getRenderWidth()).height(continuation.getRenderHeight());
 
+                    long releaseStart = System.nanoTime();
                     checkResponseCode(XR10.xrReleaseSwapchainImage(
                             viewSwapchain.handle,
                             XrSwapchainImageReleaseInfo.calloc(stack)
                                     .type$Default()
                     ));
+                    releaseNanos += System.nanoTime() - releaseStart;
 
                 }
+                if (xrSettings.getDrawMode() == DrawMode.BLITTED){
+                    frameTimingStats.record(FrameTimingStats.Phase.RESOLVE, resolveNanos);
+                }
+                frameTimingStats.record(FrameTimingStats.Phase.RELEASE_SWAPCHAIN, releaseNanos);
 
                 layerProjection.space(xrAppSpace);
                 layerProjection.views(projectionLayerViews);
@@ -907,6 +1006,7 @@ public class OpenXrAndroidSessionManager {
                 LOGGER.fine("Shouldn't render");
             }
 
+            long endFrameStart = System.nanoTime();
             checkResponseCode(XR10.xrEndFrame(
                     xrSession,
                     XrFrameEndInfo.malloc(stack)
@@ -917,6 +1017,7 @@ public class OpenXrAndroidSessionManager {
                             .layers(didRender ? layers.address() : NULL)
                             .layerCount(didRender ? layers.capacity() : 0)
             ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.END_FRAME, endFrameStart);
         }
     }
 
@@ -978,6 +1079,7 @@ public class OpenXrAndroidSessionManager {
 
     }
 
+    @Override
     public void destroy(){
         eventDataBuffer.free();
         views.free();
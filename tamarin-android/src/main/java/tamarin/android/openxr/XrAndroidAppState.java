@@ -6,14 +6,12 @@ import android.opengl.EGL14;
 
 import com.jme3.app.Application;
 import com.jme3.system.AppSettings;
+import com.onemillionworlds.tamarin.openxr.XrSessionBackend;
 import com.onemillionworlds.tamarin.openxr.XrSettings;
 import com.onemillionworlds.tamarin.openxr.XrVrAppState;
-import com.onemillionworlds.tamarin.openxr.XrVrMode;
 import com.onemillionworlds.tamarin.openxrbindings.thickc.InitialisationData;
 import com.onemillionworlds.tamarin.openxrbindings.thickc.ThickC;
 
-import java.util.Map;
-
 public class XrAndroidAppState extends XrVrAppState {
 
     OpenXrAndroidSessionManager xrSession;
@@ -50,47 +48,9 @@ public class XrAndroidAppState extends XrVrAppState {
         return xrSession;
     }
 
-
-    @Override
-    public String getSystemName(){
-        return xrSession.getSystemName();
-    }
-
-    @Override
-    protected void cleanup(Application app){
-        super.cleanup(app);
-        xrSession.destroy();
-    }
-
-    @Override
-    public void update(float tpf){
-        super.update(tpf);
-        inProgressXrRender = xrSession.startXrFrame();
-        if (inProgressXrRender.shouldRender){
-            render();
-        }
-    }
-
     @Override
-    public Map<String, Boolean> getExtensionsLoaded(){
-        return xrSession.getExtensionsLoaded();
-    }
-
-
-
-    @Override
-    public void postRender(){
-        super.postRender();
-        if (inProgressXrRender !=null){
-            xrSession.presentFrameBuffersToOpenXr(inProgressXrRender);
-            inProgressXrRender = null;
-        }
-    }
-
-
-    @Override
-    public void setXrVrMode(XrVrMode xrVrMode){
-        xrSession.setXrVrBlendMode(xrVrMode);
+    protected XrSessionBackend getSessionBackend(){
+        return xrSession;
     }
 
 }
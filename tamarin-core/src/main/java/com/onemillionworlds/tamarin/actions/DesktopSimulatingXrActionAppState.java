@@ -25,12 +25,11 @@ import com.onemillionworlds.tamarin.actions.actionprofile.Action;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionManifest;
 import com.onemillionworlds.tamarin.actions.actionprofile.DesktopSimulationKeybinding;
-import com.onemillionworlds.tamarin.actions.state.BonePose;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
 import com.onemillionworlds.tamarin.actions.state.Vector2fActionState;
-import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.openxr.XrBaseAppState;
 
 import java.util.ArrayList;
@@ -225,8 +224,8 @@ public class DesktopSimulatingXrActionAppState extends XrActionBaseAppState{
     }
 
     @Override
-    public Optional<Map<HandJoint, BonePose>> getSkeleton(ActionHandle poseAction, HandSide handSide){
-        return Optional.empty();
+    public boolean getSkeleton(ActionHandle poseAction, HandSide handSide, HandSkeletonPose store){
+        return false;
     }
 
     @Override
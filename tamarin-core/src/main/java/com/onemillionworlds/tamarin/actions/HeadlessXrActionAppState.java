@@ -0,0 +1,248 @@
+package com.onemillionworlds.tamarin.actions;
+
+import com.jme3.app.Application;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector2f;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
+import com.onemillionworlds.tamarin.actions.state.FloatActionState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import com.onemillionworlds.tamarin.actions.state.PoseActionState;
+import com.onemillionworlds.tamarin.actions.state.Vector2fActionState;
+import com.onemillionworlds.tamarin.openxr.HeadlessXrAppState;
+import com.onemillionworlds.tamarin.openxr.HeadlessXrSessionBackend;
+import com.onemillionworlds.tamarin.openxr.ScriptedTrajectory;
+import com.onemillionworlds.tamarin.openxr.XrBaseAppState;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The action state to go with a {@link HeadlessXrAppState}. The hands follow {@link ScriptedTrajectory}s (evaluated at
+ * the predicted display time of the simulated frame) and the other actions take whatever values they have been set to,
+ * so that a test or benchmark can script a whole interaction.
+ * <p>
+ * There is no hand tracking, so the hand skeletons are synthesised by the {@link com.onemillionworlds.tamarin.vrhands.VRHandsAppState}
+ * (e.g. from the grab action's value).
+ * </p>
+ * <p>
+ * Action values set during a frame are seen from the next update (as they would be after the next action sync), and
+ * report as changed for just that one frame.
+ * </p>
+ */
+public class HeadlessXrActionAppState extends XrActionBaseAppState{
+
+    /**
+     * How far either side of the display time the hand trajectories are sampled to give their velocity
+     */
+    private static final double VELOCITY_SAMPLE_SECONDS = 0.001;
+
+    private final ActionHandle handPoseActionHandle;
+
+    private final List<Runnable> runAfterActionsSync = new ArrayList<>(0);
+
+    private final EnumMap<HandSide, ScriptedTrajectory> handTrajectories = new EnumMap<>(HandSide.class);
+
+    private final Map<ActionHandle, Object> pendingValues = new HashMap<>();
+
+    private Map<ActionHandle, Object> currentValues = new HashMap<>();
+
+    private Map<ActionHandle, Object> previousValues = new HashMap<>();
+
+    private List<String> activeActionSets;
+
+    private HeadlessXrAppState xrAppState;
+
+    public HeadlessXrActionAppState(ActionHandle handPoseActionHandle, String startingActionSet){
+        this(handPoseActionHandle, List.of(startingActionSet));
+    }
+
+    public HeadlessXrActionAppState(ActionHandle handPoseActionHandle, List<String> startingActionSets){
+        this.handPoseActionHandle = handPoseActionHandle;
+        this.activeActionSets = startingActionSets;
+        handTrajectories.put(HandSide.LEFT, ScriptedTrajectory.stationary(new Vector3f(0.15f, 1.2f, -0.35f), new Quaternion()));
+        handTrajectories.put(HandSide.RIGHT, ScriptedTrajectory.stationary(new Vector3f(-0.15f, 1.2f, -0.35f), new Quaternion()));
+    }
+
+    /**
+     * Sets how a hand moves (in stage space, i.e. relative to the observer). Pass null to simulate the hand not being
+     * tracked.
+     */
+    public void setHandTrajectory(HandSide handSide, ScriptedTrajectory trajectory){
+        if(trajectory == null){
+            handTrajectories.remove(handSide);
+        }else{
+            handTrajectories.put(handSide, trajectory);
+        }
+    }
+
+    public void setBooleanActionState(ActionHandle action, boolean state){
+        pendingValues.put(action, state);
+    }
+
+    public void setFloatActionState(ActionHandle action, float state){
+        pendingValues.put(action, state);
+    }
+
+    public void setVector2fActionState(ActionHandle action, float x, float y){
+        pendingValues.put(action, new Vector2f(x, y));
+    }
+
+    public List<String> getActiveActionSets(){
+        return activeActionSets;
+    }
+
+    @Override
+    public List<String> getLocalisedButtonNameForAction(ActionHandle actionHandle){
+        return List.of("Simulated button for " + actionHandle.actionName());
+    }
+
+    @Override
+    public void setActiveActionSets(List<String> actionSets){
+        this.activeActionSets = actionSets;
+    }
+
+    @Override
+    public void doNotSuppressRepeatedErrors(){
+        // doesn't mean anything in this context
+    }
+
+    @Override
+    public BooleanActionState getBooleanActionState(ActionHandle action, String restrictToInput){
+        Object value = currentValues.get(action);
+        boolean state = value instanceof Boolean booleanValue ? booleanValue : value instanceof Float floatValue && floatValue > 0.5f;
+        return new BooleanActionState(state, hasChanged(action));
+    }
+
+    @Override
+    public FloatActionState getFloatActionState(ActionHandle action, String restrictToInput){
+        Object value = currentValues.get(action);
+        float state = value instanceof Float floatValue ? floatValue : value instanceof Boolean booleanValue && booleanValue ? 1 : 0;
+        return new FloatActionState(state, hasChanged(action));
+    }
+
+    @Override
+    public Vector2fActionState getVector2fActionState(ActionHandle action){
+        return getVector2fActionState(action, null);
+    }
+
+    @Override
+    public Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput){
+        if(currentValues.get(action) instanceof Vector2f vector){
+            return new Vector2fActionState(vector.x, vector.y, hasChanged(action));
+        }
+        return new Vector2fActionState(0, 0, false);
+    }
+
+    @Override
+    public Optional<PoseActionState> getPose_worldRelative(ActionHandle actionName, HandSide handSide){
+        return getPose(actionName, handSide, false);
+    }
+
+    @Override
+    public Optional<PoseActionState> getPose(ActionHandle action, HandSide handSide, boolean stageRelative){
+        ScriptedTrajectory trajectory = handTrajectories.get(handSide);
+        if(!action.equals(handPoseActionHandle) || trajectory == null || xrAppState == null){
+            return Optional.empty();
+        }
+        double seconds = xrAppState.getXrSession().getPredictedFrameSeconds();
+        ScriptedTrajectory.Pose pose = trajectory.poseAt(seconds);
+        Vector3f velocity = trajectory.poseAt(seconds + VELOCITY_SAMPLE_SECONDS).position()
+                .subtract(trajectory.poseAt(seconds - VELOCITY_SAMPLE_SECONDS).position())
+                .divideLocal((float)(2 * VELOCITY_SAMPLE_SECONDS));
+
+        if(stageRelative){
+            return Optional.of(new PoseActionState(pose.position().clone(), pose.orientation().clone(), velocity, new Vector3f()));
+        }
+        Node observer = xrAppState.getObserver();
+        Quaternion observerRotation = observer.getWorldRotation();
+        return Optional.of(new PoseActionState(
+                observer.localToWorld(pose.position(), null),
+                observerRotation.mult(pose.orientation()),
+                observerRotation.mult(velocity),
+                new Vector3f()));
+    }
+
+    @Override
+    public boolean getSkeleton(ActionHandle poseAction, HandSide handSide, HandSkeletonPose store){
+        return false;
+    }
+
+    @Override
+    public void triggerHapticAction(ActionHandle actionHandle, float duration, float frequency, float amplitude){
+        // no controllers to vibrate
+    }
+
+    @Override
+    public void triggerHapticAction(ActionHandle action, float duration, float frequency, float amplitude, String restrictToInput){
+        // no controllers to vibrate
+    }
+
+    @Override
+    public boolean isReady(){
+        return true;
+    }
+
+    @Override
+    public void runAfterActionsRegistered(Runnable runnable){
+        runnable.run(); // as there is no "action registration" in this context just run immediately
+    }
+
+    @Override
+    public void runAfterNextActionsSync(Runnable runnable){
+        runAfterActionsSync.add(runnable);
+    }
+
+    @Override
+    public void update(float tpf){
+        super.update(tpf);
+        // the equivalent of the action sync
+        previousValues = currentValues;
+        currentValues = new HashMap<>(previousValues);
+        currentValues.putAll(pendingValues);
+        pendingValues.clear();
+
+        if(!runAfterActionsSync.isEmpty()){
+            List<Runnable> toRun = new ArrayList<>(runAfterActionsSync);
+            runAfterActionsSync.clear();
+            toRun.forEach(Runnable::run);
+        }
+    }
+
+    @Override
+    protected void initialize(Application app){
+        XrBaseAppState baseAppState = app.getStateManager().getState(XrBaseAppState.ID, XrBaseAppState.class);
+        if(!(baseAppState instanceof HeadlessXrAppState headlessXrAppState)){
+            throw new IllegalStateException("HeadlessXrActionAppState requires a HeadlessXrAppState, found " + baseAppState);
+        }
+        this.xrAppState = headlessXrAppState;
+    }
+
+    @Override
+    protected void cleanup(Application app){}
+
+    @Override
+    protected void onEnable(){}
+
+    @Override
+    protected void onDisable(){}
+
+    private boolean hasChanged(ActionHandle action){
+        Object previous = previousValues.get(action);
+        Object current = currentValues.get(action);
+        return current != null && !current.equals(previous);
+    }
+
+    /**
+     * The simulated session the hands are being driven by
+     */
+    public HeadlessXrSessionBackend getXrSession(){
+        return xrAppState.getXrSession();
+    }
+}
@@ -4,26 +4,88 @@ import com.jme3.anim.Armature;
 import com.jme3.anim.Joint;
 import com.jme3.app.state.BaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BonePose;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
 import com.onemillionworlds.tamarin.actions.state.Vector2fActionState;
+import com.onemillionworlds.tamarin.handskeleton.BoundArmature;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+import com.onemillionworlds.tamarin.openxr.XrSettings;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 public abstract class XrActionBaseAppState extends BaseAppState{
 
     public static final String ID = "OpenXrActionAppState";
 
+    private boolean actionStateSnapshotsEnabled = false;
+
+    private boolean batchPoseLocatingEnabled = false;
+
+    /**
+     * The armatures passed to {@link #updateHandSkeletonPositions(Armature, HandSkeletonPose, Map)}, bound so their
+     * joints aren't looked up by name every frame
+     */
+    private static final Map<Armature, BoundArmature> boundArmatures = new WeakHashMap<>();
+
     public XrActionBaseAppState(){
         super(ID);
     }
 
+    /**
+     * If enabled then immediately after the actions are synced (once per frame) every boolean, float and vector2f
+     * action in the active action sets is sampled once (both unrestricted and for each of its sub action paths). The
+     * getBooleanActionState, getFloatActionState and getVector2fActionState methods are then answered from that
+     * snapshot with no native calls.
+     * <p>
+     *     OpenXR only updates action states when the actions are synced so the results are the same as without the
+     *     snapshot. This is worthwhile when many things (e.g. the hand functions and game code) poll the actions every frame,
+     *     but does mean actions are sampled even if nothing asks for them.
+     * </p>
+     * <p>
+     *     Note that with snapshots enabled the returned states may be shared between callers (and between frames if
+     *     the value hasn't changed) so must not be modified.
+     * </p>
+     * @param actionStateSnapshotsEnabled if the snapshot should be used
+     */
+    public void setActionStateSnapshotsEnabled(boolean actionStateSnapshotsEnabled){
+        this.actionStateSnapshotsEnabled = actionStateSnapshotsEnabled;
+    }
+
+    public boolean isActionStateSnapshotsEnabled(){
+        return actionStateSnapshotsEnabled;
+    }
+
+    /**
+     * If enabled then immediately after the actions are synced every registered pose action space (for every hand) is
+     * located against the stage in one pass, using XR_KHR_locate_spaces where the runtime supports it (a single native
+     * call) and a loop over preallocated structures where it doesn't. getPose and getPose_worldRelative are then
+     * answered from those results for the rest of the frame.
+     * <p>
+     *     This is worthwhile when most of the pose actions are queried every frame (as they are when VRHands are in use),
+     *     but does mean poses are located even if nothing asks for them.
+     * </p>
+     * <p>
+     *     XR_KHR_locate_spaces is only requested if {@link XrSettings#setBatchPoseLocating(boolean)} is enabled (which
+     *     also enables this from the start).
+     * </p>
+     * @param batchPoseLocatingEnabled if all the poses should be located together once per frame
+     */
+    public void setBatchPoseLocatingEnabled(boolean batchPoseLocatingEnabled){
+        this.batchPoseLocatingEnabled = batchPoseLocatingEnabled;
+    }
+
+    public boolean isBatchPoseLocatingEnabled(){
+        return batchPoseLocatingEnabled;
+    }
+
     /**
      * Given the action handle (e.g. a logical "fire" or "walk") returns the localised description of the
      * button that is currently bound to that action
@@ -63,6 +125,31 @@ public abstract class XrActionBaseAppState extends BaseAppState{
 
     public abstract void doNotSuppressRepeatedErrors();
 
+    /**
+     * Resolves an action (and optional input restriction) once so that code that queries it every frame can hold the
+     * result and avoid looking the action up by name on every call.
+     * <p>
+     *     This can be called before the actions are registered with OpenXR (e.g. while binding hand functions).
+     * </p>
+     * @param action the action
+     * @param restrictToInput the input to restrict the action to. E.g. /user/hand/right. Or null, which means "any input"
+     * @return a handle that can be passed to the ResolvedActionHandle versions of the action state methods
+     */
+    public ResolvedActionHandle resolveActionHandle(ActionHandle action, String restrictToInput){
+        return ResolvedActionHandle.unresolved(action, restrictToInput);
+    }
+
+    /**
+     * Resolves an action restricted to a hand once so that code that queries it every frame can hold the
+     * result and avoid looking the action up by name on every call.
+     * @param action the action
+     * @param handSide the hand to restrict the action to
+     * @return a handle that can be passed to the ResolvedActionHandle versions of the action state methods
+     */
+    public ResolvedActionHandle resolveActionHandle(ActionHandle action, HandSide handSide){
+        return resolveActionHandle(action, handSide.restrictToInputString);
+    }
+
     /**
      * Gets the current state of the action (abstract version of a button press).
      * <p>
@@ -90,6 +177,16 @@ public abstract class XrActionBaseAppState extends BaseAppState{
      */
     public abstract BooleanActionState getBooleanActionState(ActionHandle action, String restrictToInput);
 
+    /**
+     * As {@link #getBooleanActionState(ActionHandle, String)} but for an action (and input restriction) that has already
+     * been resolved with {@link #resolveActionHandle(ActionHandle, String)}.
+     * @param action the resolved action
+     * @return the DigitalActionState that has details on if the state has changed, what the state is etc.
+     */
+    public BooleanActionState getBooleanActionState(ResolvedActionHandle action){
+        return getBooleanActionState(action.actionHandle(), action.restrictToInput());
+    }
+
     /**
      * A pose is where a hand is, and what its rotation is.
      * <p>
@@ -106,6 +203,9 @@ public abstract class XrActionBaseAppState extends BaseAppState{
      * <p>
      * This returns the pose in the observers coordinate system (note that observer does not mean "eyes", it means
      * a reference point placed in the scene that corresponds to the real world VR origin)
+     * <p>
+     * Poses are located once per frame (per predicted display time) and the same PoseActionState is returned to every
+     * caller within that frame, so it must not be modified.
      *
      * @param action the action that has been bound to a pose in the action manifest
      * @param stageRelative if the output should be relative to the stage origin (at the feet, in the centre of the device defined
@@ -114,6 +214,17 @@ public abstract class XrActionBaseAppState extends BaseAppState{
      */
     public abstract Optional<PoseActionState> getPose(ActionHandle action, HandSide handSide, boolean stageRelative);
 
+    /**
+     * Locates the pose actions again, against the current frame's predicted display time, so that getPose and
+     * getPose_worldRelative calls made after this return the runtime's latest prediction rather than the one made when
+     * the actions were synced. This is used to late latch the hands just before rendering.
+     *
+     * @return true if the poses were located again, false if that isn't supported (or the actions aren't ready)
+     */
+    public boolean relocatePoses(){
+        return false;
+    }
+
 
     /**
      * Gets the joint positions of the hand in the coordinate system defined by the pose (So if the pose is a grip
@@ -124,7 +235,26 @@ public abstract class XrActionBaseAppState extends BaseAppState{
      * @param poseAction the pose (just for the coordinate system)
      * @param handSide the handside to get the joint positions for
      */
-    public abstract Optional<Map<HandJoint, BonePose>> getSkeleton(ActionHandle poseAction, HandSide handSide);
+    public Optional<Map<HandJoint, BonePose>> getSkeleton(ActionHandle poseAction, HandSide handSide){
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        if (getSkeleton(poseAction, handSide, skeleton)){
+            return Optional.of(skeleton.toMap());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the joint positions of the hand in the coordinate system defined by the pose, writing them into the
+     * passed skeleton pose (which can be reused frame to frame, so this doesn't allocate).
+     * <p>
+     * It's only really a good idea to call this if the pose fetch has already succeeded
+     * </p>
+     * @param poseAction the pose (just for the coordinate system)
+     * @param handSide the handside to get the joint positions for
+     * @param store the skeleton pose to write the joint positions into. Left unchanged if the skeleton isn't available
+     * @return true if the skeleton was available (and so the store has been written to)
+     */
+    public abstract boolean getSkeleton(ActionHandle poseAction, HandSide handSide, HandSkeletonPose store);
 
     /**
      * Gets the current state of the action (abstract version of a button press).
@@ -160,6 +290,16 @@ public abstract class XrActionBaseAppState extends BaseAppState{
         return getFloatActionState(action, null);
     }
 
+    /**
+     * As {@link #getFloatActionState(ActionHandle, String)} but for an action (and input restriction) that has already
+     * been resolved with {@link #resolveActionHandle(ActionHandle, String)}.
+     * @param action the resolved action
+     * @return the AnalogActionState that has details on how much the state has changed, what the state is etc.
+     */
+    public FloatActionState getFloatActionState(ResolvedActionHandle action){
+        return getFloatActionState(action.actionHandle(), action.restrictToInput());
+    }
+
 
     /**
      * Gets the current state of the action (abstract version of a button press).
@@ -186,6 +326,16 @@ public abstract class XrActionBaseAppState extends BaseAppState{
      */
     public abstract Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput );
 
+    /**
+     * As {@link #getVector2fActionState(ActionHandle, String)} but for an action (and input restriction) that has already
+     * been resolved with {@link #resolveActionHandle(ActionHandle, String)}.
+     * @param action the resolved action
+     * @return the AnalogActionState that has details on how much the state has changed, what the state is etc.
+     */
+    public Vector2fActionState getVector2fActionState(ResolvedActionHandle action){
+        return getVector2fActionState(action.actionHandle(), action.restrictToInput());
+    }
+
     /**
      * Triggers a haptic action (aka a vibration).
      * <p>
@@ -263,6 +413,32 @@ public abstract class XrActionBaseAppState extends BaseAppState{
         }
     }
 
+    /**
+     * As {@link #updateHandSkeletonPositions(Armature, Map, Map)} but reading the bone stances from a
+     * {@link HandSkeletonPose}.
+     * <p>
+     * The armature is bound (see {@link BoundArmature}) the first time it is passed here, and rebound if the mappings
+     * change. Every bone the pose has is set, whether it has changed or not, as it may have been moved by something
+     * else. Code that owns the armature should hold its own BoundArmature instead.
+     * </p>
+     *
+     * @param armature a JMonkey armature (aka set of bones)
+     * @param boneStances the bone positions (as reported by OpenXR)
+     * @param boneNameMappings the bone names to use. This is a map from the HandJoint enum to the bone name
+     */
+    public static void updateHandSkeletonPositions(Armature armature, HandSkeletonPose boneStances, Map<HandJoint, String> boneNameMappings){
+        BoundArmature boundArmature;
+        synchronized(boundArmatures){
+            boundArmature = boundArmatures.get(armature);
+            if (boundArmature == null || !boundArmature.getBoneNameMappings().equals(boneNameMappings)){
+                boundArmature = new BoundArmature(armature, boneNameMappings);
+                boundArmatures.put(armature, boundArmature);
+            }
+        }
+        boundArmature.invalidate();
+        boundArmature.apply(boneStances);
+    }
+
     public static class IncorrectActionTypeException extends RuntimeException{
         public IncorrectActionTypeException(String message){
             super(message);
@@ -0,0 +1,185 @@
+package com.onemillionworlds.tamarin.actions.actionprofile;
+
+import com.onemillionworlds.tamarin.actions.ActionType;
+import com.onemillionworlds.tamarin.actions.HandSide;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled form of the action manifest that gives each action a dense integer index, and each (action, sub action path)
+ * pair a dense integer "slot". The XrActionAppStates hold their native handles (actions, sub action paths, pose spaces)
+ * in arrays indexed by these so that per-frame lookups are array indexing rather than String keyed maps.
+ * <p>
+ * Slot <code>actionBaseSlot</code> is the unrestricted action and slots <code>actionBaseSlot + 1 + i</code> are the action
+ * restricted to its ith supported sub action path.
+ * </p>
+ * <p>
+ * This is primarily for internal use, most callers will want {@link ResolvedActionHandle}s.
+ * </p>
+ */
+public class ActionRegistry{
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int NUMBER_OF_HANDS = HandSide.values().length;
+
+    private final Map<ActionHandle, Integer> actionIndices = new HashMap<>();
+
+    private final ActionHandle[] actions;
+
+    private final ActionType[] actionTypes;
+
+    private final String[] actionSetNames;
+
+    private final int[] actionBaseSlots;
+
+    private final String[][] actionSubActionPaths;
+
+    /**
+     * Indexed by actionIndex * NUMBER_OF_HANDS + handSide.ordinal(), NOT_FOUND if the action doesn't support that hand
+     */
+    private final int[] handSlots;
+
+    private final int[] slotActionIndices;
+
+    /**
+     * The sub action path of each slot, null for unrestricted slots.
+     */
+    private final String[] slotSubActionPaths;
+
+    public ActionRegistry(ActionManifest manifest){
+        List<Action> allActions = new ArrayList<>();
+        List<String> allActionSetNames = new ArrayList<>();
+        for(ActionSet actionSet : manifest.getActionSets()){
+            for(Action action : actionSet.getActions()){
+                allActions.add(action);
+                allActionSetNames.add(actionSet.getName());
+            }
+        }
+
+        int numberOfActions = allActions.size();
+        actions = new ActionHandle[numberOfActions];
+        actionTypes = new ActionType[numberOfActions];
+        actionSetNames = allActionSetNames.toArray(new String[0]);
+        actionBaseSlots = new int[numberOfActions];
+        actionSubActionPaths = new String[numberOfActions][];
+        handSlots = new int[numberOfActions * NUMBER_OF_HANDS];
+        Arrays.fill(handSlots, NOT_FOUND);
+
+        List<Integer> slotActions = new ArrayList<>();
+        List<String> slotPaths = new ArrayList<>();
+
+        for(int actionIndex = 0; actionIndex < numberOfActions; actionIndex++){
+            Action action = allActions.get(actionIndex);
+            String[] subActionPaths = action.getSupportedSubActionPaths().toArray(new String[0]);
+
+            actions[actionIndex] = action.getActionHandle();
+            actionTypes[actionIndex] = action.getActionType();
+            actionSubActionPaths[actionIndex] = subActionPaths;
+            actionBaseSlots[actionIndex] = slotActions.size();
+            actionIndices.put(action.getActionHandle(), actionIndex);
+
+            slotActions.add(actionIndex);
+            slotPaths.add(null);
+            for(String subActionPath : subActionPaths){
+                for(HandSide handSide : HandSide.values()){
+                    if (handSide.restrictToInputString.equals(subActionPath)){
+                        handSlots[actionIndex * NUMBER_OF_HANDS + handSide.ordinal()] = slotActions.size();
+                    }
+                }
+                slotActions.add(actionIndex);
+                slotPaths.add(subActionPath);
+            }
+        }
+
+        slotActionIndices = slotActions.stream().mapToInt(Integer::intValue).toArray();
+        slotSubActionPaths = slotPaths.toArray(new String[0]);
+    }
+
+    public int getNumberOfActions(){
+        return actions.length;
+    }
+
+    public int getNumberOfSlots(){
+        return slotActionIndices.length;
+    }
+
+    /**
+     * @return the index of the action, or NOT_FOUND if it isn't in the manifest
+     */
+    public int findActionIndex(ActionHandle actionHandle){
+        Integer index = actionIndices.get(actionHandle);
+        return index == null ? NOT_FOUND : index;
+    }
+
+    /**
+     * @param actionIndex the action index
+     * @param restrictToInput the sub action path (e.g. /user/hand/left), or null for unrestricted
+     * @return the slot, or NOT_FOUND if the sub action path isn't one of the action's supported sub action paths
+     */
+    public int findSlot(int actionIndex, String restrictToInput){
+        int baseSlot = actionBaseSlots[actionIndex];
+        if (restrictToInput == null){
+            return baseSlot;
+        }
+        String[] subActionPaths = actionSubActionPaths[actionIndex];
+        for(int i = 0; i < subActionPaths.length; i++){
+            String subActionPath = subActionPaths[i];
+            //usually the same constant (e.g. HandSide.restrictToInputString) so the identity check normally succeeds
+            if (subActionPath == restrictToInput || subActionPath.equals(restrictToInput)){
+                return baseSlot + 1 + i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return the slot for the action restricted to that hand, or NOT_FOUND if the action doesn't support that hand
+     */
+    public int findHandSlot(int actionIndex, HandSide handSide){
+        return handSlots[actionIndex * NUMBER_OF_HANDS + handSide.ordinal()];
+    }
+
+    public ActionHandle getAction(int actionIndex){
+        return actions[actionIndex];
+    }
+
+    public ActionType getActionType(int actionIndex){
+        return actionTypes[actionIndex];
+    }
+
+    public String getActionSetName(int actionIndex){
+        return actionSetNames[actionIndex];
+    }
+
+    public int getSlotActionIndex(int slot){
+        return slotActionIndices[slot];
+    }
+
+    /**
+     * @return the sub action path (e.g. /user/hand/left) the slot is restricted to, or null if it is unrestricted
+     */
+    public String getSlotSubActionPath(int slot){
+        return slotSubActionPaths[slot];
+    }
+
+    /**
+     * Resolves the action (and optional input restriction) to its indices once, so they can be held by the caller and
+     * used every frame without any further lookups.
+     * @param actionHandle the action
+     * @param restrictToInput the sub action path (e.g. /user/hand/left), or null for unrestricted
+     * @return the resolved action handle
+     */
+    public ResolvedActionHandle resolve(ActionHandle actionHandle, String restrictToInput){
+        int actionIndex = findActionIndex(actionHandle);
+        if (actionIndex == NOT_FOUND){
+            throw new RuntimeException("No action found for " + actionHandle + ". Have you registered it in the manifest?");
+        }
+        return new ResolvedActionHandle(actionHandle, restrictToInput, this, actionIndex, findSlot(actionIndex, restrictToInput));
+    }
+
+}
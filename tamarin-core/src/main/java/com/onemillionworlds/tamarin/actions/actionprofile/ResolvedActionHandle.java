@@ -0,0 +1,41 @@
+package com.onemillionworlds.tamarin.actions.actionprofile;
+
+/**
+ * An {@link ActionHandle} (plus optional input restriction) that has been resolved against the registered actions.
+ * Code that queries the same action every frame can obtain one of these once (see
+ * {@link com.onemillionworlds.tamarin.actions.XrActionBaseAppState#resolveActionHandle(ActionHandle, String)}) and use
+ * it in place of the ActionHandle to avoid String keyed lookups on every call.
+ * <p>
+ * A resolved handle is only meaningful to the registry that resolved it; if used elsewhere (or if it was never
+ * resolved) it behaves exactly like the plain ActionHandle/restrictToInput pair.
+ * </p>
+ * @param actionHandle the action
+ * @param restrictToInput the sub action path (e.g. /user/hand/left), or null for unrestricted
+ * @param registry the registry that resolved this handle (or null if unresolved)
+ * @param actionIndex the index of the action in the registry
+ * @param slot the index of the (action, sub action path) pair in the registry, or {@link ActionRegistry#NOT_FOUND}
+ *             if the sub action path isn't supported by the action
+ */
+public record ResolvedActionHandle(
+        ActionHandle actionHandle,
+        String restrictToInput,
+        ActionRegistry registry,
+        int actionIndex,
+        int slot
+){
+
+    /**
+     * Creates a handle that carries no resolved indices. Used by action states that don't have a registry (e.g. the
+     * desktop simulation).
+     */
+    public static ResolvedActionHandle unresolved(ActionHandle actionHandle, String restrictToInput){
+        return new ResolvedActionHandle(actionHandle, restrictToInput, null, ActionRegistry.NOT_FOUND, ActionRegistry.NOT_FOUND);
+    }
+
+    /**
+     * @return if this handle has indices for the given registry (and so can be used for array lookups against it)
+     */
+    public boolean isResolvedBy(ActionRegistry actionRegistry){
+        return registry == actionRegistry && actionRegistry != null;
+    }
+}
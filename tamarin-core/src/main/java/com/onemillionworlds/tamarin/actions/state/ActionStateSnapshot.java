@@ -0,0 +1,186 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.onemillionworlds.tamarin.actions.ActionType;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionRegistry;
+
+import java.util.Collection;
+
+/**
+ * Holds the state of every boolean, float and vector2f action (for the unrestricted input and for each of the action's
+ * sub action paths) as sampled once immediately after the actions are synced.
+ * <p>
+ * OpenXR only changes action states during xrSyncActions so sampling them all once per frame gives identical results
+ * to querying them individually, but getters can then be served from primitive arrays with no native calls, and every
+ * consumer sees the same values for the whole frame.
+ * </p>
+ * <p>
+ * The snapshot is indexed by the slots of an {@link ActionRegistry} (pose and haptic slots are never sampled).
+ * </p>
+ * <p>
+ * This is primarily for internal use by the XrActionAppStates.
+ * </p>
+ */
+public class ActionStateSnapshot{
+
+    private static final BooleanActionState FALSE_UNCHANGED = new BooleanActionState(false, false);
+    private static final BooleanActionState FALSE_CHANGED = new BooleanActionState(false, true);
+    private static final BooleanActionState TRUE_UNCHANGED = new BooleanActionState(true, false);
+    private static final BooleanActionState TRUE_CHANGED = new BooleanActionState(true, true);
+
+    private final ActionRegistry actionRegistry;
+
+    /**
+     * For booleans 1 or 0, for floats the state, for vectors the x component
+     */
+    private final float[] x;
+
+    /**
+     * For vectors the y component, otherwise unused
+     */
+    private final float[] y;
+
+    private final boolean[] changed;
+
+    /**
+     * The immutable states handed out to callers are cached so that repeated queries within a frame (and frames
+     * where the value hasn't changed) don't allocate.
+     */
+    private final FloatActionState[] floatStates;
+
+    private final Vector2fActionState[] vector2fStates;
+
+    /**
+     * The snapshotable slots in the currently active action sets, these are the only ones worth sampling.
+     */
+    private int[] activeSlots = new int[0];
+
+    /**
+     * The snapshot is only trusted once it has been fully sampled since the last time the active sets changed.
+     */
+    private boolean valid = false;
+
+    public ActionStateSnapshot(ActionRegistry actionRegistry){
+        this.actionRegistry = actionRegistry;
+        int numberOfSlots = actionRegistry.getNumberOfSlots();
+        x = new float[numberOfSlots];
+        y = new float[numberOfSlots];
+        changed = new boolean[numberOfSlots];
+        floatStates = new FloatActionState[numberOfSlots];
+        vector2fStates = new Vector2fActionState[numberOfSlots];
+    }
+
+    private static boolean isSnapshotable(ActionType actionType){
+        return actionType == ActionType.BOOLEAN || actionType == ActionType.FLOAT || actionType == ActionType.VECTOR2F;
+    }
+
+    /**
+     * Sets the action sets whose actions will be sampled. Actions in other action sets read as false/zero (as
+     * OpenXR reports for inactive actions). The snapshot is invalid until it has next been sampled.
+     */
+    public void setActiveActionSets(Collection<String> activeActionSets){
+        int numberOfSlots = actionRegistry.getNumberOfSlots();
+        int[] newActiveSlots = new int[numberOfSlots];
+        int numberActive = 0;
+        for(int slot = 0; slot < numberOfSlots; slot++){
+            int actionIndex = actionRegistry.getSlotActionIndex(slot);
+            if (!isSnapshotable(actionRegistry.getActionType(actionIndex))){
+                continue;
+            }
+            if (activeActionSets.contains(actionRegistry.getActionSetName(actionIndex))){
+                newActiveSlots[numberActive] = slot;
+                numberActive++;
+            }else{
+                record(slot, 0, 0, false);
+            }
+        }
+        int[] trimmed = new int[numberActive];
+        System.arraycopy(newActiveSlots, 0, trimmed, 0, numberActive);
+        activeSlots = trimmed;
+        invalidate();
+    }
+
+    /**
+     * The slots that should be sampled after each sync. The returned array must not be modified.
+     */
+    public int[] getActiveSlots(){
+        return activeSlots;
+    }
+
+    public ActionType getSlotType(int slot){
+        return actionRegistry.getActionType(actionRegistry.getSlotActionIndex(slot));
+    }
+
+    /**
+     * Returns if the snapshot can answer for this slot as the expected type. If not callers should fall back to
+     * querying OpenXR directly which will produce the appropriate error.
+     * @param slot the registry slot (may be NOT_FOUND)
+     * @param expectedType the type the caller expects the action to be
+     */
+    public boolean canAnswer(int slot, ActionType expectedType){
+        return valid && slot != ActionRegistry.NOT_FOUND && isSnapshotable(expectedType) && getSlotType(slot) == expectedType;
+    }
+
+    public void recordBoolean(int slot, boolean state, boolean changedSinceLastSync){
+        record(slot, state ? 1 : 0, 0, changedSinceLastSync);
+    }
+
+    public void recordFloat(int slot, float state, boolean changedSinceLastSync){
+        record(slot, state, 0, changedSinceLastSync);
+    }
+
+    public void recordVector2f(int slot, float stateX, float stateY, boolean changedSinceLastSync){
+        record(slot, stateX, stateY, changedSinceLastSync);
+    }
+
+    private void record(int slot, float stateX, float stateY, boolean changedSinceLastSync){
+        x[slot] = stateX;
+        y[slot] = stateY;
+        changed[slot] = changedSinceLastSync;
+    }
+
+    /**
+     * Should be called once all the active slots have been recorded after a sync.
+     */
+    public void markValid(){
+        valid = true;
+    }
+
+    public void invalidate(){
+        valid = false;
+    }
+
+    /**
+     * @return if the snapshot has been fully sampled since it was last invalidated (and so can be used to answer queries)
+     */
+    public boolean isValid(){
+        return valid;
+    }
+
+    public BooleanActionState getBooleanActionState(int slot){
+        boolean state = x[slot] != 0;
+        if (changed[slot]){
+            return state ? TRUE_CHANGED : FALSE_CHANGED;
+        }else{
+            return state ? TRUE_UNCHANGED : FALSE_UNCHANGED;
+        }
+    }
+
+    public FloatActionState getFloatActionState(int slot){
+        FloatActionState cached = floatStates[slot];
+        if (cached == null || cached.getState() != x[slot] || cached.hasChanged() != changed[slot]){
+            cached = new FloatActionState(x[slot], changed[slot]);
+            floatStates[slot] = cached;
+        }
+        return cached;
+    }
+
+    public Vector2fActionState getVector2fActionState(int slot){
+        Vector2fActionState cached = vector2fStates[slot];
+        if (cached == null || cached.getX() != x[slot] || cached.getY() != y[slot] || cached.isChanged() != changed[slot]){
+            cached = new Vector2fActionState(x[slot], y[slot], changed[slot]);
+            vector2fStates[slot] = cached;
+        }
+        return cached;
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The poses of all the joints of a hand skeleton held in a single flat float array (rather than as a map of objects).
+ * <p>
+ * Each joint occupies {@link #FLOATS_PER_JOINT} floats starting at joint index * FLOATS_PER_JOINT, laid out as
+ * position x,y,z, orientation x,y,z,w then radius. Positions and orientations are relative to the overall hand pose
+ * space (exactly as in {@link BonePose}).
+ * </p>
+ * <p>
+ * These are intended to be created once and refilled every frame, so that getting the skeleton, synthesising it and
+ * applying it to the hand armature doesn't allocate. {@link #getBonePose} and {@link #toMap} are available for
+ * code that wants the older object representation (but they do allocate).
+ * </p>
+ */
+public class HandSkeletonPose{
+
+    public static final int FLOATS_PER_JOINT = 8;
+
+    private static final HandJoint[] JOINTS = HandJoint.values();
+
+    public static final int NUMBER_OF_JOINTS = JOINTS.length;
+
+    private static final long ALL_JOINTS = (1L << NUMBER_OF_JOINTS) - 1;
+
+    private static final int POSITION_X = 0;
+    private static final int POSITION_Y = 1;
+    private static final int POSITION_Z = 2;
+    private static final int ORIENTATION_X = 3;
+    private static final int ORIENTATION_Y = 4;
+    private static final int ORIENTATION_Z = 5;
+    private static final int ORIENTATION_W = 6;
+    private static final int RADIUS = 7;
+
+    private final float[] data = new float[NUMBER_OF_JOINTS * FLOATS_PER_JOINT];
+
+    /**
+     * A bit per joint (by joint index) for the joints that have been set, so unset joints can be told apart from
+     * joints that happen to be at the origin.
+     */
+    private long setJoints = 0;
+
+    private static int offset(HandJoint joint){
+        return joint.getJointIndex() * FLOATS_PER_JOINT;
+    }
+
+    public void set(HandJoint joint, float positionX, float positionY, float positionZ, float orientationX, float orientationY, float orientationZ, float orientationW, float radius){
+        int offset = offset(joint);
+        data[offset + POSITION_X] = positionX;
+        data[offset + POSITION_Y] = positionY;
+        data[offset + POSITION_Z] = positionZ;
+        data[offset + ORIENTATION_X] = orientationX;
+        data[offset + ORIENTATION_Y] = orientationY;
+        data[offset + ORIENTATION_Z] = orientationZ;
+        data[offset + ORIENTATION_W] = orientationW;
+        data[offset + RADIUS] = radius;
+        setJoints |= 1L << joint.getJointIndex();
+    }
+
+    public void set(HandJoint joint, Vector3f position, Quaternion orientation, float radius){
+        set(joint, position.x, position.y, position.z, orientation.getX(), orientation.getY(), orientation.getZ(), orientation.getW(), radius);
+    }
+
+    public void set(HandJoint joint, BonePose bonePose){
+        set(joint, bonePose.position(), bonePose.orientation(), bonePose.radius());
+    }
+
+    /**
+     * Copies all the joints from another skeleton pose into this one
+     */
+    public void set(HandSkeletonPose other){
+        System.arraycopy(other.data, 0, data, 0, data.length);
+        setJoints = other.setJoints;
+    }
+
+    /**
+     * Copies a whole skeleton (NUMBER_OF_JOINTS * FLOATS_PER_JOINT floats, in the layout described in the class docs)
+     * from the source array into this one
+     */
+    public void set(float[] source, int sourceOffset){
+        System.arraycopy(source, sourceOffset, data, 0, data.length);
+        setJoints = ALL_JOINTS;
+    }
+
+    /**
+     * Copies the joints present in the map into this skeleton pose (any joints not in the map are left as they were)
+     */
+    public void set(Map<HandJoint, BonePose> bonePoses){
+        bonePoses.forEach(this::set);
+    }
+
+    /**
+     * @return if any joint has been set since construction (or the last {@link #clear()})
+     */
+    public boolean isPopulated(){
+        return setJoints != 0;
+    }
+
+    /**
+     * @return if the joint has been set since construction (or the last {@link #clear()}). Unset joints read as zero
+     */
+    public boolean isSet(HandJoint joint){
+        return (setJoints & (1L << joint.getJointIndex())) != 0;
+    }
+
+    public void clear(){
+        Arrays.fill(data, 0);
+        setJoints = 0;
+    }
+
+    /**
+     * @param joint the joint
+     * @param store the vector to write the position into
+     * @return the store (for chaining)
+     */
+    public Vector3f getPosition(HandJoint joint, Vector3f store){
+        int offset = offset(joint);
+        return store.set(data[offset + POSITION_X], data[offset + POSITION_Y], data[offset + POSITION_Z]);
+    }
+
+    /**
+     * @param joint the joint
+     * @param store the quaternion to write the orientation into
+     * @return the store (for chaining)
+     */
+    public Quaternion getOrientation(HandJoint joint, Quaternion store){
+        int offset = offset(joint);
+        return store.set(data[offset + ORIENTATION_X], data[offset + ORIENTATION_Y], data[offset + ORIENTATION_Z], data[offset + ORIENTATION_W]);
+    }
+
+    public float getRadius(HandJoint joint){
+        return data[offset(joint) + RADIUS];
+    }
+
+    /**
+     * The backing array, in the layout described in the class docs. This is live (not a copy) so is primarily for
+     * bulk readers and writers that want to avoid going joint by joint.
+     */
+    public float[] getData(){
+        return data;
+    }
+
+    /**
+     * Creates a new BonePose for the joint. Allocates, so prefer {@link #getPosition}/{@link #getOrientation} in
+     * per-frame code.
+     */
+    public BonePose getBonePose(HandJoint joint){
+        return new BonePose(getPosition(joint, new Vector3f()), getOrientation(joint, new Quaternion()), getRadius(joint));
+    }
+
+    /**
+     * Converts this skeleton pose to the older map representation (containing only the joints that have been set).
+     * Allocates.
+     */
+    public Map<HandJoint, BonePose> toMap(){
+        Map<HandJoint, BonePose> bonePoses = new EnumMap<>(HandJoint.class);
+        for(HandJoint joint : JOINTS){
+            if(isSet(joint)){
+                bonePoses.put(joint, getBonePose(joint));
+            }
+        }
+        return bonePoses;
+    }
+
+}
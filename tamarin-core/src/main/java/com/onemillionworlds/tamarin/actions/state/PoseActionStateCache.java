@@ -0,0 +1,83 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionRegistry;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Holds the located poses (for each pose action slot and reference space) for a single predicted display time.
+ * <p>
+ * Within a frame the same hand pose is typically requested several times (by the hands, debug overlays and user code)
+ * and locating it again gives the same answer (as the predicted time is the same) so the first result is held and
+ * handed out to all callers. As soon as a query arrives for a different predicted time everything held is discarded.
+ * </p>
+ * <p>
+ * The cached PoseActionStates are shared between all callers within the frame so must not be modified.
+ * </p>
+ * <p>
+ * This is primarily for internal use by the XrActionAppStates.
+ * </p>
+ */
+public class PoseActionStateCache{
+
+    private static final int NUMBER_OF_REFERENCE_SPACES = 2;
+
+    /**
+     * Indexed by slot * NUMBER_OF_REFERENCE_SPACES + referenceSpaceIndex, null means not yet located this frame
+     */
+    private final Optional<PoseActionState>[] poses;
+
+    private long predictedTime = 0;
+
+    /**
+     * @param numberOfSlots the number of slots in the {@link ActionRegistry} that the slots will be from
+     */
+    @SuppressWarnings("unchecked")
+    public PoseActionStateCache(int numberOfSlots){
+        poses = new Optional[numberOfSlots * NUMBER_OF_REFERENCE_SPACES];
+    }
+
+    private static int index(int slot, boolean stageRelative){
+        return slot * NUMBER_OF_REFERENCE_SPACES + (stageRelative ? 1 : 0);
+    }
+
+    /**
+     * @param slot the registry slot of the pose action (restricted to a hand)
+     * @param stageRelative if the pose was located relative to the stage (rather than local) reference space
+     * @param predictedTime the predicted display time the pose is wanted for
+     * @return if the pose has already been located for this predicted time
+     */
+    public boolean isCached(int slot, boolean stageRelative, long predictedTime){
+        if (predictedTime != this.predictedTime){
+            invalidate();
+            this.predictedTime = predictedTime;
+            return false;
+        }
+        return poses[index(slot, stageRelative)] != null;
+    }
+
+    /**
+     * Gets the pose as previously located, should only be called if {@link #isCached} returns true.
+     * @return the cached pose (which may itself be empty if it couldn't be located)
+     */
+    public Optional<PoseActionState> get(int slot, boolean stageRelative){
+        return poses[index(slot, stageRelative)];
+    }
+
+    public void put(int slot, boolean stageRelative, long predictedTime, Optional<PoseActionState> pose){
+        if (predictedTime != this.predictedTime){
+            invalidate();
+            this.predictedTime = predictedTime;
+        }
+        poses[index(slot, stageRelative)] = pose;
+    }
+
+    /**
+     * Discards all cached poses (e.g. because the reference spaces have changed).
+     */
+    public void invalidate(){
+        Arrays.fill(poses, null);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+/**
+ * How the pose action spaces are located each frame.
+ * <p>
+ * This is primarily for internal use by the XrActionAppStates.
+ * </p>
+ */
+public enum PoseLocatingMode{
+    /**
+     * Each pose is located (with xrLocateSpace) when it is first asked for in a frame
+     */
+    ON_DEMAND,
+    /**
+     * All the poses are located once per frame, each with its own xrLocateSpace call
+     */
+    EACH_SPACE,
+    /**
+     * All the poses are located once per frame with a single xrLocateSpacesKHR call
+     */
+    ALL_SPACES_AT_ONCE;
+
+    /**
+     * @param batchPoseLocatingEnabled if the poses should be located together once per frame
+     * @param locateSpacesAvailable if XR_KHR_locate_spaces was loaded (and the batch structures created)
+     * @return how to locate the poses
+     */
+    public static PoseLocatingMode select(boolean batchPoseLocatingEnabled, boolean locateSpacesAvailable){
+        if (!batchPoseLocatingEnabled){
+            return ON_DEMAND;
+        }
+        return locateSpacesAvailable ? ALL_SPACES_AT_ONCE : EACH_SPACE;
+    }
+}
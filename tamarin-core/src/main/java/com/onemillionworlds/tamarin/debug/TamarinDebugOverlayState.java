@@ -4,6 +4,7 @@ import com.jme3.app.Application;
 import com.jme3.app.state.BaseAppState;
 import com.jme3.material.Material;
 import com.jme3.math.ColorRGBA;
+import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Node;
@@ -14,7 +15,7 @@ import com.jme3.scene.shape.Sphere;
 import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
-import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.openxr.XrBaseAppState;
@@ -50,6 +51,10 @@ public class TamarinDebugOverlayState extends BaseAppState{
 
     Map<HandSide, PerHandData> perHandData = new HashMap<>();
 
+    private final HandSkeletonPose skeleton = new HandSkeletonPose();
+    private final Vector3f jointPosition = new Vector3f();
+    private final Quaternion jointOrientation = new Quaternion();
+
     @Override
     protected void initialize(Application app){
         viewportConfigurator = getState(XrBaseAppState.ID, XrBaseAppState.class).addAdditionalViewport(AdditionalViewportRequest.builder(overlayRootNode).build());
@@ -91,14 +96,11 @@ public class TamarinDebugOverlayState extends BaseAppState{
             }
 
             if (skeletonAvailable && turnedOnDebugItems.contains(HandDebugItems.SKELETON)){
-                Optional<Map<HandJoint, BonePose>> skeletonOpt = openXrActionState.getSkeleton(handPoseAction, boundHand.getHandSide());
-                if (skeletonOpt.isPresent()){
-                    Map<HandJoint, BonePose> skeleton = skeletonOpt.get();
+                if (openXrActionState.getSkeleton(handPoseAction, boundHand.getHandSide(), skeleton)){
                     for(HandJoint joint : HandJoint.values()){
                         Node jointNode = handData.getOrBuildNodeForJoint(joint);
-                        BonePose bonePose = skeleton.get(joint);
-                        jointNode.setLocalTranslation(bonePose.position());
-                        jointNode.setLocalRotation(bonePose.orientation());
+                        jointNode.setLocalTranslation(skeleton.getPosition(joint, jointPosition));
+                        jointNode.setLocalRotation(skeleton.getOrientation(joint, jointOrientation));
                     }
                 }
             }
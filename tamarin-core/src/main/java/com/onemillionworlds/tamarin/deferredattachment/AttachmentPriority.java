@@ -0,0 +1,18 @@
+package com.onemillionworlds.tamarin.deferredattachment;
+
+/**
+ * The order in which spatials that have finished being prepared are attached by the {@link DeferredAttachmentService}
+ * (when more are ready than fit in a frame's budget). Within a priority spatials are attached in the order they were
+ * requested.
+ */
+public enum AttachmentPriority{
+    /**
+     * Attached before anything else, e.g. chunks near the player
+     */
+    HIGH,
+    NORMAL,
+    /**
+     * Attached only when there is nothing more important waiting, e.g. distant scenery
+     */
+    LOW
+}
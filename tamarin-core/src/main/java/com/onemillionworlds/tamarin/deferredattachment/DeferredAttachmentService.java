@@ -9,13 +9,17 @@ import com.jme3.scene.Node;
 import com.jme3.scene.Spatial;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -26,18 +30,46 @@ import java.util.logging.Logger;
  * attached that then immediately need to have their collision data calculated. The DeferredAttachmentService ensures the
  * geometry is "ready" before being attached. The rest of the application is allowed to continue so anticipate the
  * geometry not appearing for a while
+ * <p>
+ * Attaching is itself not free, so if many spatials become ready at once (e.g. a level streaming in) they are spread
+ * over several frames: each frame attaches spatials until its budget (see {@link #setAttachTimeBudgetMillis(double)}
+ * and {@link #setMaxAttachmentsPerFrame(int)}) is used up, in order of their {@link AttachmentPriority}.
+ * </p>
  */
 public class DeferredAttachmentService extends BaseAppState{
     public static final String ID = "DeferredAttachmentService";
 
     private static final Logger logger = Logger.getLogger(DeferredAttachmentService.class.getName());
 
+    public static final double DEFAULT_ATTACH_TIME_BUDGET_MILLIS = 2;
+
     ExecutorService executor;
 
-    ConcurrentLinkedQueue<NodeData> autoAttachings = new ConcurrentLinkedQueue<>();
+    /**
+     * Spatials that have finished being prepared (added to from the preparing threads) waiting to be attached, highest
+     * priority (then oldest) first
+     */
+    private final PriorityBlockingQueue<NodeData> readyToAttach = new PriorityBlockingQueue<>(16,
+            Comparator.<NodeData, AttachmentPriority>comparing(nodeData -> nodeData.priority).thenComparingLong(nodeData -> nodeData.sequenceNumber));
+
+    private final AtomicLong nextSequenceNumber = new AtomicLong();
+
+    private final AtomicInteger preparationsInProgress = new AtomicInteger();
+
+    private final AtomicLong preparationsCompleted = new AtomicLong();
+
+    private final AtomicLong totalPreparationLatencyNanos = new AtomicLong();
 
     private final int numberOfThreads;
 
+    private long attachTimeBudgetNanos = (long) (DEFAULT_ATTACH_TIME_BUDGET_MILLIS * 1_000_000);
+
+    private int maxAttachmentsPerFrame = Integer.MAX_VALUE;
+
+    private long lastFrameAttachNanos = 0;
+
+    private int lastFrameAttachCount = 0;
+
     public DeferredAttachmentService(){
         this(1);
     }
@@ -100,8 +132,20 @@ public class DeferredAttachmentService extends BaseAppState{
      *                         other actions that need to be aligned with the attachment
      */
     public void attachWhenReady(Node nodeToAttachTo, Spatial itemToAttachWhenReady, Consumer<Spatial> onAttachCallback){
-        Future<Spatial> preparement = prepareSpatial(itemToAttachWhenReady);
-        autoAttachings.add(new NodeData(preparement, nodeToAttachTo, onAttachCallback));
+        attachWhenReady(nodeToAttachTo, itemToAttachWhenReady, AttachmentPriority.NORMAL, onAttachCallback);
+    }
+
+    /**
+     * This will attach the item to the node once all its collision data is produced, see
+     * {@link #attachWhenReady(Node, Spatial, Consumer)}.
+     *
+     * @param nodeToAttachTo the node to attach the spatial to once the spatial is ready
+     * @param itemToAttachWhenReady a spatial that is to have its collision data calculated on annother thread
+     * @param priority the order it is attached in relative to other ready spatials (if they don't all fit in a frame's budget)
+     * @param onAttachCallback a callback that will be called when the spatial is attached (may be null)
+     */
+    public void attachWhenReady(Node nodeToAttachTo, Spatial itemToAttachWhenReady, AttachmentPriority priority, Consumer<Spatial> onAttachCallback){
+        prepareThenAttach(new NodeData(nodeToAttachTo, onAttachCallback, priority, nextSequenceNumber.getAndIncrement()), preparationOf(itemToAttachWhenReady));
     }
 
     /**
@@ -137,8 +181,20 @@ public class DeferredAttachmentService extends BaseAppState{
      *                         other actions that need to be aligned with the attachment
      */
     public void attachWhenReady(Node nodeToAttachTo, Supplier<Spatial> itemToAttachWhenReady, Consumer<Spatial> onAttachCallback){
-        Future<Spatial> preparement = prepareSpatial(itemToAttachWhenReady);
-        autoAttachings.add(new NodeData(preparement, nodeToAttachTo, onAttachCallback));
+        attachWhenReady(nodeToAttachTo, itemToAttachWhenReady, AttachmentPriority.NORMAL, onAttachCallback);
+    }
+
+    /**
+     * This will build the spatial in another thread, generate all its collision data and then attach it to the node,
+     * see {@link #attachWhenReady(Node, Supplier, Consumer)}.
+     *
+     * @param nodeToAttachTo the node to attach the spatial to once the spatial is ready
+     * @param itemToAttachWhenReady a builder for the spatial (will run on a seperate thread)
+     * @param priority the order it is attached in relative to other ready spatials (if they don't all fit in a frame's budget)
+     * @param onAttachCallback a callback that will be called when the spatial is attached (may be null)
+     */
+    public void attachWhenReady(Node nodeToAttachTo, Supplier<Spatial> itemToAttachWhenReady, AttachmentPriority priority, Consumer<Spatial> onAttachCallback){
+        prepareThenAttach(new NodeData(nodeToAttachTo, onAttachCallback, priority, nextSequenceNumber.getAndIncrement()), preparationOf(itemToAttachWhenReady));
     }
 
     /**
@@ -209,30 +265,110 @@ public class DeferredAttachmentService extends BaseAppState{
      * @return a node that will initially be empty, but once the spatial is ready that spatial will be attached
      */
     public Node attachWhenReadyWithSafeClone(Supplier<Spatial> itemToAttachWhenReady, Consumer<Spatial> onAttachCallback){
+        return attachWhenReadyWithSafeClone(itemToAttachWhenReady, AttachmentPriority.NORMAL, onAttachCallback);
+    }
+
+    /**
+     * This will build the spatial in another thread, generate all its collision data and then attach it to the
+     * returned node, see {@link #attachWhenReadyWithSafeClone(Supplier, Consumer)}.
+     *
+     * @param itemToAttachWhenReady a builder for the spatial
+     * @param priority the order it is attached in relative to other ready spatials (if they don't all fit in a frame's budget)
+     * @param onAttachCallback a callback that will be called when the spatial is attached (may be null)
+     * @return a node that will initially be empty, but once the spatial is ready that spatial will be attached
+     */
+    public Node attachWhenReadyWithSafeClone(Supplier<Spatial> itemToAttachWhenReady, AttachmentPriority priority, Consumer<Spatial> onAttachCallback){
         NodeWithSafeClone node = new NodeWithSafeClone("DeferredAttachmentNode");
 
-        Future<Spatial> preparement = prepareSpatial(itemToAttachWhenReady);
-        NodeData nodeData = new NodeData(preparement, node, onAttachCallback);
+        NodeData nodeData = new NodeData(node, onAttachCallback, priority, nextSequenceNumber.getAndIncrement());
         node.setNodeData(nodeData);
-        autoAttachings.add(nodeData);
+        prepareThenAttach(nodeData, preparationOf(itemToAttachWhenReady));
         return node;
     }
 
+    /**
+     * Sets how long (in milliseconds) each frame may spend attaching spatials that have become ready. At least one
+     * ready spatial is always attached per frame, so everything is eventually attached however small the budget.
+     * Defaults to 2ms.
+     */
+    public void setAttachTimeBudgetMillis(double attachTimeBudgetMillis){
+        if (attachTimeBudgetMillis < 0){
+            throw new IllegalArgumentException("Attach time budget can't be negative, was " + attachTimeBudgetMillis);
+        }
+        this.attachTimeBudgetNanos = (long) (attachTimeBudgetMillis * 1_000_000);
+    }
+
+    public double getAttachTimeBudgetMillis(){
+        return attachTimeBudgetNanos / 1_000_000d;
+    }
+
+    /**
+     * Sets the most spatials attached in a single frame (in addition to the time budget). Defaults to no limit.
+     */
+    public void setMaxAttachmentsPerFrame(int maxAttachmentsPerFrame){
+        if (maxAttachmentsPerFrame < 1){
+            throw new IllegalArgumentException("Must be able to attach at least 1 spatial per frame, was " + maxAttachmentsPerFrame);
+        }
+        this.maxAttachmentsPerFrame = maxAttachmentsPerFrame;
+    }
+
+    public int getMaxAttachmentsPerFrame(){
+        return maxAttachmentsPerFrame;
+    }
+
+    /**
+     * A snapshot of how the service is keeping up, e.g. for telemetry or a debug overlay
+     */
+    public Metrics getMetrics(){
+        long completed = preparationsCompleted.get();
+        return new Metrics(
+                preparationsInProgress.get(),
+                readyToAttach.size(),
+                completed == 0 ? 0 : totalPreparationLatencyNanos.get() / completed,
+                lastFrameAttachNanos,
+                lastFrameAttachCount);
+    }
+
     @Override
     public void update(float tpf){
         super.update(tpf);
-        Iterator<NodeData> iterator = autoAttachings.iterator();
-        while(iterator.hasNext()){
-            NodeData inProgressItem = iterator.next();
-            if (inProgressItem.getNodePreparationFuture().isDone()){
-                try{
-                    inProgressItem.attach();
-                } catch(InterruptedException|ExecutionException e){
-                    logger.log( Level.WARNING, "Error while retrieving prepared spatial", e);
-                }
-                iterator.remove();
+        long attachStart = System.nanoTime();
+        int attached = 0;
+        while(attached < maxAttachmentsPerFrame && (attached == 0 || System.nanoTime() - attachStart < attachTimeBudgetNanos)){
+            NodeData readyItem = readyToAttach.poll();
+            if (readyItem == null){
+                break;
             }
+            try{
+                readyItem.attach();
+            } catch(InterruptedException|ExecutionException e){
+                logger.log( Level.WARNING, "Error while retrieving prepared spatial", e);
+            }
+            attached++;
         }
+        lastFrameAttachCount = attached;
+        lastFrameAttachNanos = attached == 0 ? 0 : System.nanoTime() - attachStart;
+    }
+
+    /**
+     * Prepares the spatial on the executor, then (on completion, from the preparing thread) queues it to be attached
+     * on the main thread.
+     */
+    private void prepareThenAttach(NodeData nodeData, Callable<Spatial> preparation){
+        startExecutorIfRequired();
+        long requestedNanos = System.nanoTime();
+        preparationsInProgress.incrementAndGet();
+        FutureTask<Spatial> preparationTask = new FutureTask<>(preparation){
+            @Override
+            protected void done(){
+                totalPreparationLatencyNanos.addAndGet(System.nanoTime() - requestedNanos);
+                preparationsCompleted.incrementAndGet();
+                preparationsInProgress.decrementAndGet();
+                readyToAttach.add(nodeData);
+            }
+        };
+        nodeData.setNodePreparationFuture(preparationTask);
+        executor.execute(preparationTask);
     }
 
     /**
@@ -241,10 +377,7 @@ public class DeferredAttachmentService extends BaseAppState{
      */
     public Future<Spatial> prepareSpatial(Spatial spatialToPrepare){
         startExecutorIfRequired();
-        return executor.submit(() ->{
-            generateCollisionData(spatialToPrepare);
-            return spatialToPrepare;
-        });
+        return executor.submit(preparationOf(spatialToPrepare));
     }
 
     /**
@@ -254,11 +387,22 @@ public class DeferredAttachmentService extends BaseAppState{
      */
     public Future<Spatial> prepareSpatial(Supplier<Spatial> spatialToPrepare){
         startExecutorIfRequired();
-        return executor.submit(() ->{
+        return executor.submit(preparationOf(spatialToPrepare));
+    }
+
+    private Callable<Spatial> preparationOf(Spatial spatialToPrepare){
+        return () -> {
+            generateCollisionData(spatialToPrepare);
+            return spatialToPrepare;
+        };
+    }
+
+    private Callable<Spatial> preparationOf(Supplier<Spatial> spatialToPrepare){
+        return () -> {
             Spatial spatial = spatialToPrepare.get();
             generateCollisionData(spatial);
             return spatial;
-        });
+        };
     }
 
     private void generateCollisionData(Spatial spatialToPrepare){
@@ -281,18 +425,30 @@ public class DeferredAttachmentService extends BaseAppState{
 
     }
 
+    /**
+     * @param preparationsInProgress spatials still being prepared
+     * @param readyToAttach spatials that are prepared but waiting for a frame with enough budget to attach them
+     * @param meanPreparationLatencyNanos the mean time from a spatial being requested to it being prepared
+     * @param lastFrameAttachNanos how long the most recent frame spent attaching spatials
+     * @param lastFrameAttachCount how many spatials the most recent frame attached
+     */
+    public record Metrics(int preparationsInProgress, int readyToAttach, long meanPreparationLatencyNanos, long lastFrameAttachNanos, int lastFrameAttachCount){}
+
     private static class NodeData{
-        private final Future<Spatial> nodePreparationFuture;
+        private Future<Spatial> nodePreparationFuture;
         private final Node nodeToAttachTo;
         private final Object lock = new Object();
         private final List<Node> nodeToCloneAttachTo = new ArrayList<>();
         private final List<Node> nodeToCloneAttachToCloningMaterials = new ArrayList<>();
         private final Consumer<Spatial> onAttachCallback;
+        private final AttachmentPriority priority;
+        private final long sequenceNumber;
 
-        public NodeData(Future<Spatial> nodePreparationFuture, Node nodeToAttachTo, Consumer<Spatial> onAttachCallback){
-            this.nodePreparationFuture = nodePreparationFuture;
+        public NodeData(Node nodeToAttachTo, Consumer<Spatial> onAttachCallback, AttachmentPriority priority, long sequenceNumber){
             this.nodeToAttachTo = nodeToAttachTo;
             this.onAttachCallback = onAttachCallback;
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
         }
 
         public void attach() throws InterruptedException, ExecutionException{
@@ -319,6 +475,10 @@ public class DeferredAttachmentService extends BaseAppState{
             return nodePreparationFuture;
         }
 
+        private void setNodePreparationFuture(Future<Spatial> nodePreparationFuture){
+            this.nodePreparationFuture = nodePreparationFuture;
+        }
+
         public Node getNodeToAttachTo(){
             return nodeToAttachTo;
         }
@@ -0,0 +1,154 @@
+package com.onemillionworlds.tamarin.handskeleton;
+
+import com.jme3.anim.Armature;
+import com.jme3.anim.Joint;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A hand armature with its joints looked up (by bone name) once, up front, so that applying a
+ * {@link HandSkeletonPose} to it each frame is a walk over an array rather than a search by name for every joint.
+ * <p>
+ * Joints whose pose hasn't changed (by more than the epsilon) since they were last applied are not updated, nor are
+ * joints the pose doesn't have (e.g. ones the runtime didn't report).
+ * </p>
+ * <p>
+ * Note that the bone name mappings are read when the armature is bound, so if they are changed later the armature
+ * must be bound again.
+ * </p>
+ */
+public class BoundArmature{
+
+    /**
+     * Position changes are in metres, orientation changes in quaternion components
+     */
+    public static final float DEFAULT_EPSILON = 0.00001f;
+
+    private final Armature armature;
+
+    /**
+     * Indexed by {@link HandJoint#getJointIndex()}, null where the armature has no bone for that joint
+     */
+    private final Joint[] joints = new Joint[HandSkeletonPose.NUMBER_OF_JOINTS];
+
+    /**
+     * The hand joint each of the joints is bound to
+     */
+    private final HandJoint[] handJoints = new HandJoint[HandSkeletonPose.NUMBER_OF_JOINTS];
+
+    private final Map<HandJoint, String> boneNameMappings;
+
+    /**
+     * The pose each joint was last set to, in the {@link HandSkeletonPose} layout
+     */
+    private final float[] lastApplied = new float[HandSkeletonPose.NUMBER_OF_JOINTS * HandSkeletonPose.FLOATS_PER_JOINT];
+
+    private final boolean[] everApplied = new boolean[HandSkeletonPose.NUMBER_OF_JOINTS];
+
+    private float epsilon = DEFAULT_EPSILON;
+
+    private final Vector3f position = new Vector3f();
+    private final Quaternion orientation = new Quaternion();
+
+    /**
+     * @param armature the hand armature
+     * @param boneNameMappings a map from the HandJoint to the name of the bone in the armature
+     */
+    public BoundArmature(Armature armature, Map<HandJoint, String> boneNameMappings){
+        this.armature = armature;
+        this.boneNameMappings = Collections.unmodifiableMap(new HashMap<>(boneNameMappings));
+        for(Map.Entry<HandJoint, String> boneNameMapping : boneNameMappings.entrySet()){
+            Joint joint = armature.getJoint(boneNameMapping.getValue());
+            if(joint != null){
+                HandJoint handJoint = boneNameMapping.getKey();
+                joints[handJoint.getJointIndex()] = joint;
+                handJoints[handJoint.getJointIndex()] = handJoint;
+            }
+        }
+    }
+
+    /**
+     * Sets the armature's joints to the bone stances (for those joints that are set and have changed).
+     *
+     * @param boneStances the bone positions (as reported by OpenXR or synthesised)
+     * @return the number of joints that were updated
+     */
+    public int apply(HandSkeletonPose boneStances){
+        if(!boneStances.isPopulated()){
+            return 0;
+        }
+        float[] data = boneStances.getData();
+        int jointsUpdated = 0;
+        for(int jointIndex = 0; jointIndex < joints.length; jointIndex++){
+            Joint joint = joints[jointIndex];
+            if(joint == null || !boneStances.isSet(handJoints[jointIndex])){
+                continue;
+            }
+            int offset = jointIndex * HandSkeletonPose.FLOATS_PER_JOINT;
+            if(everApplied[jointIndex] && !changed(data, offset)){
+                continue;
+            }
+            // radius isn't used by the armature so isn't compared
+            System.arraycopy(data, offset, lastApplied, offset, 7);
+            everApplied[jointIndex] = true;
+
+            // the joint copies these into its own transform so they can be reused across joints
+            joint.setLocalTranslation(position.set(data[offset], data[offset + 1], data[offset + 2]));
+            joint.setLocalRotation(orientation.set(data[offset + 3], data[offset + 4], data[offset + 5], data[offset + 6]));
+            jointsUpdated++;
+        }
+        return jointsUpdated;
+    }
+
+    private boolean changed(float[] data, int offset){
+        for(int i = offset; i < offset + 7; i++){
+            if(Math.abs(data[i] - lastApplied[i]) > epsilon){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forces every joint to be set on the next {@link #apply}, e.g. if something else has moved the joints.
+     */
+    public void invalidate(){
+        Arrays.fill(everApplied, false);
+    }
+
+    /**
+     * @param epsilon how much any component of a joint's position or orientation must change by for the joint to be
+     *                updated. Zero means any change at all
+     */
+    public void setEpsilon(float epsilon){
+        this.epsilon = epsilon;
+    }
+
+    public float getEpsilon(){
+        return epsilon;
+    }
+
+    public Armature getArmature(){
+        return armature;
+    }
+
+    /**
+     * @return the bone name mappings the armature was bound with
+     */
+    public Map<HandJoint, String> getBoneNameMappings(){
+        return boneNameMappings;
+    }
+
+    /**
+     * @return the armature joint bound to the hand joint, or null if the armature has no bone for it
+     */
+    public Joint getJoint(HandJoint handJoint){
+        return joints[handJoint.getJointIndex()];
+    }
+}
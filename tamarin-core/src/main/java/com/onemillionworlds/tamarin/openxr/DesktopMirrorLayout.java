@@ -0,0 +1,62 @@
+package com.onemillionworlds.tamarin.openxr;
+
+/**
+ * Works out which part of an eye's image is copied to which part of the desktop window when mirroring (see
+ * {@link DesktopMirrorMode}). Regions are in pixels, from the bottom left, with exclusive upper bounds (as used by a
+ * framebuffer blit).
+ */
+public final class DesktopMirrorLayout{
+
+    public record Region(int x0, int y0, int x1, int y1){
+        public int width(){
+            return x1 - x0;
+        }
+
+        public int height(){
+            return y1 - y0;
+        }
+    }
+
+    private DesktopMirrorLayout(){}
+
+    /**
+     * The part of the window an eye is shown in, or null if the eye isn't shown in this mode.
+     */
+    public static Region destinationRegion(DesktopMirrorMode mode, EyeSide eyeSide, int windowWidth, int windowHeight){
+        return switch(mode){
+            case OFF -> null;
+            case LEFT_EYE -> eyeSide == EyeSide.LEFT ? new Region(0, 0, windowWidth, windowHeight) : null;
+            case BOTH_EYES -> eyeSide == EyeSide.LEFT ? new Region(0, 0, windowWidth / 2, windowHeight) : new Region(windowWidth / 2, 0, windowWidth, windowHeight);
+        };
+    }
+
+    /**
+     * The part of an eye's image that is copied into the destination. If cropping to the aspect ratio, the largest
+     * centred part of the image with the destination's aspect ratio, otherwise the whole rendered area (which is
+     * stretched to fit).
+     *
+     * @param renderWidth the width of the area of the eye's image that was rendered to
+     * @param renderHeight the height of the area of the eye's image that was rendered to
+     * @param destination where in the window the image is going
+     * @param cropToAspect true to crop rather than stretch
+     */
+    public static Region sourceRegion(int renderWidth, int renderHeight, Region destination, boolean cropToAspect){
+        if(!cropToAspect || destination.width() <= 0 || destination.height() <= 0){
+            return new Region(0, 0, renderWidth, renderHeight);
+        }
+        // compared by cross multiplying to avoid rounding
+        long sourceByDestinationHeight = (long) renderWidth * destination.height();
+        long destinationBySourceHeight = (long) destination.width() * renderHeight;
+        if(sourceByDestinationHeight > destinationBySourceHeight){
+            // the image is wider than the destination, lose the sides
+            int croppedWidth = (int) (destinationBySourceHeight / destination.height());
+            int x0 = (renderWidth - croppedWidth) / 2;
+            return new Region(x0, 0, x0 + croppedWidth, renderHeight);
+        }else{
+            // the image is taller than the destination, lose the top and bottom
+            int croppedHeight = (int) (sourceByDestinationHeight / destination.width());
+            int y0 = (renderHeight - croppedHeight) / 2;
+            return new Region(0, y0, renderWidth, y0 + croppedHeight);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.onemillionworlds.tamarin.openxr;
+
+/**
+ * What the desktop window shows (see {@link XrSettings#setDesktopMirrorMode(DesktopMirrorMode)}).
+ */
+public enum DesktopMirrorMode{
+    /**
+     * The window is rendered by the application's main viewport as normal (which renders the scene again, e.g. with
+     * {@link XrSettings#setMainCameraFollowsVrCamera(boolean)})
+     */
+    OFF,
+    /**
+     * The window shows the left eye's image, copied from what was rendered for the headset
+     */
+    LEFT_EYE,
+    /**
+     * The window shows both eyes' images side by side, copied from what was rendered for the headset
+     */
+    BOTH_EYES
+}
@@ -0,0 +1,128 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.post.SceneProcessor;
+import com.jme3.profile.AppProfiler;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.texture.FrameBuffer;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Times the jMonkey render of one eye's viewports (as a {@link FrameTimingStats} phase).
+ * <p>
+ * Each viewport is given a processor that marks the start of its render (which should be its first processor) and one
+ * that marks the end (which {@link #moveEndToLast} keeps as its last processor, so the other processors' post frame
+ * work, such as filters, is included).
+ * </p>
+ */
+class EyeRenderTimer{
+
+    private final FrameTimingStats.Phase phase;
+
+    private final Supplier<FrameTimingStats> frameTimingStats;
+
+    /**
+     * When the eye's current render started (or 0 if it isn't being rendered)
+     */
+    private long startNanos = 0;
+
+    /**
+     * @param phase the phase the eye's render is recorded as
+     * @param frameTimingStats where the timings are recorded (looked up each time as the session may not exist yet)
+     */
+    EyeRenderTimer(FrameTimingStats.Phase phase, Supplier<FrameTimingStats> frameTimingStats){
+        this.phase = phase;
+        this.frameTimingStats = frameTimingStats;
+    }
+
+    /**
+     * Adds the start processor to the viewport, this should be done before any other processors are added.
+     */
+    void addStartProcessor(ViewPort viewPort){
+        viewPort.addProcessor(new MarkerProcessor(true));
+    }
+
+    /**
+     * Adds the end processor to the viewport, this should be done after any other processors are added.
+     */
+    void addEndProcessor(ViewPort viewPort){
+        viewPort.addProcessor(new MarkerProcessor(false));
+    }
+
+    /**
+     * Moves the viewport's end processor back to the end of its processors (if others have been added since), so
+     * that it marks the end of the whole render.
+     */
+    void moveEndToLast(ViewPort viewPort){
+        List<SceneProcessor> processors = viewPort.getProcessors();
+        if (processors.isEmpty() || isEndProcessor(processors.get(processors.size() - 1))){
+            return;
+        }
+        for(SceneProcessor processor : processors){
+            if (isEndProcessor(processor)){
+                viewPort.removeProcessor(processor);
+                viewPort.addProcessor(processor);
+                return;
+            }
+        }
+    }
+
+    private boolean isEndProcessor(SceneProcessor processor){
+        return processor instanceof MarkerProcessor marker && !marker.start && marker.owner() == this;
+    }
+
+    private class MarkerProcessor implements SceneProcessor{
+        private final boolean start;
+        private boolean initialized = false;
+
+        MarkerProcessor(boolean start){
+            this.start = start;
+        }
+
+        EyeRenderTimer owner(){
+            return EyeRenderTimer.this;
+        }
+
+        @Override
+        public void initialize(RenderManager rm, ViewPort vp){
+            initialized = true;
+        }
+
+        @Override
+        public void reshape(ViewPort vp, int w, int h){}
+
+        @Override
+        public boolean isInitialized(){
+            return initialized;
+        }
+
+        @Override
+        public void preFrame(float tpf){
+            if (start){
+                startNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void postQueue(RenderQueue rq){}
+
+        @Override
+        public void postFrame(FrameBuffer out){
+            if (!start && startNanos != 0){
+                frameTimingStats.get().recordSince(phase, startNanos);
+                startNanos = 0;
+            }
+        }
+
+        @Override
+        public void cleanup(){
+            initialized = false;
+        }
+
+        @Override
+        public void setProfiler(AppProfiler profiler){}
+    }
+}
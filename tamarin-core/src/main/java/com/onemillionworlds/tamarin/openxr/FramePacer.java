@@ -0,0 +1,232 @@
+package com.onemillionworlds.tamarin.openxr;
+
+/**
+ * Calls xrWaitFrame on a dedicated thread so that the main (jME) thread doesn't have to block in it.
+ * <p>
+ * OpenXR allows the wait for the next frame to be made as soon as the current frame has been begun (with xrBeginFrame),
+ * so the pacing thread waits for frame N+1 while the main thread is still updating, rendering and ending frame N. When
+ * the main thread comes to start frame N+1 the wait has usually already completed (or has less time left to run) and it
+ * only has to begin the frame, locate the views and render.
+ * </p>
+ * <p>
+ * The sequence (all called from the main thread) is:
+ * </p>
+ * <ol>
+ *     <li>{@link #awaitFrame()} to get the timing of the next frame (blocking only if the wait hasn't finished yet)</li>
+ *     <li>xrBeginFrame</li>
+ *     <li>{@link #requestNextFrame()} to start waiting for the frame after</li>
+ * </ol>
+ * <p>
+ * The pacer does not touch OpenXR itself, it calls whatever {@link FrameWaiter} it is given. So it can be used (and
+ * tested) with a simulated session.
+ * </p>
+ */
+public class FramePacer{
+
+    private final FrameWaiter frameWaiter;
+
+    private final String threadName;
+
+    private final Object lock = new Object();
+
+    private Thread thread;
+
+    /**
+     * A wait has been requested and its result hasn't been published yet
+     */
+    private boolean waitRequested = false;
+
+    /**
+     * A wait has completed and its result hasn't been taken by the main thread yet
+     */
+    private boolean frameReady = false;
+
+    private FrameTiming publishedFrame;
+
+    private RuntimeException waitFailure;
+
+    private boolean stopped = false;
+
+    private long lastBlockedNanos = 0;
+
+    /**
+     * @param frameWaiter the call that blocks until the next frame should be started (i.e. xrWaitFrame)
+     * @param threadName the name of the pacing thread (started when the first frame is requested)
+     */
+    public FramePacer(FrameWaiter frameWaiter, String threadName){
+        this.frameWaiter = frameWaiter;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Asks the pacing thread to start waiting for the next frame. This should be called just after the previous
+     * frame has been begun (OpenXR does not allow a wait before then).
+     * <p>
+     * Does nothing if a frame has already been requested (and not yet taken by {@link #awaitFrame()}).
+     * </p>
+     */
+    public void requestNextFrame(){
+        synchronized(lock){
+            if(stopped){
+                throw new IllegalStateException("The frame pacer has been stopped");
+            }
+            if(waitRequested || frameReady){
+                return;
+            }
+            if(thread == null){
+                thread = new Thread(this::runPacing, threadName);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            waitRequested = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the timing of the requested frame, blocking until the wait for it has completed. If no frame has been
+     * requested one is requested first (so this is equivalent to calling the frame waiter directly, just on another
+     * thread).
+     * <p>
+     * Any exception thrown by the frame waiter is rethrown here.
+     * </p>
+     */
+    public FrameTiming awaitFrame(){
+        requestNextFrame();
+        long startTime = System.nanoTime();
+        synchronized(lock){
+            while(!frameReady){
+                waitOnLock();
+            }
+            frameReady = false;
+            lastBlockedNanos = System.nanoTime() - startTime;
+            FrameTiming frame = publishedFrame;
+            RuntimeException failure = waitFailure;
+            publishedFrame = null;
+            waitFailure = null;
+            if(failure != null){
+                throw failure;
+            }
+            return frame;
+        }
+    }
+
+    /**
+     * Waits for any wait that is in progress to finish and throws its result (including any exception) away. This
+     * should be called when the session stops being able to produce frames (before the session is ended) so that a
+     * stale frame isn't used when it starts again.
+     */
+    public void discardPendingFrame(){
+        synchronized(lock){
+            while(waitRequested){
+                waitOnLock();
+            }
+            frameReady = false;
+            publishedFrame = null;
+            waitFailure = null;
+        }
+    }
+
+    /**
+     * If a frame has been requested and not yet taken
+     */
+    public boolean isFramePending(){
+        synchronized(lock){
+            return waitRequested || frameReady;
+        }
+    }
+
+    /**
+     * How long (in nanoseconds) the main thread was blocked in the most recent {@link #awaitFrame()}. This is the part of
+     * the frame wait that could not be overlapped with other work.
+     */
+    public long getLastBlockedNanos(){
+        synchronized(lock){
+            return lastBlockedNanos;
+        }
+    }
+
+    /**
+     * Stops the pacing thread, after any wait that is in progress has finished. The pacer cannot be used again.
+     */
+    public void stop(){
+        Thread threadToJoin;
+        synchronized(lock){
+            stopped = true;
+            threadToJoin = thread;
+            lock.notifyAll();
+        }
+        if(threadToJoin != null && threadToJoin != Thread.currentThread()){
+            try{
+                threadToJoin.join();
+            } catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runPacing(){
+        while(true){
+            synchronized(lock){
+                while(!waitRequested && !stopped){
+                    try{
+                        lock.wait();
+                    } catch(InterruptedException e){
+                        return;
+                    }
+                }
+                if(stopped){
+                    waitRequested = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            FrameTiming frame = null;
+            RuntimeException failure = null;
+            try{
+                frame = frameWaiter.waitFrame();
+            } catch(RuntimeException e){
+                failure = e;
+            }
+
+            synchronized(lock){
+                publishedFrame = frame;
+                waitFailure = failure;
+                waitRequested = false;
+                frameReady = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void waitOnLock(){
+        if(stopped){
+            throw new IllegalStateException("The frame pacer has been stopped");
+        }
+        try{
+            lock.wait();
+        } catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the next XR frame", e);
+        }
+    }
+
+    /**
+     * Blocks until the next frame should be started (i.e. calls xrWaitFrame) and returns its timing.
+     */
+    @FunctionalInterface
+    public interface FrameWaiter{
+        FrameTiming waitFrame();
+    }
+
+    /**
+     * The result of xrWaitFrame.
+     *
+     * @param predictedDisplayTime the time (in the runtime's nanosecond clock) the frame is predicted to be displayed
+     * @param predictedDisplayPeriod the predicted time (in nanoseconds) between frames
+     * @param shouldRender if the application should render this frame (if false the frame should still be begun and
+     *                     ended but with no layers)
+     */
+    public record FrameTiming(long predictedDisplayTime, long predictedDisplayPeriod, boolean shouldRender){}
+}
@@ -0,0 +1,288 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long each phase of the OpenXR frame loop takes, so it can be seen where the frame time goes (and alerted
+ * on if it regularly goes over the display period).
+ * <p>
+ * The most recent samples of each phase (by default the last 256 frames) are kept in a ring buffer, from which rolling
+ * percentiles are calculated. Recording a sample never locks or allocates, so the stats can be read (e.g. by a
+ * telemetry thread) while the frame loop is running. Each phase should only be recorded from one thread at a time (which
+ * is always the case for the session managers, the frame wait is recorded on the frame pacing thread if there is one
+ * and everything else on the main thread).
+ * </p>
+ * <p>
+ * The number of frames missed is derived from the predicted display times, a frame whose predicted display time is
+ * more than one display period after the previous frame's means the frames in between were missed.
+ * </p>
+ */
+public class FrameTimingStats{
+
+    public static final int DEFAULT_WINDOW_SIZE = 256;
+
+    public enum Phase{
+        /**
+         * Time between the start of one frame and the start of the next (i.e. the whole frame)
+         */
+        FRAME,
+        POLL_EVENTS,
+        /**
+         * The xrWaitFrame call itself (on the frame pacing thread if there is one)
+         */
+        WAIT_FRAME,
+        /**
+         * How long the main thread was blocked waiting for the frame. The same as WAIT_FRAME if the frame wait isn't
+         * asynchronous, otherwise only the part of the wait that couldn't be overlapped with the previous frame.
+         */
+        WAIT_FRAME_BLOCKED,
+        BEGIN_FRAME,
+        LOCATE_VIEWS,
+        /**
+         * Locating the views again just before rendering (see {@link XrSettings#setLateLatchViews(boolean)})
+         */
+        LATE_LATCH_VIEWS,
+        /**
+         * Acquiring and waiting for both eyes' swapchain images
+         */
+        ACQUIRE_SWAPCHAIN,
+        /**
+         * The jMonkey render of both eyes (and any other viewports)
+         */
+        RENDER,
+        /**
+         * The jMonkey render of the left eye's viewport (part of RENDER)
+         */
+        RENDER_LEFT_EYE,
+        /**
+         * The jMonkey render of the right eye's viewport (part of RENDER)
+         */
+        RENDER_RIGHT_EYE,
+        /**
+         * Blitting (and resolving MSAA samples) from the eye buffers to the swapchain images (only in blitted mode)
+         */
+        RESOLVE,
+        RELEASE_SWAPCHAIN,
+        END_FRAME
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final int windowSize;
+
+    private final AtomicLongArray[] samples = new AtomicLongArray[PHASES.length];
+
+    private final AtomicLong[] sampleCounts = new AtomicLong[PHASES.length];
+
+    private final AtomicLong missedFrames = new AtomicLong();
+
+    private volatile long predictedDisplayPeriod = 0;
+
+    private long lastPredictedDisplayTime = 0;
+
+    private long lastFrameStart = 0;
+
+    public FrameTimingStats(){
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize the number of samples of each phase that the percentiles are calculated over
+     */
+    public FrameTimingStats(int windowSize){
+        if(windowSize < 1){
+            throw new IllegalArgumentException("Window size must be at least 1, was " + windowSize);
+        }
+        this.windowSize = windowSize;
+        for(int i = 0; i < PHASES.length; i++){
+            samples[i] = new AtomicLongArray(windowSize);
+            sampleCounts[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase the phase
+     * @param durationNanos how long it took, in nanoseconds
+     */
+    public void record(Phase phase, long durationNanos){
+        AtomicLong sampleCount = sampleCounts[phase.ordinal()];
+        long count = sampleCount.get();
+        samples[phase.ordinal()].lazySet((int)(count % windowSize), durationNanos);
+        sampleCount.lazySet(count + 1);
+    }
+
+    /**
+     * Records a phase that started at the given time and has just finished. Returns the current time so that
+     * consecutive phases can be chained:
+     * <pre>
+     * long time = System.nanoTime();
+     * beginFrame();
+     * time = stats.recordSince(Phase.BEGIN_FRAME, time);
+     * locateViews();
+     * time = stats.recordSince(Phase.LOCATE_VIEWS, time);
+     * </pre>
+     *
+     * @param phase the phase
+     * @param startNanos when the phase started (from {@link System#nanoTime()})
+     * @return the current {@link System#nanoTime()}
+     */
+    public long recordSince(Phase phase, long startNanos){
+        long now = System.nanoTime();
+        record(phase, now - startNanos);
+        return now;
+    }
+
+    /**
+     * Marks the start of a new frame, recording the time since the previous frame started as a {@link Phase#FRAME}
+     * sample.
+     *
+     * @return the current {@link System#nanoTime()}
+     */
+    public long frameStarted(){
+        long now = System.nanoTime();
+        if(lastFrameStart != 0){
+            record(Phase.FRAME, now - lastFrameStart);
+        }
+        lastFrameStart = now;
+        return now;
+    }
+
+    /**
+     * Records the timing the runtime gave for a frame (from xrWaitFrame), which is used to count missed frames.
+     *
+     * @param predictedDisplayTime the predicted display time of the frame (in the runtime's clock)
+     * @param predictedDisplayPeriod the predicted time between frames (in nanoseconds)
+     */
+    public void recordDisplayTiming(long predictedDisplayTime, long predictedDisplayPeriod){
+        if(lastPredictedDisplayTime != 0 && predictedDisplayPeriod > 0){
+            long framesElapsed = Math.round((double)(predictedDisplayTime - lastPredictedDisplayTime) / predictedDisplayPeriod);
+            if(framesElapsed > 1){
+                missedFrames.addAndGet(framesElapsed - 1);
+            }
+        }
+        lastPredictedDisplayTime = predictedDisplayTime;
+        this.predictedDisplayPeriod = predictedDisplayPeriod;
+    }
+
+    /**
+     * The number of frames the runtime has displayed without a new frame from this application
+     */
+    public long getMissedFrames(){
+        return missedFrames.get();
+    }
+
+    /**
+     * The most recent predicted display period (the time available for each frame) in nanoseconds, or 0 if there
+     * hasn't been a frame yet
+     */
+    public long getPredictedDisplayPeriod(){
+        return predictedDisplayPeriod;
+    }
+
+    /**
+     * The total number of samples recorded for the phase (not just those still in the window)
+     */
+    public long getSampleCount(Phase phase){
+        return sampleCounts[phase.ordinal()].get();
+    }
+
+    /**
+     * The most recent sample of the phase in nanoseconds (or 0 if there have been none)
+     */
+    public long getLatestNanos(Phase phase){
+        long count = getSampleCount(phase);
+        return count == 0 ? 0 : samples[phase.ordinal()].get((int)((count - 1) % windowSize));
+    }
+
+    /**
+     * The mean of the samples of the phase still in the window, in nanoseconds (or 0 if there have been none)
+     */
+    public long getMeanNanos(Phase phase){
+        long[] windowSamples = windowSamples(phase);
+        if(windowSamples.length == 0){
+            return 0;
+        }
+        long total = 0;
+        for(long sample : windowSamples){
+            total += sample;
+        }
+        return total / windowSamples.length;
+    }
+
+    /**
+     * The given percentile (nearest rank) of the samples of the phase still in the window, in nanoseconds (or 0 if there
+     * have been none).
+     *
+     * @param phase the phase
+     * @param percentile between 0 and 1, e.g. 0.99 for the 99th percentile
+     */
+    public long getPercentileNanos(Phase phase, double percentile){
+        if(percentile < 0 || percentile > 1){
+            throw new IllegalArgumentException("Percentile must be between 0 and 1, was " + percentile);
+        }
+        long[] windowSamples = windowSamples(phase);
+        if(windowSamples.length == 0){
+            return 0;
+        }
+        Arrays.sort(windowSamples);
+        int rank = (int)Math.ceil(percentile * windowSamples.length);
+        return windowSamples[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * If the given percentile of the whole frame time is longer than the display period (i.e. the application is
+     * regularly not keeping up with the headset). For example {@code isFrameTimeOverBudget(0.99)} is true if more
+     * than 1% of recent frames took longer than the display period.
+     */
+    public boolean isFrameTimeOverBudget(double percentile){
+        long period = predictedDisplayPeriod;
+        return period > 0 && getPercentileNanos(Phase.FRAME, percentile) > period;
+    }
+
+    /**
+     * Clears all samples and the missed frame count. Should be called from the thread recording the frames (or while
+     * they are not being recorded).
+     */
+    public void reset(){
+        for(int i = 0; i < PHASES.length; i++){
+            sampleCounts[i].set(0);
+        }
+        missedFrames.set(0);
+        lastPredictedDisplayTime = 0;
+        lastFrameStart = 0;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder builder = new StringBuilder("FrameTimingStats{");
+        builder.append("displayPeriod=").append(nanosToMillis(predictedDisplayPeriod)).append("ms");
+        builder.append(", missedFrames=").append(getMissedFrames());
+        for(Phase phase : PHASES){
+            if(getSampleCount(phase) > 0){
+                builder.append(", ").append(phase)
+                        .append("(p50=").append(nanosToMillis(getPercentileNanos(phase, 0.5)))
+                        .append("ms, p99=").append(nanosToMillis(getPercentileNanos(phase, 0.99))).append("ms)");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private long[] windowSamples(Phase phase){
+        long count = getSampleCount(phase);
+        int size = (int)Math.min(count, windowSize);
+        long[] copy = new long[size];
+        AtomicLongArray phaseSamples = samples[phase.ordinal()];
+        for(int i = 0; i < size; i++){
+            copy[i] = phaseSamples.get(i);
+        }
+        return copy;
+    }
+
+    private static String nanosToMillis(long nanos){
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
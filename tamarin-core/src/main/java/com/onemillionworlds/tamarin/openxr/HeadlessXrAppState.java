@@ -0,0 +1,45 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.app.Application;
+
+/**
+ * An XR app state that runs against a {@link HeadlessXrSessionBackend} rather than a real OpenXR session. Everything
+ * else (the eye cameras and viewports, additional viewports, the observer, late latching, frame timing) is the same as
+ * for a real headset, so this can be used to benchmark or test the full frame loop, for example with
+ * {@code app.start(JmeContext.Type.Headless)} in CI.
+ * <p>
+ * Pair with {@link com.onemillionworlds.tamarin.actions.HeadlessXrActionAppState} to simulate the hands and actions.
+ * </p>
+ */
+public class HeadlessXrAppState extends XrVrAppState{
+
+    private final HeadlessXrSessionBackend xrSession;
+
+    @SuppressWarnings("unused")
+    public HeadlessXrAppState(HeadlessXrSessionBackend xrSession){
+        this(new XrSettings(), xrSession);
+    }
+
+    public HeadlessXrAppState(XrSettings xrSettings, HeadlessXrSessionBackend xrSession){
+        super(xrSettings);
+        this.xrSession = xrSession;
+    }
+
+    @Override
+    protected void initialize(Application app){
+        super.initialize(app);
+        xrSession.setAsyncFrameWait(xrSettings.isAsyncFrameWait());
+        xrSession.setXrVrBlendMode(xrSettings.getInitialXrVrMode());
+
+        initialiseCameras(xrSession.getSwapchainWidth(), xrSession.getSwapchainHeight());
+    }
+
+    public HeadlessXrSessionBackend getXrSession(){
+        return xrSession;
+    }
+
+    @Override
+    protected XrSessionBackend getSessionBackend(){
+        return xrSession;
+    }
+}
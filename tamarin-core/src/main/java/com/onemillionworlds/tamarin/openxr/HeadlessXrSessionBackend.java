@@ -0,0 +1,454 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.texture.FrameBuffer;
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture2D;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * A simulated OpenXR session, that needs no headset, no OpenXR runtime and no window. It can run under jMonkey's
+ * headless context (with the NullRenderer) so that the whole frame loop (and everything driven by it, e.g. the hands
+ * and interactions) can be run in CI, for example as a performance regression test.
+ * <p>
+ * It simulates:
+ * </p>
+ * <ul>
+ *     <li>Frame timing, at a configurable refresh rate. The predicted display times are exactly one display period
+ *     apart. By default time is virtual (frames are released immediately, and frame N is displayed at
+ *     N * period) so runs are completely reproducible. With real time pacing frames are released on the refresh
+ *     rate's schedule, and any frames the application is too slow for are missed (like a real runtime).</li>
+ *     <li>The head, from a {@link ScriptedTrajectory}, with the eyes either side of it.</li>
+ *     <li>Late latching of the views, which locates them again against the head trajectory. So a trajectory that is
+ *     changed after the frame has begun stands in for the runtime having more recent tracking.</li>
+ *     <li>Swapchains, as a ring of framebuffers for each eye that are rotated through each frame.</li>
+ *     <li>Quad layers, each with its own ring of framebuffers, that are counted as submitted once they have had an
+ *     image rendered to them.</li>
+ * </ul>
+ * <p>
+ * The frame waits go through a {@link FramePacer} (if async frame waits are enabled) and each phase is recorded in
+ * the {@link FrameTimingStats} the same way as the real session managers do.
+ * </p>
+ */
+public class HeadlessXrSessionBackend implements XrSessionBackend{
+
+    private static final Logger LOGGER = Logger.getLogger(HeadlessXrSessionBackend.class.getName());
+
+    public static final String SYSTEM_NAME = "Tamarin headless simulation";
+
+    /**
+     * The number of images in each eye's simulated swapchain (typical of real runtimes)
+     */
+    public static final int SWAPCHAIN_LENGTH = 3;
+
+    private final int swapchainWidth;
+
+    private final int swapchainHeight;
+
+    private final long displayPeriodNanos;
+
+    private final FrameTimingStats frameTimingStats = new FrameTimingStats();
+
+    private final FrameBuffer[][] swapchains = new FrameBuffer[2][SWAPCHAIN_LENGTH];
+
+    private ScriptedTrajectory headTrajectory = ScriptedTrajectory.stationary(new Vector3f(0, 1.7f, 0), new Quaternion());
+
+    private float interPupillaryDistance = 0.063f;
+
+    private InProgressXrRender.FieldOfViewData fieldOfView = new InProgressXrRender.FieldOfViewData(-FastMath.QUARTER_PI, FastMath.QUARTER_PI, FastMath.QUARTER_PI, -FastMath.QUARTER_PI);
+
+    private boolean realTimePacing = false;
+
+    private boolean asyncFrameWait = false;
+
+    private FramePacer framePacer;
+
+    private XrVrMode xrVrMode = XrVrMode.ENVIRONMENT_BLEND_MODE_OPAQUE;
+
+    private boolean running = true;
+
+    /**
+     * The System.nanoTime that the session clock is relative to (only used with real time pacing). Only accessed by
+     * whichever thread is waiting for frames.
+     */
+    private long clockOrigin = -1;
+
+    /**
+     * Only accessed by whichever thread is waiting for frames
+     */
+    private long nextFrameIndex = 0;
+
+    private long predictedFrameTime = 0;
+
+    private long framesPresented = 0;
+
+    private final Map<QuadLayer, QuadLayerSwapchain> quadLayerSwapchains = new LinkedHashMap<>();
+
+    private int quadLayersSubmitted = 0;
+
+    private final VisibilityMask[] visibilityMasks = new VisibilityMask[2];
+
+    /**
+     * @param swapchainWidth the width of each eye's image in pixels
+     * @param swapchainHeight the height of each eye's image in pixels
+     * @param refreshRate the simulated headset's refresh rate in Hz (e.g. 90)
+     */
+    public HeadlessXrSessionBackend(int swapchainWidth, int swapchainHeight, float refreshRate){
+        if(swapchainWidth < 1 || swapchainHeight < 1){
+            throw new IllegalArgumentException("Swapchain size must be positive, was " + swapchainWidth + "x" + swapchainHeight);
+        }
+        if(refreshRate <= 0){
+            throw new IllegalArgumentException("Refresh rate must be positive, was " + refreshRate);
+        }
+        this.swapchainWidth = swapchainWidth;
+        this.swapchainHeight = swapchainHeight;
+        this.displayPeriodNanos = Math.round(1_000_000_000.0 / refreshRate);
+
+        for(EyeSide eyeSide : EyeSide.values()){
+            // like the real session managers one depth buffer per eye is shared by all of its swapchain images
+            Texture2D sharedDepth = new Texture2D(swapchainWidth, swapchainHeight, Image.Format.Depth);
+            for(int imageIndex = 0; imageIndex < SWAPCHAIN_LENGTH; imageIndex++){
+                FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
+                frameBuffer.setName("Headless " + eyeSide + " eye swapchain image " + imageIndex);
+                frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(new Texture2D(swapchainWidth, swapchainHeight, Image.Format.RGBA8)));
+                frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(sharedDepth));
+                swapchains[eyeSide.ordinal()][imageIndex] = frameBuffer;
+            }
+        }
+    }
+
+    /**
+     * Sets how the head moves over the session (in stage space). Defaults to standing still at a typical head height.
+     */
+    public void setHeadTrajectory(ScriptedTrajectory headTrajectory){
+        this.headTrajectory = headTrajectory;
+    }
+
+    /**
+     * The distance between the eyes, in metres. Defaults to 0.063
+     */
+    public void setInterPupillaryDistance(float interPupillaryDistance){
+        this.interPupillaryDistance = interPupillaryDistance;
+    }
+
+    /**
+     * The field of view of each eye. Defaults to 45 degrees in each direction.
+     */
+    public void setFieldOfView(InProgressXrRender.FieldOfViewData fieldOfView){
+        this.fieldOfView = fieldOfView;
+    }
+
+    /**
+     * Simulates the runtime reporting (or changing) an eye's visibility mask. Defaults to no mask.
+     */
+    public void setVisibilityMask(EyeSide eyeSide, VisibilityMask visibilityMask){
+        visibilityMasks[eyeSide.ordinal()] = visibilityMask;
+    }
+
+    /**
+     * If true frames are released (by the frame wait) on the refresh rate's schedule, so the application runs at the
+     * refresh rate and misses frames if it is too slow. If false (the default) frames are released immediately and
+     * the display times advance by one period per frame regardless of how long the frame took, so the application runs
+     * as fast as it can and every run sees the same display times (which is usually what a benchmark wants).
+     * <p>
+     * Must be set before the first frame.
+     * </p>
+     */
+    public void setRealTimePacing(boolean realTimePacing){
+        this.realTimePacing = realTimePacing;
+    }
+
+    public boolean isRealTimePacing(){
+        return realTimePacing;
+    }
+
+    /**
+     * If the frame waits should be made on a frame pacing thread (see {@link XrSettings#setAsyncFrameWait(boolean)}).
+     * Must be set before the first frame.
+     */
+    public void setAsyncFrameWait(boolean asyncFrameWait){
+        this.asyncFrameWait = asyncFrameWait;
+    }
+
+    /**
+     * Simulates the session stopping (e.g. the headset being taken off) or starting again. While it isn't running no
+     * frames are produced.
+     */
+    public void setSessionRunning(boolean running){
+        this.running = running;
+        if(!running && framePacer != null){
+            framePacer.discardPendingFrame();
+        }
+    }
+
+    public long getDisplayPeriodNanos(){
+        return displayPeriodNanos;
+    }
+
+    /**
+     * The number of frames that have been presented (i.e. completed) so far
+     */
+    public long getFramesPresented(){
+        return framesPresented;
+    }
+
+    /**
+     * The predicted display time of the current frame, as seconds since the session started. This is the time the
+     * scripted trajectories are evaluated at.
+     */
+    public double getPredictedFrameSeconds(){
+        return toSessionSeconds(predictedFrameTime);
+    }
+
+    @Override
+    public int getSwapchainWidth(){
+        return swapchainWidth;
+    }
+
+    @Override
+    public int getSwapchainHeight(){
+        return swapchainHeight;
+    }
+
+    @Override
+    public int getSwapchainLength(EyeSide eyeSide){
+        return SWAPCHAIN_LENGTH;
+    }
+
+    /**
+     * The framebuffer that is the given image of an eye's simulated swapchain
+     */
+    @Override
+    public FrameBuffer getFrameBuffer(EyeSide eyeSide, int swapchainImageIndex){
+        return swapchains[eyeSide.ordinal()][swapchainImageIndex];
+    }
+
+    @Override
+    public String getSystemName(){
+        return SYSTEM_NAME;
+    }
+
+    @Override
+    public Map<String, Boolean> getExtensionsLoaded(){
+        return new HashMap<>();
+    }
+
+    @Override
+    public void setXrVrBlendMode(XrVrMode xrVrBlendMode){
+        this.xrVrMode = xrVrBlendMode;
+    }
+
+    public XrVrMode getXrVrBlendMode(){
+        return xrVrMode;
+    }
+
+    @Override
+    public boolean isSessionRunning(){
+        return running;
+    }
+
+    @Override
+    public boolean isSessionFocused(){
+        return running;
+    }
+
+    @Override
+    public long getPredictedFrameTime(){
+        return predictedFrameTime;
+    }
+
+    @Override
+    public FrameTimingStats getFrameTimingStats(){
+        return frameTimingStats;
+    }
+
+    @Override
+    public VisibilityMask getVisibilityMask(EyeSide eyeSide){
+        return visibilityMasks[eyeSide.ordinal()];
+    }
+
+    @Override
+    public InProgressXrRender startXrFrame(){
+        long time = frameTimingStats.frameStarted();
+        if(!running){
+            return InProgressXrRender.NO_XR_FRAME;
+        }
+        if(asyncFrameWait && framePacer == null){
+            framePacer = new FramePacer(this::waitFrame, "Headless XR frame pacing");
+        }
+
+        FramePacer.FrameTiming frameTiming = framePacer != null ? framePacer.awaitFrame() : waitFrame();
+        time = frameTimingStats.recordSince(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED, time);
+        frameTimingStats.recordDisplayTiming(frameTiming.predictedDisplayTime(), frameTiming.predictedDisplayPeriod());
+        if(framePacer != null){
+            framePacer.requestNextFrame();
+        }
+        time = frameTimingStats.recordSince(FrameTimingStats.Phase.BEGIN_FRAME, time);
+
+        this.predictedFrameTime = frameTiming.predictedDisplayTime();
+        InProgressXrRender.EyePositionData leftEye = eyeAt(EyeSide.LEFT, predictedFrameTime);
+        InProgressXrRender.EyePositionData rightEye = eyeAt(EyeSide.RIGHT, predictedFrameTime);
+        time = frameTimingStats.recordSince(FrameTimingStats.Phase.LOCATE_VIEWS, time);
+
+        // like a real swapchain the images are handed out round-robin
+        int imageIndex = (int)(framesPresented % SWAPCHAIN_LENGTH);
+        FrameBuffer leftFrameBuffer = getFrameBuffer(EyeSide.LEFT, imageIndex);
+        FrameBuffer rightFrameBuffer = getFrameBuffer(EyeSide.RIGHT, imageIndex);
+        frameTimingStats.recordSince(FrameTimingStats.Phase.ACQUIRE_SWAPCHAIN, time);
+
+        return new InProgressXrRender(true, frameTiming.shouldRender(), predictedFrameTime, leftEye, rightEye, leftFrameBuffer, rightFrameBuffer, imageIndex, imageIndex, swapchainWidth, swapchainHeight);
+    }
+
+    @Override
+    public boolean relocateViews(InProgressXrRender inProgressXrRender){
+        if(!inProgressXrRender.inProgressXr){
+            return false;
+        }
+        long time = System.nanoTime();
+        inProgressXrRender.leftEye = eyeAt(EyeSide.LEFT, inProgressXrRender.getPredictedDisplayTime());
+        inProgressXrRender.rightEye = eyeAt(EyeSide.RIGHT, inProgressXrRender.getPredictedDisplayTime());
+        frameTimingStats.recordSince(FrameTimingStats.Phase.LATE_LATCH_VIEWS, time);
+        return true;
+    }
+
+    @Override
+    public void presentFrameBuffersToOpenXr(InProgressXrRender inProgressXrRender){
+        if(!inProgressXrRender.inProgressXr){
+            return;
+        }
+        long time = System.nanoTime();
+        int submitted = 0;
+        for(Map.Entry<QuadLayer, QuadLayerSwapchain> quadLayer : quadLayerSwapchains.entrySet()){
+            QuadLayerSwapchain swapchain = quadLayer.getValue();
+            if(swapchain.acquiredImageIndex != -1){
+                swapchain.releasedImageIndex = swapchain.acquiredImageIndex;
+                swapchain.acquiredImageIndex = -1;
+            }
+            if(quadLayer.getKey().isVisible() && swapchain.releasedImageIndex != -1){
+                submitted++;
+            }
+        }
+        quadLayersSubmitted = submitted;
+        framesPresented++;
+        frameTimingStats.recordSince(FrameTimingStats.Phase.END_FRAME, time);
+    }
+
+    @Override
+    public boolean isQuadLayersSupported(){
+        return true;
+    }
+
+    @Override
+    public void addQuadLayer(QuadLayer quadLayer){
+        if(quadLayerSwapchains.containsKey(quadLayer)){
+            throw new IllegalStateException("Quad layer has already been added");
+        }
+        FrameBuffer[] images = new FrameBuffer[SWAPCHAIN_LENGTH];
+        for(int imageIndex = 0; imageIndex < SWAPCHAIN_LENGTH; imageIndex++){
+            FrameBuffer frameBuffer = new FrameBuffer(quadLayer.getWidthPixels(), quadLayer.getHeightPixels(), 1);
+            frameBuffer.setName("Headless quad layer swapchain image " + imageIndex);
+            frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(new Texture2D(quadLayer.getWidthPixels(), quadLayer.getHeightPixels(), Image.Format.RGBA8)));
+            images[imageIndex] = frameBuffer;
+        }
+        quadLayerSwapchains.put(quadLayer, new QuadLayerSwapchain(images));
+    }
+
+    @Override
+    public void removeQuadLayer(QuadLayer quadLayer){
+        quadLayerSwapchains.remove(quadLayer);
+    }
+
+    @Override
+    public FrameBuffer acquireQuadLayerFrameBuffer(QuadLayer quadLayer){
+        QuadLayerSwapchain swapchain = quadLayerSwapchains.get(quadLayer);
+        if(swapchain == null){
+            throw new IllegalArgumentException("Quad layer has not been added");
+        }
+        if(swapchain.acquiredImageIndex == -1){
+            swapchain.acquiredImageIndex = (swapchain.releasedImageIndex + 1) % SWAPCHAIN_LENGTH;
+        }
+        return swapchain.images[swapchain.acquiredImageIndex];
+    }
+
+    /**
+     * The number of quad layers that were submitted (along with the projection layer) with the most recently presented
+     * frame
+     */
+    public int getQuadLayersSubmitted(){
+        return quadLayersSubmitted;
+    }
+
+    @Override
+    public void destroy(){
+        LOGGER.info("Destroying headless XR session after " + framesPresented + " frames");
+        running = false;
+        if(framePacer != null){
+            framePacer.stop();
+        }
+    }
+
+    /**
+     * Converts a display time (in this session's clock) to seconds since the session started.
+     */
+    public double toSessionSeconds(long displayTime){
+        return displayTime / 1_000_000_000.0;
+    }
+
+    InProgressXrRender.EyePositionData eyeAt(EyeSide eyeSide, long displayTime){
+        ScriptedTrajectory.Pose headPose = headTrajectory.poseAt(toSessionSeconds(displayTime));
+        // the camera's left is +x in its local space
+        float sideOffset = (eyeSide == EyeSide.LEFT ? 0.5f : -0.5f) * interPupillaryDistance;
+        Vector3f eyePosition = headPose.orientation().mult(new Vector3f(sideOffset, 0, 0)).addLocal(headPose.position());
+        return new InProgressXrRender.EyePositionData(eyePosition, headPose.orientation().clone(), fieldOfView);
+    }
+
+    /**
+     * The simulated xrWaitFrame. The session clock starts at 0 (the start of the first frame) so with virtual time
+     * frame N (counting from 1) is displayed at exactly N * the display period.
+     */
+    private FramePacer.FrameTiming waitFrame(){
+        long time = System.nanoTime();
+        if(realTimePacing){
+            if(clockOrigin == -1){
+                clockOrigin = time;
+            }
+            // a runtime doesn't wait for a late application, the frames it wasn't ready for are just not displayed
+            long currentFrame = (time - clockOrigin) / displayPeriodNanos;
+            nextFrameIndex = Math.max(nextFrameIndex, currentFrame);
+            long releaseTime = clockOrigin + nextFrameIndex * displayPeriodNanos;
+            long remaining;
+            while((remaining = releaseTime - System.nanoTime()) > 0){
+                LockSupport.parkNanos(remaining);
+            }
+        }
+        long predictedDisplayTime = (nextFrameIndex + 1) * displayPeriodNanos;
+        nextFrameIndex++;
+        frameTimingStats.recordSince(FrameTimingStats.Phase.WAIT_FRAME, time);
+        return new FramePacer.FrameTiming(predictedDisplayTime, displayPeriodNanos, true);
+    }
+
+    private static class QuadLayerSwapchain{
+        private final FrameBuffer[] images;
+
+        /**
+         * The image being rendered to this frame, or -1
+         */
+        private int acquiredImageIndex = -1;
+
+        /**
+         * The image the compositor is showing, or -1 if nothing has been rendered yet
+         */
+        private int releasedImageIndex = -1;
+
+        private QuadLayerSwapchain(FrameBuffer[] images){
+            this.images = images;
+        }
+    }
+}
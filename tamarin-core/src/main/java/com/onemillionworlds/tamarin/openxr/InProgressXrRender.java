@@ -17,7 +17,7 @@ public class InProgressXrRender{
             new FieldOfViewData(0,0,0,0)
     );
 
-    public static InProgressXrRender NO_XR_FRAME = new InProgressXrRender(false, false, 0, NO_EYE_POSITION, NO_EYE_POSITION, null, null, -1, -1);
+    public static InProgressXrRender NO_XR_FRAME = new InProgressXrRender(false, false, 0, NO_EYE_POSITION, NO_EYE_POSITION, null, null, -1, -1, 0, 0);
 
     public boolean inProgressXr;
     public boolean shouldRender;
@@ -32,7 +32,14 @@ public class InProgressXrRender{
     int leftSwapchainImageIndex;
     int rightSwapchainImageIndex;
 
-    public InProgressXrRender(boolean inProgressXr, boolean shouldRender, long predictedDisplayTime, EyePositionData leftEye, EyePositionData rightEye, FrameBuffer leftBufferToRenderTo, FrameBuffer rightBufferToRenderTo, int leftSwapchainImageIndex, int rightSwapchainImageIndex){
+    /**
+     * The size of the region (from the bottom left of the framebuffers) that is rendered to and submitted. May be
+     * smaller than the framebuffers if the render scale is below its maximum.
+     */
+    int renderWidth;
+    int renderHeight;
+
+    public InProgressXrRender(boolean inProgressXr, boolean shouldRender, long predictedDisplayTime, EyePositionData leftEye, EyePositionData rightEye, FrameBuffer leftBufferToRenderTo, FrameBuffer rightBufferToRenderTo, int leftSwapchainImageIndex, int rightSwapchainImageIndex, int renderWidth, int renderHeight){
         this.inProgressXr = inProgressXr;
         this.shouldRender = shouldRender;
         this.predictedDisplayTime = predictedDisplayTime;
@@ -42,6 +49,8 @@ public class InProgressXrRender{
         this.rightBufferToRenderTo = rightBufferToRenderTo;
         this.leftSwapchainImageIndex = leftSwapchainImageIndex;
         this.rightSwapchainImageIndex = rightSwapchainImageIndex;
+        this.renderWidth = renderWidth;
+        this.renderHeight = renderHeight;
     }
 
     public boolean isInProgressXr(){
@@ -68,6 +77,9 @@ public class InProgressXrRender{
         return leftBufferToRenderTo;
     }
 
+    /**
+     * The index (within the left eye's swapchain) of the image being rendered to, or -1 if nothing is being rendered
+     */
     public int getLeftSwapchainImageIndex(){
         return leftSwapchainImageIndex;
     }
@@ -76,10 +88,27 @@ public class InProgressXrRender{
         return rightBufferToRenderTo;
     }
 
+    /**
+     * The index (within the right eye's swapchain) of the image being rendered to, or -1 if nothing is being rendered
+     */
     public int getRightSwapchainImageIndex(){
         return rightSwapchainImageIndex;
     }
 
+    /**
+     * The width in pixels of the region of each eye's framebuffer that is rendered to
+     */
+    public int getRenderWidth(){
+        return renderWidth;
+    }
+
+    /**
+     * The height in pixels of the region of each eye's framebuffer that is rendered to
+     */
+    public int getRenderHeight(){
+        return renderHeight;
+    }
+
     public record EyePositionData(
             Vector3f eyePosition,
             Quaternion eyeRotation,
@@ -0,0 +1,93 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+
+/**
+ * A quad composition layer, a flat rectangle that the compositor draws an image onto (on top of the eyes' projection
+ * layer). The image comes from the layer's own swapchain and is only replaced when a new one is rendered to it; until
+ * then the compositor keeps showing the last one.
+ * <p>
+ * The pose is in the stage space (i.e. relative to the observer), the centre of the rectangle, which faces along its
+ * local +z. Usually this isn't used directly, see {@link QuadLayerPanel}.
+ * </p>
+ */
+public class QuadLayer{
+
+    private final int widthPixels;
+
+    private final int heightPixels;
+
+    private final Vector3f position = new Vector3f();
+
+    private final Quaternion orientation = new Quaternion();
+
+    private float widthMetres;
+
+    private float heightMetres;
+
+    private boolean visible = true;
+
+    /**
+     * @param widthPixels the width of the layer's swapchain images
+     * @param heightPixels the height of the layer's swapchain images
+     * @param widthMetres the width of the rectangle in the world
+     * @param heightMetres the height of the rectangle in the world
+     */
+    public QuadLayer(int widthPixels, int heightPixels, float widthMetres, float heightMetres){
+        if(widthPixels <= 0 || heightPixels <= 0){
+            throw new IllegalArgumentException("Quad layer must have a positive size, was " + widthPixels + "x" + heightPixels);
+        }
+        this.widthPixels = widthPixels;
+        this.heightPixels = heightPixels;
+        setSize(widthMetres, heightMetres);
+    }
+
+    public int getWidthPixels(){
+        return widthPixels;
+    }
+
+    public int getHeightPixels(){
+        return heightPixels;
+    }
+
+    /**
+     * The centre of the rectangle, in the stage space
+     */
+    public Vector3f getPosition(){
+        return position;
+    }
+
+    public Quaternion getOrientation(){
+        return orientation;
+    }
+
+    public void setPose(Vector3f position, Quaternion orientation){
+        this.position.set(position);
+        this.orientation.set(orientation);
+    }
+
+    public float getWidthMetres(){
+        return widthMetres;
+    }
+
+    public float getHeightMetres(){
+        return heightMetres;
+    }
+
+    public void setSize(float widthMetres, float heightMetres){
+        if(widthMetres <= 0 || heightMetres <= 0){
+            throw new IllegalArgumentException("Quad layer must have a positive size, was " + widthMetres + "x" + heightMetres);
+        }
+        this.widthMetres = widthMetres;
+        this.heightMetres = heightMetres;
+    }
+
+    public boolean isVisible(){
+        return visible;
+    }
+
+    public void setVisible(boolean visible){
+        this.visible = visible;
+    }
+}
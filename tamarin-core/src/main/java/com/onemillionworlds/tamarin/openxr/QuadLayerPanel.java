@@ -0,0 +1,216 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.material.Material;
+import com.jme3.material.RenderState;
+import com.jme3.math.ColorRGBA;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.shape.Quad;
+import com.jme3.texture.FrameBuffer;
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture2D;
+
+/**
+ * A flat panel in the world (e.g. a Lemur window, a debug window, a keyboard) whose content is rendered into its own
+ * small image, and only when that content changes, rather than into both eyes every frame. The image is submitted to
+ * the compositor as a quad composition layer (see {@link QuadLayer}), which also tends to make text sharper as the
+ * compositor samples it directly rather than it being resampled into the eye images.
+ * <p>
+ * The content is laid out like the gui node: in pixels, with the origin at the bottom left of the panel. Tamarin
+ * updates the content's logical and geometric state each frame but only re-renders it after
+ * {@link #markContentChanged()} has been called (and the first time it is shown).
+ * </p>
+ * <p>
+ * Compositor layers are drawn over the eyes' images, so the panel is always in front of the scene (nothing occludes
+ * it). The content is not part of the scene graph so isn't picked by scene interactions. If the session doesn't support
+ * quad layers the image is instead shown on a textured quad in the scene (which is still only re-rendered when the
+ * content changes, but is occluded and drawn in each eye as normal).
+ * </p>
+ * <p>
+ * Created by {@link XrVrAppState#addQuadLayerPanel(Node, int, int, float)}.
+ * </p>
+ */
+public class QuadLayerPanel{
+
+    private final Node content;
+
+    private final Camera camera;
+
+    private final ViewPort viewPort;
+
+    /**
+     * The layer submitted to the compositor, or null if quad layers aren't supported
+     */
+    private final QuadLayer quadLayer;
+
+    /**
+     * Used instead of the quad layer if it isn't supported
+     */
+    private final Node inSceneQuad;
+    private final FrameBuffer inSceneFrameBuffer;
+
+    private final Vector3f worldPosition = new Vector3f();
+
+    private final Quaternion worldRotation = new Quaternion();
+
+    private final Vector3f stagePosition = new Vector3f();
+
+    private final Quaternion stageRotation = new Quaternion();
+
+    private boolean contentChanged = true;
+
+    private boolean visible = true;
+
+    QuadLayerPanel(Node content, int widthPixels, int heightPixels, float widthMetres, XrSessionBackend sessionBackend, RenderManager renderManager, AssetManager assetManager, Node rootNode){
+        float heightMetres = widthMetres * heightPixels / widthPixels;
+        this.content = content;
+        content.setQueueBucket(RenderQueue.Bucket.Gui);
+
+        camera = new Camera(widthPixels, heightPixels);
+        viewPort = renderManager.createPreView("Quad layer panel " + content.getName(), camera);
+        viewPort.setClearFlags(true, true, true);
+        viewPort.setBackgroundColor(new ColorRGBA(0, 0, 0, 0));
+        viewPort.attachScene(content);
+        viewPort.setEnabled(false);
+
+        if(sessionBackend.isQuadLayersSupported()){
+            quadLayer = new QuadLayer(widthPixels, heightPixels, widthMetres, heightMetres);
+            sessionBackend.addQuadLayer(quadLayer);
+            inSceneQuad = null;
+            inSceneFrameBuffer = null;
+        }else{
+            quadLayer = null;
+            Texture2D texture = new Texture2D(widthPixels, heightPixels, Image.Format.RGBA8);
+            inSceneFrameBuffer = new FrameBuffer(widthPixels, heightPixels, 1);
+            inSceneFrameBuffer.setName("Quad layer panel " + content.getName());
+            inSceneFrameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
+
+            Material material = new Material(assetManager, "Common/MatDefs/Misc/Unshaded.j3md");
+            material.setTexture("ColorMap", texture);
+            material.getAdditionalRenderState().setBlendMode(RenderState.BlendMode.Alpha);
+            Geometry geometry = new Geometry("Quad layer panel " + content.getName(), new Quad(widthMetres, heightMetres));
+            geometry.setMaterial(material);
+            geometry.setQueueBucket(RenderQueue.Bucket.Transparent);
+            // centred, like a quad layer
+            geometry.setLocalTranslation(-widthMetres / 2, -heightMetres / 2, 0);
+            inSceneQuad = new Node("Quad layer panel " + content.getName());
+            inSceneQuad.attachChild(geometry);
+            rootNode.attachChild(inSceneQuad);
+        }
+    }
+
+    /**
+     * The node the panel's content should be attached to (in pixel coordinates, like the gui node)
+     */
+    public Node getContent(){
+        return content;
+    }
+
+    /**
+     * The viewport the content is rendered by, e.g. to change its background colour (which defaults to transparent)
+     */
+    public ViewPort getViewPort(){
+        return viewPort;
+    }
+
+    /**
+     * Requests that the content is rendered again (at the next frame). Should be called whenever the content changes
+     * in a way that would change how it looks.
+     */
+    public void markContentChanged(){
+        contentChanged = true;
+    }
+
+    /**
+     * Sets where the centre of the panel is, in world coordinates
+     */
+    public void setWorldPosition(Vector3f worldPosition){
+        this.worldPosition.set(worldPosition);
+        if(inSceneQuad != null){
+            inSceneQuad.setLocalTranslation(worldPosition);
+        }
+    }
+
+    public Vector3f getWorldPosition(){
+        return worldPosition;
+    }
+
+    /**
+     * Sets the rotation of the panel (in world coordinates). The panel faces along its local +z.
+     */
+    public void setWorldRotation(Quaternion worldRotation){
+        this.worldRotation.set(worldRotation);
+        if(inSceneQuad != null){
+            inSceneQuad.setLocalRotation(worldRotation);
+        }
+    }
+
+    public Quaternion getWorldRotation(){
+        return worldRotation;
+    }
+
+    public boolean isVisible(){
+        return visible;
+    }
+
+    public void setVisible(boolean visible){
+        this.visible = visible;
+        if(quadLayer != null){
+            quadLayer.setVisible(visible);
+        }else{
+            inSceneQuad.setCullHint(visible ? Spatial.CullHint.Inherit : Spatial.CullHint.Always);
+        }
+    }
+
+    /**
+     * True if the panel is being submitted as a quad composition layer, false if it is being drawn into the scene
+     */
+    public boolean isCompositorLayer(){
+        return quadLayer != null;
+    }
+
+    /**
+     * Called during the update with the frame that is to be rendered. If the content needs rendering this frame the
+     * viewport is pointed at the image to render to.
+     */
+    void update(float tpf, XrSessionBackend sessionBackend, boolean renderingFrame){
+        content.updateLogicalState(tpf);
+        if(renderingFrame && visible && contentChanged){
+            viewPort.setOutputFrameBuffer(quadLayer != null ? sessionBackend.acquireQuadLayerFrameBuffer(quadLayer) : inSceneFrameBuffer);
+            viewPort.setEnabled(true);
+            contentChanged = false;
+        }else{
+            viewPort.setEnabled(false);
+        }
+    }
+
+    /**
+     * Called just before rendering, once the observer is in its final position for the frame
+     */
+    void prepareForRender(Node observer){
+        content.updateGeometricState();
+        if(quadLayer != null){
+            // the quad layer is positioned in the stage space (i.e. relative to the observer)
+            observer.worldToLocal(worldPosition, stagePosition);
+            observer.getWorldRotation().inverse().mult(worldRotation, stageRotation);
+            quadLayer.setPose(stagePosition, stageRotation);
+        }
+    }
+
+    void cleanup(XrSessionBackend sessionBackend, RenderManager renderManager){
+        renderManager.removePreView(viewPort);
+        if(quadLayer != null){
+            sessionBackend.removeQuadLayer(quadLayer);
+        }else{
+            inSceneQuad.removeFromParent();
+        }
+    }
+}
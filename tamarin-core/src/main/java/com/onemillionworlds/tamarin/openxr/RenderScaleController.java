@@ -0,0 +1,179 @@
+package com.onemillionworlds.tamarin.openxr;
+
+/**
+ * Chooses the resolution the eyes are rendered at, as a scale of the runtime's recommended resolution. The swapchains
+ * are allocated at the maximum scale and each frame only a sub-rectangle of them (of the chosen scale) is rendered to
+ * and submitted to the compositor.
+ * <p>
+ * In fixed mode the scale only changes when {@link #setRenderScale(float)} is called. In adaptive mode the scale is
+ * lowered when frames are taking too long (so the refresh rate can be held rather than the runtime dropping to
+ * reprojection) and raised again when there is plenty of headroom. There is hysteresis so the scale doesn't oscillate:
+ * the scale drops quickly (after a few frames over budget, or immediately a frame is missed) but only rises after a
+ * sustained period under budget, and the two thresholds are well apart.
+ * </p>
+ * <p>
+ * The frame time used is the time the main thread was busy during the frame (the whole frame less the time blocked
+ * waiting for the runtime), as a fraction of the display period.
+ * </p>
+ */
+public class RenderScaleController{
+
+    /**
+     * How much the scale changes by each time it is adjusted
+     */
+    public static final float SCALE_STEP = 0.05f;
+
+    /**
+     * Frames busier than this fraction of the display period count as over budget
+     */
+    public static final double OVER_BUDGET_FRACTION = 0.9;
+
+    /**
+     * Frames less busy than this fraction of the display period count as under budget
+     */
+    public static final double UNDER_BUDGET_FRACTION = 0.7;
+
+    /**
+     * The number of consecutive over budget frames before the scale is lowered
+     */
+    public static final int FRAMES_BEFORE_DECREASE = 5;
+
+    /**
+     * The number of consecutive under budget frames before the scale is raised
+     */
+    public static final int FRAMES_BEFORE_INCREASE = 90;
+
+    private final float minRenderScale;
+
+    private final float maxRenderScale;
+
+    private boolean adaptive;
+
+    private float renderScale;
+
+    private int overBudgetFrames = 0;
+
+    private int underBudgetFrames = 0;
+
+    private long lastFrameSampleCount = 0;
+
+    private long lastMissedFrames = 0;
+
+    public RenderScaleController(XrSettings xrSettings){
+        this(xrSettings.getRenderScale(), xrSettings.getMinRenderScale(), xrSettings.getMaxRenderScale(), xrSettings.isAdaptiveRenderScale());
+    }
+
+    /**
+     * @param initialRenderScale the scale to start at
+     * @param minRenderScale the lowest scale adaptive mode will go to
+     * @param maxRenderScale the highest scale (that the swapchains are allocated at)
+     * @param adaptive if the scale should be adjusted to the frame timings
+     */
+    public RenderScaleController(float initialRenderScale, float minRenderScale, float maxRenderScale, boolean adaptive){
+        if(minRenderScale <= 0 || minRenderScale > maxRenderScale){
+            throw new IllegalArgumentException("Render scale range must be positive and in order, was " + minRenderScale + " to " + maxRenderScale);
+        }
+        this.minRenderScale = minRenderScale;
+        this.maxRenderScale = maxRenderScale;
+        this.adaptive = adaptive;
+        this.renderScale = clamp(initialRenderScale);
+    }
+
+    /**
+     * Updates the scale from the timings of the most recent complete frame. Should be called at the start of each frame
+     * (before its frame wait).
+     *
+     * @return the scale to render the new frame at
+     */
+    public float update(FrameTimingStats frameTimingStats){
+        long frameSampleCount = frameTimingStats.getSampleCount(FrameTimingStats.Phase.FRAME);
+        long displayPeriod = frameTimingStats.getPredictedDisplayPeriod();
+        if(!adaptive || frameSampleCount == lastFrameSampleCount || displayPeriod <= 0){
+            return renderScale;
+        }
+        lastFrameSampleCount = frameSampleCount;
+
+        long busyNanos = frameTimingStats.getLatestNanos(FrameTimingStats.Phase.FRAME) - frameTimingStats.getLatestNanos(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED);
+        long missedFrames = frameTimingStats.getMissedFrames();
+        boolean missedFrame = missedFrames > lastMissedFrames;
+        lastMissedFrames = missedFrames;
+        return update(busyNanos, displayPeriod, missedFrame);
+    }
+
+    /**
+     * Updates the scale from one frame's timing.
+     *
+     * @param busyNanos how long the frame's work took (excluding waiting for the runtime)
+     * @param displayPeriodNanos the time available for each frame
+     * @param missedFrame if the runtime displayed a frame without a new one from the application
+     * @return the scale to render the next frame at
+     */
+    public float update(long busyNanos, long displayPeriodNanos, boolean missedFrame){
+        if(!adaptive){
+            return renderScale;
+        }
+        double budgetUsed = (double)busyNanos / displayPeriodNanos;
+        if(missedFrame || budgetUsed > OVER_BUDGET_FRACTION){
+            underBudgetFrames = 0;
+            overBudgetFrames++;
+            if(missedFrame || overBudgetFrames >= FRAMES_BEFORE_DECREASE){
+                renderScale = clamp(renderScale - SCALE_STEP);
+                overBudgetFrames = 0;
+            }
+        }else if(budgetUsed < UNDER_BUDGET_FRACTION){
+            overBudgetFrames = 0;
+            underBudgetFrames++;
+            if(underBudgetFrames >= FRAMES_BEFORE_INCREASE){
+                renderScale = clamp(renderScale + SCALE_STEP);
+                underBudgetFrames = 0;
+            }
+        }else{
+            overBudgetFrames = 0;
+            underBudgetFrames = 0;
+        }
+        return renderScale;
+    }
+
+    /**
+     * The size (in pixels) to render at for the current scale
+     *
+     * @param recommendedSize the runtime's recommended width or height
+     * @param swapchainSize the width or height the swapchain was allocated at
+     */
+    public int scaledSize(int recommendedSize, int swapchainSize){
+        return Math.max(1, Math.min(swapchainSize, Math.round(recommendedSize * renderScale)));
+    }
+
+    public float getRenderScale(){
+        return renderScale;
+    }
+
+    /**
+     * Sets the scale (clamped to the allowed range). In adaptive mode it will continue to be adjusted from here.
+     */
+    public void setRenderScale(float renderScale){
+        this.renderScale = clamp(renderScale);
+        overBudgetFrames = 0;
+        underBudgetFrames = 0;
+    }
+
+    public boolean isAdaptive(){
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive){
+        this.adaptive = adaptive;
+    }
+
+    public float getMinRenderScale(){
+        return minRenderScale;
+    }
+
+    public float getMaxRenderScale(){
+        return maxRenderScale;
+    }
+
+    private float clamp(float scale){
+        return Math.max(minRenderScale, Math.min(maxRenderScale, scale));
+    }
+}
@@ -0,0 +1,66 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+
+/**
+ * A pose (of the head or a hand) as a function of time, used to drive a simulated session
+ * (see {@link HeadlessXrSessionBackend}). The same time always gives the same pose so runs are reproducible.
+ * <p>
+ * Poses are relative to the stage (i.e. the observer), in the same convention as the poses OpenXR reports after they
+ * have been converted to jMonkey (so the orientation is what is applied to a camera or a hand).
+ * </p>
+ */
+@FunctionalInterface
+public interface ScriptedTrajectory{
+
+    /**
+     * @param seconds the time since the session started
+     * @return the pose at that time. May be a new object or reused, callers must not modify it
+     */
+    Pose poseAt(double seconds);
+
+    /**
+     * A trajectory that never moves
+     */
+    static ScriptedTrajectory stationary(Vector3f position, Quaternion orientation){
+        Pose pose = new Pose(position.clone(), orientation.clone());
+        return seconds -> pose;
+    }
+
+    /**
+     * A trajectory that stays in one place and looks from side to side (a sinusoidal yaw about the vertical axis), which
+     * keeps the view (and so the culling and rendering) changing every frame.
+     *
+     * @param position where the head is
+     * @param yawAmplitude in radians, how far either side of straight ahead it looks
+     * @param secondsPerSweep how long one full side-to-side-and-back sweep takes
+     */
+    static ScriptedTrajectory lookingAround(Vector3f position, float yawAmplitude, double secondsPerSweep){
+        Vector3f fixedPosition = position.clone();
+        return seconds -> {
+            float yaw = yawAmplitude * (float)Math.sin(2 * Math.PI * seconds / secondsPerSweep);
+            return new Pose(fixedPosition, new Quaternion().fromAngleNormalAxis(yaw, Vector3f.UNIT_Y));
+        };
+    }
+
+    /**
+     * A trajectory that moves in a horizontal circle, facing the way it is going. Useful for hands (e.g. sweeping
+     * through interactable items).
+     *
+     * @param centre the centre of the circle
+     * @param radius the radius of the circle
+     * @param secondsPerLap how long it takes to go round once
+     */
+    static ScriptedTrajectory circling(Vector3f centre, float radius, double secondsPerLap){
+        Vector3f fixedCentre = centre.clone();
+        return seconds -> {
+            float angle = (float)(2 * Math.PI * seconds / secondsPerLap);
+            Vector3f position = fixedCentre.add(radius * FastMath.cos(angle), 0, radius * FastMath.sin(angle));
+            return new Pose(position, new Quaternion().fromAngleNormalAxis(-angle, Vector3f.UNIT_Y));
+        };
+    }
+
+    record Pose(Vector3f position, Quaternion orientation){}
+}
@@ -0,0 +1,279 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.post.SceneProcessor;
+import com.jme3.profile.AppProfiler;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.texture.FrameBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Culls scenes once for both eyes. The culling frustum shares the eyes' orientation and is widened (and its apex moved
+ * back behind the eyes) so that it encloses both eyes' frusta. The geometries that survive are then queued into each
+ * eye viewport by the processor from {@link #newQueueProcessor()}, where they are sorted and rendered with that eye's
+ * camera as normal.
+ * <p>
+ * The cull itself is usually requested with {@link #cullBeforeRender} and made by the first of those processors to be
+ * rendered, so anything moved in an app state's render (such as late latched hands) is culled where it is drawn.
+ * </p>
+ * <p>
+ * Controls' render methods are called once per frame (with the left eye's viewport) rather than once per eye.
+ * </p>
+ */
+public class StereoCuller{
+
+    /**
+     * The smallest tangent the culling frustum's half angles are allowed, so the apex is never infinitely far back
+     */
+    private static final float MIN_HALF_ANGLE_TAN = 0.01f;
+
+    /**
+     * The largest half angle of the culling frustum, beyond this the tangent is too close to infinite to be useful
+     */
+    private static final float MAX_HALF_ANGLE = 1.5f;
+
+    private final Camera cullingCamera = new Camera(1, 1);
+
+    private final List<Spatial> scenes = new ArrayList<>(1);
+
+    private final List<Geometry> culledGeometries = new ArrayList<>();
+
+    private final List<RenderQueue.Bucket> culledBuckets = new ArrayList<>();
+
+    private final Vector3f midpoint = new Vector3f();
+    private final Vector3f halfSeparation = new Vector3f();
+    private final Vector3f right = new Vector3f();
+    private final Vector3f up = new Vector3f();
+    private final Vector3f direction = new Vector3f();
+    private final Vector3f apex = new Vector3f();
+
+    /**
+     * If a cull has been requested (with {@link #cullBeforeRender}) and not yet made
+     */
+    private boolean cullPending = false;
+
+    private RenderManager pendingRenderManager;
+
+    private ViewPort pendingControlRenderViewPort;
+
+    public void attachScene(Spatial scene){
+        if(!scenes.contains(scene)){
+            scenes.add(scene);
+        }
+    }
+
+    public void detachScene(Spatial scene){
+        scenes.remove(scene);
+    }
+
+    public List<Spatial> getScenes(){
+        return scenes;
+    }
+
+    /**
+     * Positions the culling camera so that its frustum encloses both eyes' frusta.
+     *
+     * @param leftCamera the left eye's camera (already positioned for this frame)
+     * @param rightCamera the right eye's camera (already positioned for this frame)
+     * @param leftFieldOfView the left eye's field of view
+     * @param rightFieldOfView the right eye's field of view
+     * @param nearClip the eyes' near clip distance
+     * @param farClip the eyes' far clip distance
+     */
+    public void updateCullingCamera(Camera leftCamera, Camera rightCamera, InProgressXrRender.FieldOfViewData leftFieldOfView, InProgressXrRender.FieldOfViewData rightFieldOfView, float nearClip, float farClip){
+        Quaternion rotation = leftCamera.getRotation();
+
+        // if the displays are canted the right eye's frustum is rotated relative to the left's, widening by that angle keeps it enclosed
+        float cant = 2 * FastMath.acos(Math.min(1, Math.abs(rotation.dot(rightCamera.getRotation()))));
+
+        float tanLeft = Math.min(-MIN_HALF_ANGLE_TAN, FastMath.tan(Math.max(-MAX_HALF_ANGLE, Math.min(leftFieldOfView.angleLeft(), rightFieldOfView.angleLeft()) - cant)));
+        float tanRight = Math.max(MIN_HALF_ANGLE_TAN, FastMath.tan(Math.min(MAX_HALF_ANGLE, Math.max(leftFieldOfView.angleRight(), rightFieldOfView.angleRight()) + cant)));
+        float tanUp = Math.max(MIN_HALF_ANGLE_TAN, FastMath.tan(Math.min(MAX_HALF_ANGLE, Math.max(leftFieldOfView.angleUp(), rightFieldOfView.angleUp()) + cant)));
+        float tanDown = Math.min(-MIN_HALF_ANGLE_TAN, FastMath.tan(Math.max(-MAX_HALF_ANGLE, Math.min(leftFieldOfView.angleDown(), rightFieldOfView.angleDown()) - cant)));
+
+        leftCamera.getLocation().add(rightCamera.getLocation(), midpoint).multLocal(0.5f);
+        rightCamera.getLocation().subtract(midpoint, halfSeparation);
+        leftCamera.getLeft(right).negateLocal();
+        leftCamera.getUp(up);
+        leftCamera.getDirection(direction);
+
+        // the eyes are either side of the midpoint, in the frame of the culling camera
+        float offsetRight = halfSeparation.dot(right);
+        float offsetUp = halfSeparation.dot(up);
+        float offsetForward = halfSeparation.dot(direction);
+
+        // how far the apex has to be behind the midpoint for both eyes to be inside the culling frustum (a frustum whose
+        // apex is inside another and whose angles are no wider is entirely inside it)
+        float apexDistance = 0;
+        for(int side = -1; side <= 1; side += 2){
+            float eyeForward = side * offsetForward;
+            apexDistance = Math.max(apexDistance, distanceToEnclose(side * offsetRight, tanRight, tanLeft) - eyeForward);
+            apexDistance = Math.max(apexDistance, distanceToEnclose(side * offsetUp, tanUp, tanDown) - eyeForward);
+        }
+
+        float cullingNear = Math.max(nearClip * 0.1f, apexDistance + nearClip - Math.abs(offsetForward));
+        float cullingFar = apexDistance + farClip + Math.abs(offsetForward);
+
+        midpoint.subtract(direction.mult(apexDistance), apex);
+        cullingCamera.setFrustum(cullingNear, cullingFar, cullingNear * tanLeft, cullingNear * tanRight, cullingNear * tanUp, cullingNear * tanDown);
+        cullingCamera.setFrame(apex, rotation);
+    }
+
+    /**
+     * The distance along the view direction an apex needs to be behind a point for the point to be inside a frustum
+     * with the given half angles (along one axis).
+     */
+    private static float distanceToEnclose(float offset, float tanPositive, float tanNegative){
+        if(offset > 0){
+            return offset / tanPositive;
+        }else if(offset < 0){
+            return offset / tanNegative;
+        }
+        return 0;
+    }
+
+    /**
+     * Culls the attached scenes against the culling camera, remembering the geometries that survive. Should be called
+     * after the scene's geometric state has been updated and {@link #updateCullingCamera} has been called for this frame.
+     *
+     * @param renderManager the render manager (for controls' render methods)
+     * @param controlRenderViewPort the viewport passed to controls' render methods
+     */
+    public void cull(RenderManager renderManager, ViewPort controlRenderViewPort){
+        culledGeometries.clear();
+        culledBuckets.clear();
+        for(Spatial scene : scenes){
+            cullingCamera.setPlaneState(0);
+            cullSubScene(scene, renderManager, controlRenderViewPort);
+        }
+    }
+
+    private void cullSubScene(Spatial scene, RenderManager renderManager, ViewPort controlRenderViewPort){
+        if(!scene.checkCulling(cullingCamera)){
+            return;
+        }
+        scene.runControlRender(renderManager, controlRenderViewPort);
+        if(scene instanceof Node node){
+            List<Spatial> children = node.getChildren();
+            // as in jME's own culling, each child starts from the plane state of its parent
+            int planeState = cullingCamera.getPlaneState();
+            for(int i = 0; i < children.size(); i++){
+                cullingCamera.setPlaneState(planeState);
+                cullSubScene(children.get(i), renderManager, controlRenderViewPort);
+            }
+        }else if(scene instanceof Geometry geometry){
+            if(geometry.getMaterial() == null){
+                throw new IllegalStateException("No material is set for Geometry: " + geometry.getName());
+            }
+            culledGeometries.add(geometry);
+            culledBuckets.add(geometry.getQueueBucket());
+        }
+    }
+
+    /**
+     * Requests that the scenes are culled just before the first eye viewport is rendered (by whichever processor from
+     * {@link #newQueueProcessor()} is rendered first this frame) rather than now. By then every app state has had its
+     * render called, so anything moved there is culled in its final position. {@link #updateCullingCamera} should
+     * already have been called for this frame.
+     *
+     * @param renderManager the render manager (for controls' render methods)
+     * @param controlRenderViewPort the viewport passed to controls' render methods
+     */
+    public void cullBeforeRender(RenderManager renderManager, ViewPort controlRenderViewPort){
+        cullPending = true;
+        pendingRenderManager = renderManager;
+        pendingControlRenderViewPort = controlRenderViewPort;
+    }
+
+    /**
+     * Makes the cull requested by {@link #cullBeforeRender}, if it hasn't been made already this frame
+     */
+    public void cullIfPending(){
+        if(cullPending){
+            cullPending = false;
+            cull(pendingRenderManager, pendingControlRenderViewPort);
+            pendingRenderManager = null;
+            pendingControlRenderViewPort = null;
+        }
+    }
+
+    /**
+     * Adds the geometries that survived the most recent {@link #cull} to a render queue
+     */
+    public void queueCulled(RenderQueue renderQueue){
+        for(int i = 0; i < culledGeometries.size(); i++){
+            renderQueue.addToQueue(culledGeometries.get(i), culledBuckets.get(i));
+        }
+    }
+
+    /**
+     * The number of geometries that survived the most recent {@link #cull}
+     */
+    public int getCulledGeometryCount(){
+        return culledGeometries.size();
+    }
+
+    /**
+     * The camera the scenes are culled against, exposed for debugging
+     */
+    public Camera getCullingCamera(){
+        return cullingCamera;
+    }
+
+    /**
+     * Creates a scene processor that makes any pending cull (see {@link #cullBeforeRender}) before its viewport is
+     * rendered, and adds the culled geometries to its viewport's render queue. It should be the first processor on the
+     * viewport so that any later processors see the full queue.
+     */
+    public SceneProcessor newQueueProcessor(){
+        return new QueueSharingProcessor();
+    }
+
+    private class QueueSharingProcessor implements SceneProcessor{
+        private boolean initialized = false;
+
+        @Override
+        public void initialize(RenderManager rm, ViewPort vp){
+            initialized = true;
+        }
+
+        @Override
+        public void reshape(ViewPort vp, int w, int h){}
+
+        @Override
+        public boolean isInitialized(){
+            return initialized;
+        }
+
+        @Override
+        public void preFrame(float tpf){
+            cullIfPending();
+        }
+
+        @Override
+        public void postQueue(RenderQueue rq){
+            queueCulled(rq);
+        }
+
+        @Override
+        public void postFrame(FrameBuffer out){}
+
+        @Override
+        public void cleanup(){
+            initialized = false;
+        }
+
+        @Override
+        public void setProfiler(AppProfiler profiler){}
+    }
+}
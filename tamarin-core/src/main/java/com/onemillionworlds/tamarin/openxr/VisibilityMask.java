@@ -0,0 +1,71 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import com.jme3.util.BufferUtils;
+
+import java.nio.FloatBuffer;
+
+/**
+ * The triangles covering the parts of an eye's image that can't be seen through the lens (the runtime's "hidden area"
+ * mesh). The vertices are in the eye's tangent space, i.e. the x and y of points on the z = -1 plane of the eye's view
+ * space, so the eye's projection matrix maps them onto its image whatever its field of view.
+ */
+public class VisibilityMask{
+
+    private final float[] vertices;
+
+    private final int[] indices;
+
+    /**
+     * @param vertices the x, y pairs of the vertices (in the eye's tangent space)
+     * @param indices the vertices of each triangle, 3 per triangle
+     */
+    public VisibilityMask(float[] vertices, int[] indices){
+        if(vertices.length % 2 != 0){
+            throw new IllegalArgumentException("Vertices must be x, y pairs, but had " + vertices.length + " values");
+        }
+        if(indices.length % 3 != 0){
+            throw new IllegalArgumentException("Indices must be triangles, but had " + indices.length + " values");
+        }
+        int vertexCount = vertices.length / 2;
+        for(int index : indices){
+            if(index < 0 || index >= vertexCount){
+                throw new IllegalArgumentException("Index " + index + " is outside the " + vertexCount + " vertices");
+            }
+        }
+        this.vertices = vertices;
+        this.indices = indices;
+    }
+
+    public int getVertexCount(){
+        return vertices.length / 2;
+    }
+
+    public int getTriangleCount(){
+        return indices.length / 3;
+    }
+
+    public boolean isEmpty(){
+        return indices.length == 0;
+    }
+
+    /**
+     * Creates a mesh of the mask, with the vertices on the z = -1 plane (so that in the eye's view space they are
+     * where they were reported).
+     */
+    public Mesh toMesh(){
+        FloatBuffer positions = BufferUtils.createFloatBuffer(getVertexCount() * 3);
+        for(int i = 0; i < vertices.length; i += 2){
+            positions.put(vertices[i]).put(vertices[i + 1]).put(-1);
+        }
+        positions.flip();
+
+        Mesh mesh = new Mesh();
+        mesh.setBuffer(VertexBuffer.Type.Position, 3, positions);
+        mesh.setBuffer(VertexBuffer.Type.Index, 3, BufferUtils.createIntBuffer(indices));
+        mesh.updateBound();
+        mesh.updateCounts();
+        return mesh;
+    }
+}
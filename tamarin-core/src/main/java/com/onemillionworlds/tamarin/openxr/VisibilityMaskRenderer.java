@@ -0,0 +1,99 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.asset.AssetManager;
+import com.jme3.material.Material;
+import com.jme3.post.SceneProcessor;
+import com.jme3.profile.AppProfiler;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.texture.FrameBuffer;
+
+/**
+ * Draws an eye's {@link VisibilityMask} into the depth buffer at the near plane (and not into the colour) at the start
+ * of each of the eye's viewports, once the viewport has been cleared but before its queue is rendered. Everything
+ * behind the mask then fails the depth test, so the hidden pixels aren't shaded.
+ */
+class VisibilityMaskRenderer{
+
+    private final AssetManager assetManager;
+
+    private VisibilityMask visibilityMask;
+
+    /**
+     * The mask's geometry, or null if there is no mask (or it is empty)
+     */
+    private Geometry maskGeometry;
+
+    VisibilityMaskRenderer(AssetManager assetManager){
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Sets the mask to draw, the geometry is only rebuilt if it is a different mask to the one already being drawn.
+     *
+     * @param visibilityMask the mask, or null to not draw one
+     */
+    void setVisibilityMask(VisibilityMask visibilityMask){
+        if(visibilityMask == this.visibilityMask){
+            return;
+        }
+        this.visibilityMask = visibilityMask;
+        if(visibilityMask == null || visibilityMask.isEmpty()){
+            maskGeometry = null;
+            return;
+        }
+        Material material = maskGeometry != null ? maskGeometry.getMaterial() : new Material(assetManager, "Tamarin/Materials/VisibilityMask.j3md");
+        maskGeometry = new Geometry("Visibility mask", visibilityMask.toMesh());
+        maskGeometry.setMaterial(material);
+        // it is never attached to the scene so its (identity) transform is only updated here
+        maskGeometry.updateGeometricState();
+    }
+
+    /**
+     * Creates a scene processor that draws the mask into its viewport. It's added to each of the eye's viewports.
+     */
+    SceneProcessor newProcessor(){
+        return new MaskDrawingProcessor();
+    }
+
+    private class MaskDrawingProcessor implements SceneProcessor{
+        private RenderManager renderManager;
+
+        @Override
+        public void initialize(RenderManager rm, ViewPort vp){
+            renderManager = rm;
+        }
+
+        @Override
+        public void reshape(ViewPort vp, int w, int h){}
+
+        @Override
+        public boolean isInitialized(){
+            return renderManager != null;
+        }
+
+        @Override
+        public void preFrame(float tpf){}
+
+        @Override
+        public void postQueue(RenderQueue rq){
+            // the viewport has been cleared, but nothing has been drawn yet
+            if(maskGeometry != null){
+                renderManager.renderGeometry(maskGeometry);
+            }
+        }
+
+        @Override
+        public void postFrame(FrameBuffer out){}
+
+        @Override
+        public void cleanup(){
+            renderManager = null;
+        }
+
+        @Override
+        public void setProfiler(AppProfiler profiler){}
+    }
+}
@@ -0,0 +1,137 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.texture.FrameBuffer;
+
+import java.util.Map;
+
+/**
+ * The session that the {@link XrVrAppState} drives the frame loop against. Normally this is the OpenXR session manager
+ * for the platform, but it can also be simulated (see {@link HeadlessXrSessionBackend}) so that the frame loop, and
+ * everything built on it, can be run without a headset or a runtime.
+ * <p>
+ * Each frame {@link #startXrFrame()} is called during the update (it waits for and begins the frame and provides the
+ * eye positions and framebuffers to render to), and {@link #presentFrameBuffersToOpenXr} after the render.
+ * </p>
+ */
+public interface XrSessionBackend{
+
+    /**
+     * In pixels the width of each eye's swapchain images
+     */
+    int getSwapchainWidth();
+
+    /**
+     * In pixels the height of each eye's swapchain images
+     */
+    int getSwapchainHeight();
+
+    /**
+     * The number of images in the eye's swapchain
+     */
+    int getSwapchainLength(EyeSide eyeSide);
+
+    /**
+     * The framebuffer the eye is rendered to when the given image of its swapchain has been acquired. These are all
+     * created along with the swapchains so the same framebuffer is always returned for the same image (in blitted mode
+     * it is the same intermediate framebuffer for every image).
+     */
+    FrameBuffer getFrameBuffer(EyeSide eyeSide, int swapchainImageIndex);
+
+    String getSystemName();
+
+    /**
+     * The extensions that were requested, and if they were loaded
+     */
+    Map<String, Boolean> getExtensionsLoaded();
+
+    void setXrVrBlendMode(XrVrMode xrVrBlendMode);
+
+    boolean isSessionRunning();
+
+    boolean isSessionFocused();
+
+    /**
+     * The predicted display time (in the session's nanosecond clock) of the current frame, or 0 if there hasn't been one
+     */
+    long getPredictedFrameTime();
+
+    /**
+     * Waits for and begins the next frame and reports where the cameras should be for it. The frame is left open, and
+     * must be completed (with {@link #presentFrameBuffersToOpenXr}) within the post render phase.
+     */
+    InProgressXrRender startXrFrame();
+
+    /**
+     * Locates the views of the in progress frame again, just before rendering (see
+     * {@link XrSettings#setLateLatchViews(boolean)}).
+     *
+     * @return true if the frame's eye positions were updated, false if they weren't (or this isn't supported)
+     */
+    default boolean relocateViews(InProgressXrRender inProgressXrRender){
+        return false;
+    }
+
+    /**
+     * Tells the session the near and far clip distances the eyes are rendered with, which it needs to interpret their
+     * depth (see {@link XrSettings#setSubmitDepth(boolean)}). Called whenever they change.
+     */
+    default void setClipDistances(float nearClip, float farClip){}
+
+    /**
+     * The area of the eye's image that can't be seen (see {@link XrSettings#setVisibilityMask(boolean)}), or null if
+     * there isn't one. When the runtime changes the mask a new object is returned.
+     */
+    default VisibilityMask getVisibilityMask(EyeSide eyeSide){
+        return null;
+    }
+
+    /**
+     * If the eyes' images can be copied to the desktop window (see {@link XrSettings#setDesktopMirrorMode}). If not the
+     * mirror mode is ignored and the window is rendered by the main viewport as normal.
+     */
+    default boolean isDesktopMirrorSupported(){
+        return false;
+    }
+
+    /**
+     * Ends the frame, submitting whatever has been rendered to its framebuffers (and any quad layers)
+     */
+    void presentFrameBuffersToOpenXr(InProgressXrRender inProgressXrRender);
+
+    /**
+     * If quad composition layers are supported. If they aren't {@link QuadLayerPanel}s are drawn into the scene instead,
+     * and the quad layer methods below do nothing (by default), so callers should check this before using them.
+     */
+    default boolean isQuadLayersSupported(){
+        return false;
+    }
+
+    /**
+     * Creates the swapchain (and its framebuffers) for a quad layer. From then on the layer is submitted with every
+     * frame (while it is visible and once it has had an image rendered to it).
+     * <p>
+     * Does nothing if quad layers aren't supported.
+     * </p>
+     */
+    default void addQuadLayer(QuadLayer quadLayer){}
+
+    /**
+     * Stops submitting the quad layer and destroys its swapchain. Does nothing if quad layers aren't supported.
+     */
+    default void removeQuadLayer(QuadLayer quadLayer){}
+
+    /**
+     * Acquires the next image of the quad layer's swapchain, to be rendered to during this frame. It is released (and
+     * becomes the image the compositor shows) when the frame is presented. Should only be called while a frame that
+     * should be rendered is in progress.
+     *
+     * @return the framebuffer to render the layer to, or null if quad layers aren't supported
+     */
+    default FrameBuffer acquireQuadLayerFrameBuffer(QuadLayer quadLayer){
+        return null;
+    }
+
+    FrameTimingStats getFrameTimingStats();
+
+    void destroy();
+}
@@ -7,6 +7,11 @@ import java.util.Set;
 @SuppressWarnings("unused")
 public class XrSettings{
 
+    /**
+     * Locates many spaces in one call. See KHRLocateSpaces.XR_KHR_LOCATE_SPACES_EXTENSION_NAME
+     */
+    static final String LOCATE_SPACES_EXTENSION_NAME = "XR_KHR_locate_spaces";
+
     DrawMode drawMode = DrawMode.AUTOSELECT;
 
     private String applicationName = "";
@@ -51,6 +56,69 @@ public class XrSettings{
      */
     boolean mainCameraFollowsVrCamera = true;
 
+    /**
+     * If true xrWaitFrame is called on a separate pacing thread (see {@link FramePacer}) so the wait for the next frame
+     * overlaps with the rest of the current frame rather than blocking the main thread (see
+     * {@link #setAsyncFrameWait(boolean)}).
+     */
+    boolean asyncFrameWait = false;
+
+    /**
+     * If true all the pose action spaces are located together once per frame (see
+     * {@link #setBatchPoseLocating(boolean)})
+     */
+    boolean batchPoseLocating = false;
+
+    /**
+     * If true the views are located again just before rendering (see {@link #setLateLatchViews(boolean)})
+     */
+    boolean lateLatchViews = true;
+
+    /**
+     * The resolution the eyes are rendered at as a scale of the runtime's recommended resolution (see
+     * {@link #setRenderScale(float)})
+     */
+    float renderScale = 1;
+
+    float minRenderScale = 0.5f;
+
+    float maxRenderScale = 1;
+
+    /**
+     * If true the render scale is adjusted to the frame timings (see {@link RenderScaleController})
+     */
+    boolean adaptiveRenderScale = false;
+
+    /**
+     * If true the scene is culled once for both eyes (see {@link #setStereoCulling(boolean)})
+     */
+    boolean stereoCulling = false;
+
+    /**
+     * If true the eyes' depth is submitted with the projection layer (see {@link #setSubmitDepth(boolean)})
+     */
+    boolean submitDepth = false;
+
+    /**
+     * If true the runtime's visibility mask is used to skip pixels that can't be seen (see {@link #setVisibilityMask(boolean)})
+     */
+    boolean visibilityMask = false;
+
+    /**
+     * What the desktop window shows (see {@link #setDesktopMirrorMode(DesktopMirrorMode)})
+     */
+    DesktopMirrorMode desktopMirrorMode = DesktopMirrorMode.OFF;
+
+    /**
+     * If true the mirrored image is cropped to the window's aspect ratio, otherwise it is stretched
+     */
+    boolean desktopMirrorCropToAspect = true;
+
+    /**
+     * The mirrored image is updated every this many frames
+     */
+    int desktopMirrorUpdateInterval = 1;
+
     public XRVersion xrApiVersion = new XRVersion(1, 0, 43);
 
     public XrSettings(){
@@ -218,6 +286,256 @@ public class XrSettings{
         this.mainCameraFollowsVrCamera = mainCameraFollowsVrCamera;
     }
 
+    /**
+     * Determines whether xrWaitFrame is called on a separate frame pacing thread.
+     *
+     * @return true if the frame wait is asynchronous, false if it is made on the main thread
+     */
+    public boolean isAsyncFrameWait(){
+        return asyncFrameWait;
+    }
+
+    /**
+     * Sets whether xrWaitFrame is called on a separate frame pacing thread. When enabled the wait for the next frame
+     * starts as soon as the current frame has begun, so the main thread only blocks for whatever is left of the wait
+     * when it starts the next frame.
+     * <p>
+     * This is off by default because of where the frame is started: the wait is joined (and the frame begun and the
+     * views located) at the start of the {@link XrVrAppState}'s update, as the game logic needs the frame's predicted
+     * display time and eye positions. So the game logic of app states that update after it (and the render) overlaps
+     * the next frame's wait, but the game logic that updates before it does not, and any of the wait that is left is
+     * still spent blocking before the frame's game logic rather than after it. How much this gains depends on the
+     * runtime and the application, so measure it (see {@link XrVrAppState#getFrameTimingStats()}) before enabling it.
+     * </p>
+     *
+     * @param asyncFrameWait true to wait for frames on the pacing thread, false to wait on the main thread
+     */
+    public void setAsyncFrameWait(boolean asyncFrameWait){
+        this.asyncFrameWait = asyncFrameWait;
+    }
+
+    /**
+     * Determines whether all the pose action spaces are located together once per frame.
+     *
+     * @return true if the poses are batch located
+     */
+    public boolean isBatchPoseLocating(){
+        return batchPoseLocating;
+    }
+
+    /**
+     * Sets whether all the pose action spaces are located together once per frame (this is the starting value of
+     * {@link com.onemillionworlds.tamarin.actions.XrActionBaseAppState#setBatchPoseLocatingEnabled(boolean)}).
+     * <p>
+     * When enabled XR_KHR_locate_spaces is also requested, so that all the spaces can be located in a single call.
+     * Runtimes without it fall back to locating each space in turn.
+     * </p>
+     *
+     * @param batchPoseLocating true to locate the poses together
+     */
+    public void setBatchPoseLocating(boolean batchPoseLocating){
+        this.batchPoseLocating = batchPoseLocating;
+        if (batchPoseLocating){
+            requiredXrExtensions.add(LOCATE_SPACES_EXTENSION_NAME);
+        }else{
+            requiredXrExtensions.remove(LOCATE_SPACES_EXTENSION_NAME);
+        }
+    }
+
+    /**
+     * Determines whether the views (eye positions) are located again just before rendering.
+     *
+     * @return true if the views are late latched
+     */
+    public boolean isLateLatchViews(){
+        return lateLatchViews;
+    }
+
+    /**
+     * Sets whether the views (eye positions) are located again just before rendering, after all the app states have
+     * updated. The cameras are then moved to the later (and so more accurate) prediction, which reduces the latency
+     * between head movement and the rendered image on frames with a lot of update work. Game logic running in the
+     * update still sees the views located at the start of the frame.
+     *
+     * @param lateLatchViews true to locate the views again just before rendering
+     */
+    public void setLateLatchViews(boolean lateLatchViews){
+        this.lateLatchViews = lateLatchViews;
+    }
+
+    public float getRenderScale(){
+        return renderScale;
+    }
+
+    /**
+     * Sets the resolution the eyes are rendered at, as a scale of the runtime's recommended resolution (so 1 is the
+     * recommended resolution, 0.8 is 80% of its width and height). In adaptive mode this is the scale that is started
+     * at. It is clamped to between the min and max render scale. Once running the scale can be changed with the session's
+     * {@link RenderScaleController}.
+     *
+     * @param renderScale the scale to render at
+     */
+    public void setRenderScale(float renderScale){
+        this.renderScale = renderScale;
+    }
+
+    public float getMinRenderScale(){
+        return minRenderScale;
+    }
+
+    public float getMaxRenderScale(){
+        return maxRenderScale;
+    }
+
+    /**
+     * Sets the range the render scale can be set to (or adapt within). The swapchains are allocated at the max scale (or
+     * the largest size the runtime allows if that is smaller) so a max scale above 1 allows supersampling, at the cost
+     * of memory.
+     *
+     * @param minRenderScale the lowest scale, e.g. 0.5
+     * @param maxRenderScale the highest scale, e.g. 1
+     */
+    public void setRenderScaleRange(float minRenderScale, float maxRenderScale){
+        if(minRenderScale <= 0 || minRenderScale > maxRenderScale){
+            throw new IllegalArgumentException("Render scale range must be positive and in order, was " + minRenderScale + " to " + maxRenderScale);
+        }
+        this.minRenderScale = minRenderScale;
+        this.maxRenderScale = maxRenderScale;
+    }
+
+    public boolean isAdaptiveRenderScale(){
+        return adaptiveRenderScale;
+    }
+
+    /**
+     * Sets whether the render scale is adjusted each frame based on the recent frame times. When frames take too long
+     * the scale is lowered (within the render scale range) so the headset's refresh rate can be held rather than the
+     * runtime falling back to reprojection, and it is raised again when there is headroom.
+     *
+     * @param adaptiveRenderScale true to adapt the render scale to the frame times, false for a fixed scale
+     */
+    public void setAdaptiveRenderScale(boolean adaptiveRenderScale){
+        this.adaptiveRenderScale = adaptiveRenderScale;
+    }
+
+    public boolean isStereoCulling(){
+        return stereoCulling;
+    }
+
+    /**
+     * Sets whether the scene is culled once per frame, against a frustum that encloses both eyes' frusta, rather than
+     * separately for each eye. The geometries that survive are queued into both eye viewports (each still sorts and
+     * renders them with its own camera). This roughly halves the CPU cost of culling large scenes, at the cost of the
+     * GPU being given a few geometries that only one eye can see.
+     * <p>
+     * In this mode the root node is not attached to the eye viewports as a scene (it is culled separately) so scene
+     * processors that search a viewport's scenes themselves, rather than using its render queue, won't find anything
+     * (e.g. jME's shadow renderers). Scenes attached to the eye viewports by the application are culled as normal.
+     * </p>
+     *
+     * @param stereoCulling true to cull the scene once for both eyes
+     */
+    public void setStereoCulling(boolean stereoCulling){
+        this.stereoCulling = stereoCulling;
+    }
+
+    public boolean isSubmitDepth(){
+        return submitDepth;
+    }
+
+    /**
+     * Sets whether each eye's depth buffer is submitted to the runtime along with its colour (using the
+     * XR_KHR_composition_layer_depth extension, which this requests). With depth the runtime can reproject positionally
+     * (rather than only rotationally) when the application misses a frame, so near content such as the hands and held
+     * objects doesn't wobble, at the cost of copying the depth into the runtime's depth swapchains each frame.
+     * <p>
+     * If the runtime doesn't support the extension (or a suitable depth format) depth just isn't submitted.
+     * </p>
+     *
+     * @param submitDepth true to submit depth with the projection layer
+     */
+    public void setSubmitDepth(boolean submitDepth){
+        this.submitDepth = submitDepth;
+        if(submitDepth){
+            requiredXrExtensions.add("XR_KHR_composition_layer_depth"); // see KHRCompositionLayerDepth.XR_KHR_COMPOSITION_LAYER_DEPTH_EXTENSION_NAME
+        }
+    }
+
+    public boolean isVisibilityMask(){
+        return visibilityMask;
+    }
+
+    /**
+     * Sets whether the runtime's visibility mask (from the XR_KHR_visibility_mask extension, which this requests) is
+     * used. Part of each eye's image is outside the lenses and never seen; when enabled those areas are drawn into the
+     * depth buffer at the near plane at the start of each eye's render so the scene's fragments there are rejected by
+     * the depth test before they are shaded. This helps most when the scene is fill rate bound. Works in both draw modes.
+     * <p>
+     * If the runtime doesn't support the extension the whole image is rendered as normal.
+     * </p>
+     *
+     * @param visibilityMask true to skip rendering the parts of the eyes' images that can't be seen
+     */
+    public void setVisibilityMask(boolean visibilityMask){
+        this.visibilityMask = visibilityMask;
+        if(visibilityMask){
+            requiredXrExtensions.add("XR_KHR_visibility_mask"); // see KHRVisibilityMask.XR_KHR_VISIBILITY_MASK_EXTENSION_NAME
+        }
+    }
+
+    public DesktopMirrorMode getDesktopMirrorMode(){
+        return desktopMirrorMode;
+    }
+
+    /**
+     * Sets what the desktop window shows. By default (OFF) the application's main viewport renders the window as normal,
+     * which (if the main camera follows the VR camera) renders the whole scene a third time. When mirroring, the main
+     * viewport is disabled and instead the image already rendered for the headset is copied to the window after the
+     * frame is submitted, which is far cheaper.
+     * <p>
+     * Note that anything only in the main or gui viewports (e.g. a desktop only gui) isn't shown while mirroring.
+     * Only supported on desktop, elsewhere (e.g. on Android, which has no window to mirror to) this is ignored and the
+     * main viewport is left enabled.
+     * </p>
+     *
+     * @param desktopMirrorMode what the window shows
+     */
+    public void setDesktopMirrorMode(DesktopMirrorMode desktopMirrorMode){
+        this.desktopMirrorMode = desktopMirrorMode;
+    }
+
+    public boolean isDesktopMirrorCropToAspect(){
+        return desktopMirrorCropToAspect;
+    }
+
+    /**
+     * Sets whether the mirrored image is cropped (centred) to the window's aspect ratio, or stretched to fill it.
+     * Defaults to cropping.
+     *
+     * @param desktopMirrorCropToAspect true to crop the image, false to stretch it
+     */
+    public void setDesktopMirrorCropToAspect(boolean desktopMirrorCropToAspect){
+        this.desktopMirrorCropToAspect = desktopMirrorCropToAspect;
+    }
+
+    public int getDesktopMirrorUpdateInterval(){
+        return desktopMirrorUpdateInterval;
+    }
+
+    /**
+     * Sets how often the mirrored image is taken from the eyes' images, e.g. 2 means every other frame (the window
+     * keeps showing the last image in between). Reading the eyes' images delays handing them to the compositor slightly,
+     * so a lower rate is useful where the window is only for spectators. Defaults to 1 (every frame).
+     *
+     * @param desktopMirrorUpdateInterval the number of frames between updates, at least 1
+     */
+    public void setDesktopMirrorUpdateInterval(int desktopMirrorUpdateInterval){
+        if(desktopMirrorUpdateInterval < 1){
+            throw new IllegalArgumentException("Mirror update interval must be at least 1, was " + desktopMirrorUpdateInterval);
+        }
+        this.desktopMirrorUpdateInterval = desktopMirrorUpdateInterval;
+    }
+
     /**
      * Deprecated, use {@link XrSettings#setInitialXrVrMode(XrVrMode)}
      * @param initialXrVrMode the mode (i.e. XR or VR) that the application STARTS in. Future updates should
@@ -8,6 +8,7 @@ import com.jme3.math.FastMath;
 import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
 import com.jme3.renderer.ViewPort;
 import com.jme3.scene.Node;
 import com.jme3.system.AppSettings;
@@ -19,7 +20,6 @@ import com.onemillionworlds.tamarin.viewports.AdditionalViewportRequest;
 import com.onemillionworlds.tamarin.viewports.ViewportConfigurator;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +28,8 @@ import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
- * contains functionality that is common to both desktop and android VR apps
+ * contains functionality that is common to both desktop and android VR apps (and the headless simulation). The frame
+ * loop is driven against the {@link XrSessionBackend} the subclass provides.
  */
 public abstract class XrVrAppState extends XrBaseAppState{
 
@@ -38,14 +39,29 @@ public abstract class XrVrAppState extends XrBaseAppState{
     Camera rightCamera;
 
     /**
-     * Will contain 6 viewports, 3 for each eye (left and right) because it is triple buffered. The reason we use multiple
-     * viewports per eye (rather than changing the output frame buffer for a single viewport) is that the viewport may have
-     * had scene processors added to it that want to insert themselves into the rendering pipeline; they do this
-     * by setting the viewports output framebuffer to their own input framebuffer and use the viewports current output framebuffer
-     * as the processors output. In other words the scene processors mess with the output frame buffer and expect no one
-     * else to mess with it. If we were to change the output framebuffer we get flickering if a scene processor is added.
+     * The eye viewports indexed by [eye][swapchain image index], usually 3 for each eye (left and right) because it is
+     * triple buffered. The reason we use multiple viewports per eye (rather than changing the output frame buffer for a
+     * single viewport) is that the viewport may have had scene processors added to it that want to insert themselves
+     * into the rendering pipeline; they do this by setting the viewports output framebuffer to their own input
+     * framebuffer and use the viewports current output framebuffer as the processors output. In other words the scene
+     * processors mess with the output frame buffer and expect no one else to mess with it. If we were to change the
+     * output framebuffer we get flickering if a scene processor is added.
+     * <p>
+     * In blitted mode all the images of an eye are rendered via the same framebuffer, so share a viewport. These are
+     * all created up front (once the cameras exist) so that the first frames don't hitch.
+     * </p>
+     */
+    ViewPort[][] eyeViewPorts = new ViewPort[2][0];
+
+    /**
+     * The framebuffers that the eye viewports were created to render to (indexed the same as the viewports). These are
+     * kept separately because scene processors change the viewport's own output framebuffer.
      */
-    Map<FrameBuffer, ViewPort> viewPorts = new HashMap<>(6);
+    FrameBuffer[][] eyeFrameBuffers = new FrameBuffer[2][0];
+
+    private ViewPort activeLeftViewPort;
+
+    private ViewPort activeRightViewPort;
 
 
     /**
@@ -53,6 +69,8 @@ public abstract class XrVrAppState extends XrBaseAppState{
      */
     List<AdditionalViewportData> additionalViewports = new ArrayList<>(1);
 
+    private final List<QuadLayerPanel> quadLayerPanels = new ArrayList<>(0);
+
     /**
      *
      * The observer's position in the virtual world maps to the VR origin in the real world.
@@ -77,6 +95,36 @@ public abstract class XrVrAppState extends XrBaseAppState{
 
     private Consumer<ViewPort> newViewportConfiguration = viewPort -> {};
 
+    /**
+     * When the jMonkey render of the current frame started (or 0 if no XR frame is being rendered)
+     */
+    private long renderStartNanos = 0;
+
+    /**
+     * The size (in pixels) of the part of the eye framebuffers the cameras were last set to render to (see
+     * {@link XrSettings#setRenderScale(float)})
+     */
+    private int renderWidthLastRendered = -1;
+    private int renderHeightLastRendered = -1;
+
+    /**
+     * Culls the scene once for both eyes, only used if {@link XrSettings#isStereoCulling()}
+     */
+    private final StereoCuller stereoCuller = new StereoCuller();
+
+    /**
+     * Draws each eye's visibility mask, only used if {@link XrSettings#isVisibilityMask()}
+     */
+    private final VisibilityMaskRenderer[] visibilityMaskRenderers = new VisibilityMaskRenderer[EyeSide.values().length];
+
+    /**
+     * Times each eye's render, as {@link FrameTimingStats.Phase#RENDER_LEFT_EYE} and {@link FrameTimingStats.Phase#RENDER_RIGHT_EYE}
+     */
+    private final EyeRenderTimer[] eyeRenderTimers = {
+            new EyeRenderTimer(FrameTimingStats.Phase.RENDER_LEFT_EYE, this::getFrameTimingStats),
+            new EyeRenderTimer(FrameTimingStats.Phase.RENDER_RIGHT_EYE, this::getFrameTimingStats)
+    };
+
     public XrVrAppState(XrSettings xrSettings){
         this.xrSettings = xrSettings;
     }
@@ -97,6 +145,12 @@ public abstract class XrVrAppState extends XrBaseAppState{
             throw new RuntimeException("MSAA is not supported in DIRECT draw mode, change to COPIED");
         }
 
+        if (xrSettings.isVisibilityMask()){
+            for(EyeSide eyeSide : EyeSide.values()){
+                visibilityMaskRenderers[eyeSide.ordinal()] = new VisibilityMaskRenderer(app.getAssetManager());
+            }
+        }
+
         if (settings.isVSync()){
             LOGGER.warning("VSync is enabled. This will cause stuttering in VR. Please disable it. Frame rate should be controlled by the headset, not the monitor");
         }
@@ -115,6 +169,8 @@ public abstract class XrVrAppState extends XrBaseAppState{
     protected void initialiseCameras(int width, int height){
         leftCamera = new Camera(width, height);
         rightCamera = new Camera(width, height);
+        renderWidthLastRendered = -1;
+        renderHeightLastRendered = -1;
 
         leftCamera.setParallelProjection(false);
         rightCamera.setParallelProjection(false);
@@ -132,6 +188,78 @@ public abstract class XrVrAppState extends XrBaseAppState{
                 getStateManager().detach(flyCam);
             }
         }
+        if (xrSettings.getDesktopMirrorMode() != DesktopMirrorMode.OFF && getSessionBackend().isDesktopMirrorSupported()){
+            // the window is filled with a copy of the eyes' images, so the scene doesn't need rendering a third time
+            getApplication().getViewPort().setEnabled(false);
+        }
+        createEyeViewPorts();
+    }
+
+    /**
+     * (Re)creates the viewports for every image of each eye's swapchain (and of any additional viewports). This happens
+     * when the cameras are initialised, and again if the session's swapchains are recreated.
+     */
+    protected void createEyeViewPorts(){
+        RenderManager renderManager = getApplication().getRenderManager();
+        distinctEyeViewPorts().forEach(renderManager::removeMainView);
+        activeLeftViewPort = null;
+        activeRightViewPort = null;
+
+        XrSessionBackend sessionBackend = getSessionBackend();
+        for(EyeSide eyeSide : EyeSide.values()){
+            int swapchainLength = sessionBackend.getSwapchainLength(eyeSide);
+            ViewPort[] viewPorts = new ViewPort[swapchainLength];
+            FrameBuffer[] frameBuffers = new FrameBuffer[swapchainLength];
+            for(int imageIndex = 0; imageIndex < swapchainLength; imageIndex++){
+                FrameBuffer frameBuffer = sessionBackend.getFrameBuffer(eyeSide, imageIndex);
+                frameBuffers[imageIndex] = frameBuffer;
+                for(int earlierIndex = 0; earlierIndex < imageIndex; earlierIndex++){
+                    if(frameBuffers[earlierIndex] == frameBuffer){
+                        viewPorts[imageIndex] = viewPorts[earlierIndex];
+                    }
+                }
+                if(viewPorts[imageIndex] == null){
+                    ViewPort viewPort = newViewPort(eyeSide);
+                    viewPort.setOutputFrameBuffer(frameBuffer);
+                    viewPort.setEnabled(false);
+                    viewPorts[imageIndex] = viewPort;
+                }
+            }
+            eyeViewPorts[eyeSide.ordinal()] = viewPorts;
+            eyeFrameBuffers[eyeSide.ordinal()] = frameBuffers;
+        }
+        for(AdditionalViewportData additionalViewportData : additionalViewports){
+            additionalViewportData.createViewports(eyeFrameBuffers);
+        }
+    }
+
+    private List<ViewPort> distinctEyeViewPorts(){
+        List<ViewPort> distinct = new ArrayList<>(6);
+        for(ViewPort[] viewPorts : eyeViewPorts){
+            for(ViewPort viewPort : viewPorts){
+                if(!distinct.contains(viewPort)){
+                    distinct.add(viewPort);
+                }
+            }
+        }
+        return distinct;
+    }
+
+    private boolean isEyeViewPortFor(EyeSide eyeSide, int swapchainImageIndex, FrameBuffer frameBuffer){
+        FrameBuffer[] frameBuffers = eyeFrameBuffers[eyeSide.ordinal()];
+        return swapchainImageIndex >= 0 && swapchainImageIndex < frameBuffers.length && frameBuffers[swapchainImageIndex] == frameBuffer;
+    }
+
+    /**
+     * The culler that culls the scene once for both eyes (if {@link XrSettings#setStereoCulling(boolean)} is enabled).
+     * Further scenes can be attached to it to be rendered in both eyes' viewports.
+     */
+    public StereoCuller getStereoCuller(){
+        return stereoCuller;
+    }
+
+    public XrSettings getXrSettings(){
+        return xrSettings;
     }
 
     public Camera getLeftCamera(){
@@ -150,14 +278,26 @@ public abstract class XrVrAppState extends XrBaseAppState{
     private ViewPort newViewPort(EyeSide eyeSide){
         ViewPort newViewport = getApplication().getRenderManager().createMainView(  eyeSide + " Eye", eyeSide == EyeSide.LEFT ? leftCamera : rightCamera);
         newViewport.setClearFlags(true, true, true);
-        newViewport.attachScene(((SimpleApplication) getApplication()).getRootNode());
+        EyeRenderTimer eyeRenderTimer = eyeRenderTimers[eyeSide.ordinal()];
+        eyeRenderTimer.addStartProcessor(newViewport);
+        if (xrSettings.isStereoCulling()){
+            // before the other processors, so they see the full queue
+            newViewport.addProcessor(stereoCuller.newQueueProcessor());
+            stereoCuller.attachScene(((SimpleApplication) getApplication()).getRootNode());
+        }else{
+            newViewport.attachScene(((SimpleApplication) getApplication()).getRootNode());
+        }
+        if (xrSettings.isVisibilityMask()){
+            newViewport.addProcessor(visibilityMaskRenderers[eyeSide.ordinal()].newProcessor());
+        }
         this.newViewportConfiguration.accept(newViewport);
+        eyeRenderTimer.addEndProcessor(newViewport);
         return newViewport;
     }
 
     @Override
     public void setMainViewportConfiguration(Consumer<ViewPort> configureViewport){
-        viewPorts.values().forEach(configureViewport);
+        distinctEyeViewPorts().forEach(configureViewport);
         this.newViewportConfiguration = configureViewport;
     }
 
@@ -165,6 +305,7 @@ public abstract class XrVrAppState extends XrBaseAppState{
     @Override
     public ViewportConfigurator addAdditionalViewport(AdditionalViewportRequest additionalViewportRequest){
         AdditionalViewportData additionalViewportData = new AdditionalViewportData(additionalViewportRequest, getApplication().getRenderManager(), leftCamera, rightCamera);
+        additionalViewportData.createViewports(eyeFrameBuffers);
         this.additionalViewports.add(additionalViewportData);
 
         return new ViewportConfigurator(){
@@ -187,11 +328,77 @@ public abstract class XrVrAppState extends XrBaseAppState{
         runOnceHaveCameraPositions.add(runnable);
     }
 
+    /**
+     * The session the frame loop runs against. Only available once the state has initialised.
+     */
+    protected abstract XrSessionBackend getSessionBackend();
+
     @Override
     protected void cleanup(Application app){
         LOGGER.info("Cleaning up OpenXR for shutdown");
-        viewPorts.values().forEach(app.getRenderManager()::removePreView);
+        distinctEyeViewPorts().forEach(app.getRenderManager()::removeMainView);
         this.additionalViewports.forEach(AdditionalViewportData::cleanup);
+        this.quadLayerPanels.forEach(panel -> panel.cleanup(getSessionBackend(), app.getRenderManager()));
+        this.quadLayerPanels.clear();
+        getSessionBackend().destroy();
+    }
+
+    @Override
+    public void update(float tpf){
+        super.update(tpf);
+        inProgressXrRender = getSessionBackend().startXrFrame();
+        if (inProgressXrRender.shouldRender){
+            render();
+        }
+        if (xrSettings.isVisibilityMask()){
+            for(EyeSide eyeSide : EyeSide.values()){
+                visibilityMaskRenderers[eyeSide.ordinal()].setVisibilityMask(getSessionBackend().getVisibilityMask(eyeSide));
+            }
+        }
+        for(QuadLayerPanel quadLayerPanel : quadLayerPanels){
+            quadLayerPanel.update(tpf, getSessionBackend(), inProgressXrRender.shouldRender);
+        }
+    }
+
+    /**
+     * Creates a panel whose content is rendered into its own image (only when it changes) and shown as a quad
+     * composition layer, rather than being rendered into both eyes every frame. See {@link QuadLayerPanel}.
+     *
+     * @param content the node the panel shows (in pixel coordinates like the gui node). It should not be attached to
+     *                the root node
+     * @param widthPixels the width of the panel's image
+     * @param heightPixels the height of the panel's image
+     * @param widthMetres the width of the panel in the world (the height is in proportion)
+     * @return the panel, which should be positioned with {@link QuadLayerPanel#setWorldPosition(Vector3f)}
+     */
+    public QuadLayerPanel addQuadLayerPanel(Node content, int widthPixels, int heightPixels, float widthMetres){
+        if (widthPixels <= 0 || heightPixels <= 0 || widthMetres <= 0){
+            throw new IllegalArgumentException("Quad layer panel must have a positive size, was " + widthPixels + "x" + heightPixels + " pixels, " + widthMetres + "m wide");
+        }
+        QuadLayerPanel quadLayerPanel = new QuadLayerPanel(content, widthPixels, heightPixels, widthMetres, getSessionBackend(), getApplication().getRenderManager(), getApplication().getAssetManager(), ((SimpleApplication) getApplication()).getRootNode());
+        quadLayerPanels.add(quadLayerPanel);
+        return quadLayerPanel;
+    }
+
+    public void removeQuadLayerPanel(QuadLayerPanel quadLayerPanel){
+        if (quadLayerPanels.remove(quadLayerPanel)){
+            quadLayerPanel.cleanup(getSessionBackend(), getApplication().getRenderManager());
+        }
+    }
+
+    @Override
+    public String getSystemName(){
+        return getSessionBackend().getSystemName();
+    }
+
+    @Override
+    public Map<String, Boolean> getExtensionsLoaded(){
+        return getSessionBackend().getExtensionsLoaded();
+    }
+
+    @Override
+    public void setXrVrMode(XrVrMode xrVrMode){
+        getSessionBackend().setXrVrBlendMode(xrVrMode);
     }
 
     @Override
@@ -207,38 +414,135 @@ public abstract class XrVrAppState extends XrBaseAppState{
             runOnceHaveCameraPositions.poll().run();
             updateEyePositions(inProgressXrRender);
         }
-        viewPorts.values().forEach(vp -> vp.setEnabled(false));
+        int leftImageIndex = inProgressXrRender.getLeftSwapchainImageIndex();
+        int rightImageIndex = inProgressXrRender.getRightSwapchainImageIndex();
+        if(!isEyeViewPortFor(EyeSide.LEFT, leftImageIndex, inProgressXrRender.getLeftBufferToRenderTo())
+                || !isEyeViewPortFor(EyeSide.RIGHT, rightImageIndex, inProgressXrRender.getRightBufferToRenderTo())){
+            // the swapchains have been (re)created since the viewports were
+            createEyeViewPorts();
+        }
 
         //must set every frame due to OpenXR buffering to multiple images
-        ViewPort leftViewPort = viewPorts.computeIfAbsent(inProgressXrRender.getLeftBufferToRenderTo(), (fb) -> {
-            ViewPort viewPort = newViewPort(EyeSide.LEFT);
-            viewPort.setOutputFrameBuffer(fb);
-            return viewPort;
-        });
-        leftViewPort.setEnabled(true);
-
-        ViewPort rightViewPort = viewPorts.computeIfAbsent(inProgressXrRender.getRightBufferToRenderTo(), (fb) -> {
-            ViewPort viewPort = newViewPort(EyeSide.RIGHT);
-            viewPort.setOutputFrameBuffer(fb);
-            return viewPort;
-        });
-        rightViewPort.setEnabled(true);
+        if(activeLeftViewPort != null){
+            activeLeftViewPort.setEnabled(false);
+        }
+        if(activeRightViewPort != null){
+            activeRightViewPort.setEnabled(false);
+        }
+        activeLeftViewPort = eyeViewPorts[EyeSide.LEFT.ordinal()][leftImageIndex];
+        activeRightViewPort = eyeViewPorts[EyeSide.RIGHT.ordinal()][rightImageIndex];
+        activeLeftViewPort.setEnabled(true);
+        activeRightViewPort.setEnabled(true);
 
         for(AdditionalViewportData additionalViewportData : additionalViewports){
-            additionalViewportData.setActiveViewports(inProgressXrRender.getLeftBufferToRenderTo(), inProgressXrRender.getRightBufferToRenderTo());
+            additionalViewportData.setActiveViewports(leftImageIndex, rightImageIndex);
         }
 
+        updateRenderArea(inProgressXrRender);
+        updateProjectionMatrices(inProgressXrRender);
+
+        if (xrSettings.isMainCameraFollowsVrCamera()){
+            getApplication().getCamera().setLocation(getVrCameraPosition());
+            getApplication().getCamera().setRotation(getLeftCamera().getRotation());
+        }
+    }
+
+    /**
+     * Called after all the app states have updated, just before the viewports are rendered. If late latching is enabled
+     * the views are located again and the cameras moved to them (nothing in the scene graph is changed). If stereo
+     * culling is enabled the culling camera is positioned for the final camera positions, but the scene is only culled
+     * when the first eye viewport is rendered. That is after every app state's render method, so anything they move
+     * (such as the late latched hands of {@link com.onemillionworlds.tamarin.vrhands.VRHandsAppState}) is culled where
+     * it is drawn.
+     */
+    @Override
+    public void render(RenderManager renderManager){
+        super.render(renderManager);
+        if (inProgressXrRender == null || !inProgressXrRender.shouldRender){
+            return;
+        }
+        if (xrSettings.isLateLatchViews() && relocateViews(inProgressXrRender)){
+            updateEyePositions(inProgressXrRender);
+            updateProjectionMatrices(inProgressXrRender);
+            if (xrSettings.isMainCameraFollowsVrCamera()){
+                getApplication().getCamera().setLocation(getVrCameraPosition());
+                getApplication().getCamera().setRotation(getLeftCamera().getRotation());
+            }
+        }
+        for(QuadLayerPanel quadLayerPanel : quadLayerPanels){
+            quadLayerPanel.prepareForRender(observer);
+        }
+        // processors added since the last frame would otherwise be left out of the eyes' timings
+        eyeRenderTimers[EyeSide.LEFT.ordinal()].moveEndToLast(activeLeftViewPort);
+        eyeRenderTimers[EyeSide.RIGHT.ordinal()].moveEndToLast(activeRightViewPort);
+        renderStartNanos = System.nanoTime();
+        if (xrSettings.isStereoCulling()){
+            stereoCuller.updateCullingCamera(leftCamera, rightCamera, inProgressXrRender.getLeftEye().fieldOfView(), inProgressXrRender.getRightEye().fieldOfView(), nearClip, farClip);
+            stereoCuller.cullBeforeRender(renderManager, activeLeftViewPort);
+        }
+    }
+
+    @Override
+    public void postRender(){
+        super.postRender();
+        if (renderStartNanos != 0){
+            getFrameTimingStats().recordSince(FrameTimingStats.Phase.RENDER, renderStartNanos);
+            renderStartNanos = 0;
+        }
+        if (inProgressXrRender !=null){
+            getSessionBackend().presentFrameBuffersToOpenXr(inProgressXrRender);
+            inProgressXrRender = null;
+        }
+    }
+
+    /**
+     * The timings of the phases of the XR frame loop. These are recorded continually (it is cheap) so can be read at any
+     * time, e.g. to be sent as telemetry.
+     */
+    public FrameTimingStats getFrameTimingStats(){
+        return getSessionBackend().getFrameTimingStats();
+    }
+
+    /**
+     * Locates the views of the in progress frame again (against the same predicted display time) and updates its eye
+     * positions. Backends that don't support this return false.
+     *
+     * @param inProgressXrRender the frame that is about to be rendered
+     * @return true if the eye positions were updated
+     */
+    protected boolean relocateViews(InProgressXrRender inProgressXrRender){
+        return getSessionBackend().relocateViews(inProgressXrRender);
+    }
+
+    private void updateProjectionMatrices(InProgressXrRender inProgressXrRender){
         if (refreshProjectionMatrix || !inProgressXrRender.leftEye.fieldOfView().equals(leftFovLastRendered) || !inProgressXrRender.rightEye.fieldOfView().equals(rightFovLastRendered)){
             leftCamera.setProjectionMatrix(inProgressXrRender.leftEye.calculateProjectionMatrix(nearClip, farClip));
             setCameraFrustum(leftCamera, inProgressXrRender.getLeftEye().fieldOfView(), nearClip, farClip);
             rightCamera.setProjectionMatrix(inProgressXrRender.rightEye.calculateProjectionMatrix(nearClip, farClip));
             setCameraFrustum(rightCamera, inProgressXrRender.getRightEye().fieldOfView(), nearClip, farClip);
+            leftFovLastRendered = inProgressXrRender.leftEye.fieldOfView();
+            rightFovLastRendered = inProgressXrRender.rightEye.fieldOfView();
+            if (refreshProjectionMatrix){
+                getSessionBackend().setClipDistances(nearClip, farClip);
+            }
             refreshProjectionMatrix = false;
         }
+    }
 
-        if (xrSettings.isMainCameraFollowsVrCamera()){
-            getApplication().getCamera().setLocation(getVrCameraPosition());
-            getApplication().getCamera().setRotation(getLeftCamera().getRotation());
+    /**
+     * Restricts the cameras to the (bottom left) part of the framebuffers that is being rendered at the current render
+     * scale. Only that part is submitted to the compositor.
+     */
+    private void updateRenderArea(InProgressXrRender inProgressXrRender){
+        int renderWidth = inProgressXrRender.getRenderWidth();
+        int renderHeight = inProgressXrRender.getRenderHeight();
+        if (renderWidth != renderWidthLastRendered || renderHeight != renderHeightLastRendered){
+            float right = Math.min(1, (float)renderWidth / leftCamera.getWidth());
+            float top = Math.min(1, (float)renderHeight / leftCamera.getHeight());
+            leftCamera.setViewPort(0, right, 0, top);
+            rightCamera.setViewPort(0, right, 0, top);
+            renderWidthLastRendered = renderWidth;
+            renderHeightLastRendered = renderHeight;
         }
     }
 
@@ -0,0 +1,274 @@
+package com.onemillionworlds.tamarin.spectator;
+
+import com.jme3.app.Application;
+import com.jme3.app.SimpleApplication;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.math.FastMath;
+import com.jme3.math.Vector3f;
+import com.jme3.post.SceneProcessor;
+import com.jme3.profile.AppProfiler;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.texture.FrameBuffer;
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture2D;
+import com.onemillionworlds.tamarin.openxr.FrameTimingStats;
+import com.onemillionworlds.tamarin.openxr.XrBaseAppState;
+import com.onemillionworlds.tamarin.openxr.XrVrAppState;
+
+/**
+ * Renders the scene from a third person spectator camera into an offscreen texture (e.g. to be shown in the desktop
+ * window or captured for streaming). Unlike an additional viewport (which is rendered for each eye, every frame, at
+ * the headset's resolution) the spectator view has its own resolution and is only rendered every few frames.
+ * <p>
+ * The render is also budgeted against the headset's frame: if the headset frame is already close to its deadline the
+ * spectator render is put off until a frame with room for it, so the spectator never causes the headset to miss a frame.
+ * The cost of the spectator render is estimated from the time taken to submit it (on the CPU).
+ * </p>
+ * <p>
+ * The camera is either free (position it with {@link #getCamera()}) or follows behind the player's head (see
+ * {@link #followHead(float, float)}). The scene graph is shared with the eyes, so it isn't updated again for the
+ * spectator, but its different frustum means it does its own culling.
+ * </p>
+ */
+public class SpectatorCameraState extends BaseAppState{
+
+    public static final String ID = "SpectatorCameraState";
+
+    public static final int DEFAULT_RENDER_INTERVAL = 3;
+
+    public static final float DEFAULT_BUDGET_FRACTION = 0.9f;
+
+    private final int width;
+
+    private final int height;
+
+    private final Camera camera;
+
+    private final Texture2D texture;
+
+    private final FrameBuffer frameBuffer;
+
+    private final SpectatorRenderScheduler scheduler = new SpectatorRenderScheduler(DEFAULT_RENDER_INTERVAL, DEFAULT_BUDGET_FRACTION);
+
+    private ViewPort viewPort;
+
+    private XrBaseAppState xrAppState;
+
+    private boolean followHead = false;
+    private float followDistanceBehind;
+    private float followHeightAbove;
+
+    private final Vector3f followDirection = new Vector3f(0, 0, 1);
+    private final Vector3f followPosition = new Vector3f();
+
+    /**
+     * @param width the width (in pixels) of the spectator image
+     * @param height the height (in pixels) of the spectator image
+     */
+    public SpectatorCameraState(int width, int height){
+        super(ID);
+        if(width <= 0 || height <= 0){
+            throw new IllegalArgumentException("Spectator image must have a positive size, was " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+
+        camera = new Camera(width, height);
+        camera.setFrustumPerspective(60, (float) width / height, 0.1f, 1000);
+
+        texture = new Texture2D(width, height, Image.Format.RGBA8);
+        frameBuffer = new FrameBuffer(width, height, 1);
+        frameBuffer.setName("Spectator");
+        frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
+        frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(Image.Format.Depth));
+    }
+
+    @Override
+    protected void initialize(Application app){
+        xrAppState = getState(XrBaseAppState.ID, XrBaseAppState.class);
+
+        viewPort = app.getRenderManager().createPreView("Spectator", camera);
+        viewPort.setClearFlags(true, true, true);
+        viewPort.setBackgroundColor(app.getViewPort().getBackgroundColor());
+        viewPort.setOutputFrameBuffer(frameBuffer);
+        viewPort.attachScene(((SimpleApplication) app).getRootNode());
+        viewPort.addProcessor(new RenderCostProcessor());
+        viewPort.setEnabled(false);
+    }
+
+    /**
+     * The camera the spectator view is rendered with. When the camera is free it can be positioned freely, e.g. to a
+     * fixed position in the room.
+     */
+    public Camera getCamera(){
+        return camera;
+    }
+
+    /**
+     * The image the spectator view is rendered into. It is updated every few frames (see
+     * {@link #setRenderInterval(int)}), keeping the last image in between.
+     */
+    public Texture2D getTexture(){
+        return texture;
+    }
+
+    /**
+     * The framebuffer the spectator view is rendered into (e.g. to read back for capture)
+     */
+    public FrameBuffer getFrameBuffer(){
+        return frameBuffer;
+    }
+
+    public int getWidth(){
+        return width;
+    }
+
+    public int getHeight(){
+        return height;
+    }
+
+    /**
+     * The viewport the spectator view is rendered by (e.g. to add filters), only available once initialised
+     */
+    public ViewPort getViewPort(){
+        return viewPort;
+    }
+
+    /**
+     * Sets how often the spectator view is rendered, e.g. 3 means every third headset frame. Defaults to 3.
+     */
+    public void setRenderInterval(int renderInterval){
+        scheduler.setRenderInterval(renderInterval);
+    }
+
+    public int getRenderInterval(){
+        return scheduler.getRenderInterval();
+    }
+
+    /**
+     * Sets the fraction of the headset's frame time that the headset frame, plus the spectator render, must fit in for
+     * the spectator to be rendered. Defaults to 0.9.
+     */
+    public void setBudgetFraction(float budgetFraction){
+        scheduler.setBudgetFraction(budgetFraction);
+    }
+
+    public float getBudgetFraction(){
+        return scheduler.getBudgetFraction();
+    }
+
+    /**
+     * Makes the camera follow behind the player's head, looking at it.
+     *
+     * @param distanceBehind how far behind the head (horizontally) the camera is
+     * @param heightAbove how far above the head the camera is
+     */
+    public void followHead(float distanceBehind, float heightAbove){
+        this.followHead = true;
+        this.followDistanceBehind = distanceBehind;
+        this.followHeightAbove = heightAbove;
+    }
+
+    /**
+     * Stops the camera following the player's head (it stays where it is, and can be positioned freely)
+     */
+    public void setFreeCamera(){
+        this.followHead = false;
+    }
+
+    public boolean isFollowingHead(){
+        return followHead;
+    }
+
+    @Override
+    public void update(float tpf){
+        super.update(tpf);
+        if(followHead){
+            updateFollowCamera();
+        }
+        long frameWorkNanos = 0;
+        long displayPeriodNanos = 0;
+        if(xrAppState instanceof XrVrAppState xrVrAppState){
+            FrameTimingStats frameTimingStats = xrVrAppState.getFrameTimingStats();
+            frameWorkNanos = frameTimingStats.getLatestNanos(FrameTimingStats.Phase.FRAME) - frameTimingStats.getLatestNanos(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED);
+            displayPeriodNanos = frameTimingStats.getPredictedDisplayPeriod();
+        }
+        viewPort.setEnabled(scheduler.shouldRender(frameWorkNanos, displayPeriodNanos));
+    }
+
+    private void updateFollowCamera(){
+        Vector3f headPosition = xrAppState.getVrCameraPosition();
+        Vector3f lookDirection = xrAppState.getVrCameraLookDirection();
+        float horizontalLength = FastMath.sqrt(lookDirection.x * lookDirection.x + lookDirection.z * lookDirection.z);
+        // looking straight up or down there is no "behind", so the last direction is kept
+        if(horizontalLength > 0.01f){
+            followDirection.set(lookDirection.x / horizontalLength, 0, lookDirection.z / horizontalLength);
+        }
+        followPosition.set(headPosition)
+                .subtractLocal(followDirection.x * followDistanceBehind, 0, followDirection.z * followDistanceBehind)
+                .addLocal(0, followHeightAbove, 0);
+        camera.setLocation(followPosition);
+        camera.lookAt(headPosition, Vector3f.UNIT_Y);
+    }
+
+    @Override
+    protected void cleanup(Application app){
+        app.getRenderManager().removePreView(viewPort);
+    }
+
+    @Override
+    protected void onEnable(){}
+
+    @Override
+    protected void onDisable(){
+        if(viewPort != null){
+            viewPort.setEnabled(false);
+        }
+    }
+
+    /**
+     * Times the spectator viewport's render so the scheduler knows how much room it needs
+     */
+    private class RenderCostProcessor implements SceneProcessor{
+        private boolean initialized = false;
+
+        private long renderStartNanos;
+
+        @Override
+        public void initialize(RenderManager rm, ViewPort vp){
+            initialized = true;
+        }
+
+        @Override
+        public void reshape(ViewPort vp, int w, int h){}
+
+        @Override
+        public boolean isInitialized(){
+            return initialized;
+        }
+
+        @Override
+        public void preFrame(float tpf){
+            renderStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void postQueue(RenderQueue rq){}
+
+        @Override
+        public void postFrame(FrameBuffer out){
+            scheduler.recordRenderCost(System.nanoTime() - renderStartNanos);
+        }
+
+        @Override
+        public void cleanup(){
+            initialized = false;
+        }
+
+        @Override
+        public void setProfiler(AppProfiler profiler){}
+    }
+}
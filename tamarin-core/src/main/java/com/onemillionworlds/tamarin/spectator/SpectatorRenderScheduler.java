@@ -0,0 +1,90 @@
+package com.onemillionworlds.tamarin.spectator;
+
+/**
+ * Decides which frames the spectator view is rendered on. It is rendered every {@code renderInterval} frames, but if
+ * the headset frame is already close to its deadline the render is put off (until a frame with room for it) rather than
+ * making the headset miss a frame.
+ */
+class SpectatorRenderScheduler{
+
+    /**
+     * How much each new measurement of the render's cost moves the estimate
+     */
+    static final float COST_SMOOTHING = 0.2f;
+
+    private int renderInterval;
+
+    private float budgetFraction;
+
+    private int framesSinceRender = Integer.MAX_VALUE / 2;
+
+    private long estimatedRenderCostNanos = 0;
+
+    /**
+     * @param renderInterval render every this many frames (at most)
+     * @param budgetFraction the fraction of the display period the headset frame (including the spectator render) must
+     *                       fit within for the spectator to be rendered
+     */
+    SpectatorRenderScheduler(int renderInterval, float budgetFraction){
+        setRenderInterval(renderInterval);
+        setBudgetFraction(budgetFraction);
+    }
+
+    void setRenderInterval(int renderInterval){
+        if(renderInterval < 1){
+            throw new IllegalArgumentException("Render interval must be at least 1, was " + renderInterval);
+        }
+        this.renderInterval = renderInterval;
+    }
+
+    int getRenderInterval(){
+        return renderInterval;
+    }
+
+    void setBudgetFraction(float budgetFraction){
+        if(budgetFraction <= 0 || budgetFraction > 1){
+            throw new IllegalArgumentException("Budget fraction must be in (0, 1], was " + budgetFraction);
+        }
+        this.budgetFraction = budgetFraction;
+    }
+
+    float getBudgetFraction(){
+        return budgetFraction;
+    }
+
+    /**
+     * Called once per frame.
+     *
+     * @param frameWorkNanos how long the most recent headset frame took (not counting time blocked waiting for it)
+     * @param displayPeriodNanos the time available for each headset frame, or 0 if not known (in which case there is
+     *                           no budget)
+     * @return true if the spectator view should be rendered this frame
+     */
+    boolean shouldRender(long frameWorkNanos, long displayPeriodNanos){
+        framesSinceRender++;
+        if(framesSinceRender < renderInterval){
+            return false;
+        }
+        if(displayPeriodNanos > 0 && frameWorkNanos + estimatedRenderCostNanos > displayPeriodNanos * budgetFraction){
+            // stays due, so is rendered as soon as there is room
+            return false;
+        }
+        framesSinceRender = 0;
+        return true;
+    }
+
+    /**
+     * Records how long a spectator render took, to predict the cost of the next one
+     */
+    void recordRenderCost(long renderCostNanos){
+        if(estimatedRenderCostNanos == 0){
+            estimatedRenderCostNanos = renderCostNanos;
+        }else{
+            estimatedRenderCostNanos += (long) ((renderCostNanos - estimatedRenderCostNanos) * COST_SMOOTHING);
+        }
+    }
+
+    long getEstimatedRenderCostNanos(){
+        return estimatedRenderCostNanos;
+    }
+}
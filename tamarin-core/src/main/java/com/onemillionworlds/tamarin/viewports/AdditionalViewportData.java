@@ -8,8 +8,8 @@ import com.jme3.scene.Spatial;
 import com.jme3.texture.FrameBuffer;
 import com.onemillionworlds.tamarin.openxr.EyeSide;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -17,7 +17,15 @@ public class AdditionalViewportData{
 
     private final Node rootNode;
 
-    private final Map<FrameBuffer, ViewPort> overlayViewPorts = new HashMap<>();
+    /**
+     * The viewports, indexed by [eye][swapchain image index] (the same as the main eye viewports). Images that share a
+     * framebuffer share a viewport.
+     */
+    private ViewPort[][] overlayViewPorts = new ViewPort[2][0];
+
+    private ViewPort activeLeftViewport;
+
+    private ViewPort activeRightViewport;
 
     Consumer<ViewPort> configureViewport;
 
@@ -38,53 +46,99 @@ public class AdditionalViewportData{
 
     }
 
-    public ViewPort getAssociatedViewport(FrameBuffer fb, EyeSide eyeSide){
-        return overlayViewPorts.computeIfAbsent(fb, (f) -> {
-            String name = "Overlay Viewport " + Optional.ofNullable(rootNode).map(Spatial::getName).orElse("null") + " " +eyeSide+ " " + overlayViewPorts.size()/2;
-            Camera camera = additionalViewportRequest.getCameraOverride().orElse(eyeSide == EyeSide.LEFT ? leftCamera : rightCamera);
-
-            ViewPort newViewport =
-                    switch(additionalViewportRequest.getType()){
-                        case MAINVIEW ->
-                            renderManager.createMainView(name, camera);
-                        case POSTVIEW->
-                            renderManager.createPostView(name, camera);
-                        case PREVIEW->
-                            renderManager.createPreView(name, camera);
-                    };
-            newViewport.setClearFlags(additionalViewportRequest.isClearFlags_color(), additionalViewportRequest.isClearFlags_depth(), additionalViewportRequest.isClearFlags_stencil());
-            if(rootNode!=null){
-                newViewport.attachScene(rootNode);
+    /**
+     * Creates a viewport for every swapchain image of each eye (replacing any that already exist), so that none need to be
+     * created while rendering.
+     *
+     * @param eyeFrameBuffers the framebuffers each eye renders to, indexed by [eye][swapchain image index]
+     */
+    public void createViewports(FrameBuffer[][] eyeFrameBuffers){
+        removeViewports();
+        for(EyeSide eyeSide : EyeSide.values()){
+            FrameBuffer[] frameBuffers = eyeFrameBuffers[eyeSide.ordinal()];
+            ViewPort[] viewPorts = new ViewPort[frameBuffers.length];
+            for(int imageIndex = 0; imageIndex < frameBuffers.length; imageIndex++){
+                for(int earlierIndex = 0; earlierIndex < imageIndex; earlierIndex++){
+                    if(frameBuffers[earlierIndex] == frameBuffers[imageIndex]){
+                        viewPorts[imageIndex] = viewPorts[earlierIndex];
+                    }
+                }
+                if(viewPorts[imageIndex] == null){
+                    viewPorts[imageIndex] = createViewport(frameBuffers[imageIndex], eyeSide, imageIndex);
+                }
             }
-            newViewport.setOutputFrameBuffer(fb);
-            this.configureViewport.accept(newViewport);
-            return newViewport;
-        });
+            overlayViewPorts[eyeSide.ordinal()] = viewPorts;
+        }
     }
 
-    public void setActiveViewports(FrameBuffer frameBufferLeft, FrameBuffer frameBufferRight){
-        overlayViewPorts.values().forEach(v -> v.setEnabled(false));
+    private ViewPort createViewport(FrameBuffer fb, EyeSide eyeSide, int imageIndex){
+        String name = "Overlay Viewport " + Optional.ofNullable(rootNode).map(Spatial::getName).orElse("null") + " " + eyeSide + " " + imageIndex;
+        Camera camera = additionalViewportRequest.getCameraOverride().orElse(eyeSide == EyeSide.LEFT ? leftCamera : rightCamera);
+
+        ViewPort newViewport =
+                switch(additionalViewportRequest.getType()){
+                    case MAINVIEW ->
+                        renderManager.createMainView(name, camera);
+                    case POSTVIEW->
+                        renderManager.createPostView(name, camera);
+                    case PREVIEW->
+                        renderManager.createPreView(name, camera);
+                };
+        newViewport.setClearFlags(additionalViewportRequest.isClearFlags_color(), additionalViewportRequest.isClearFlags_depth(), additionalViewportRequest.isClearFlags_stencil());
+        if(rootNode!=null){
+            newViewport.attachScene(rootNode);
+        }
+        newViewport.setOutputFrameBuffer(fb);
+        newViewport.setEnabled(false);
+        this.configureViewport.accept(newViewport);
+        return newViewport;
+    }
 
-        ViewPort leftViewport = getAssociatedViewport(frameBufferLeft, EyeSide.LEFT);
-        ViewPort rightViewport = getAssociatedViewport(frameBufferRight, EyeSide.RIGHT);
-        leftViewport.setEnabled(true);
-        rightViewport.setEnabled(true);
+    public void setActiveViewports(int leftSwapchainImageIndex, int rightSwapchainImageIndex){
+        if(activeLeftViewport != null){
+            activeLeftViewport.setEnabled(false);
+        }
+        if(activeRightViewport != null){
+            activeRightViewport.setEnabled(false);
+        }
+        activeLeftViewport = overlayViewPorts[EyeSide.LEFT.ordinal()][leftSwapchainImageIndex];
+        activeRightViewport = overlayViewPorts[EyeSide.RIGHT.ordinal()][rightSwapchainImageIndex];
+        activeLeftViewport.setEnabled(true);
+        activeRightViewport.setEnabled(true);
     }
 
 
     public void updateConfigureViewport(Consumer<ViewPort> configureViewport){
         this.configureViewport = configureViewport;
-        overlayViewPorts.values().forEach(configureViewport);
+        distinctViewports().forEach(configureViewport);
     }
 
     public void cleanup(){
-        overlayViewPorts.values().forEach((vp) -> {
+        removeViewports();
+    }
+
+    private void removeViewports(){
+        distinctViewports().forEach((vp) -> {
             switch(additionalViewportRequest.getType()){
                 case MAINVIEW -> renderManager.removeMainView(vp);
                 case POSTVIEW -> renderManager.removePostView(vp);
                 case PREVIEW -> renderManager.removePreView(vp);
             }
         });
+        overlayViewPorts = new ViewPort[2][0];
+        activeLeftViewport = null;
+        activeRightViewport = null;
+    }
 
+    private List<ViewPort> distinctViewports(){
+        List<ViewPort> distinct = new ArrayList<>(6);
+        for(ViewPort[] eyeViewPorts : overlayViewPorts){
+            for(ViewPort viewPort : eyeViewPorts){
+                if(!distinct.contains(viewPort)){
+                    distinct.add(viewPort);
+                }
+            }
+        }
+        return distinct;
     }
 }
@@ -26,6 +26,8 @@ public class BoneMappings{
 
     /**
      * Override the default bone mappings for the left hand.
+     * <p>
+     * This should be done before the hands are bound, the mappings are read when the hand's armature is bound.
      */
     @SuppressWarnings("unused")
     public static void setBoneMappingsLeft(Map<HandJoint, String> boneMappingsLeft) {
@@ -34,6 +36,8 @@ public class BoneMappings{
 
     /**
      * Override the default bone mappings for the right hand.
+     * <p>
+     * This should be done before the hands are bound, the mappings are read when the hand's armature is bound.
      */
     @SuppressWarnings("unused")
     public static void setBoneMappingsRight(Map<HandJoint, String> boneMappingsRight) {
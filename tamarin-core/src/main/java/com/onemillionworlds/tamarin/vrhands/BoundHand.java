@@ -16,17 +16,22 @@ import com.jme3.math.Vector3f;
 import com.jme3.scene.Geometry;
 import com.jme3.scene.Node;
 import com.jme3.scene.Spatial;
+import com.jme3.scene.control.AbstractControl;
 import com.jme3.scene.shape.Box;
 import com.jme3.scene.shape.Line;
 import com.jme3.scene.shape.Sphere;
 import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BonePose;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import com.onemillionworlds.tamarin.handskeleton.BoundArmature;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.math.RotationalVelocity;
+import com.onemillionworlds.tamarin.vrhands.broadphase.InteractableIndex;
 import com.onemillionworlds.tamarin.vrhands.functions.BoundHandFunction;
 import com.onemillionworlds.tamarin.vrhands.functions.ClimbSupport;
 import com.onemillionworlds.tamarin.vrhands.functions.FunctionRegistration;
@@ -39,12 +44,12 @@ import com.onemillionworlds.tamarin.vrhands.touching.AbstractTouchControl;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 @SuppressWarnings("unused")
 public abstract class BoundHand{
@@ -60,7 +65,8 @@ public abstract class BoundHand{
     private static boolean lemurIsAvailable = false ;
 
     /**
-     * Placed on GEOMETRIES that should not be picked by the hand (either grab or point pick)
+     * Placed on GEOMETRIES that should not be picked by the hand (either grab or point pick). May also be placed on
+     * nodes, in which case the hand's picks won't descend into that node at all.
      */
     public static String NO_PICK = "TAMARIN_NO_PICK";
 
@@ -106,6 +112,11 @@ public abstract class BoundHand{
 
     private Armature armature;
 
+    /**
+     * The armature with its joints already looked up, for applying the bone stances to each frame
+     */
+    private BoundArmature boundArmature;
+
     private final AssetManager assetManager;
 
 
@@ -151,7 +162,22 @@ public abstract class BoundHand{
 
     private final HandJoint wristName = HandJoint.WRIST_EXT;
 
-    private final Map<HandJoint, BonePose> boneStances = new HashMap<>();
+    private final HandSkeletonPose boneStances = new HandSkeletonPose();
+
+    /**
+     * Rotates from the OpenXR bone coordinate system to one with x pointing along the bone (differs by hand)
+     */
+    private final Quaternion coordinateStandardisingRotation = new Quaternion();
+
+    private final Vector3f tempVectorA = new Vector3f();
+    private final Vector3f tempVectorB = new Vector3f();
+    private final Vector3f tempVectorC = new Vector3f();
+    private final Quaternion tempQuaternionA = new Quaternion();
+    private final Quaternion tempQuaternionB = new Quaternion();
+
+    private final PickCache pickCache = new PickCache();
+
+    private PickFilter pickFilter = PickFilter.DEFAULT;
 
     public BoundHand(XrActionBaseAppState xrActionState, ActionHandle handPoseActionName, ActionHandle skeletonActionName, Spatial handGeometry, Armature armature, AssetManager assetManager, HandSide handSide){
         this.xrActionState = Objects.requireNonNull(xrActionState);
@@ -159,6 +185,7 @@ public abstract class BoundHand{
         this.handPoseActionName = handPoseActionName;
         this.skeletonActionName = skeletonActionName;
         this.armature = armature;
+        this.boundArmature = new BoundArmature(armature, BoneMappings.getBoneMappings(handSide));
         this.assetManager = assetManager;
         this.handSide = handSide;
         this.rawOpenXrPosition.attachChild(handNode_xPointing);
@@ -167,6 +194,16 @@ public abstract class BoundHand{
         this.palmPickPoints = List.of(new Vector3f(0,0,outOfPalm*(0.01f+palmPickSphereRadius)), new Vector3f(0.02f,-0.03f,outOfPalm*(0.01f+palmPickSphereRadius)), new Vector3f(0.03f,0.03f,outOfPalm*(0.005f+palmPickSphereRadius)), new Vector3f(-0.03f,0,outOfPalm*(0.01f+palmPickSphereRadius)));
 
         searchForGeometry(handGeometry).forEach(g -> g.setUserData(NO_PICK, true));
+        // so that picks don't descend into the (skinned) hand geometry at all
+        handGeometry.setUserData(NO_PICK, true);
+
+        if (handSide == HandSide.LEFT){
+            coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
+            coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_X));
+        }else{
+            coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
+            coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(-FastMath.HALF_PI, Vector3f.UNIT_X));
+        }
 
         Quaternion naturalRotation = new Quaternion();
         naturalRotation.fromAngleAxis(-0.5f* FastMath.PI, Vector3f.UNIT_X);
@@ -200,6 +237,8 @@ public abstract class BoundHand{
         geometryNode.detachAllChildren();
         geometryNode.attachChild(handGeometry);
         searchForGeometry(handGeometry).forEach(g -> g.setUserData(NO_PICK, true));
+        // so that picks don't descend into the (skinned) hand geometry at all
+        handGeometry.setUserData(NO_PICK, true);
 
         SkinningControl skinningControl = handGeometry.getControl(SkinningControl.class);
 
@@ -207,6 +246,7 @@ public abstract class BoundHand{
             throw new IllegalArgumentException("Hand geometry must have a SkinningControl");
         }
         this.armature = skinningControl.getArmature();
+        this.boundArmature = new BoundArmature(armature, BoneMappings.getBoneMappings(handSide));
     }
 
     /**
@@ -285,123 +325,171 @@ public abstract class BoundHand{
         return getFunctionOpt(function).orElseThrow();
     }
 
+    /**
+     * Map based version of {@link #update(float, HandSkeletonPose)}, any joints missing from the map keep their previous
+     * values.
+     */
     protected void update(float timeSlice, Map<HandJoint, BonePose> boneStances){
-        this.boneStances.putAll(boneStances);
+        HandSkeletonPose skeletonPose = new HandSkeletonPose();
+        skeletonPose.set(this.boneStances);
+        skeletonPose.set(boneStances);
+        update(timeSlice, skeletonPose);
+    }
+
+    protected void update(float timeSlice, HandSkeletonPose boneStances){
+        this.boneStances.set(boneStances);
 
-        updatePalm(timeSlice, boneStances);
-        updateFingerTips(boneStances);
-        updateWrist(boneStances);
+        updatePalm(timeSlice);
+        updateFingerTips();
+        updateWrist();
         functions.forEach(f -> f.update(timeSlice, this, xrActionState.getStateManager()));
 
-        updatePointingState(boneStances);
+        updatePointingState();
     }
 
     /**
      * Updates the hand to check if it's in a pointing arrangement;
      * fist with index finger outstretched, like when pressing a button
      */
-    private void updatePointingState(Map<HandJoint, BonePose> boneStances){
-        BonePose indexEnd = boneStances.get(indexEndName);
-        BonePose index2= boneStances.get(index2Name);
-        BonePose index1 = boneStances.get(index1Name);
-        BonePose indexMeta = boneStances.get(indexMetacarpalName);
-
-        BonePose ringEnd = boneStances.get(ringEndName);
-        BonePose ring2= boneStances.get(ring2Name);
-        BonePose ring1 = boneStances.get(ring1Name);
-        BonePose ringMeta = boneStances.get(ringMetacarpalName);
-
-        if (notNull(indexEnd, index2, index1, ringEnd, ring2, ring1, indexMeta, ringMeta)){
-            float ringFingerAlignment = ringEnd.position().subtract(ring2.position()).normalizeLocal().dot(ring1.position().subtract(ringMeta.position()).normalizeLocal());
-            float indexFingerAlignment = indexEnd.position().subtract(index2.position()).normalizeLocal().dot(index1.position().subtract(indexMeta.position()).normalizeLocal());
+    private void updatePointingState(){
+        if (boneStances.isPopulated()){
+            float ringFingerAlignment = fingerAlignment(ringEndName, ring2Name, ring1Name, ringMetacarpalName);
+            float indexFingerAlignment = fingerAlignment(indexEndName, index2Name, index1Name, indexMetacarpalName);
             handPointing = indexFingerAlignment > 0.85 && ringFingerAlignment < 0.8;
-
         }
     }
 
-    private void updateWrist( Map<HandJoint, BonePose> boneStances){
-        BonePose wrist = boneStances.get(wristName);
-        if (wrist!=null){
-            wristNode.setLocalTranslation(wrist.position());
-            wristNode.setLocalRotation(wrist.orientation());
+    /**
+     * The dot product of the direction of the end of the finger with the direction of the start of the finger
+     * (1 for a straight finger, less as it curls).
+     */
+    private float fingerAlignment(HandJoint end, HandJoint second, HandJoint first, HandJoint metacarpal){
+        Vector3f endDirection = boneStances.getPosition(end, tempVectorA).subtractLocal(boneStances.getPosition(second, tempVectorB)).normalizeLocal();
+        Vector3f startDirection = boneStances.getPosition(first, tempVectorB).subtractLocal(boneStances.getPosition(metacarpal, tempVectorC)).normalizeLocal();
+        return endDirection.dot(startDirection);
+    }
+
+    private void updateWrist(){
+        if (boneStances.isSet(wristName)){
+            wristNode.setLocalTranslation(boneStances.getPosition(wristName, tempVectorA));
+            wristNode.setLocalRotation(boneStances.getOrientation(wristName, tempQuaternionA));
         }
     }
 
-    private void updatePalm(float timeSlice, Map<HandJoint, BonePose> boneStances){
+    private void updatePalm(float timeSlice){
         //the palm node is put at the position between the finger_middle_0_l bone and finger_middle_meta_l, but with the
         // rotation of the finger_middle_meta_l bone. This gives roughly the position of a grab point, with a sensible rotation
 
-        BonePose metacarpel = boneStances.get(middleMetacarpalName);
-        BonePose proximal = boneStances.get(middleProximalName);
-        if (metacarpel != null){
-
-            Quaternion coordinateStandardisingRotation = new Quaternion();
-            if (handSide == HandSide.LEFT){
-                coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
-                coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_X));
-            }else{
-                coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
-                coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(-FastMath.HALF_PI, Vector3f.UNIT_X));
-            }
-
+        if (boneStances.isSet(middleProximalName) && boneStances.isSet(middleMetacarpalName)){
+            Vector3f proximalPosition = boneStances.getPosition(middleProximalName, tempVectorA);
+            Vector3f metacarpalPosition = boneStances.getPosition(middleMetacarpalName, tempVectorB);
+            palmNode_xPointing.setLocalTranslation(proximalPosition.addLocal(metacarpalPosition).multLocal(0.5f));
 
-            palmNode_xPointing.setLocalTranslation(proximal.position().add(metacarpel.position()).multLocal(0.5f));
-            palmNode_xPointing.setLocalRotation(metacarpel.orientation().mult(coordinateStandardisingRotation));
+            Quaternion metacarpalOrientation = boneStances.getOrientation(middleMetacarpalName, tempQuaternionA);
+            palmNode_xPointing.setLocalRotation(metacarpalOrientation.mult(coordinateStandardisingRotation, tempQuaternionB));
         }
     }
 
     /**
      * Gets the bone pose (in hand relative space)
      * @param joint the identifier for the joint
-     * @return the BonePose (might be null if hands not yet initialised)
+     * @return the BonePose (null if hands not yet initialised or the joint hasn't been reported)
      */
     public BonePose getBonePose(HandJoint joint){
-        return boneStances.get(joint);
+        if (!boneStances.isSet(joint)){
+            return null;
+        }
+        return boneStances.getBonePose(joint);
     }
 
     /**
      * Gets the bone pose (in jme world space)
      * @param joint the identifier for the joint
-     * @return the BonePose (might be null if hands not yet initialised)
+     * @return the BonePose (null if hands not yet initialised or the joint hasn't been reported)
      */
     public BonePose getBonePose_world(HandJoint joint){
-        BonePose basePose = getBonePose(joint);
-        if(basePose == null){
+        if (!boneStances.isSet(joint)){
             return null;
         }
-        Vector3f worldPosition = rawOpenXrPosition.localToWorld(basePose.position(), null);
-        Quaternion worldRotation = rawOpenXrPosition.getWorldRotation().mult(basePose.orientation());
-        return new BonePose(worldPosition, worldRotation, basePose.radius());
-    }
-
-    private void updateFingerTips(Map<HandJoint, BonePose> boneStances){
-        BonePose indexFingerTip = boneStances.get(indexEndName);
-        if (indexFingerTip!=null){
-            indexFingerTip_xPointing.setLocalTranslation(indexFingerTip.position());
-
-            Quaternion rotation = indexFingerTip.orientation();
-            Quaternion coordinateStandardisingRotation = new Quaternion();
-            if (handSide == HandSide.LEFT){
-                coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
-                coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_X));
-            }else{
-                coordinateStandardisingRotation.fromAngleAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
-                coordinateStandardisingRotation.multLocal(new Quaternion().fromAngleAxis(-FastMath.HALF_PI, Vector3f.UNIT_X));
-            }
+        return new BonePose(getBonePosition_world(joint, new Vector3f()), getBoneOrientation_world(joint, new Quaternion()), boneStances.getRadius(joint));
+    }
 
-            indexFingerTip_xPointing.setLocalRotation(rotation.mult(coordinateStandardisingRotation));
+    /**
+     * Gets the bone position (in jme world space) without allocating.
+     * @param joint the identifier for the joint
+     * @param store the vector to write the position into
+     * @return the store, or null if hands not yet initialised or the joint hasn't been reported
+     */
+    public Vector3f getBonePosition_world(HandJoint joint, Vector3f store){
+        if (!boneStances.isSet(joint)){
+            return null;
+        }
+        return rawOpenXrPosition.localToWorld(boneStances.getPosition(joint, store), store);
+    }
+
+    /**
+     * Gets the bone orientation (in jme world space) without allocating.
+     * @param joint the identifier for the joint
+     * @param store the quaternion to write the orientation into
+     * @return the store, or null if hands not yet initialised or the joint hasn't been reported
+     */
+    public Quaternion getBoneOrientation_world(HandJoint joint, Quaternion store){
+        if (!boneStances.isSet(joint)){
+            return null;
+        }
+        Quaternion boneOrientation = boneStances.getOrientation(joint, store);
+        return rawOpenXrPosition.getWorldRotation().mult(boneOrientation, store);
+    }
+
+    /**
+     * The most recent bone stances (in hand relative space). This is live and is refilled every frame so should
+     * be read, not modified or held on to.
+     */
+    public HandSkeletonPose getBoneStances(){
+        return boneStances;
+    }
+
+    private void updateFingerTips(){
+        if (boneStances.isSet(indexEndName)){
+            indexFingerTip_xPointing.setLocalTranslation(boneStances.getPosition(indexEndName, tempVectorA));
+
+            Quaternion rotation = boneStances.getOrientation(indexEndName, tempQuaternionA);
+            indexFingerTip_xPointing.setLocalRotation(rotation.mult(coordinateStandardisingRotation, tempQuaternionB));
         }
     }
 
     /**
      * Picks using a small sphere at the index finger tip (to catch if the index finger has been plunged into something)
+     * <p>
+     * The results are cached until the hand next moves (see {@link #invalidatePickCache()}) and must not be modified.
+     * </p>
      * @param nodeToPickAgainst the node that contains geometries to be picked from
      * @return the results
      */
     public CollisionResults pickIndexFingerTip(Spatial nodeToPickAgainst){
+        CollisionResults results = pickCache.getResults(PickCache.PickType.INDEX_FINGER_TIP, nodeToPickAgainst, pickFilter);
+        if(results == null){
+            results = new CollisionResults();
+            BoundingSphere sphere = new BoundingSphere(FINGER_PICK_SPHERE_RADIUS, indexFingerTip_xPointing.getWorldTranslation());
+            pickFilter.collideWith(nodeToPickAgainst, sphere, results);
+            pickCache.putResults(PickCache.PickType.INDEX_FINGER_TIP, nodeToPickAgainst, pickFilter, results);
+        }
+        return results;
+    }
+
+    /**
+     * As {@link #pickIndexFingerTip(Spatial)} but only colliding against the spatials with the control type that the
+     * interactable index says are near the finger tip
+     *
+     * @param nodeToPickAgainst only spatials within this node are picked
+     * @param interactableIndex the index of interactables
+     * @param controlType the type of control (e.g. {@link AbstractTouchControl}) that is being looked for
+     * @return the results
+     */
+    public CollisionResults pickIndexFingerTip(Spatial nodeToPickAgainst, InteractableIndex interactableIndex, Class<? extends AbstractControl> controlType){
         CollisionResults results = new CollisionResults();
         BoundingSphere sphere = new BoundingSphere(FINGER_PICK_SPHERE_RADIUS, indexFingerTip_xPointing.getWorldTranslation());
-        nodeToPickAgainst.collideWith(sphere, results);
+        interactableIndex.collideWith(controlType, sphere, nodeToPickAgainst, pickFilter, results);
         return results;
     }
 
@@ -409,22 +497,83 @@ public abstract class BoundHand{
      * Picks from a point just in front of the thumb (the point the getHandNode_zPointing() is at) in the direction
      * out away from the hand.
      * <p>
-     * Note that the geometry of the hand itself may be the first result from the pick but more reasonable pick results
-     * will follow. (These will have NO_PICK = true as userdata which can be used to ignore them)
+     * Geometries (and nodes) with NO_PICK = true as userdata (like the hand itself) are not picked against. What
+     * is picked against is also controlled by the hand's {@link #getPickFilter() pick filter}.
+     * <p>
+     * The results are cached until the hand next moves (see {@link #invalidatePickCache()}) and must not be modified.
+     * If only the first hit is needed {@link #pickBulkHandFirstHit} is faster.
+     * </p>
      *
      * @param nodeToPickAgainst node that is the parent of all things that can be picked. Probably the root node
      */
     public CollisionResults pickBulkHand(Node nodeToPickAgainst){
+        return pickBulkHand(nodeToPickAgainst, pickFilter);
+    }
+
+    /**
+     * As {@link #pickBulkHand(Node)} but with a different filter to the hand's usual {@link #getPickFilter() pick filter}
+     *
+     * @param nodeToPickAgainst node that is the parent of all things that can be picked. Probably the root node
+     * @param pickFilter controls which parts of the node can be hit and how far away
+     */
+    public CollisionResults pickBulkHand(Node nodeToPickAgainst, PickFilter pickFilter){
+        CollisionResults results = pickCache.getResults(PickCache.PickType.BULK_HAND, nodeToPickAgainst, pickFilter);
+        if(results == null){
+            results = new CollisionResults();
+            pickFilter.collideWith(nodeToPickAgainst, bulkHandRay(), results);
+            pickCache.putResults(PickCache.PickType.BULK_HAND, nodeToPickAgainst, pickFilter, results);
+        }
+        return results;
+    }
+
+    /**
+     * The same pick as {@link #pickBulkHand} but only returning the first hit that isn't {@link #NO_PICK} (which is
+     * what is usually wanted). Geometries further away than the best hit found so far are not collided against, so this
+     * is faster than picking everything along the ray.
+     *
+     * @param nodeToPickAgainst node that is the parent of all things that can be picked. Probably the root node
+     */
+    public Optional<CollisionResult> pickBulkHandFirstHit(Node nodeToPickAgainst){
+        if(pickCache.hasFirstHit(PickCache.PickType.BULK_HAND, nodeToPickAgainst, pickFilter)){
+            return pickCache.getFirstHit(PickCache.PickType.BULK_HAND, nodeToPickAgainst, pickFilter);
+        }
+        Optional<CollisionResult> firstHit = pickFilter.firstHit(nodeToPickAgainst, bulkHandRay());
+        pickCache.putFirstHit(PickCache.PickType.BULK_HAND, nodeToPickAgainst, pickFilter, firstHit);
+        return firstHit;
+    }
+
+    private Ray bulkHandRay(){
         Vector3f pickOrigin = getHandNode_xPointing().getWorldTranslation();
         Vector3f pickingPoint = getHandNode_xPointing().localToWorld(new Vector3f(1,0,0), null);
         Vector3f pickingVector = pickingPoint.subtract(pickOrigin);
         pickingVector.normalizeLocal();
-        CollisionResults results = new CollisionResults();
+        return new Ray(pickOrigin, pickingVector);
+    }
 
-        Ray ray = new Ray(pickOrigin, pickingVector);
+    /**
+     * Picks are cached until the hand next moves (as the same pick is often made several times a frame). If the scene
+     * has changed since and fresh results are needed call this to clear the cache.
+     * <p>
+     * This is called automatically every frame before the hand is moved.
+     * </p>
+     */
+    public void invalidatePickCache(){
+        pickCache.invalidate();
+    }
 
-        nodeToPickAgainst.collideWith(ray, results);
-        return results;
+    /**
+     * The filter applied to all this hand's picks (unless a pick is given its own filter)
+     */
+    public PickFilter getPickFilter(){
+        return pickFilter;
+    }
+
+    /**
+     * Sets the filter applied to all this hand's picks, this controls what pick layers can be hit and how far away
+     * ray picks can reach.
+     */
+    public void setPickFilter(PickFilter pickFilter){
+        this.pickFilter = Objects.requireNonNull(pickFilter);
     }
 
     /**
@@ -443,8 +592,8 @@ public abstract class BoundHand{
      * <p>
      * This can be used to detect what the palm is pointing at (which is rarely useful to be honest)
      * <p>
-     * Note that the geometry of the hand itself may be the first result from the pick but more reasonable pick results
-     * will follow. (These will have NO_PICK = true as userdata which can be used to ignore them)
+     * Geometries (and nodes) with NO_PICK = true as userdata (like the hand itself) are not picked against. What
+     * is picked against is also controlled by the hand's {@link #getPickFilter() pick filter}.
      * <p>
      * deprecated as intend to move towards the pickPalmSpheres method
      *
@@ -452,7 +601,12 @@ public abstract class BoundHand{
      */
     @Deprecated(forRemoval = true)
     public CollisionResults pickPalm(Node nodeToPickAgainst){
-        return pickPalm(nodeToPickAgainst, Vector3f.ZERO);
+        CollisionResults results = pickCache.getResults(PickCache.PickType.PALM, nodeToPickAgainst, pickFilter);
+        if(results == null){
+            results = pickPalm(nodeToPickAgainst, Vector3f.ZERO);
+            pickCache.putResults(PickCache.PickType.PALM, nodeToPickAgainst, pickFilter, results);
+        }
+        return results;
     }
 
     /**
@@ -460,8 +614,32 @@ public abstract class BoundHand{
      * infinite range but uses a series of spheres
      * <p>
      * This can be useful to use picking to determine what the player wishes to grab
+     * <p>
+     * The results are cached until the hand next moves (see {@link #invalidatePickCache()}) and must not be modified.
+     * </p>
      */
     public CollisionResults pickGrab(Node nodeToPickAgainst){
+        CollisionResults results = pickCache.getResults(PickCache.PickType.GRAB, nodeToPickAgainst, pickFilter);
+        if(results == null){
+            results = pickGrab((sphere, sphereResults) -> pickFilter.collideWith(nodeToPickAgainst, sphere, sphereResults));
+            pickCache.putResults(PickCache.PickType.GRAB, nodeToPickAgainst, pickFilter, results);
+        }
+        return results;
+    }
+
+    /**
+     * As {@link #pickGrab(Node)} but only colliding against the spatials with the control type that the interactable
+     * index says are near the palm
+     *
+     * @param nodeToPickAgainst only spatials within this node are picked
+     * @param interactableIndex the index of interactables
+     * @param controlType the type of control (e.g. {@link AbstractGrabControl}) that is being looked for
+     */
+    public CollisionResults pickGrab(Node nodeToPickAgainst, InteractableIndex interactableIndex, Class<? extends AbstractControl> controlType){
+        return pickGrab((sphere, results) -> interactableIndex.collideWith(controlType, sphere, nodeToPickAgainst, pickFilter, results));
+    }
+
+    private CollisionResults pickGrab(BiConsumer<BoundingSphere, CollisionResults> collider){
         Vector3f worldPickLocation = new Vector3f();
 
         CollisionResults overallResults = new CollisionResults();
@@ -469,7 +647,7 @@ public abstract class BoundHand{
             worldPickLocation = getPalmNode().localToWorld(pickPoint, worldPickLocation);
             CollisionResults results = new CollisionResults();
             BoundingSphere sphere = new BoundingSphere(palmPickSphereRadius, worldPickLocation);
-            nodeToPickAgainst.collideWith(sphere, results);
+            collider.accept(sphere, results);
             for(int i=0;i<results.size();i++){
                 CollisionResult result = results.getCollision(i);
                 Geometry geometry = result.getGeometry();
@@ -501,7 +679,7 @@ public abstract class BoundHand{
 
         Ray ray = new Ray(pickOrigin, pickingVector);
 
-        nodeToPickAgainst.collideWith(ray, results);
+        pickFilter.collideWith(nodeToPickAgainst, ray, results);
         return results;
     }
 
@@ -719,6 +897,20 @@ public abstract class BoundHand{
         return Optional.empty();
     }
 
+    /**
+     * Casts the ray against the node and returns the closest hit that is not marked as being {@link BoundHand#NO_PICK}.
+     * <p>
+     * Unlike collecting all the collisions and then using {@link #firstNonSkippedHit(CollisionResults)} this doesn't
+     * collide against spatials whose bounds are all further away than the closest hit found so far.
+     * </p>
+     * @param nodeToPickAgainst node that is the parent of all things that can be picked
+     * @param ray the ray to pick with
+     * @return the first hit
+     */
+    public static Optional<CollisionResult> firstNonSkippedHit(Spatial nodeToPickAgainst, Ray ray){
+        return PickFilter.DEFAULT.firstHit(nodeToPickAgainst, ray);
+    }
+
     /**
      * Returns the direction the hand is pointing (i.e. the direction the fingers would point if they aren't curled)
      * @return the bulkPointingDirection
@@ -779,6 +971,16 @@ public abstract class BoundHand{
         return xrActionState.getFloatActionState(actionHandle, getHandSide().restrictToInputString);
     }
 
+    /**
+     * As {@link #getFloatActionState(ActionHandle)} but for an action already resolved against this hand with
+     * {@link #resolveActionHandle(ActionHandle)}. Prefer this for actions that are queried every frame.
+     * @param actionHandle the resolved action
+     * @return the AnalogActionState that has details on if the state has changed, what the state is etc.
+     */
+    public FloatActionState getFloatActionState(ResolvedActionHandle actionHandle){
+        return xrActionState.getFloatActionState(actionHandle);
+    }
+
     /**
      * Triggers a haptic action (aka a vibration) restricted to just one input (e.g. left or right hand).
      * <p>
@@ -821,6 +1023,26 @@ public abstract class BoundHand{
         return xrActionState.getBooleanActionState(actionHandle, getHandSide().restrictToInputString);
     }
 
+    /**
+     * As {@link #getBooleanActionState(ActionHandle)} but for an action already resolved against this hand with
+     * {@link #resolveActionHandle(ActionHandle)}. Prefer this for actions that are queried every frame.
+     * @param actionHandle the resolved action
+     * @return the DigitalActionState that has details on if the state has changed, what the state is etc.
+     */
+    public BooleanActionState getBooleanActionState(ResolvedActionHandle actionHandle){
+        return xrActionState.getBooleanActionState(actionHandle);
+    }
+
+    /**
+     * Resolves the action restricted to this hand once, so functions that query it every frame can hold the result
+     * rather than looking the action up by name each time.
+     * @param actionHandle the handle for the action (just an object with the set name and action name)
+     * @return the resolved handle, for use with the ResolvedActionHandle versions of the action state methods
+     */
+    public ResolvedActionHandle resolveActionHandle(ActionHandle actionHandle){
+        return xrActionState.resolveActionHandle(actionHandle, getHandSide());
+    }
+
     /**
      * This is a node that sits near on the tip of the index finger whose +x points out way from the index
      * finger (and Y point up and Z points right if the hands are held with palms facing each other. This node sits inside
@@ -952,6 +1174,14 @@ public abstract class BoundHand{
         return armature;
     }
 
+    /**
+     * The armature with its joints bound to the {@link HandJoint}s (using the {@link BoneMappings} as they were when the
+     * armature was set).
+     */
+    public BoundArmature getBoundArmature(){
+        return boundArmature;
+    }
+
     public RotationalVelocity getRotationalVelocity_world(){
         return rotationalVelocity_world;
     }
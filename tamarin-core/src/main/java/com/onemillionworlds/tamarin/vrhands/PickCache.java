@@ -0,0 +1,123 @@
+package com.onemillionworlds.tamarin.vrhands;
+
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.scene.Spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Holds the results of the picks a {@link BoundHand} has made since it last moved, so that the same pick (of the same
+ * type against the same node with the same filter) made several times in a frame (e.g. by the pick marker, Lemur
+ * clicks and game code) only collides against the scene once.
+ * <p>
+ * A hand usually only makes a handful of different picks a frame so they are held in a list (and the entries reused
+ * between frames).
+ * </p>
+ */
+class PickCache{
+
+    enum PickType{
+        BULK_HAND,
+        PALM,
+        INDEX_FINGER_TIP,
+        GRAB
+    }
+
+    private final List<CachedPick> cachedPicks = new ArrayList<>(4);
+
+    /**
+     * The number of cachedPicks that are in use (the rest are old entries waiting to be reused)
+     */
+    private int numberInUse = 0;
+
+    /**
+     * @return the full results of the pick, or null if that pick hasn't been made since the cache was invalidated
+     */
+    CollisionResults getResults(PickType pickType, Spatial target, PickFilter pickFilter){
+        CachedPick cachedPick = find(pickType, target, pickFilter);
+        return cachedPick == null ? null : cachedPick.results;
+    }
+
+    void putResults(PickType pickType, Spatial target, PickFilter pickFilter, CollisionResults results){
+        findOrCreate(pickType, target, pickFilter).results = results;
+    }
+
+    /**
+     * If the first (not {@link BoundHand#NO_PICK}) hit of the pick is known. It is known if either the first hit or the
+     * full results have been put.
+     */
+    boolean hasFirstHit(PickType pickType, Spatial target, PickFilter pickFilter){
+        CachedPick cachedPick = find(pickType, target, pickFilter);
+        return cachedPick != null && (cachedPick.firstHit != null || cachedPick.results != null);
+    }
+
+    /**
+     * Only valid if {@link #hasFirstHit} is true
+     */
+    Optional<CollisionResult> getFirstHit(PickType pickType, Spatial target, PickFilter pickFilter){
+        CachedPick cachedPick = find(pickType, target, pickFilter);
+        if(cachedPick.firstHit == null){
+            cachedPick.firstHit = BoundHand.firstNonSkippedHit(cachedPick.results);
+        }
+        return cachedPick.firstHit;
+    }
+
+    void putFirstHit(PickType pickType, Spatial target, PickFilter pickFilter, Optional<CollisionResult> firstHit){
+        findOrCreate(pickType, target, pickFilter).firstHit = firstHit;
+    }
+
+    /**
+     * Forgets all the picks
+     */
+    void invalidate(){
+        for(int i = 0; i < numberInUse; i++){
+            cachedPicks.get(i).clear();
+        }
+        numberInUse = 0;
+    }
+
+    private CachedPick find(PickType pickType, Spatial target, PickFilter pickFilter){
+        for(int i = 0; i < numberInUse; i++){
+            CachedPick cachedPick = cachedPicks.get(i);
+            if(cachedPick.pickType == pickType && cachedPick.target == target && cachedPick.pickFilter.equals(pickFilter)){
+                return cachedPick;
+            }
+        }
+        return null;
+    }
+
+    private CachedPick findOrCreate(PickType pickType, Spatial target, PickFilter pickFilter){
+        CachedPick cachedPick = find(pickType, target, pickFilter);
+        if(cachedPick != null){
+            return cachedPick;
+        }
+        if(numberInUse == cachedPicks.size()){
+            cachedPicks.add(new CachedPick());
+        }
+        cachedPick = cachedPicks.get(numberInUse);
+        numberInUse++;
+        cachedPick.pickType = pickType;
+        cachedPick.target = target;
+        cachedPick.pickFilter = pickFilter;
+        return cachedPick;
+    }
+
+    private static class CachedPick{
+        PickType pickType;
+        Spatial target;
+        PickFilter pickFilter;
+        CollisionResults results;
+        Optional<CollisionResult> firstHit;
+
+        void clear(){
+            pickType = null;
+            target = null;
+            pickFilter = null;
+            results = null;
+            firstHit = null;
+        }
+    }
+}
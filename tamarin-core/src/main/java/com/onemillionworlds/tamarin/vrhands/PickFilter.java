@@ -0,0 +1,253 @@
+package com.onemillionworlds.tamarin.vrhands;
+
+import com.jme3.bounding.BoundingBox;
+import com.jme3.bounding.BoundingSphere;
+import com.jme3.bounding.BoundingVolume;
+import com.jme3.collision.Collidable;
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.FastMath;
+import com.jme3.math.Ray;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+
+import java.util.Optional;
+
+/**
+ * Controls what the {@link BoundHand} picks can hit.
+ * <p>
+ * Subtrees of the scene can be put on pick layers (see {@link #setPickLayers}), a subtree is only picked against if its
+ * layers share at least one bit with the filter's layer mask. Spatials without layers of their own take their parent's,
+ * and the root of a pick is on the {@link #DEFAULT_LAYER}.
+ * </p>
+ * <p>
+ * Rays are limited to the maximum distance (sphere picks are already local so the maximum distance doesn't apply to
+ * them).
+ * </p>
+ * <p>
+ * Subtrees that are excluded (by their layers or by being marked {@link BoundHand#NO_PICK}) and those whose bounds are
+ * out of range are not descended into at all. Layers are inherited down the tree as it is walked so each spatial's
+ * user data is read at most once per pick.
+ * </p>
+ * @param layerMask the layers that can be hit
+ * @param maximumDistance the furthest a ray pick can hit something
+ */
+public record PickFilter(int layerMask, float maximumDistance){
+
+    /**
+     * User data key for a spatial's pick layers (an int bitmask)
+     */
+    public static final String TAMARIN_PICK_LAYERS = "TAMARIN_PICK_LAYERS";
+
+    /**
+     * The layer of everything that hasn't been put on any other layers
+     */
+    public static final int DEFAULT_LAYER = 1;
+
+    public static final int ALL_LAYERS = ~0;
+
+    /**
+     * Picks everything (apart from NO_PICK geometries) at any range
+     */
+    public static final PickFilter DEFAULT = new PickFilter(ALL_LAYERS, Float.POSITIVE_INFINITY);
+
+    public PickFilter withLayerMask(int layerMask){
+        return new PickFilter(layerMask, maximumDistance);
+    }
+
+    public PickFilter withMaximumDistance(float maximumDistance){
+        return new PickFilter(layerMask, maximumDistance);
+    }
+
+    /**
+     * Puts the spatial (and all its children that don't have layers of their own) on the pick layers.
+     * <p>
+     * Note that if a subtree is excluded from a pick its children are not looked at, so giving a child layers that
+     * the parent doesn't have won't make the child pickable by a filter that excludes the parent.
+     * </p>
+     * @param spatial the root of the subtree
+     * @param layers a bitmask of the layers
+     */
+    public static void setPickLayers(Spatial spatial, int layers){
+        spatial.setUserData(TAMARIN_PICK_LAYERS, layers);
+    }
+
+    /**
+     * Removes the spatial's own pick layers (so it takes its parent's again)
+     */
+    public static void clearPickLayers(Spatial spatial){
+        spatial.setUserData(TAMARIN_PICK_LAYERS, null);
+    }
+
+    /**
+     * Marks (or unmarks) the spatial as {@link BoundHand#NO_PICK}
+     */
+    public static void setNoPick(Spatial spatial, boolean noPick){
+        spatial.setUserData(BoundHand.NO_PICK, noPick ? Boolean.TRUE : null);
+    }
+
+    /**
+     * Collides the collidable against the node, skipping anything this filter excludes
+     *
+     * @param nodeToPickAgainst the node that contains geometries to be picked from
+     * @param collidable the ray or bounding volume to pick with
+     * @param results the results, added to
+     * @return the number of collisions added
+     */
+    public int collideWith(Spatial nodeToPickAgainst, Collidable collidable, CollisionResults results){
+        return collideWith(nodeToPickAgainst, DEFAULT_LAYER, limitRay(collidable), results);
+    }
+
+    /**
+     * As {@link #collideWith(Spatial, Collidable, CollisionResults)} but only colliding against a part of the node.
+     * The layers (and NO_PICK) of the subtree's ancestors (up to the node being picked against) are respected.
+     *
+     * @param subtree the part of the node to collide against
+     * @param nodeToPickAgainst the node being picked against (which the subtree is within)
+     * @param collidable the ray or bounding volume to pick with
+     * @param results the results, added to
+     * @return the number of collisions added
+     */
+    public int collideWithSubtree(Spatial subtree, Spatial nodeToPickAgainst, Collidable collidable, CollisionResults results){
+        int inheritedLayers = DEFAULT_LAYER;
+        boolean layersFound = false;
+        Spatial ancestor = subtree == nodeToPickAgainst ? null : subtree.getParent();
+        while(ancestor != null){
+            if(Boolean.TRUE.equals(ancestor.getUserData(BoundHand.NO_PICK))){
+                return 0;
+            }
+            if(!layersFound){
+                Integer ancestorLayers = ancestor.getUserData(TAMARIN_PICK_LAYERS);
+                if(ancestorLayers != null){
+                    inheritedLayers = ancestorLayers;
+                    layersFound = true;
+                }
+            }
+            if(ancestor == nodeToPickAgainst){
+                break;
+            }
+            ancestor = ancestor.getParent();
+        }
+        if((inheritedLayers & layerMask) == 0){
+            return 0;
+        }
+        return collideWith(subtree, inheritedLayers, limitRay(collidable), results);
+    }
+
+    /**
+     * Casts the ray against the node and returns the closest hit this filter allows. Spatials whose bounds are all
+     * further away than the closest hit found so far aren't collided against.
+     *
+     * @param nodeToPickAgainst node that is the parent of all things that can be picked
+     * @param ray the ray to pick with
+     * @return the first hit
+     */
+    public Optional<CollisionResult> firstHit(Spatial nodeToPickAgainst, Ray ray){
+        NearestHitSearch search = new NearestHitSearch((Ray)limitRay(ray));
+        search.search(nodeToPickAgainst, DEFAULT_LAYER);
+        return Optional.ofNullable(search.nearestHit);
+    }
+
+    /**
+     * @return the layers the spatial is on, or 0 if the spatial (and so its subtree) should be skipped
+     */
+    private int resolveLayers(Spatial spatial, int inheritedLayers){
+        if(Boolean.TRUE.equals(spatial.getUserData(BoundHand.NO_PICK))){
+            return 0;
+        }
+        Integer ownLayers = spatial.getUserData(TAMARIN_PICK_LAYERS);
+        int layers = ownLayers == null ? inheritedLayers : ownLayers;
+        return (layers & layerMask) == 0 ? 0 : layers;
+    }
+
+    private int collideWith(Spatial spatial, int inheritedLayers, Collidable collidable, CollisionResults results){
+        int layers = resolveLayers(spatial, inheritedLayers);
+        if(layers == 0){
+            return 0;
+        }
+        BoundingVolume bound = spatial.getWorldBound();
+        if(bound == null || !inRange(bound, collidable)){
+            return 0;
+        }
+        if(spatial instanceof Node node){
+            int collisions = 0;
+            for(Spatial child : node.getChildren()){
+                collisions += collideWith(child, layers, collidable, results);
+            }
+            return collisions;
+        }
+        return spatial.collideWith(collidable, results);
+    }
+
+    private boolean inRange(BoundingVolume bound, Collidable collidable){
+        if(collidable instanceof Ray ray){
+            return bound.intersects(ray) && closestPossibleDistance(bound, ray) <= maximumDistance;
+        }
+        if(collidable instanceof BoundingVolume volume){
+            return bound.intersects(volume);
+        }
+        return true;
+    }
+
+    private Collidable limitRay(Collidable collidable){
+        if(collidable instanceof Ray ray && maximumDistance < ray.getLimit()){
+            Ray limitedRay = new Ray(ray.getOrigin(), ray.getDirection());
+            limitedRay.setLimit(maximumDistance);
+            return limitedRay;
+        }
+        return collidable;
+    }
+
+    /**
+     * A lower bound on the distance from the ray origin to anything within the bound
+     */
+    private static float closestPossibleDistance(BoundingVolume bound, Ray ray){
+        float centreDistance = bound.getCenter().distance(ray.getOrigin());
+        if(bound instanceof BoundingBox box){
+            return centreDistance - FastMath.sqrt(box.getXExtent() * box.getXExtent() + box.getYExtent() * box.getYExtent() + box.getZExtent() * box.getZExtent());
+        }
+        if(bound instanceof BoundingSphere sphere){
+            return centreDistance - sphere.getRadius();
+        }
+        return Float.NEGATIVE_INFINITY;
+    }
+
+    private class NearestHitSearch{
+        private final Ray ray;
+        private final CollisionResults geometryResults = new CollisionResults();
+        private CollisionResult nearestHit;
+        private float nearestDistance = maximumDistance;
+
+        NearestHitSearch(Ray ray){
+            this.ray = ray;
+        }
+
+        void search(Spatial spatial, int inheritedLayers){
+            int layers = resolveLayers(spatial, inheritedLayers);
+            if(layers == 0){
+                return;
+            }
+            BoundingVolume bound = spatial.getWorldBound();
+            if(bound == null || !bound.intersects(ray) || closestPossibleDistance(bound, ray) > nearestDistance){
+                return;
+            }
+            if(spatial instanceof Node node){
+                for(Spatial child : node.getChildren()){
+                    search(child, layers);
+                }
+            } else if(spatial instanceof Geometry){
+                geometryResults.clear();
+                spatial.collideWith(ray, geometryResults);
+                for(int i = 0; i < geometryResults.size(); i++){
+                    CollisionResult hit = geometryResults.getCollision(i);
+                    // hits with non finite distances (JME bug #2284) fail these comparisons so are never taken
+                    if(hit.getDistance() <= nearestDistance && (nearestHit == null || hit.getDistance() < nearestHit.getDistance())){
+                        nearestHit = hit;
+                        nearestDistance = hit.getDistance();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.jme3.app.SimpleApplication;
 import com.jme3.app.state.BaseAppState;
 import com.jme3.asset.AssetManager;
 import com.jme3.math.Vector3f;
+import com.jme3.renderer.RenderManager;
 import com.jme3.scene.Node;
 import com.jme3.scene.Spatial;
 import com.onemillionworlds.tamarin.actions.HandSide;
@@ -14,6 +15,7 @@ import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BonePose;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.lemursupport.VrLemurAppState;
@@ -73,6 +75,16 @@ public class VRHandsAppState extends BaseAppState{
      */
     private Optional<SkeletonSynthesiser> skeletonSynthesiser = Optional.empty();
 
+    /**
+     * Refilled for each hand in turn each frame (the BoundHand copies it into its own stances)
+     */
+    private final HandSkeletonPose boneStancesScratch = new HandSkeletonPose();
+
+    /**
+     * If the hands are moved to a fresh prediction of their poses just before rendering
+     */
+    private boolean lateLatchHandPoses = false;
+
     /**
      * This constructor allows for bound hands to be created as soon as the state has initialised.
      * <p>
@@ -116,6 +128,28 @@ public class VRHandsAppState extends BaseAppState{
         }
     }
 
+    /**
+     * If enabled the hand poses are located again just before rendering (after all the app states have updated) and the
+     * hands are moved to them. This reduces the latency between real hand movement and the rendered hands on frames
+     * with a lot of update work.
+     * <p>
+     * Only the hands themselves (and things attached to them) are moved; game logic (including picking, grabbing and the
+     * hand velocities) still uses the poses from the update. So something held by game logic rather than attached to the
+     * hand may appear very slightly offset from it.
+     * </p>
+     * <p>
+     * Has no effect if the action state doesn't support relocating poses.
+     * </p>
+     * @param lateLatchHandPoses if the hands should be late latched
+     */
+    public void setLateLatchHandPoses(boolean lateLatchHandPoses){
+        this.lateLatchHandPoses = lateLatchHandPoses;
+    }
+
+    public boolean isLateLatchHandPoses(){
+        return lateLatchHandPoses;
+    }
+
     public void setSkeletonSynthesiser(SkeletonSynthesiser skeletonSynthesiser){
         this.skeletonSynthesiser = Optional.ofNullable(skeletonSynthesiser);
         if (skeletonSynthesiser!=null){
@@ -158,6 +192,7 @@ public class VRHandsAppState extends BaseAppState{
             List<BoundHand> handControlsWithActiveClimbs = new ArrayList<>();
 
             for(BoundHand boundHand : handControls){
+                boundHand.invalidatePickCache();
                 Optional<PoseActionState> poseOpt = actionState.getPose_worldRelative(boundHand.getHandPoseActionName(), boundHand.getHandSide());
                 poseOpt.ifPresent(pose -> {
                     boundHand.getRawOpenVrNode().setLocalRotation(pose.orientation());
@@ -165,15 +200,15 @@ public class VRHandsAppState extends BaseAppState{
                     boundHand.updateVelocityData(pose.velocity(), new RotationalVelocity(pose.angularVelocity()));
                 });
 
-                Optional<Map<HandJoint, BonePose>> boneStancesOpt = getOrSynthesiseBonePositions(boundHand);
-
-                boneStancesOpt.ifPresent(boneStances -> {
-                    boundHand.update(tpf, boneStances);
-                    XrActionBaseAppState.updateHandSkeletonPositions(boundHand.getArmature(), boneStances, BoneMappings.getBoneMappings(boundHand.getHandSide()));
+                // start from the hand's previous stances so any joints a source doesn't provide are left as they were
+                boneStancesScratch.set(boundHand.getBoneStances());
+                if(getOrSynthesiseBonePositions(boundHand, boneStancesScratch)){
+                    boundHand.update(tpf, boneStancesScratch);
+                    boundHand.getBoundArmature().apply(boneStancesScratch);
                     if(boundHand.getFunctionOpt(ClimbSupport.class).filter(cs -> cs.getGrabStartPosition() != null).isPresent()){
                         handControlsWithActiveClimbs.add(boundHand);
                     }
-                });
+                }
             }
 
             if(!handControlsWithActiveClimbs.isEmpty()){
@@ -186,6 +221,26 @@ public class VRHandsAppState extends BaseAppState{
         }
     }
 
+    @Override
+    public void render(RenderManager renderManager){
+        super.render(renderManager);
+        if(lateLatchHandPoses && isEnabled() && !handControls.isEmpty() && actionState.relocatePoses()){
+            for(BoundHand boundHand : handControls){
+                actionState.getPose_worldRelative(boundHand.getHandPoseActionName(), boundHand.getHandSide()).ifPresent(pose -> {
+                    boundHand.getRawOpenVrNode().setLocalRotation(pose.orientation());
+                    boundHand.getRawOpenVrNode().setLocalTranslation(pose.position());
+                });
+            }
+            // the scene graph has already been updated for this frame so the moved hands must be brought up to date
+            // (only the changed branch is walked)
+            Spatial sceneRoot = rootNodeDelegate;
+            while(sceneRoot.getParent() != null){
+                sceneRoot = sceneRoot.getParent();
+            }
+            sceneRoot.updateGeometricState();
+        }
+    }
+
     /**
      * @deprecated Use {@link #getOrSynthesiseBonePositions}
      */
@@ -212,24 +267,41 @@ public class VRHandsAppState extends BaseAppState{
      * @return the bone positions
      */
     public Optional<Map<HandJoint, BonePose>> getOrSynthesiseBonePositions(BoundHand boundHand){
+        HandSkeletonPose boneStances = new HandSkeletonPose();
+        if(getOrSynthesiseBonePositions(boundHand, boneStances)){
+            return Optional.of(boneStances.toMap());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * As {@link #getOrSynthesiseBonePositions(BoundHand)} but writes the bone positions into the passed skeleton
+     * pose (which can be reused frame to frame).
+     *
+     * @param boundHand the hand to read joint positions for
+     * @param store the skeleton pose to write the bone positions into
+     * @return true if bone positions were obtained (false if the actions aren't ready yet)
+     */
+    public boolean getOrSynthesiseBonePositions(BoundHand boundHand, HandSkeletonPose store){
         if(!actionState.isReady()){
-            return Optional.empty();
+            return false;
         }
 
         if(skeletonSynthesiser.isPresent() && skeletonSynthesiser.get().getSynthesiseMode() == SkeletonSynthesiser.SynthesiseMode.ALWAYS_SYNTHESISE){
-            return Optional.of(skeletonSynthesiser.get().synthesiseBonePositions(boundHand));
+            skeletonSynthesiser.get().synthesiseBonePositions(boundHand, store);
+            return true;
         }
 
         if(xrAppState.checkExtensionLoaded("XR_EXT_hand_tracking")){ // EXTHandTracking.XR_EXT_HAND_TRACKING_EXTENSION_NAME
-            Optional<Map<HandJoint, BonePose>> skeleton = actionState.getSkeleton(boundHand.getSkeletonActionName(), boundHand.getHandSide());
-            if(skeleton.isPresent()){
-                return skeleton;
+            if(actionState.getSkeleton(boundHand.getSkeletonActionName(), boundHand.getHandSide(), store)){
+                return true;
             }
         }
 
         if(skeletonSynthesiser.isPresent()){
             singleOccurrenceLog.info("Real bone positions not available, using skeletonSynthesiser to simulate");
-            return Optional.of(skeletonSynthesiser.get().synthesiseBonePositions(boundHand));
+            skeletonSynthesiser.get().synthesiseBonePositions(boundHand, store);
+            return true;
         }
 
         Optional<Float> grabStrengthOpt = boundHand.getFunctionOpt(GrabPickingFunction.class)
@@ -246,7 +318,8 @@ public class VRHandsAppState extends BaseAppState{
         //real hand tracking is not available, so we need to synthesise it
         float grabStrength = grabStrengthOpt.orElse(0f);
 
-        return Optional.of(SimpleSyntheticBonePositions.synthesizeBonePositions(boundHand.getHandSide(), grabStrength));
+        SimpleSyntheticBonePositions.synthesizeBonePositions(boundHand.getHandSide(), grabStrength, store);
+        return true;
 
     }
 
@@ -0,0 +1,410 @@
+package com.onemillionworlds.tamarin.vrhands.broadphase;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dynamic bounding volume hierarchy of axis aligned boxes (the same approach as Box2D's dynamic tree). Each leaf
+ * (proxy) is stored with a "fat" box that is slightly larger than the box it was given so that small movements don't
+ * require the tree to be changed at all. When a proxy does move outside its fat box it is removed and reinserted, and
+ * the tree is kept balanced with rotations as that happens.
+ * <p>
+ * Nodes are held in parallel primitive arrays (indexed by node id) so moving and querying doesn't allocate.
+ * </p>
+ * <p>
+ * Not thread safe.
+ * </p>
+ */
+class DynamicAabbTree<T>{
+
+    static final int NULL_NODE = -1;
+
+    private static final int MIN_X = 0;
+    private static final int MIN_Y = 1;
+    private static final int MIN_Z = 2;
+    private static final int MAX_X = 3;
+    private static final int MAX_Y = 4;
+    private static final int MAX_Z = 5;
+    private static final int FLOATS_PER_BOX = 6;
+
+    /**
+     * How much bigger than its actual box a proxy's fat box is, in all directions
+     */
+    private final float margin;
+
+    private int root = NULL_NODE;
+
+    private float[] boxes;
+    /**
+     * For nodes in the free list this is the next free node instead
+     */
+    private int[] parents;
+    private int[] child1s;
+    private int[] child2s;
+    /**
+     * 0 for leaves, -1 for free nodes
+     */
+    private int[] heights;
+    private Object[] userData;
+
+    private int nodeCount = 0;
+    private int freeList = NULL_NODE;
+
+    private int[] queryStack = new int[64];
+
+    DynamicAabbTree(float margin){
+        this.margin = margin;
+        allocateArrays(16);
+    }
+
+    /**
+     * Adds a proxy for an object with the given box
+     * @return the proxy id, used to move or remove it
+     */
+    int createProxy(float[] box, T data){
+        int proxy = allocateNode();
+        int offset = proxy * FLOATS_PER_BOX;
+        for(int i = 0; i < 3; i++){
+            boxes[offset + i] = box[i] - margin;
+            boxes[offset + 3 + i] = box[3 + i] + margin;
+        }
+        userData[proxy] = data;
+        heights[proxy] = 0;
+        insertLeaf(proxy);
+        return proxy;
+    }
+
+    void destroyProxy(int proxy){
+        removeLeaf(proxy);
+        freeNode(proxy);
+    }
+
+    /**
+     * Updates the box of a proxy. If it is still within the proxy's fat box nothing changes
+     *
+     * @return true if the proxy was reinserted
+     */
+    boolean moveProxy(int proxy, float[] box){
+        int offset = proxy * FLOATS_PER_BOX;
+        if(boxes[offset + MIN_X] <= box[MIN_X] && boxes[offset + MIN_Y] <= box[MIN_Y] && boxes[offset + MIN_Z] <= box[MIN_Z]
+                && boxes[offset + MAX_X] >= box[MAX_X] && boxes[offset + MAX_Y] >= box[MAX_Y] && boxes[offset + MAX_Z] >= box[MAX_Z]){
+            return false;
+        }
+        removeLeaf(proxy);
+        for(int i = 0; i < 3; i++){
+            boxes[offset + i] = box[i] - margin;
+            boxes[offset + 3 + i] = box[3 + i] + margin;
+        }
+        insertLeaf(proxy);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    T getUserData(int proxy){
+        return (T)userData[proxy];
+    }
+
+    /**
+     * Adds to the store the data of every proxy whose fat box overlaps the box
+     */
+    @SuppressWarnings("unchecked")
+    void query(float[] box, List<T> store){
+        if(root == NULL_NODE){
+            return;
+        }
+        int stackSize = 0;
+        queryStack[stackSize++] = root;
+        while(stackSize > 0){
+            int node = queryStack[--stackSize];
+            if(!overlaps(node, box)){
+                continue;
+            }
+            if(isLeaf(node)){
+                store.add((T)userData[node]);
+            } else{
+                if(stackSize + 2 > queryStack.length){
+                    queryStack = Arrays.copyOf(queryStack, queryStack.length * 2);
+                }
+                queryStack[stackSize++] = child1s[node];
+                queryStack[stackSize++] = child2s[node];
+            }
+        }
+    }
+
+    /**
+     * The height of the tree (0 if it is empty or contains a single proxy)
+     */
+    int getHeight(){
+        return root == NULL_NODE ? 0 : heights[root];
+    }
+
+    private boolean overlaps(int node, float[] box){
+        int offset = node * FLOATS_PER_BOX;
+        return boxes[offset + MIN_X] <= box[MAX_X] && boxes[offset + MAX_X] >= box[MIN_X]
+                && boxes[offset + MIN_Y] <= box[MAX_Y] && boxes[offset + MAX_Y] >= box[MIN_Y]
+                && boxes[offset + MIN_Z] <= box[MAX_Z] && boxes[offset + MAX_Z] >= box[MIN_Z];
+    }
+
+    private boolean isLeaf(int node){
+        return child1s[node] == NULL_NODE;
+    }
+
+    private void allocateArrays(int capacity){
+        int oldCapacity = parents == null ? 0 : parents.length;
+        boxes = boxes == null ? new float[capacity * FLOATS_PER_BOX] : Arrays.copyOf(boxes, capacity * FLOATS_PER_BOX);
+        parents = parents == null ? new int[capacity] : Arrays.copyOf(parents, capacity);
+        child1s = child1s == null ? new int[capacity] : Arrays.copyOf(child1s, capacity);
+        child2s = child2s == null ? new int[capacity] : Arrays.copyOf(child2s, capacity);
+        heights = heights == null ? new int[capacity] : Arrays.copyOf(heights, capacity);
+        userData = userData == null ? new Object[capacity] : Arrays.copyOf(userData, capacity);
+
+        // the new nodes all go on the free list
+        for(int i = oldCapacity; i < capacity - 1; i++){
+            parents[i] = i + 1;
+            heights[i] = -1;
+        }
+        parents[capacity - 1] = NULL_NODE;
+        heights[capacity - 1] = -1;
+        freeList = oldCapacity;
+    }
+
+    private int allocateNode(){
+        if(freeList == NULL_NODE){
+            allocateArrays(parents.length * 2);
+        }
+        int node = freeList;
+        freeList = parents[node];
+        parents[node] = NULL_NODE;
+        child1s[node] = NULL_NODE;
+        child2s[node] = NULL_NODE;
+        heights[node] = 0;
+        userData[node] = null;
+        nodeCount++;
+        return node;
+    }
+
+    private void freeNode(int node){
+        parents[node] = freeList;
+        heights[node] = -1;
+        userData[node] = null;
+        freeList = node;
+        nodeCount--;
+    }
+
+    private void insertLeaf(int leaf){
+        if(root == NULL_NODE){
+            root = leaf;
+            parents[root] = NULL_NODE;
+            return;
+        }
+
+        // find the best sibling for the new leaf, by surface area cost
+        int index = root;
+        while(!isLeaf(index)){
+            int child1 = child1s[index];
+            int child2 = child2s[index];
+
+            float area = surfaceArea(index);
+            float combinedArea = combinedSurfaceArea(index, leaf);
+
+            // the cost of creating a new parent for this node and the new leaf
+            float cost = 2 * combinedArea;
+            // the minimum cost of pushing the leaf further down the tree
+            float inheritanceCost = 2 * (combinedArea - area);
+
+            float cost1 = descendCost(child1, leaf, inheritanceCost);
+            float cost2 = descendCost(child2, leaf, inheritanceCost);
+
+            if(cost < cost1 && cost < cost2){
+                break;
+            }
+            index = cost1 < cost2 ? child1 : child2;
+        }
+
+        int sibling = index;
+
+        // create a new parent for the sibling and the leaf (this may grow the arrays)
+        int oldParent = parents[sibling];
+        int newParent = allocateNode();
+        parents[newParent] = oldParent;
+        union(leaf, sibling, newParent);
+        heights[newParent] = heights[sibling] + 1;
+
+        if(oldParent != NULL_NODE){
+            replaceChild(oldParent, sibling, newParent);
+        } else{
+            root = newParent;
+        }
+        child1s[newParent] = sibling;
+        child2s[newParent] = leaf;
+        parents[sibling] = newParent;
+        parents[leaf] = newParent;
+
+        refitAncestors(parents[leaf]);
+    }
+
+    private float descendCost(int child, int leaf, float inheritanceCost){
+        if(isLeaf(child)){
+            return combinedSurfaceArea(child, leaf) + inheritanceCost;
+        }
+        return combinedSurfaceArea(child, leaf) - surfaceArea(child) + inheritanceCost;
+    }
+
+    private void removeLeaf(int leaf){
+        if(leaf == root){
+            root = NULL_NODE;
+            return;
+        }
+
+        int parent = parents[leaf];
+        int grandParent = parents[parent];
+        int sibling = child1s[parent] == leaf ? child2s[parent] : child1s[parent];
+
+        if(grandParent != NULL_NODE){
+            // destroy the parent and connect the sibling to the grandparent
+            replaceChild(grandParent, parent, sibling);
+            parents[sibling] = grandParent;
+            freeNode(parent);
+            refitAncestors(grandParent);
+        } else{
+            root = sibling;
+            parents[sibling] = NULL_NODE;
+            freeNode(parent);
+        }
+    }
+
+    /**
+     * Walks up from the node to the root, rebalancing and recalculating the heights and boxes
+     */
+    private void refitAncestors(int node){
+        int index = node;
+        while(index != NULL_NODE){
+            index = balance(index);
+
+            int child1 = child1s[index];
+            int child2 = child2s[index];
+            heights[index] = 1 + Math.max(heights[child1], heights[child2]);
+            union(child1, child2, index);
+
+            index = parents[index];
+        }
+    }
+
+    private void replaceChild(int parent, int oldChild, int newChild){
+        if(child1s[parent] == oldChild){
+            child1s[parent] = newChild;
+        } else{
+            child2s[parent] = newChild;
+        }
+    }
+
+    /**
+     * If the node is imbalanced (its children's heights differ by more than 1) rotates the taller child up.
+     *
+     * @return the node now in the position the node was in
+     */
+    private int balance(int a){
+        if(isLeaf(a) || heights[a] < 2){
+            return a;
+        }
+
+        int b = child1s[a];
+        int c = child2s[a];
+
+        int balance = heights[c] - heights[b];
+
+        if(balance > 1){
+            rotateUp(a, c, b, false);
+            return c;
+        }
+        if(balance < -1){
+            rotateUp(a, b, c, true);
+            return b;
+        }
+        return a;
+    }
+
+    /**
+     * Moves the tall child up into the node's position, the node becomes a child of the tall child, taking the shorter
+     * of the tall child's children
+     *
+     * @param tallIsChild1 if the tall child is child1 of the node
+     */
+    private void rotateUp(int node, int tall, int other, boolean tallIsChild1){
+        int tallChild1 = child1s[tall];
+        int tallChild2 = child2s[tall];
+
+        // swap the node and the tall child
+        child1s[tall] = node;
+        parents[tall] = parents[node];
+        parents[node] = tall;
+
+        if(parents[tall] != NULL_NODE){
+            replaceChild(parents[tall], node, tall);
+        } else{
+            root = tall;
+        }
+
+        // the taller grandchild stays with the tall child, the shorter one moves to the node
+        int keep;
+        int move;
+        if(heights[tallChild1] > heights[tallChild2]){
+            keep = tallChild1;
+            move = tallChild2;
+        } else{
+            keep = tallChild2;
+            move = tallChild1;
+        }
+        child2s[tall] = keep;
+        if(tallIsChild1){
+            child1s[node] = move;
+        } else{
+            child2s[node] = move;
+        }
+        parents[move] = node;
+
+        union(other, move, node);
+        union(node, keep, tall);
+        heights[node] = 1 + Math.max(heights[other], heights[move]);
+        heights[tall] = 1 + Math.max(heights[node], heights[keep]);
+    }
+
+    private void union(int a, int b, int store){
+        int aOffset = a * FLOATS_PER_BOX;
+        int bOffset = b * FLOATS_PER_BOX;
+        int storeOffset = store * FLOATS_PER_BOX;
+        for(int i = 0; i < 3; i++){
+            boxes[storeOffset + i] = Math.min(boxes[aOffset + i], boxes[bOffset + i]);
+            boxes[storeOffset + 3 + i] = Math.max(boxes[aOffset + 3 + i], boxes[bOffset + 3 + i]);
+        }
+    }
+
+    /**
+     * Half the surface area (only ever compared so the factor of 2 is left off)
+     */
+    private float surfaceArea(int node){
+        int offset = node * FLOATS_PER_BOX;
+        return surfaceArea(
+                boxes[offset + MAX_X] - boxes[offset + MIN_X],
+                boxes[offset + MAX_Y] - boxes[offset + MIN_Y],
+                boxes[offset + MAX_Z] - boxes[offset + MIN_Z]);
+    }
+
+    private float combinedSurfaceArea(int a, int b){
+        int aOffset = a * FLOATS_PER_BOX;
+        int bOffset = b * FLOATS_PER_BOX;
+        return surfaceArea(
+                Math.max(boxes[aOffset + MAX_X], boxes[bOffset + MAX_X]) - Math.min(boxes[aOffset + MIN_X], boxes[bOffset + MIN_X]),
+                Math.max(boxes[aOffset + MAX_Y], boxes[bOffset + MAX_Y]) - Math.min(boxes[aOffset + MIN_Y], boxes[bOffset + MIN_Y]),
+                Math.max(boxes[aOffset + MAX_Z], boxes[bOffset + MAX_Z]) - Math.min(boxes[aOffset + MIN_Z], boxes[bOffset + MIN_Z]));
+    }
+
+    private static float surfaceArea(float xExtent, float yExtent, float zExtent){
+        return xExtent * yExtent + yExtent * zExtent + zExtent * xExtent;
+    }
+
+    int getProxyCount(){
+        // every internal node has two children so there is one fewer internal node than leaves
+        return root == NULL_NODE ? 0 : (nodeCount + 1) / 2;
+    }
+}
@@ -0,0 +1,369 @@
+package com.onemillionworlds.tamarin.vrhands.broadphase;
+
+import com.jme3.app.Application;
+import com.jme3.app.SimpleApplication;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.bounding.BoundingBox;
+import com.jme3.bounding.BoundingSphere;
+import com.jme3.bounding.BoundingVolume;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.control.AbstractControl;
+import com.onemillionworlds.tamarin.vrhands.PickFilter;
+import com.onemillionworlds.tamarin.vrhands.grabbing.AbstractGrabControl;
+import com.onemillionworlds.tamarin.vrhands.touching.AbstractTouchControl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps track of where the spatials with Tamarin interaction controls ({@link AbstractTouchControl} and
+ * {@link AbstractGrabControl}) are so that the hands can find the few that are near a fingertip or palm without
+ * colliding against the whole scene.
+ * <p>
+ * The world bounds of those spatials are held in a dynamic bounding volume hierarchy, which is refreshed (at most) once
+ * a frame, the first time it is queried. Spatials that move only a little don't change the hierarchy at all.
+ * </p>
+ * <p>
+ * This is optional, if it is attached the {@link com.onemillionworlds.tamarin.vrhands.functions.PressFunction} and
+ * {@link com.onemillionworlds.tamarin.vrhands.functions.GrabPickingFunction} will use it, otherwise they will collide
+ * against the whole node they were given. Note that if Lemur is available the PressFunction will still pick against
+ * the whole node (as it needs those results for Lemur's controls).
+ * </p>
+ * <p>
+ * Only controls whose spatial is attached to one of the indexed roots (by default the application's root node) are
+ * indexed. The index doesn't search the scene for them: the touch and grab controls tell every index when they are
+ * added to (or removed from) a spatial, and each refresh only looks at those controls, moving them in the hierarchy if
+ * their world bounds have changed. The first refresh also walks the indexed roots once to find any controls that were
+ * added before the index was created. If controls were added to spatials before the index was created, but those
+ * spatials are only attached to an indexed root after its first refresh, call {@link #reindex()}.
+ * </p>
+ */
+public class InteractableIndex extends BaseAppState{
+
+    public static final String ID = "InteractableIndex";
+
+    /**
+     * How much larger (in all directions) the boxes held in the hierarchy are than the spatial's actual bounds, so
+     * that small movements don't require the hierarchy to be updated. In metres.
+     */
+    public static final float DEFAULT_BOUNDS_MARGIN = 0.05f;
+
+    /**
+     * The indexes that the controls tell when they are added to or removed from a spatial. Held weakly so an index
+     * that is never attached (or cleaned up) isn't kept alive. Synchronized as controls may be added to spatials that
+     * are being built on another thread.
+     */
+    private static final Set<InteractableIndex> listeningIndexes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private Node[] indexedRoots;
+
+    private final DynamicAabbTree<AbstractControl> tree;
+
+    /**
+     * Every control this index has been told about (whether or not its spatial is currently under an indexed root).
+     * Weak so that controls on spatials that are detached and thrown away aren't kept alive.
+     */
+    private final Map<AbstractControl, IndexedControl> trackedControls = new WeakHashMap<>();
+
+    /**
+     * Controls whose spatial has changed since the last refresh (possibly off the render thread)
+     */
+    private final Queue<AbstractControl> changedControls = new ConcurrentLinkedQueue<>();
+
+    private int indexedCount = 0;
+
+    private boolean rootsWalked = false;
+
+    private boolean stale = true;
+
+    private final float[] scratchBox = new float[6];
+    private final List<AbstractControl> candidateControls = new ArrayList<>();
+    private final List<Spatial> candidateSpatials = new ArrayList<>();
+    private final Set<Spatial> candidateSpatialSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Indexes the interactables attached to the application's root node
+     */
+    public InteractableIndex(){
+        this(DEFAULT_BOUNDS_MARGIN);
+    }
+
+    /**
+     * @param indexedRoots the nodes whose interactables should be indexed (if none are given the application's root
+     *                     node is indexed)
+     */
+    public InteractableIndex(Node... indexedRoots){
+        this(DEFAULT_BOUNDS_MARGIN, indexedRoots);
+    }
+
+    /**
+     * @param boundsMargin how much larger (in all directions, in metres) the boxes held are than the spatials' actual
+     *                     bounds. Larger margins mean the boxes need moving less often but more candidates are
+     *                     collided against
+     * @param indexedRoots the nodes whose interactables should be indexed (if none are given the application's root
+     *                     node is indexed)
+     */
+    public InteractableIndex(float boundsMargin, Node... indexedRoots){
+        super(ID);
+        this.tree = new DynamicAabbTree<>(boundsMargin);
+        this.indexedRoots = indexedRoots.length == 0 ? null : indexedRoots;
+        listeningIndexes.add(this);
+    }
+
+    /**
+     * Called by the touch and grab controls whenever they are added to (or removed from) a spatial
+     */
+    public static void controlSpatialChanged(AbstractControl control){
+        synchronized(listeningIndexes){
+            for(InteractableIndex index : listeningIndexes){
+                index.changedControls.add(control);
+            }
+        }
+    }
+
+    /**
+     * Walks the indexed roots again (on the next refresh) looking for controls. Only needed for controls that were
+     * added to their spatials before this index was created, and attached to an indexed root after its first refresh.
+     */
+    public void reindex(){
+        rootsWalked = false;
+        stale = true;
+    }
+
+    @Override
+    protected void initialize(Application app){
+        if(indexedRoots == null){
+            indexedRoots = new Node[]{((SimpleApplication)app).getRootNode()};
+        }
+    }
+
+    @Override
+    protected void cleanup(Application app){
+        listeningIndexes.remove(this);
+        for(IndexedControl indexedControl : trackedControls.values()){
+            removeFromTree(indexedControl);
+        }
+        trackedControls.clear();
+        changedControls.clear();
+    }
+
+    @Override
+    protected void onEnable(){}
+
+    @Override
+    protected void onDisable(){}
+
+    @Override
+    public void update(float tpf){
+        super.update(tpf);
+        stale = true;
+    }
+
+    /**
+     * Collides the bounding volume against those spatials (within the node) that have a control of the requested type
+     * and whose bounds are near the bounding volume. Other spatials are not collided against at all.
+     * <p>
+     * If spatials with a control of the type are nested only the outermost one is collided against (which will find the
+     * inner ones' geometries as well).
+     * </p>
+     *
+     * @param controlType the type of control the spatials must have
+     * @param collidable the volume to collide with (e.g. a sphere at a fingertip)
+     * @param within only spatials that are this or are attached (directly or indirectly) to this are collided against
+     * @param pickFilter the filter to apply to the spatials' subtrees (and their ancestors up to within)
+     * @param results the collision results, added to
+     * @return the number of collisions added
+     */
+    public int collideWith(Class<? extends AbstractControl> controlType, BoundingVolume collidable, Spatial within, PickFilter pickFilter, CollisionResults results){
+        refreshIfStale();
+
+        toBox(collidable, scratchBox);
+        candidateControls.clear();
+        tree.query(scratchBox, candidateControls);
+
+        for(AbstractControl control : candidateControls){
+            Spatial spatial = control.getSpatial();
+            if(controlType.isInstance(control) && spatial != null && isWithin(spatial, within) && candidateSpatialSet.add(spatial)){
+                candidateSpatials.add(spatial);
+            }
+        }
+
+        int collisions = 0;
+        for(Spatial spatial : candidateSpatials){
+            if(!hasAncestorIn(spatial, candidateSpatialSet)){
+                collisions += pickFilter.collideWithSubtree(spatial, within, collidable, results);
+            }
+        }
+        candidateControls.clear();
+        candidateSpatials.clear();
+        candidateSpatialSet.clear();
+        return collisions;
+    }
+
+    /**
+     * The number of controls currently held in the index
+     */
+    public int getIndexedCount(){
+        refreshIfStale();
+        return indexedCount;
+    }
+
+    private void refreshIfStale(){
+        if(!stale){
+            return;
+        }
+        stale = false;
+        if(!rootsWalked){
+            rootsWalked = true;
+            for(Node root : indexedRoots){
+                trackSubtree(root);
+            }
+        }
+        AbstractControl changedControl;
+        while((changedControl = changedControls.poll()) != null){
+            trackedControls.computeIfAbsent(changedControl, control -> new IndexedControl());
+        }
+
+        Iterator<Map.Entry<AbstractControl, IndexedControl>> iterator = trackedControls.entrySet().iterator();
+        while(iterator.hasNext()){
+            Map.Entry<AbstractControl, IndexedControl> entry = iterator.next();
+            Spatial spatial = entry.getKey().getSpatial();
+            if(spatial == null){
+                // removed from its spatial, if it is added to another it will say so
+                removeFromTree(entry.getValue());
+                iterator.remove();
+            } else{
+                refresh(entry.getKey(), spatial, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Finds the controls already in the subtree. Only needed once, after that the controls report themselves
+     */
+    private void trackSubtree(Spatial spatial){
+        for(int i = 0; i < spatial.getNumControls(); i++){
+            if(spatial.getControl(i) instanceof AbstractControl control && (control instanceof AbstractTouchControl || control instanceof AbstractGrabControl)){
+                trackedControls.computeIfAbsent(control, c -> new IndexedControl());
+            }
+        }
+        if(spatial instanceof Node node){
+            List<Spatial> children = node.getChildren();
+            for(int i = 0; i < children.size(); i++){
+                trackSubtree(children.get(i));
+            }
+        }
+    }
+
+    private void refresh(AbstractControl control, Spatial spatial, IndexedControl indexedControl){
+        BoundingVolume worldBound = spatial.getWorldBound();
+        if(worldBound == null || !isUnderIndexedRoot(spatial)){
+            removeFromTree(indexedControl);
+            return;
+        }
+        toBox(worldBound, scratchBox);
+
+        if(indexedControl.proxy == IndexedControl.NOT_IN_TREE){
+            indexedControl.proxy = tree.createProxy(scratchBox, control);
+            indexedCount++;
+        } else if(!Arrays.equals(scratchBox, indexedControl.box)){
+            tree.moveProxy(indexedControl.proxy, scratchBox);
+        } else{
+            return;
+        }
+        System.arraycopy(scratchBox, 0, indexedControl.box, 0, 6);
+    }
+
+    private void removeFromTree(IndexedControl indexedControl){
+        if(indexedControl.proxy != IndexedControl.NOT_IN_TREE){
+            tree.destroyProxy(indexedControl.proxy);
+            indexedControl.proxy = IndexedControl.NOT_IN_TREE;
+            indexedCount--;
+        }
+    }
+
+    private boolean isUnderIndexedRoot(Spatial spatial){
+        Spatial working = spatial;
+        while(working != null){
+            for(Node root : indexedRoots){
+                if(working == root){
+                    return true;
+                }
+            }
+            working = working.getParent();
+        }
+        return false;
+    }
+
+    private static boolean isWithin(Spatial spatial, Spatial within){
+        Spatial working = spatial;
+        while(working != null){
+            if(working == within){
+                return true;
+            }
+            working = working.getParent();
+        }
+        return false;
+    }
+
+    private static boolean hasAncestorIn(Spatial spatial, Set<Spatial> spatials){
+        Spatial working = spatial.getParent();
+        while(working != null){
+            if(spatials.contains(working)){
+                return true;
+            }
+            working = working.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Writes the bounding volume as an axis aligned box (minX, minY, minZ, maxX, maxY, maxZ)
+     */
+    private static void toBox(BoundingVolume volume, float[] store){
+        Vector3f centre = volume.getCenter();
+        float xExtent;
+        float yExtent;
+        float zExtent;
+        if(volume instanceof BoundingBox box){
+            xExtent = box.getXExtent();
+            yExtent = box.getYExtent();
+            zExtent = box.getZExtent();
+        } else if(volume instanceof BoundingSphere sphere){
+            xExtent = sphere.getRadius();
+            yExtent = xExtent;
+            zExtent = xExtent;
+        } else{
+            throw new IllegalArgumentException("Unsupported bounding volume type " + volume.getClass());
+        }
+        store[0] = centre.x - xExtent;
+        store[1] = centre.y - yExtent;
+        store[2] = centre.z - zExtent;
+        store[3] = centre.x + xExtent;
+        store[4] = centre.y + yExtent;
+        store[5] = centre.z + zExtent;
+    }
+
+    private static class IndexedControl{
+        static final int NOT_IN_TREE = -1;
+
+        int proxy = NOT_IN_TREE;
+
+        /**
+         * The spatial's world bounds (as a box) when it was last placed in the tree
+         */
+        final float[] box = new float[6];
+    }
+}
@@ -2,6 +2,7 @@ package com.onemillionworlds.tamarin.vrhands.functions;
 
 import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
@@ -29,4 +30,23 @@ public class GrabActionNormaliser{
             return 0;
         }
     }
+
+    /**
+     * As {@link #getGripActionPressure(BoundHand, ActionHandle)} but for an action already resolved against the hand.
+     */
+    public float getGripActionPressure(BoundHand boundHand, ResolvedActionHandle action){
+        try{
+            if (grabActionIsAnalog){
+                FloatActionState grabActionState = boundHand.getFloatActionState(action);
+                return grabActionState.getState();
+            }else{
+                BooleanActionState grabActionState = boundHand.getBooleanActionState(action);
+                return grabActionState.getState()?1:0;
+            }
+        }catch(XrActionBaseAppState.IncorrectActionTypeException booleanActionState){
+            // self-heal
+            grabActionIsAnalog = !grabActionIsAnalog;
+            return 0;
+        }
+    }
 }
@@ -5,15 +5,27 @@ import com.jme3.collision.CollisionResults;
 import com.jme3.scene.Node;
 import com.onemillionworlds.tamarin.TamarinUtilities;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
+import com.onemillionworlds.tamarin.vrhands.broadphase.InteractableIndex;
 import com.onemillionworlds.tamarin.vrhands.grabbing.AbstractGrabControl;
 
 import java.util.Optional;
 
+/**
+ * Grabs {@link AbstractGrabControl}s near the palm when the grab action is pulled (and releases them when it is let
+ * go). If an {@link InteractableIndex} is attached only the grab controls near the palm are picked against, rather
+ * than the whole node.
+ */
 public class GrabPickingFunction implements BoundHandFunction{
 
     private final ActionHandle grabAction;
 
+    /**
+     * The grab action resolved against the bound hand (set on bind)
+     */
+    private ResolvedActionHandle resolvedGrabAction;
+
     private final Node nodeToGrabPickAgainst;
 
     private long timeLastCheckedForGrab = 0;
@@ -45,6 +57,7 @@ public class GrabPickingFunction implements BoundHandFunction{
     @Override
     public void onBind(BoundHand boundHand, AppStateManager stateManager){
         this.boundHand = boundHand;
+        this.resolvedGrabAction = boundHand.resolveActionHandle(grabAction);
     }
 
     @Override
@@ -60,11 +73,14 @@ public class GrabPickingFunction implements BoundHandFunction{
         long timeSinceLastChecked = timeNow - timeLastCheckedForGrab;
         if(timeSinceLastChecked > (1000 * grabEvery)){
             timeLastCheckedForGrab = timeNow;
-            float gripPressure = grabActionNormaliser.getGripActionPressure(boundHand, grabAction);
+            float gripPressure = grabActionNormaliser.getGripActionPressure(boundHand, resolvedGrabAction);
 
             //the lastGripPressure stuff is so that a clenched fist isn't constantly trying to grab things
             if(gripPressure > minimumGripToTrigger && lastGripPressure < minimumGripToTrigger && currentlyGrabbed.isEmpty()){
-                CollisionResults results = boundHand.pickGrab(nodeToGrabPickAgainst);
+                InteractableIndex interactableIndex = stateManager.getState(InteractableIndex.ID, InteractableIndex.class);
+                CollisionResults results = interactableIndex != null && interactableIndex.isEnabled() ?
+                        boundHand.pickGrab(nodeToGrabPickAgainst, interactableIndex, AbstractGrabControl.class) :
+                        boundHand.pickGrab(nodeToGrabPickAgainst);
                 Optional<AbstractGrabControl> grabControl = TamarinUtilities.findAllControlsInResults(AbstractGrabControl.class, results).stream().findFirst();
                 if(grabControl.isPresent() && grabControl.get().isCurrentlyGrabbable(boundHand)){
                     currentlyGrabbed = grabControl;
@@ -10,6 +10,7 @@ import com.jme3.scene.Node;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
 import com.onemillionworlds.tamarin.lemursupport.LemurKeyboard;
@@ -18,6 +19,7 @@ import com.onemillionworlds.tamarin.lemursupport.SelectorPopUp;
 import com.onemillionworlds.tamarin.lemursupport.SpecialHandlingClickThroughResult;
 import com.onemillionworlds.tamarin.lemursupport.VrLemurAppState;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
+import com.onemillionworlds.tamarin.vrhands.PickFilter;
 import com.onemillionworlds.tamarin.vrhands.VRHandsAppState;
 import com.simsilica.lemur.event.LemurProtectedSupport;
 import com.simsilica.lemur.event.PickEventSession;
@@ -44,6 +46,11 @@ public class LemurClickFunction implements BoundHandFunction{
     private final List<Node> pickAgainstNodes;
     private final ActionHandle clickAction;
 
+    /**
+     * The click action resolved against the bound hand (set on bind)
+     */
+    private ResolvedActionHandle resolvedClickAction;
+
     /**
      * When an analog action is being used then this is its minimum value to actually cause a trigger event
      */
@@ -81,7 +88,7 @@ public class LemurClickFunction implements BoundHandFunction{
         BoundHand.assertLemurAvailable();
         boolean anyAction = false;
         for(Node node : pickAgainstNodes){
-            CollisionResults results = this.boundHand.pickBulkHand(node);
+            CollisionResults results = this.boundHand.pickBulkHand(node, lemurPickFilter());
             SpecialHandlingClickThroughResult specialHandlingClickThroughResult = LemurSupport.clickThroughCollisionResultsForSpecialHandling(node, results, actionBasedOpenVrState.getStateManager(), false, this::handleNewKeyboardOpening, this::handleNewDropdownOpening);
             if(openKeyboard.isPresent() && (specialHandlingClickThroughResult != SpecialHandlingClickThroughResult.OPENED_LEMUR_KEYBOARD && specialHandlingClickThroughResult != SpecialHandlingClickThroughResult.CLICK_ON_LEMUR_KEYBOARD)){
                 closeOpenKeyboard();
@@ -95,10 +102,19 @@ public class LemurClickFunction implements BoundHandFunction{
         return anyAction;
     }
 
+    /**
+     * The hand's pick filter, limited to the {@link #PICK_MAXIMUM}
+     */
+    private PickFilter lemurPickFilter(){
+        PickFilter handFilter = boundHand.getPickFilter();
+        return handFilter.maximumDistance() > PICK_MAXIMUM ? handFilter.withMaximumDistance(PICK_MAXIMUM) : handFilter;
+    }
+
     @Override
     public void onBind(BoundHand boundHand, AppStateManager stateManager){
         this.boundHand = boundHand;
         this.actionBasedOpenVrState = stateManager.getState(XrActionBaseAppState.ID, XrActionBaseAppState.class);
+        this.resolvedClickAction = actionBasedOpenVrState.resolveActionHandle(clickAction, boundHand.getHandSide());
         this.stateManager = stateManager;
         this.mouseAppState = this.stateManager.getState(VrLemurAppState.class);
         this.vrHandsAppState = this.stateManager.getState(VRHandsAppState.class);
@@ -115,7 +131,7 @@ public class LemurClickFunction implements BoundHandFunction{
 
     @Override
     public void update(float timeSlice, BoundHand boundHand, AppStateManager stateManager){
-        float triggerPressure = getClickActionPressure(clickAction);
+        float triggerPressure = getClickActionPressure(resolvedClickAction);
         if(triggerPressure > minTriggerToClick && lastTriggerPressure < minTriggerToClick){
             if(!dominant){
                 becomeDominant();
@@ -178,12 +194,12 @@ public class LemurClickFunction implements BoundHandFunction{
         openDropdown = Optional.empty();
     }
 
-    private float getClickActionPressure(ActionHandle action){
+    private float getClickActionPressure(ResolvedActionHandle action){
         if(clickActionIsAnalog){
-            FloatActionState grabActionState = actionBasedOpenVrState.getFloatActionState(action, boundHand.getHandSide().restrictToInputString);
+            FloatActionState grabActionState = actionBasedOpenVrState.getFloatActionState(action);
             return grabActionState.getState();
         } else{
-            BooleanActionState grabActionState = actionBasedOpenVrState.getBooleanActionState(action, boundHand.getHandSide().restrictToInputString);
+            BooleanActionState grabActionState = actionBasedOpenVrState.getBooleanActionState(action);
             return grabActionState.getState() ? 1 : 0;
         }
     }
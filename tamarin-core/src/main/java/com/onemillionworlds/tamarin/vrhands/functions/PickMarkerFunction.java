@@ -45,7 +45,7 @@ public class PickMarkerFunction implements BoundHandFunction{
     @Override
     public void update(float timeSlice, BoundHand boundHand, AppStateManager stateManager){
 
-        BoundHand.firstNonSkippedHit(boundHand.pickBulkHand(pickMarkerAgainstContinuous))
+        boundHand.pickBulkHandFirstHit(pickMarkerAgainstContinuous)
                 .filter(hit -> Float.isFinite(hit.getDistance())) //work around for JME bug #2284
                 .ifPresentOrElse(
                 hit -> {
@@ -12,6 +12,7 @@ import com.onemillionworlds.tamarin.lemursupport.LemurSupport;
 import com.onemillionworlds.tamarin.lemursupport.SelectorPopUp;
 import com.onemillionworlds.tamarin.lemursupport.SpecialHandlingClickThroughResult;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
+import com.onemillionworlds.tamarin.vrhands.broadphase.InteractableIndex;
 import com.onemillionworlds.tamarin.vrhands.touching.AbstractTouchControl;
 
 import java.util.ArrayList;
@@ -23,6 +24,10 @@ import java.util.logging.Logger;
 /**
  * This will use finger tip picking and will look for both lemur controls (optional dependant) and
  * Tamarin {@link AbstractTouchControl}
+ * <p>
+ * If an {@link InteractableIndex} is attached (and Lemur isn't available) only the touch controls near the finger tip
+ * are picked against, rather than the whole node.
+ * </p>
  *
  * It is not quite as integrated with Lemur as {@link LemurClickFunction} and
  * doesn't support as many interactions (basically only buttons, things with click
@@ -88,7 +93,14 @@ public class PressFunction implements BoundHandFunction{
         timeSinceTouched+=timeSlice;
         if ( timeSinceTouched>TOUCH_SUPPRESSION_TIME && (!requireFingerPointing || boundHand.isHandPointing())){
 
-            CollisionResults results = boundHand.pickIndexFingerTip(pickAgainstNode);
+            InteractableIndex interactableIndex = stateManager.getState(InteractableIndex.ID, InteractableIndex.class);
+            CollisionResults results;
+            if(interactableIndex != null && interactableIndex.isEnabled() && !BoundHand.isLemurAvailable()){
+                // lemur needs the full pick results, but if it isn't about only the touch controls are of interest
+                results = boundHand.pickIndexFingerTip(pickAgainstNode, interactableIndex, AbstractTouchControl.class);
+            } else{
+                results = boundHand.pickIndexFingerTip(pickAgainstNode);
+            }
             boolean shouldTriggerHaptic = false;
             if (BoundHand.isLemurAvailable()){
                 boolean dryRun = lemurTouchedLastUpdate;
@@ -9,6 +9,7 @@ import com.jme3.scene.Spatial;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.openxr.XrBaseAppState;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
@@ -94,6 +95,13 @@ public class HandRingMenuFunction<T> implements BoundHandFunction{
 
     private final Supplier<Boolean> shouldBeOpenSupplier;
 
+    /**
+     * The action that opens the menu (if the menu is opened by an action rather than a supplier), resolved against the
+     * bound hand on bind
+     */
+    private final ActionHandle digitalActionToOpenMenu;
+    private ResolvedActionHandle resolvedActionToOpenMenu;
+
     /**
      * @param menuItems               the tree of menu items
      * @param selectionConsumer       when an item is selected it is given to this consumer
@@ -102,13 +110,15 @@ public class HandRingMenuFunction<T> implements BoundHandFunction{
     public HandRingMenuFunction(List<MenuItem<T>> menuItems, Consumer<Optional<T>> selectionConsumer, ActionHandle digitalActionToOpenMenu){
         this.topLevelMenuItems = menuItems;
         this.selectionConsumer = selectionConsumer;
-        this.shouldBeOpenSupplier = () -> this.actionBasedOpenVrState.getBooleanActionState(digitalActionToOpenMenu, boundHand.getHandSide().restrictToInputString).getState();
+        this.digitalActionToOpenMenu = digitalActionToOpenMenu;
+        this.shouldBeOpenSupplier = () -> this.actionBasedOpenVrState.getBooleanActionState(resolvedActionToOpenMenu).getState();
 
     }
     public HandRingMenuFunction(List<MenuItem<T>> menuItems, Consumer<Optional<T>> selectionConsumer, Supplier<Boolean> shouldBeOpenSupplier){
         this.topLevelMenuItems = menuItems;
         this.selectionConsumer = selectionConsumer;
         this.shouldBeOpenSupplier = shouldBeOpenSupplier;
+        this.digitalActionToOpenMenu = null;
     }
 
     @Override
@@ -116,6 +126,9 @@ public class HandRingMenuFunction<T> implements BoundHandFunction{
         this.boundHand = boundHand;
         this.actionBasedOpenVrState = stateManager.getState(XrActionBaseAppState.ID, XrActionBaseAppState.class);
         this.vrAppState = stateManager.getState(XrBaseAppState.ID, XrBaseAppState.class);
+        if(digitalActionToOpenMenu != null){
+            this.resolvedActionToOpenMenu = actionBasedOpenVrState.resolveActionHandle(digitalActionToOpenMenu, boundHand.getHandSide());
+        }
         Node rootNode = ((SimpleApplication) stateManager.getApplication()).getRootNode();
         rootNode.attachChild(menuNode);
         menuNode.setCullHint(Spatial.CullHint.Always);
@@ -2,8 +2,11 @@ package com.onemillionworlds.tamarin.vrhands.grabbing;
 
 import com.jme3.renderer.RenderManager;
 import com.jme3.renderer.ViewPort;
+import com.jme3.scene.Spatial;
 import com.jme3.scene.control.AbstractControl;
+import com.jme3.util.clone.Cloner;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
+import com.onemillionworlds.tamarin.vrhands.broadphase.InteractableIndex;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 
 import java.util.Optional;
@@ -56,5 +59,18 @@ public abstract class AbstractGrabControl extends AbstractControl{
         return true;
     }
 
+    @Override
+    public void setSpatial(Spatial spatial){
+        super.setSpatial(spatial);
+        InteractableIndex.controlSpatialChanged(this);
+    }
+
+    @Override
+    public void cloneFields(Cloner cloner, Object original){
+        super.cloneFields(cloner, original);
+        // cloning sets the spatial directly rather than through setSpatial
+        InteractableIndex.controlSpatialChanged(this);
+    }
+
     @Override protected void controlRender(RenderManager rm, ViewPort vp){}
 }
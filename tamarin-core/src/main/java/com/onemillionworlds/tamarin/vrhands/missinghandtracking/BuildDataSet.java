@@ -10,12 +10,13 @@ import com.onemillionworlds.tamarin.vrhands.functions.GrabPickingFunction;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
 /**
- * This is a utility to record actual hand tracking data from a working system to then hard code for later usage
- * by a system that doesn't have hand tracking.
+ * This is a utility to record actual hand tracking data from a working system to then bake into the hand pose
+ * dataset for later usage by a system that doesn't have hand tracking.
  */
 public class BuildDataSet{
 
@@ -59,7 +60,7 @@ public class BuildDataSet{
         }
         // Check if the dataset is complete for both hands
         if (isDataSetComplete()) {
-            printJavaMapCode();
+            printCsv();
         }
     }
 
@@ -89,15 +90,20 @@ public class BuildDataSet{
         return true;
     }
 
-    private static void printJavaMapCode() {
+    /**
+     * Prints the data in the CSV format of tamarin-core/src/handPoseData/simpleSyntheticJointValues.csv (the grab
+     * strength being recorded as the grip)
+     */
+    private static void printCsv() {
         StringBuilder sb = new StringBuilder();
+        sb.append("handSide,targetGrip,targetTrigger,joint,positionX,positionY,positionZ,rotationX,rotationY,rotationZ,rotationW,radius\n");
         for (HandSide handSide : HandSide.values()) {
 
             skeletonData.get(handSide).forEach((i, bonePoses) -> {
                 for (Map.Entry<HandJoint, BonePose> entry : bonePoses.entrySet()) {
                     BonePose bonePose = entry.getValue();
 
-                    sb.append(String.format("skeletonData.computeIfAbsent(HandSide.%s, hs -> new HashMap<>()).computeIfAbsent(%ff, hs -> new HashMap<>()).put(HandJoint.%s,new BonePose(new Vector3f(%ff, %ff, %ff), new Quaternion(%ff, %ff, %ff, %ff), %ff));\n",
+                    sb.append(String.format(Locale.ROOT, "%s,%.2f,0.00,%s,%f,%f,%f,%f,%f,%f,%f,%f\n",
                             handSide.name(), i, entry.getKey().name(),
                             bonePose.position().x, bonePose.position().y, bonePose.position().z,
                             bonePose.orientation().getX(), bonePose.orientation().getY(), bonePose.orientation().getZ(), bonePose.orientation().getW(),
@@ -1,590 +1,34 @@
 package com.onemillionworlds.tamarin.vrhands.missinghandtracking;
 
-import com.jme3.math.Quaternion;
-import com.jme3.math.Vector3f;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+import com.onemillionworlds.tamarin.vrhands.skeletonsynthesis.HandPoseDataset;
+import com.onemillionworlds.tamarin.vrhands.skeletonsynthesis.HandPoseGrid;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
+/**
+ * Synthesises bone positions from just the grab strength, using poses recorded by {@link BuildDataSet} (held in the
+ * {@link HandPoseDataset#GRAB_STRENGTH_DATASET grab strength dataset}).
+ */
 public class SimpleSyntheticBonePositions {
-    static Map<HandSide, Map<Float, Map<HandJoint, BonePose>>> skeletonData = new HashMap<>();
-
-    static Function<HandSide, Map<Float, Map<HandJoint, BonePose>>> newMap1 = key -> new HashMap<>();
-    static Function<Float,  Map<HandJoint, BonePose>> newMap2 = key -> new HashMap<>();
-    
-    static {
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.041532f, -0.097547f, 0.069675f), new Quaternion(0.275551f, -0.090107f, -0.776972f, -0.558813f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.044486f, -0.081800f, 0.095299f), new Quaternion(0.205780f, -0.183584f, -0.761181f, -0.586993f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.042735f, -0.035095f, 0.139039f), new Quaternion(-0.020554f, -0.068168f, -0.625195f, -0.777217f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.042078f, -0.048135f, 0.152133f), new Quaternion(0.041297f, -0.096190f, -0.639800f, -0.761382f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.016789f, 0.016339f, 0.118151f), new Quaternion(-0.392974f, 0.090845f, 0.025631f, -0.914695f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.039147f, -0.089206f, 0.013785f), new Quaternion(0.230170f, -0.044044f, -0.710221f, -0.663832f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.022271f, -0.016465f, 0.141097f), new Quaternion(-0.452649f, 0.105695f, -0.056455f, -0.883604f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.050507f, -0.038240f, 0.080609f), new Quaternion(0.070130f, -0.064673f, -0.754206f, -0.649675f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.048249f, -0.060391f, 0.087673f), new Quaternion(0.145598f, -0.114283f, -0.702309f, -0.687392f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.042001f, -0.085293f, 0.023247f), new Quaternion(0.230170f, -0.044044f, -0.710221f, -0.663832f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.043826f, -0.051025f, 0.005850f), new Quaternion(0.105834f, -0.039957f, -0.744533f, -0.657936f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.046320f, -0.075069f, 0.049765f), new Quaternion(0.180718f, -0.078160f, -0.708725f, -0.677455f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.042469f, -0.053594f, -0.006743f), new Quaternion(0.104145f, -0.044172f, -0.770334f, -0.627531f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.007390f, 0.055050f, 0.090631f), new Quaternion(-0.566516f, 0.113406f, 0.012146f, -0.816123f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.035576f, -0.105694f, 0.054546f), new Quaternion(0.291033f, -0.152579f, -0.756790f, -0.565061f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.036020f, -0.015290f, 0.150507f), new Quaternion(-0.089984f, -0.033397f, -0.758342f, -0.644755f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.049373f, -0.010427f, 0.077504f), new Quaternion(0.029890f, 0.031525f, -0.731832f, -0.680102f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051120f, 0.015170f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.041509f, -0.060736f, 0.154538f), new Quaternion(0.100191f, -0.139235f, -0.711281f, -0.681660f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.044032f, -0.010262f, -0.006063f), new Quaternion(0.023401f, -0.000777f, -0.698606f, -0.715126f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.045567f, -0.010186f, 0.033740f), new Quaternion(0.010602f, 0.018493f, -0.700410f, -0.713425f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.044384f, -0.009877f, 0.005070f), new Quaternion(0.023401f, -0.000777f, -0.698606f, -0.715126f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.010730f, 0.039564f, 0.096214f), new Quaternion(-0.566516f, 0.113406f, 0.012146f, -0.816123f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.033508f, -0.110014f, 0.048496f), new Quaternion(0.291033f, -0.152579f, -0.756790f, -0.565061f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.049570f, -0.046374f, 0.038285f), new Quaternion(0.111693f, 0.004583f, -0.745942f, -0.656567f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.041164f, -0.034459f, 0.150854f), new Quaternion(-0.020554f, -0.068168f, -0.625195f, -0.777217f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.037360f, -0.096821f, 0.069898f), new Quaternion(0.362938f, 0.020627f, -0.764549f, -0.532280f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.044097f, -0.081967f, 0.095287f), new Quaternion(0.249972f, -0.129795f, -0.754414f, -0.592902f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.043847f, -0.035224f, 0.138796f), new Quaternion(0.005725f, -0.054795f, -0.626400f, -0.777556f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.042843f, -0.048065f, 0.152048f), new Quaternion(0.050812f, -0.086293f, -0.636707f, -0.764579f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.003654f, -0.001899f, 0.119877f), new Quaternion(0.016503f, 0.261984f, -0.025118f, -0.964607f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.005669f, -0.084453f, 0.027260f), new Quaternion(0.474609f, 0.231821f, -0.649119f, -0.547407f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019631f, -0.017434f, 0.149017f), new Quaternion(-0.186066f, 0.323717f, -0.061791f, -0.925621f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.048453f, -0.039802f, 0.080125f), new Quaternion(0.305436f, 0.188809f, -0.703093f, -0.613780f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.047275f, -0.060427f, 0.087466f), new Quaternion(0.238690f, -0.011175f, -0.694449f, -0.678711f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.014915f, -0.082129f, 0.031958f), new Quaternion(0.474609f, 0.231821f, -0.649119f, -0.547407f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.010417f, -0.044906f, 0.034548f), new Quaternion(0.492391f, 0.402967f, -0.589070f, -0.498167f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.034426f, -0.074218f, 0.051485f), new Quaternion(0.376269f, 0.135658f, -0.682218f, -0.612047f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.023102f, -0.045111f, 0.032088f), new Quaternion(0.508164f, 0.382885f, -0.608585f, -0.474129f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324289f, -0.249911f, -0.166918f, 0.896954f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.026867f, -0.103274f, 0.056518f), new Quaternion(0.371218f, -0.051066f, -0.744963f, -0.551928f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.038751f, -0.018179f, 0.152114f), new Quaternion(-0.060625f, -0.012934f, -0.762362f, -0.644178f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046865f, -0.013837f, 0.078312f), new Quaternion(0.360837f, 0.306549f, -0.654657f, -0.589281f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015171f, 0.637588f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.041953f, -0.060695f, 0.154489f), new Quaternion(0.106724f, -0.135412f, -0.708583f, -0.684244f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.013736f, -0.011921f, 0.080839f), new Quaternion(-0.691427f, -0.721475f, 0.037487f, -0.001129f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.010587f, -0.014876f, 0.054309f), new Quaternion(0.616361f, 0.625547f, -0.367433f, -0.306248f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.013176f, -0.012541f, 0.069725f), new Quaternion(0.691427f, 0.721475f, -0.037487f, 0.001129f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.020116f, -0.002507f, 0.091842f), new Quaternion(0.324289f, 0.249911f, 0.166918f, -0.896954f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.023035f, -0.107023f, 0.050969f), new Quaternion(0.371218f, -0.051066f, -0.744963f, -0.551928f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.019947f, -0.044520f, 0.048133f), new Quaternion(0.419383f, 0.346310f, -0.640212f, -0.542514f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.042915f, -0.034299f, 0.150659f), new Quaternion(0.005726f, -0.054795f, -0.626400f, -0.777556f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.032209f, -0.095285f, 0.070491f), new Quaternion(0.448142f, 0.146604f, -0.735967f, -0.485830f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.043140f, -0.081993f, 0.095227f), new Quaternion(0.292470f, -0.063447f, -0.748502f, -0.591763f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044017f, -0.035243f, 0.138763f), new Quaternion(0.009575f, -0.052858f, -0.626530f, -0.777547f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.043249f, -0.048027f, 0.152002f), new Quaternion(0.055489f, -0.081597f, -0.636214f, -0.765179f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.003654f, -0.001899f, 0.119877f), new Quaternion(0.016502f, 0.261983f, -0.025119f, -0.964607f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.007652f, -0.079464f, 0.041946f), new Quaternion(0.604784f, 0.401428f, -0.552508f, -0.409673f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019631f, -0.017434f, 0.149017f), new Quaternion(-0.186066f, 0.323717f, -0.061792f, -0.925620f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.048161f, -0.040031f, 0.080074f), new Quaternion(0.338362f, 0.226545f, -0.688005f, -0.600702f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046825f, -0.060466f, 0.087382f), new Quaternion(0.287098f, 0.047202f, -0.688018f, -0.664817f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.002947f, -0.078912f, 0.041374f), new Quaternion(0.604784f, 0.401428f, -0.552508f, -0.409673f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.016623f, -0.042970f, 0.047062f), new Quaternion(0.599486f, 0.541601f, -0.463898f, -0.363441f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.028248f, -0.073320f, 0.053674f), new Quaternion(0.472009f, 0.250586f, -0.643423f, -0.548110f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.028899f, -0.042107f, 0.051009f), new Quaternion(0.620735f, 0.517110f, -0.478108f, -0.344534f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324288f, -0.249911f, -0.166917f, 0.896953f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.017646f, -0.099273f, 0.060408f), new Quaternion(0.513081f, 0.175849f, -0.702990f, -0.460034f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.038751f, -0.018179f, 0.152114f), new Quaternion(-0.060646f, -0.012941f, -0.762363f, -0.644175f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046868f, -0.013835f, 0.078312f), new Quaternion(0.360677f, 0.306487f, -0.654725f, -0.589336f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015170f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.042404f, -0.060654f, 0.154439f), new Quaternion(0.115336f, -0.127845f, -0.708243f, -0.684652f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.013759f, -0.011918f, 0.080798f), new Quaternion(-0.691428f, -0.721449f, 0.037978f, -0.000575f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.010599f, -0.014870f, 0.054296f), new Quaternion(0.616152f, 0.625365f, -0.367760f, -0.306645f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.013182f, -0.012537f, 0.069685f), new Quaternion(0.691428f, 0.721449f, -0.037978f, 0.000575f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.020116f, -0.002507f, 0.091841f), new Quaternion(0.324288f, 0.249911f, 0.166917f, -0.896953f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.010831f, -0.101008f, 0.057231f), new Quaternion(0.513081f, 0.175849f, -0.702990f, -0.460034f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.016357f, -0.044117f, 0.051262f), new Quaternion(0.496821f, 0.435941f, -0.580923f, -0.475035f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.043179f, -0.034275f, 0.150629f), new Quaternion(0.009575f, -0.052858f, -0.626530f, -0.777547f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.029239f, -0.094309f, 0.071176f), new Quaternion(0.494725f, 0.218501f, -0.709502f, -0.451794f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.042567f, -0.082004f, 0.095206f), new Quaternion(0.316807f, -0.023865f, -0.743030f, -0.589047f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044118f, -0.035254f, 0.138743f), new Quaternion(0.011844f, -0.051718f, -0.626601f, -0.777535f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.043489f, -0.048005f, 0.151976f), new Quaternion(0.058247f, -0.078829f, -0.635937f, -0.765495f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.003654f, -0.001899f, 0.119877f), new Quaternion(0.016502f, 0.261984f, -0.025118f, -0.964607f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.012570f, -0.076213f, 0.051851f), new Quaternion(0.662718f, 0.487203f, -0.475062f, -0.312665f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019631f, -0.017434f, 0.149017f), new Quaternion(-0.186067f, 0.323717f, -0.061791f, -0.925620f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.047990f, -0.040166f, 0.080047f), new Quaternion(0.357372f, 0.248643f, -0.678192f, -0.592049f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046560f, -0.060490f, 0.087338f), new Quaternion(0.315035f, 0.081643f, -0.682393f, -0.654548f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.002640f, -0.076728f, 0.048098f), new Quaternion(0.662718f, 0.487203f, -0.475062f, -0.312665f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.018766f, -0.041867f, 0.054874f), new Quaternion(0.645691f, 0.607118f, -0.375323f, -0.271342f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.024790f, -0.072696f, 0.055375f), new Quaternion(0.523239f, 0.315089f, -0.611679f, -0.502785f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.029288f, -0.040505f, 0.062254f), new Quaternion(-0.669532f, -0.580721f, 0.385909f, 0.256064f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324288f, -0.249911f, -0.166917f, 0.896953f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.012924f, -0.096794f, 0.063648f), new Quaternion(0.582241f, 0.301038f, -0.649661f, -0.385120f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.038751f, -0.018179f, 0.152114f), new Quaternion(-0.060657f, -0.012945f, -0.762363f, -0.644173f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046869f, -0.013835f, 0.078313f), new Quaternion(0.360596f, 0.306456f, -0.654759f, -0.589364f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015170f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.042672f, -0.060629f, 0.154409f), new Quaternion(0.120449f, -0.123314f, -0.708028f, -0.684827f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.013770f, -0.011916f, 0.080777f), new Quaternion(-0.691428f, -0.721436f, 0.038225f, -0.000296f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.010605f, -0.014867f, 0.054289f), new Quaternion(0.616047f, 0.625274f, -0.367926f, -0.306844f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.013186f, -0.012536f, 0.069664f), new Quaternion(0.691428f, 0.721436f, -0.038225f, 0.000296f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.020116f, -0.002507f, 0.091842f), new Quaternion(0.324288f, 0.249911f, 0.166917f, -0.896953f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.005297f, -0.097236f, 0.062562f), new Quaternion(0.582241f, 0.301038f, -0.649661f, -0.385120f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.014402f, -0.043870f, 0.053280f), new Quaternion(0.537925f, 0.484353f, -0.539638f, -0.429923f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.043336f, -0.034260f, 0.150612f), new Quaternion(0.011844f, -0.051717f, -0.626601f, -0.777535f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.023105f, -0.092071f, 0.073513f), new Quaternion(0.584119f, 0.364600f, -0.628143f, -0.362372f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.041323f, -0.082028f, 0.095200f), new Quaternion(0.367762f, 0.062652f, -0.725760f, -0.578018f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044672f, -0.035313f, 0.138645f), new Quaternion(0.024144f, -0.045547f, -0.626914f, -0.777385f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.044140f, -0.047946f, 0.151903f), new Quaternion(0.065725f, -0.071315f, -0.635125f, -0.766300f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002973f, -0.004375f, 0.117725f), new Quaternion(0.256909f, 0.185963f, 0.099567f, -0.943137f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.015384f, -0.067856f, 0.078119f), new Quaternion(-0.734316f, -0.637522f, 0.229794f, 0.039325f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017994f, 0.148669f), new Quaternion(-0.178917f, 0.291673f, -0.001427f, -0.939638f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.047065f, -0.040899f, 0.079930f), new Quaternion(0.453668f, 0.364749f, -0.613642f, -0.533471f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045841f, -0.060555f, 0.087239f), new Quaternion(0.387557f, 0.173678f, -0.660167f, -0.619532f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.011264f, -0.070356f, 0.068645f), new Quaternion(0.734316f, 0.637522f, -0.229794f, -0.039325f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.019418f, -0.038403f, 0.086758f), new Quaternion(0.698002f, 0.712955f, -0.050240f, 0.044377f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.016411f, -0.070713f, 0.061357f), new Quaternion(0.637045f, 0.470633f, -0.495646f, -0.356395f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.019506f, -0.036676f, 0.099566f), new Quaternion(-0.726048f, -0.684373f, 0.048419f, -0.046357f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010527f, -0.037947f, 0.092957f), new Quaternion(-0.724596f, -0.104355f, -0.184368f, 0.655808f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.005030f, -0.091443f, 0.072576f), new Quaternion(0.677475f, 0.506906f, -0.490299f, -0.209014f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040222f, -0.019735f, 0.152979f), new Quaternion(-0.044483f, -0.001799f, -0.764103f, -0.643559f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045450f, -0.015681f, 0.078900f), new Quaternion(0.514593f, 0.433548f, -0.555764f, -0.488223f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051120f, 0.015173f, 0.637586f, 0.768537f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.043258f, -0.060576f, 0.154344f), new Quaternion(0.131594f, -0.113443f, -0.707393f, -0.685139f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017963f, -0.012533f, 0.101908f), new Quaternion(-0.447953f, -0.525709f, -0.475162f, -0.545155f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016572f, 0.074811f), new Quaternion(0.697404f, 0.708407f, 0.002932f, 0.108549f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006830f, -0.012408f, 0.102420f), new Quaternion(0.447953f, 0.525709f, 0.475162f, 0.545155f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021336f, 0.091750f), new Quaternion(0.724596f, 0.104355f, 0.184368f, -0.655808f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.001731f, -0.089793f, 0.075908f), new Quaternion(-0.677475f, -0.506906f, 0.490299f, 0.209014f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.006286f, -0.042468f, 0.066036f), new Quaternion(0.650083f, 0.623582f, -0.356463f, -0.247945f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044188f, -0.034183f, 0.150517f), new Quaternion(0.024144f, -0.045547f, -0.626914f, -0.777385f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.019613f, -0.090615f, 0.075492f), new Quaternion(0.629106f, 0.445371f, -0.563016f, -0.298138f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.040544f, -0.082034f, 0.095223f), new Quaternion(0.397335f, 0.116046f, -0.711672f, -0.567613f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044743f, -0.035319f, 0.138633f), new Quaternion(0.025756f, -0.044734f, -0.626949f, -0.777352f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.044440f, -0.047918f, 0.151870f), new Quaternion(0.069163f, -0.067853f, -0.634755f, -0.766618f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002974f, -0.004373f, 0.117726f), new Quaternion(0.256906f, 0.185965f, 0.099564f, -0.943138f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.011713f, -0.064515f, 0.088538f), new Quaternion(-0.726762f, -0.672725f, 0.086713f, -0.108368f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017993f, 0.148670f), new Quaternion(-0.178920f, 0.291673f, -0.001429f, -0.939637f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046942f, -0.040993f, 0.079919f), new Quaternion(0.465266f, 0.379286f, -0.603857f, -0.524434f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045510f, -0.060583f, 0.087204f), new Quaternion(0.419177f, 0.215282f, -0.646623f, -0.599855f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.011923f, -0.067429f, 0.078319f), new Quaternion(0.726762f, 0.672725f, -0.086713f, 0.108368f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.015661f, -0.037743f, 0.093081f), new Quaternion(0.677783f, 0.711998f, 0.074580f, 0.167666f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.013129f, -0.069665f, 0.064714f), new Quaternion(0.675411f, 0.530752f, -0.429087f, -0.279306f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.011269f, -0.036178f, 0.105135f), new Quaternion(-0.705806f, -0.684228f, -0.081248f, -0.164539f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010528f, -0.037945f, 0.092957f), new Quaternion(-0.724594f, -0.104358f, -0.184367f, 0.655811f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.002000f, -0.088330f, 0.078897f), new Quaternion(0.706188f, 0.616273f, -0.343587f, -0.058812f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040221f, -0.019734f, 0.152979f), new Quaternion(-0.044483f, -0.001796f, -0.764105f, -0.643556f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045449f, -0.015680f, 0.078901f), new Quaternion(0.514591f, 0.433552f, -0.555763f, -0.488222f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040222f, 0.167839f), new Quaternion(-0.051119f, 0.015170f, 0.637589f, 0.768535f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.043619f, -0.060542f, 0.154304f), new Quaternion(0.138503f, -0.107252f, -0.706973f, -0.685206f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017962f, -0.012531f, 0.101908f), new Quaternion(-0.447952f, -0.525709f, -0.475166f, -0.545152f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016570f, 0.074812f), new Quaternion(0.697402f, 0.708409f, 0.002935f, 0.108548f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006829f, -0.012407f, 0.102420f), new Quaternion(0.447952f, 0.525709f, 0.475166f, 0.545152f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021334f, 0.091750f), new Quaternion(0.724594f, 0.104358f, 0.184367f, -0.655811f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.002304f, -0.085703f, 0.084738f), new Quaternion(-0.706188f, -0.616273f, 0.343587f, 0.058812f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.005570f, -0.042284f, 0.067877f), new Quaternion(0.672498f, 0.653133f, -0.294909f, -0.184927f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044299f, -0.034171f, 0.150505f), new Quaternion(0.025756f, -0.044733f, -0.626949f, -0.777352f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.015930f, -0.088898f, 0.078261f), new Quaternion(0.670220f, 0.527780f, -0.474679f, -0.216657f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.039638f, -0.082039f, 0.095275f), new Quaternion(0.429729f, 0.177594f, -0.692013f, -0.552194f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044828f, -0.035328f, 0.138619f), new Quaternion(0.027632f, -0.043791f, -0.626983f, -0.777314f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.044790f, -0.047887f, 0.151831f), new Quaternion(0.073162f, -0.063829f, -0.634306f, -0.766964f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002973f, -0.004374f, 0.117725f), new Quaternion(0.256907f, 0.185964f, 0.099565f, -0.943138f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.005070f, -0.061494f, 0.097790f), new Quaternion(-0.680006f, -0.674643f, -0.084053f, -0.274569f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017994f, 0.148670f), new Quaternion(-0.178919f, 0.291674f, -0.001427f, -0.939637f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046801f, -0.041106f, 0.079906f), new Quaternion(0.478436f, 0.395967f, -0.592103f, -0.513545f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045125f, -0.060619f, 0.087170f), new Quaternion(0.454307f, 0.262706f, -0.628292f, -0.574320f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.010223f, -0.064257f, 0.088914f), new Quaternion(0.680006f, 0.674643f, 0.084053f, 0.274569f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.010217f, -0.037168f, 0.099303f), new Quaternion(0.628274f, 0.682328f, 0.216132f, 0.304944f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.009853f, -0.068368f, 0.069013f), new Quaternion(0.707585f, 0.589631f, -0.343116f, -0.184212f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.001329f, -0.036027f, 0.108616f), new Quaternion(-0.655147f, -0.656569f, -0.228194f, -0.296026f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010527f, -0.037946f, 0.092957f), new Quaternion(-0.724595f, -0.104356f, -0.184368f, 0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.000313f, -0.085095f, 0.086485f), new Quaternion(0.695524f, 0.691705f, -0.149559f, 0.124213f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040221f, -0.019735f, 0.152979f), new Quaternion(-0.044483f, -0.001797f, -0.764104f, -0.643558f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045449f, -0.015681f, 0.078900f), new Quaternion(0.514592f, 0.433550f, -0.555763f, -0.488222f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015171f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044040f, -0.060504f, 0.154256f), new Quaternion(0.146535f, -0.100032f, -0.706410f, -0.685210f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017962f, -0.012533f, 0.101908f), new Quaternion(-0.447953f, -0.525708f, -0.475164f, -0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016571f, 0.074811f), new Quaternion(0.697403f, 0.708408f, 0.002935f, 0.108548f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006829f, -0.012408f, 0.102420f), new Quaternion(0.447953f, 0.525708f, 0.475164f, 0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021336f, 0.091750f), new Quaternion(0.724595f, 0.104356f, 0.184368f, -0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.000034f, -0.082165f, 0.093618f), new Quaternion(-0.695524f, -0.691705f, 0.149559f, -0.124213f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.004845f, -0.042075f, 0.070051f), new Quaternion(0.691086f, 0.679757f, -0.219860f, -0.109526f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044429f, -0.034160f, 0.150490f), new Quaternion(0.027632f, -0.043791f, -0.626982f, -0.777314f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.013384f, -0.087561f, 0.080729f), new Quaternion(0.693238f, 0.582164f, -0.397746f, -0.149367f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.038935f, -0.082041f, 0.095336f), new Quaternion(0.453357f, 0.224874f, -0.674309f, -0.537784f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044893f, -0.035335f, 0.138608f), new Quaternion(0.029096f, -0.043056f, -0.627008f, -0.777281f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.045062f, -0.047862f, 0.151801f), new Quaternion(0.076279f, -0.060687f, -0.633936f, -0.767222f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002973f, -0.004374f, 0.117725f), new Quaternion(0.256906f, 0.185964f, 0.099565f, -0.943138f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.000940f, -0.059834f, 0.102660f), new Quaternion(-0.616874f, -0.646959f, -0.213987f, -0.393858f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017994f, 0.148670f), new Quaternion(-0.178919f, 0.291673f, -0.001428f, -0.939637f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046691f, -0.041192f, 0.079898f), new Quaternion(0.488448f, 0.408785f, -0.582676f, -0.504785f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.044825f, -0.060646f, 0.087149f), new Quaternion(0.480344f, 0.298775f, -0.612123f, -0.552552f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.007283f, -0.062056f, 0.096302f), new Quaternion(0.616874f, 0.646959f, 0.213987f, 0.393858f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.005363f, -0.036867f, 0.103176f), new Quaternion(0.571590f, 0.638693f, 0.319932f, 0.403737f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.007735f, -0.067313f, 0.072607f), new Quaternion(0.722928f, 0.626474f, -0.270898f, -0.107352f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.006029f, -0.036184f, 0.109241f), new Quaternion(-0.596758f, -0.615243f, -0.335875f, -0.390574f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010527f, -0.037946f, 0.092957f), new Quaternion(-0.724595f, -0.104356f, -0.184368f, 0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.000305f, -0.082945f, 0.092251f), new Quaternion(0.654543f, 0.708202f, 0.009220f, 0.264467f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040221f, -0.019735f, 0.152979f), new Quaternion(-0.044483f, -0.001797f, -0.764104f, -0.643557f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045449f, -0.015681f, 0.078900f), new Quaternion(0.514592f, 0.433550f, -0.555763f, -0.488222f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015170f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044368f, -0.060474f, 0.154220f), new Quaternion(0.152774f, -0.094408f, -0.705906f, -0.685163f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017962f, -0.012532f, 0.101908f), new Quaternion(-0.447953f, -0.525708f, -0.475164f, -0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016571f, 0.074811f), new Quaternion(0.697403f, 0.708408f, 0.002935f, 0.108548f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006829f, -0.012408f, 0.102420f), new Quaternion(0.447953f, 0.525708f, 0.475164f, 0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021335f, 0.091750f), new Quaternion(0.724595f, 0.104356f, 0.184368f, -0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.003288f, -0.080374f, 0.098886f), new Quaternion(-0.654543f, -0.708202f, -0.009220f, -0.264467f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.004362f, -0.041914f, 0.071766f), new Quaternion(0.699834f, 0.694508f, -0.159421f, -0.049815f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044530f, -0.034151f, 0.150479f), new Quaternion(0.029096f, -0.043055f, -0.627008f, -0.777281f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.011033f, -0.086165f, 0.083588f), new Quaternion(0.708466f, 0.629380f, -0.310154f, -0.075936f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.038194f, -0.082039f, 0.095419f), new Quaternion(0.476621f, 0.273986f, -0.653463f, -0.520342f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.044963f, -0.035343f, 0.138596f), new Quaternion(0.030638f, -0.042280f, -0.627033f, -0.777244f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.045349f, -0.047835f, 0.151769f), new Quaternion(0.079564f, -0.057375f, -0.633537f, -0.767471f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002973f, -0.004374f, 0.117725f), new Quaternion(0.256906f, 0.185964f, 0.099565f, -0.943138f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.007255f, -0.058697f, 0.105704f), new Quaternion(-0.527445f, -0.591270f, -0.342460f, -0.504902f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017994f, 0.148670f), new Quaternion(-0.178919f, 0.291673f, -0.001428f, -0.939637f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046574f, -0.041284f, 0.079890f), new Quaternion(0.498767f, 0.422134f, -0.572479f, -0.495285f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.044509f, -0.060675f, 0.087133f), new Quaternion(0.506441f, 0.335905f, -0.593357f, -0.527841f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.002930f, -0.060053f, 0.102988f), new Quaternion(0.527445f, 0.591270f, 0.342460f, 0.504902f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.000152f, -0.036691f, 0.106255f), new Quaternion(0.496268f, 0.574489f, 0.420065f, 0.497223f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.005937f, -0.066165f, 0.076583f), new Quaternion(0.729582f, 0.656265f, -0.190831f, -0.024773f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.012923f, -0.036551f, 0.108227f), new Quaternion(-0.518920f, -0.554113f, -0.439679f, -0.479967f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010527f, -0.037946f, 0.092957f), new Quaternion(-0.724595f, -0.104357f, -0.184369f, 0.655809f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.001399f, -0.081072f, 0.097923f), new Quaternion(0.582201f, 0.684572f, 0.174570f, 0.402411f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040221f, -0.019735f, 0.152979f), new Quaternion(-0.044483f, -0.001797f, -0.764104f, -0.643557f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045449f, -0.015681f, 0.078900f), new Quaternion(0.514592f, 0.433550f, -0.555763f, -0.488222f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015170f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044714f, -0.060442f, 0.154181f), new Quaternion(0.159352f, -0.088458f, -0.705328f, -0.685055f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017962f, -0.012532f, 0.101908f), new Quaternion(-0.447953f, -0.525708f, -0.475164f, -0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016571f, 0.074811f), new Quaternion(0.697403f, 0.708408f, 0.002935f, 0.108548f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006829f, -0.012408f, 0.102420f), new Quaternion(0.447953f, 0.525708f, 0.475164f, 0.545153f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021336f, 0.091750f), new Quaternion(0.724595f, 0.104357f, 0.184369f, -0.655809f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.007218f, -0.079301f, 0.102670f), new Quaternion(-0.582201f, -0.684572f, -0.174570f, -0.402411f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.003931f, -0.041746f, 0.073593f), new Quaternion(0.703533f, 0.704248f, -0.094322f, 0.013578f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044637f, -0.034141f, 0.150467f), new Quaternion(0.030638f, -0.042280f, -0.627033f, -0.777244f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.008855f, -0.084653f, 0.087029f), new Quaternion(0.714181f, 0.668757f, -0.206548f, 0.007281f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.037373f, -0.082034f, 0.095534f), new Quaternion(0.500420f, 0.327462f, -0.627709f, -0.498334f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(-0.045040f, -0.035351f, 0.138584f), new Quaternion(0.032357f, -0.041415f, -0.627058f, -0.777200f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(-0.045669f, -0.047806f, 0.151733f), new Quaternion(0.083222f, -0.053682f, -0.633072f, -0.767736f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.002973f, -0.004374f, 0.117725f), new Quaternion(0.256906f, 0.185964f, 0.099565f, -0.943138f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.013492f, -0.058049f, 0.107017f), new Quaternion(-0.404627f, -0.500072f, -0.468796f, -0.605342f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(-0.019154f, -0.017994f, 0.148670f), new Quaternion(-0.178919f, 0.291674f, -0.001427f, -0.939637f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(-0.046445f, -0.041385f, 0.079881f), new Quaternion(0.509955f, 0.436774f, -0.560830f, -0.484406f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(-0.044157f, -0.060707f, 0.087122f), new Quaternion(0.533754f, 0.375962f, -0.570445f, -0.498354f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.003025f, -0.058273f, 0.108850f), new Quaternion(0.404627f, 0.500072f, 0.468796f, 0.605342f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.006525f, -0.036662f, 0.108409f), new Quaternion(0.396288f, 0.483341f, 0.516700f, 0.585118f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.004484f, -0.064864f, 0.081172f), new Quaternion(0.725375f, 0.677935f, -0.098404f, 0.067503f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.019128f, -0.037124f, 0.105583f), new Quaternion(-0.415363f, -0.467050f, -0.539762f, -0.563914f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.010527f, -0.037946f, 0.092957f), new Quaternion(-0.724595f, -0.104356f, -0.184369f, 0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.003726f, -0.079499f, 0.103472f), new Quaternion(0.470933f, 0.610453f, 0.344997f, 0.535307f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(-0.040221f, -0.019735f, 0.152979f), new Quaternion(-0.044483f, -0.001797f, -0.764104f, -0.643558f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(-0.045449f, -0.015681f, 0.078900f), new Quaternion(0.514592f, 0.433550f, -0.555763f, -0.488222f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(-0.041038f, -0.040223f, 0.167839f), new Quaternion(-0.051119f, 0.015171f, 0.637587f, 0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.045100f, -0.060407f, 0.154138f), new Quaternion(0.166655f, -0.081836f, -0.704611f, -0.684878f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.017962f, -0.012532f, 0.101908f), new Quaternion(-0.447953f, -0.525708f, -0.475164f, -0.545154f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.002365f, -0.016571f, 0.074811f), new Quaternion(0.697403f, 0.708408f, 0.002935f, 0.108548f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.006829f, -0.012408f, 0.102420f), new Quaternion(0.447953f, 0.525708f, 0.475164f, 0.545154f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.012716f, -0.021336f, 0.091750f), new Quaternion(0.724595f, 0.104356f, 0.184369f, -0.655810f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.011276f, -0.078859f, 0.104929f), new Quaternion(-0.470933f, -0.610453f, -0.344997f, -0.535307f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(-0.003545f, -0.041564f, 0.075642f), new Quaternion(0.700940f, 0.707954f, -0.020921f, 0.083976f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.LEFT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(-0.044756f, -0.034130f, 0.150454f), new Quaternion(0.032357f, -0.041415f, -0.627059f, -0.777200f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.037855f, -0.096057f, 0.068881f), new Quaternion(-0.274258f, -0.051364f, -0.777027f, 0.564248f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.042122f, -0.082050f, 0.095316f), new Quaternion(-0.204162f, -0.144678f, -0.765707f, 0.592521f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.042709f, -0.035102f, 0.139036f), new Quaternion(0.020386f, -0.067282f, -0.633749f, 0.770339f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.042078f, -0.048135f, 0.152133f), new Quaternion(-0.039404f, -0.096228f, -0.657980f, 0.745824f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(0.014889f, 0.016341f, 0.119113f), new Quaternion(0.382317f, 0.127061f, -0.045040f, 0.914146f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.033145f, -0.085912f, 0.013649f), new Quaternion(-0.255460f, 0.014038f, -0.711556f, 0.654395f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.021550f, -0.016881f, 0.141126f), new Quaternion(0.461113f, 0.122386f, -0.054061f, 0.877198f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.050354f, -0.038282f, 0.080591f), new Quaternion(-0.066583f, -0.045071f, -0.748442f, 0.658311f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.048120f, -0.060353f, 0.087654f), new Quaternion(-0.154683f, -0.078511f, -0.707288f, 0.685314f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.037204f, -0.082571f, 0.022887f), new Quaternion(-0.255460f, 0.014038f, -0.711556f, 0.654395f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.042533f, -0.049020f, 0.005586f), new Quaternion(-0.131249f, 0.012059f, -0.736908f, 0.663022f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.043595f, -0.073501f, 0.049406f), new Quaternion(-0.192942f, -0.038891f, -0.711984f, 0.674049f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.039826f, -0.051039f, -0.006889f), new Quaternion(-0.130660f, 0.017316f, -0.709710f, 0.692057f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(0.005855f, 0.054644f, 0.090495f), new Quaternion(0.533170f, 0.132646f, -0.062189f, 0.833229f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.031158f, -0.103137f, 0.053526f), new Quaternion(-0.326179f, -0.062257f, -0.759791f, 0.558973f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.036020f, -0.015290f, 0.150507f), new Quaternion(0.088055f, -0.039606f, -0.713267f, 0.694212f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.049452f, -0.010399f, 0.077520f), new Quaternion(-0.024736f, 0.028831f, -0.724215f, 0.688529f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051120f, 0.015170f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.041509f, -0.060736f, 0.154538f), new Quaternion(-0.109428f, -0.132630f, -0.741505f, 0.648542f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.044044f, -0.010104f, -0.006062f), new Quaternion(-0.033836f, 0.015674f, -0.698871f, 0.714277f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.046134f, -0.010061f, 0.033717f), new Quaternion(-0.012911f, 0.019394f, -0.700563f, 0.713212f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.044821f, -0.009809f, 0.005052f), new Quaternion(-0.033836f, 0.015674f, -0.698871f, 0.714277f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(0.008455f, 0.039442f, 0.097152f), new Quaternion(0.533170f, 0.132646f, -0.062189f, 0.833229f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.027870f, -0.106681f, 0.047512f), new Quaternion(-0.326179f, -0.062257f, -0.759791f, 0.558973f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.048615f, -0.044969f, 0.038040f), new Quaternion(-0.109334f, 0.016150f, -0.737855f, 0.665852f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.000000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.041164f, -0.034459f, 0.150854f), new Quaternion(0.020386f, -0.067282f, -0.633749f, 0.770339f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.031613f, -0.094352f, 0.069465f), new Quaternion(-0.390192f, 0.109384f, -0.753696f, 0.517427f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.041237f, -0.082087f, 0.095287f), new Quaternion(-0.260421f, -0.064392f, -0.759218f, 0.592980f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.043899f, -0.035231f, 0.138785f), new Quaternion(-0.006459f, -0.054182f, -0.634944f, 0.770630f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.042974f, -0.048052f, 0.152033f), new Quaternion(-0.050112f, -0.086015f, -0.656736f, 0.747523f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003654f, -0.001900f, 0.119877f), new Quaternion(-0.016502f, 0.261983f, -0.025121f, 0.964605f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.003569f, -0.078869f, 0.034698f), new Quaternion(0.539883f, -0.347817f, 0.601804f, -0.474746f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019631f, -0.017434f, 0.149017f), new Quaternion(0.186065f, 0.323717f, -0.061795f, 0.925619f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.048345f, -0.039880f, 0.080107f), new Quaternion(-0.314136f, 0.213852f, -0.693488f, 0.612097f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.047112f, -0.060435f, 0.087435f), new Quaternion(-0.261669f, 0.041870f, -0.698271f, 0.664979f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.006848f, -0.077870f, 0.036559f), new Quaternion(-0.539883f, 0.347817f, -0.601804f, 0.474746f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.013440f, -0.043616f, 0.039415f), new Quaternion(0.551432f, -0.489864f, 0.518980f, -0.431993f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.030012f, -0.072192f, 0.052532f), new Quaternion(-0.419061f, 0.214841f, -0.666634f, 0.577782f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.026307f, -0.043202f, 0.040554f), new Quaternion(0.531332f, -0.511596f, 0.501228f, -0.452469f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.018864f, -0.098695f, 0.057258f), new Quaternion(0.457570f, -0.132939f, 0.722343f, -0.501179f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.038750f, -0.018179f, 0.152114f), new Quaternion(0.059657f, -0.016999f, -0.717312f, 0.693987f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.046870f, -0.013834f, 0.078313f), new Quaternion(-0.360229f, 0.306346f, -0.651848f, 0.592860f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051121f, 0.015171f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.042099f, -0.060682f, 0.154473f), new Quaternion(-0.119081f, -0.125180f, -0.740384f, 0.649603f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.013259f, -0.012124f, 0.081046f), new Quaternion(0.693884f, -0.719278f, 0.031539f, 0.013113f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010631f, -0.015042f, 0.054260f), new Quaternion(-0.621740f, 0.623728f, -0.364230f, 0.302889f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.012981f, -0.012833f, 0.069926f), new Quaternion(0.693884f, -0.719278f, 0.031539f, 0.013113f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.020116f, -0.002507f, 0.091841f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.012735f, -0.100752f, 0.053045f), new Quaternion(0.457570f, -0.132939f, 0.722343f, -0.501179f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.018277f, -0.043672f, 0.049450f), new Quaternion(-0.447874f, 0.385474f, -0.612380f, 0.525178f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.050000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043001f, -0.034291f, 0.150649f), new Quaternion(-0.006459f, -0.054182f, -0.634944f, 0.770630f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.028604f, -0.093441f, 0.070200f), new Quaternion(-0.446132f, 0.188707f, -0.729141f, 0.483437f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.040862f, -0.082084f, 0.095275f), new Quaternion(-0.288708f, -0.023900f, -0.753336f, 0.590393f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044015f, -0.035243f, 0.138763f), new Quaternion(-0.009057f, -0.052915f, -0.635029f, 0.770622f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.043249f, -0.048028f, 0.152003f), new Quaternion(-0.053335f, -0.082958f, -0.656475f, 0.747875f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003654f, -0.001900f, 0.119877f), new Quaternion(-0.016503f, 0.261983f, -0.025121f, 0.964605f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.010503f, -0.075826f, 0.045216f), new Quaternion(0.616223f, -0.448853f, 0.525860f, -0.377191f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019631f, -0.017434f, 0.149017f), new Quaternion(0.186065f, 0.323717f, -0.061795f, 0.925619f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.048150f, -0.040034f, 0.080074f), new Quaternion(-0.336450f, 0.237655f, -0.683554f, 0.602559f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.046811f, -0.060463f, 0.087381f), new Quaternion(-0.293036f, 0.077494f, -0.692079f, 0.655097f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.000016f, -0.075903f, 0.043490f), new Quaternion(-0.616223f, 0.448853f, -0.525860f, 0.377191f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.017078f, -0.042524f, 0.047969f), new Quaternion(0.613870f, -0.570152f, 0.429818f, -0.336674f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.026233f, -0.071690f, 0.054259f), new Quaternion(-0.479752f, 0.286555f, -0.635575f, 0.532701f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.028859f, -0.041532f, 0.053188f), new Quaternion(0.590497f, -0.594325f, 0.415963f, -0.353649f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324287f, 0.249912f, 0.166922f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.013479f, -0.096277f, 0.060563f), new Quaternion(0.539547f, -0.269946f, 0.672431f, -0.428785f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.038750f, -0.018179f, 0.152114f), new Quaternion(0.059666f, -0.017003f, -0.717312f, 0.693986f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.046872f, -0.013834f, 0.078313f), new Quaternion(-0.360176f, 0.306324f, -0.652045f, 0.592687f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051121f, 0.015171f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.042404f, -0.060654f, 0.154439f), new Quaternion(-0.123423f, -0.121646f, -0.739916f, 0.649997f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.013299f, -0.012111f, 0.081012f), new Quaternion(0.693751f, -0.719397f, 0.032143f, 0.012127f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010635f, -0.015029f, 0.054256f), new Quaternion(-0.621321f, 0.623735f, -0.364592f, 0.303297f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.012996f, -0.012814f, 0.069893f), new Quaternion(0.693751f, -0.719397f, 0.032143f, 0.012127f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.020116f, -0.002507f, 0.091842f), new Quaternion(-0.324287f, 0.249912f, 0.166922f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.006094f, -0.097046f, 0.058464f), new Quaternion(0.539547f, -0.269946f, 0.672431f, -0.428785f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.015976f, -0.043507f, 0.051594f), new Quaternion(-0.498951f, 0.443354f, -0.571096f, 0.477847f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.100000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043179f, -0.034275f, 0.150629f), new Quaternion(-0.009057f, -0.052915f, -0.635029f, 0.770622f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.026013f, -0.092596f, 0.071069f), new Quaternion(-0.491979f, 0.256041f, -0.700657f, 0.448867f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.040507f, -0.082082f, 0.095273f), new Quaternion(-0.312879f, 0.012028f, -0.746767f, 0.586774f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044116f, -0.035254f, 0.138743f), new Quaternion(-0.011332f, -0.051804f, -0.635100f, 0.770609f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.043488f, -0.048006f, 0.151976f), new Quaternion(-0.056161f, -0.080275f, -0.656227f, 0.748177f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003655f, -0.001900f, 0.119877f), new Quaternion(-0.016503f, 0.261984f, -0.025121f, 0.964605f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.014344f, -0.073017f, 0.055029f), new Quaternion(0.668161f, -0.525422f, 0.445454f, -0.281185f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019630f, -0.017434f, 0.149017f), new Quaternion(0.186065f, 0.323717f, -0.061795f, 0.925619f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.047979f, -0.040169f, 0.080047f), new Quaternion(-0.355589f, 0.258441f, -0.674131f, 0.593560f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.046547f, -0.060487f, 0.087337f), new Quaternion(-0.320041f, 0.108850f, -0.685361f, 0.644987f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.004876f, -0.073998f, 0.050299f), new Quaternion(-0.668161f, 0.525422f, -0.445454f, 0.281185f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.019065f, -0.041578f, 0.055717f), new Quaternion(0.655132f, -0.627684f, 0.341856f, -0.244849f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.023063f, -0.071179f, 0.056052f), new Quaternion(-0.528690f, 0.346612f, -0.602046f, 0.487740f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.028826f, -0.040178f, 0.064071f), new Quaternion(0.629419f, -0.653466f, 0.331756f, -0.258369f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.025829f, -0.013680f, 0.080675f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.009338f, -0.094099f, 0.064089f), new Quaternion(0.599522f, -0.381059f, 0.609769f, -0.351499f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.038750f, -0.018179f, 0.152114f), new Quaternion(0.059674f, -0.017007f, -0.717312f, 0.693985f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.046873f, -0.013834f, 0.078313f), new Quaternion(-0.360117f, 0.306300f, -0.652198f, 0.592568f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041037f, -0.040223f, 0.167839f), new Quaternion(0.051121f, 0.015170f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.042671f, -0.060629f, 0.154409f), new Quaternion(-0.127385f, -0.118423f, -0.739496f, 0.650306f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.013331f, -0.012102f, 0.080982f), new Quaternion(0.693654f, -0.719479f, 0.032648f, 0.011336f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010639f, -0.015019f, 0.054251f), new Quaternion(-0.620988f, 0.623716f, -0.364900f, 0.303646f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.013008f, -0.012800f, 0.069863f), new Quaternion(0.693654f, -0.719479f, 0.032648f, 0.011336f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.020117f, -0.002507f, 0.091842f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.001629f, -0.093765f, 0.064160f), new Quaternion(0.599522f, -0.381059f, 0.609769f, -0.351499f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.014086f, -0.043346f, 0.053598f), new Quaternion(-0.539800f, 0.490377f, -0.530218f, 0.432454f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.150000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043335f, -0.034260f, 0.150612f), new Quaternion(-0.011333f, -0.051804f, -0.635100f, 0.770609f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.022168f, -0.091226f, 0.072823f), new Quaternion(-0.556252f, 0.354667f, -0.644224f, 0.387005f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.039942f, -0.082077f, 0.095283f), new Quaternion(-0.349149f, 0.067942f, -0.733975f, 0.578585f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044274f, -0.035272f, 0.138714f), new Quaternion(-0.014852f, -0.050089f, -0.635203f, 0.770577f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.043860f, -0.047973f, 0.151934f), new Quaternion(-0.060531f, -0.076130f, -0.655860f, 0.748592f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003655f, -0.001901f, 0.119877f), new Quaternion(-0.016505f, 0.261985f, -0.025125f, 0.964605f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.016168f, -0.068730f, 0.070141f), new Quaternion(0.717697f, -0.617091f, 0.300089f, -0.118563f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019631f, -0.017435f, 0.149017f), new Quaternion(0.186064f, 0.323717f, -0.061799f, 0.925619f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.047717f, -0.040379f, 0.080008f), new Quaternion(-0.384535f, 0.290370f, -0.658267f, 0.578364f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.046139f, -0.060527f, 0.087277f), new Quaternion(-0.360818f, 0.157204f, -0.672596f, 0.626668f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.010034f, -0.070858f, 0.061725f), new Quaternion(-0.717697f, 0.617091f, -0.300089f, 0.118563f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.019900f, -0.040186f, 0.067768f), new Quaternion(0.691905f, -0.689903f, 0.192010f, -0.091839f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.018492f, -0.070281f, 0.059314f), new Quaternion(-0.595535f, 0.432952f, -0.539167f, 0.408892f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.024972f, -0.038405f, 0.079520f), new Quaternion(0.663665f, -0.717111f, 0.188170f, -0.099470f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.025829f, -0.013682f, 0.080675f), new Quaternion(-0.324288f, 0.249916f, 0.166919f, 0.896950f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.004215f, -0.090748f, 0.070476f), new Quaternion(0.666142f, -0.528640f, 0.482020f, -0.210836f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.038750f, -0.018180f, 0.152114f), new Quaternion(0.059683f, -0.017013f, -0.717315f, 0.693981f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.046875f, -0.013835f, 0.078313f), new Quaternion(-0.360048f, 0.306271f, -0.652432f, 0.592367f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041037f, -0.040224f, 0.167839f), new Quaternion(0.051124f, 0.015171f, 0.637589f, -0.768534f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043085f, -0.060593f, 0.154363f), new Quaternion(-0.133598f, -0.113326f, -0.738848f, 0.650703f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.013378f, -0.012088f, 0.080941f), new Quaternion(0.693497f, -0.719616f, 0.033377f, 0.010168f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010644f, -0.015006f, 0.054245f), new Quaternion(-0.620490f, 0.623716f, -0.365339f, 0.304137f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.013025f, -0.012780f, 0.069822f), new Quaternion(0.693497f, -0.719616f, 0.033377f, 0.010168f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.020117f, -0.002508f, 0.091841f), new Quaternion(-0.324288f, 0.249916f, 0.166919f, 0.896950f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.002460f, -0.088983f, 0.073920f), new Quaternion(0.666142f, -0.528640f, 0.482020f, -0.210836f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.011414f, -0.043075f, 0.056917f), new Quaternion(-0.595249f, 0.555668f, -0.458887f, 0.355439f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.250000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043577f, -0.034240f, 0.150585f), new Quaternion(-0.014852f, -0.050089f, -0.635203f, 0.770577f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.018325f, -0.089723f, 0.075322f), new Quaternion(-0.617011f, 0.452601f, -0.565404f, 0.307847f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.039382f, -0.082068f, 0.095307f), new Quaternion(-0.388050f, 0.128833f, -0.715743f, 0.566156f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044450f, -0.035289f, 0.138683f), new Quaternion(-0.018787f, -0.048166f, -0.635302f, 0.770532f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.044277f, -0.047933f, 0.151888f), new Quaternion(-0.065422f, -0.071474f, -0.655382f, 0.749058f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003654f, -0.001900f, 0.119877f), new Quaternion(-0.016502f, 0.261983f, -0.025121f, 0.964605f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.013047f, -0.064609f, 0.084994f), new Quaternion(0.725747f, -0.673848f, 0.119075f, 0.071019f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019631f, -0.017434f, 0.149017f), new Quaternion(0.186065f, 0.323716f, -0.061794f, 0.925619f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.047422f, -0.040611f, 0.079970f), new Quaternion(-0.415791f, 0.325167f, -0.638901f, 0.559635f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.045683f, -0.060567f, 0.087222f), new Quaternion(-0.404504f, 0.209510f, -0.654747f, 0.603150f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.012227f, -0.067410f, 0.074774f), new Quaternion(0.725747f, -0.673848f, 0.119075f, 0.071019f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.017740f, -0.038827f, 0.080509f), new Quaternion(0.691878f, -0.716898f, 0.015270f, 0.084441f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.014015f, -0.069212f, 0.063546f), new Quaternion(-0.655569f, 0.516256f, -0.455299f, 0.310506f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.016449f, -0.037034f, 0.093242f), new Quaternion(0.662555f, -0.744083f, 0.018646f, 0.083761f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.025828f, -0.013680f, 0.080675f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.000670f, -0.087338f, 0.078416f), new Quaternion(0.698188f, -0.645536f, 0.307562f, -0.034993f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.038750f, -0.018179f, 0.152114f), new Quaternion(0.059706f, -0.017021f, -0.717313f, 0.693980f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.046878f, -0.013832f, 0.078314f), new Quaternion(-0.359926f, 0.306221f, -0.652830f, 0.592027f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051120f, 0.015171f, 0.637586f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043550f, -0.060549f, 0.154311f), new Quaternion(-0.140137f, -0.107975f, -0.737990f, 0.651211f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(-0.013459f, -0.012060f, 0.080869f), new Quaternion(0.693227f, -0.719842f, 0.034625f, 0.008150f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010653f, -0.014978f, 0.054236f), new Quaternion(-0.619635f, 0.623710f, -0.366088f, 0.304989f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(-0.013055f, -0.012742f, 0.069752f), new Quaternion(0.693227f, -0.719842f, 0.034625f, 0.008150f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.020116f, -0.002507f, 0.091841f), new Quaternion(-0.324286f, 0.249913f, 0.166923f, 0.896951f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.002992f, -0.084651f, 0.084653f), new Quaternion(0.698188f, -0.645536f, 0.307562f, -0.034993f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.008830f, -0.042761f, 0.060882f), new Quaternion(-0.644586f, 0.616035f, -0.369628f, 0.261508f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.350000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.043849f, -0.034213f, 0.150555f), new Quaternion(-0.018787f, -0.048166f, -0.635302f, 0.770532f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.014635f, -0.088061f, 0.078572f), new Quaternion(-0.666781f, 0.542563f, -0.464213f, 0.213395f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.038734f, -0.082060f, 0.095357f), new Quaternion(-0.427074f, 0.193971f, -0.692034f, 0.548702f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044809f, -0.035327f, 0.138622f), new Quaternion(-0.026762f, -0.044278f, -0.635470f, 0.770391f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.044787f, -0.047887f, 0.151831f), new Quaternion(-0.071399f, -0.065783f, -0.654788f, 0.749553f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003053f, -0.004148f, 0.117925f), new Quaternion(-0.234583f, 0.194710f, 0.089089f, 0.948222f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(-0.004536f, -0.060760f, 0.098523f), new Quaternion(0.670750f, -0.676239f, -0.102603f, 0.286828f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019198f, -0.017941f, 0.148702f), new Quaternion(0.179629f, 0.294753f, -0.007117f, 0.938512f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.046829f, -0.041083f, 0.079909f), new Quaternion(-0.475025f, 0.394830f, -0.593412f, 0.516067f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.045124f, -0.060618f, 0.087170f), new Quaternion(-0.455138f, 0.272955f, -0.628226f, 0.568929f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.010122f, -0.063375f, 0.089867f), new Quaternion(0.670750f, -0.676239f, -0.102603f, 0.286828f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.010317f, -0.037304f, 0.098869f), new Quaternion(0.624727f, -0.678680f, -0.225296f, 0.313615f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.009455f, -0.067689f, 0.069518f), new Quaternion(-0.705498f, 0.598724f, -0.335160f, 0.177404f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(-0.001177f, -0.036192f, 0.107939f), new Quaternion(0.596992f, -0.703201f, -0.212530f, 0.322402f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.012164f, -0.036469f, 0.091296f), new Quaternion(-0.693051f, 0.122638f, 0.187274f, 0.685253f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.000722f, -0.084105f, 0.087200f), new Quaternion(0.683990f, -0.705917f, 0.109671f, 0.147689f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.040083f, -0.019589f, 0.152897f), new Quaternion(0.045718f, -0.005937f, -0.718935f, 0.693548f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.045584f, -0.015507f, 0.078840f), new Quaternion(-0.501221f, 0.422558f, -0.566471f, 0.499334f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051120f, 0.015170f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044045f, -0.060504f, 0.154256f), new Quaternion(-0.147417f, -0.101995f, -0.737045f, 0.651638f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.015225f, -0.012360f, 0.101935f), new Quaternion(0.488801f, -0.561842f, -0.436337f, 0.504994f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.002716f, -0.016452f, 0.072758f), new Quaternion(-0.699941f, 0.710123f, -0.033386f, -0.068515f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.004146f, -0.012397f, 0.100718f), new Quaternion(0.488801f, -0.561842f, -0.436337f, 0.504994f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.013701f, -0.019742f, 0.091452f), new Quaternion(-0.693051f, 0.122638f, 0.187274f, 0.685253f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(-0.000270f, -0.081351f, 0.094394f), new Quaternion(0.683990f, -0.705917f, 0.109671f, 0.147689f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.004958f, -0.042018f, 0.069695f), new Quaternion(-0.691002f, 0.678976f, -0.220294f, 0.113929f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.450000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044401f, -0.034163f, 0.150493f), new Quaternion(-0.026762f, -0.044278f, -0.635470f, 0.770391f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.012519f, -0.086975f, 0.081006f), new Quaternion(-0.690380f, 0.591875f, -0.389267f, 0.146738f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.038310f, -0.082053f, 0.095402f), new Quaternion(-0.451404f, 0.236341f, -0.673973f, 0.534920f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044881f, -0.035334f, 0.138610f), new Quaternion(-0.028364f, -0.043496f, -0.635498f, 0.770356f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.045062f, -0.047862f, 0.151801f), new Quaternion(-0.074623f, -0.062709f, -0.654440f, 0.749807f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003053f, -0.004148f, 0.117925f), new Quaternion(-0.234583f, 0.194710f, 0.089090f, 0.948222f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.001374f, -0.059417f, 0.103050f), new Quaternion(0.608603f, -0.645377f, -0.227294f, 0.401783f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019198f, -0.017941f, 0.148702f), new Quaternion(0.179629f, 0.294753f, -0.007117f, 0.938512f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.046709f, -0.041177f, 0.079899f), new Quaternion(-0.486189f, 0.408079f, -0.583564f, 0.506504f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.044822f, -0.060646f, 0.087149f), new Quaternion(-0.480914f, 0.305927f, -0.611777f, 0.548508f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.007079f, -0.061497f, 0.096951f), new Quaternion(0.608603f, -0.645377f, -0.227294f, 0.401783f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(-0.005424f, -0.036964f, 0.102920f), new Quaternion(0.568111f, -0.634681f, -0.326290f, 0.409837f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.007498f, -0.066836f, 0.073001f), new Quaternion(-0.720960f, 0.632294f, -0.264515f, 0.102248f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.006091f, -0.036299f, 0.108751f), new Quaternion(0.542187f, -0.656966f, -0.309582f, 0.422599f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.012164f, -0.036469f, 0.091296f), new Quaternion(-0.693051f, 0.122638f, 0.187274f, 0.685253f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(-0.000304f, -0.082320f, 0.092796f), new Quaternion(0.642645f, -0.712065f, -0.038368f, 0.280182f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.040083f, -0.019588f, 0.152897f), new Quaternion(0.045720f, -0.005938f, -0.718935f, 0.693548f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.045584f, -0.015507f, 0.078840f), new Quaternion(-0.501211f, 0.422553f, -0.566508f, 0.499307f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051120f, 0.015171f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044374f, -0.060474f, 0.154219f), new Quaternion(-0.152210f, -0.098046f, -0.736383f, 0.651890f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.015219f, -0.012359f, 0.101939f), new Quaternion(0.488869f, -0.561971f, -0.436276f, 0.504838f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.002716f, -0.016449f, 0.072757f), new Quaternion(-0.699896f, 0.710173f, -0.033464f, -0.068427f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.004141f, -0.012395f, 0.100717f), new Quaternion(0.488869f, -0.561971f, -0.436276f, 0.504838f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.013701f, -0.019742f, 0.091452f), new Quaternion(-0.693051f, 0.122638f, 0.187274f, 0.685253f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.003155f, -0.079963f, 0.099278f), new Quaternion(0.642645f, -0.712065f, -0.038368f, 0.280182f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.004427f, -0.041877f, 0.071528f), new Quaternion(-0.700010f, 0.694133f, -0.159385f, 0.052565f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.550000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044511f, -0.034153f, 0.150481f), new Quaternion(-0.028364f, -0.043496f, -0.635498f, 0.770356f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.010499f, -0.085791f, 0.083917f), new Quaternion(-0.707187f, 0.636088f, -0.300491f, 0.070615f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.037835f, -0.082044f, 0.095463f), new Quaternion(-0.476677f, 0.282420f, -0.651961f, 0.517656f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.044960f, -0.035342f, 0.138597f), new Quaternion(-0.030128f, -0.042634f, -0.635526f, 0.770314f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.045365f, -0.047834f, 0.151767f), new Quaternion(-0.078172f, -0.059322f, -0.654051f, 0.750059f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003053f, -0.004148f, 0.117925f), new Quaternion(-0.234583f, 0.194710f, 0.089089f, 0.948222f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.007795f, -0.058486f, 0.105941f), new Quaternion(0.517009f, -0.585298f, -0.355485f, 0.513575f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019198f, -0.017941f, 0.148702f), new Quaternion(0.179629f, 0.294753f, -0.007117f, 0.938513f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.046577f, -0.041281f, 0.079890f), new Quaternion(-0.498202f, 0.422515f, -0.572379f, 0.495642f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.044490f, -0.060676f, 0.087132f), new Quaternion(-0.508018f, 0.341473f, -0.591996f, 0.524267f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(-0.002502f, -0.059707f, 0.103606f), new Quaternion(0.517009f, -0.585298f, -0.355485f, 0.513575f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.000420f, -0.036737f, 0.106274f), new Quaternion(0.489601f, -0.567764f, -0.428013f, 0.504720f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.005761f, -0.065858f, 0.077016f), new Quaternion(-0.728290f, 0.660176f, -0.182892f, 0.017710f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.013244f, -0.036631f, 0.107878f), new Quaternion(0.466425f, -0.586952f, -0.407416f, 0.521487f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.012164f, -0.036469f, 0.091296f), new Quaternion(-0.693051f, 0.122637f, 0.187274f, 0.685252f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.001230f, -0.080706f, 0.098490f), new Quaternion(0.569527f, -0.680601f, -0.197867f, 0.416261f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.040083f, -0.019588f, 0.152897f), new Quaternion(0.045722f, -0.005939f, -0.718935f, 0.693548f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.045585f, -0.015507f, 0.078840f), new Quaternion(-0.501198f, 0.422547f, -0.566557f, 0.499269f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051120f, 0.015171f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044736f, -0.060440f, 0.154179f), new Quaternion(-0.157530f, -0.093641f, -0.735634f, 0.652120f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.015210f, -0.012357f, 0.101944f), new Quaternion(0.488958f, -0.562144f, -0.436195f, 0.504629f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.002717f, -0.016445f, 0.072755f), new Quaternion(-0.699833f, 0.710241f, -0.033566f, -0.068310f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.004133f, -0.012392f, 0.100716f), new Quaternion(0.488958f, -0.562144f, -0.436195f, 0.504629f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.013701f, -0.019742f, 0.091452f), new Quaternion(-0.693051f, 0.122637f, 0.187274f, 0.685252f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.007341f, -0.079126f, 0.102928f), new Quaternion(0.569527f, -0.680601f, -0.197867f, 0.416261f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.003936f, -0.041720f, 0.073572f), new Quaternion(-0.703758f, 0.704453f, -0.090718f, -0.015617f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(0.700000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044633f, -0.034142f, 0.150467f), new Quaternion(-0.030128f, -0.042634f, -0.635526f, 0.770314f), 0.029865f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.008855f, -0.084653f, 0.087024f), new Quaternion(-0.714165f, 0.668730f, -0.206687f, -0.007155f), 0.011540f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.037372f, -0.082034f, 0.095534f), new Quaternion(-0.500374f, 0.327413f, -0.627748f, 0.498358f), 0.020110f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.PALM_EXT,new BonePose(new Vector3f(0.045040f, -0.035351f, 0.138584f), new Quaternion(-0.031897f, -0.041770f, -0.635552f, 0.770269f), 0.023547f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_METACARPAL_EXT,new BonePose(new Vector3f(0.045669f, -0.047806f, 0.151733f), new Quaternion(-0.081731f, -0.055923f, -0.653645f, 0.750296f), 0.026868f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_PROXIMAL_EXT,new BonePose(new Vector3f(-0.003040f, -0.004186f, 0.117891f), new Quaternion(-0.238311f, 0.193273f, 0.090856f, 0.947418f), 0.016903f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_TIP_EXT,new BonePose(new Vector3f(0.013484f, -0.058049f, 0.107017f), new Quaternion(0.404805f, -0.500221f, -0.468644f, 0.605216f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_METACARPAL_EXT,new BonePose(new Vector3f(0.019191f, -0.017950f, 0.148697f), new Quaternion(0.179511f, 0.294241f, -0.006170f, 0.938702f), 0.029145f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_PROXIMAL_EXT,new BonePose(new Vector3f(0.046445f, -0.041385f, 0.079881f), new Quaternion(-0.509930f, 0.436749f, -0.560851f, 0.484427f), 0.017228f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_PROXIMAL_EXT,new BonePose(new Vector3f(0.044158f, -0.060707f, 0.087122f), new Quaternion(-0.533713f, 0.375920f, -0.570480f, 0.498387f), 0.018243f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_DISTAL_EXT,new BonePose(new Vector3f(0.003015f, -0.058274f, 0.108843f), new Quaternion(0.404805f, -0.500221f, -0.468644f, 0.605216f), 0.011801f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_DISTAL_EXT,new BonePose(new Vector3f(0.006514f, -0.036662f, 0.108406f), new Quaternion(0.396443f, -0.483483f, -0.516572f, 0.585006f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.RING_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.004485f, -0.064864f, 0.081166f), new Quaternion(-0.725377f, 0.677926f, -0.098532f, -0.067369f), 0.013501f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_TIP_EXT,new BonePose(new Vector3f(0.019118f, -0.037123f, 0.105587f), new Quaternion(0.376724f, -0.499001f, -0.492683f, 0.605262f), 0.012969f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_TIP_EXT,new BonePose(new Vector3f(-0.011891f, -0.036728f, 0.091568f), new Quaternion(-0.698417f, 0.119644f, 0.186856f, 0.680431f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_DISTAL_EXT,new BonePose(new Vector3f(0.003720f, -0.079500f, 0.103465f), new Quaternion(0.471077f, -0.610579f, -0.344823f, 0.535144f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_METACARPAL_EXT,new BonePose(new Vector3f(0.040083f, -0.019588f, 0.152897f), new Quaternion(0.045728f, -0.005942f, -0.718935f, 0.693547f), 0.029847f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_PROXIMAL_EXT,new BonePose(new Vector3f(0.045586f, -0.015506f, 0.078840f), new Quaternion(-0.501168f, 0.422533f, -0.566674f, 0.499178f), 0.018792f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.WRIST_EXT,new BonePose(new Vector3f(0.041038f, -0.040223f, 0.167839f), new Quaternion(0.051121f, 0.015171f, 0.637587f, -0.768536f), 0.032754f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_METACARPAL_EXT,new BonePose(new Vector3f(0.045099f, -0.060407f, 0.154139f), new Quaternion(-0.162786f, -0.089283f, -0.734839f, 0.652336f), 0.028244f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_TIP_EXT,new BonePose(new Vector3f(0.015190f, -0.012355f, 0.101957f), new Quaternion(0.489166f, -0.562558f, -0.436006f, 0.504129f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.002718f, -0.016436f, 0.072751f), new Quaternion(-0.699682f, 0.710405f, -0.033807f, -0.068033f), 0.012606f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.INDEX_DISTAL_EXT,new BonePose(new Vector3f(0.004114f, -0.012384f, 0.100714f), new Quaternion(0.489166f, -0.562558f, -0.436006f, 0.504129f), 0.011676f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.THUMB_DISTAL_EXT,new BonePose(new Vector3f(-0.013541f, -0.020011f, 0.091497f), new Quaternion(-0.698417f, 0.119644f, 0.186856f, 0.680431f), 0.013666f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.LITTLE_TIP_EXT,new BonePose(new Vector3f(0.011269f, -0.078858f, 0.104927f), new Quaternion(0.471077f, -0.610579f, -0.344823f, 0.535144f), 0.010302f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_INTERMEDIATE_EXT,new BonePose(new Vector3f(0.003546f, -0.041564f, 0.075638f), new Quaternion(-0.700949f, 0.707953f, -0.021038f, -0.083855f), 0.013162f));
-        skeletonData.computeIfAbsent(HandSide.RIGHT, newMap1).computeIfAbsent(1.000000f, newMap2).put(HandJoint.MIDDLE_METACARPAL_EXT,new BonePose(new Vector3f(0.044755f, -0.034130f, 0.150454f), new Quaternion(-0.031897f, -0.041770f, -0.635552f, 0.770269f), 0.029865f));
-}
 
     public static Map<HandJoint, BonePose> synthesizeBonePositions(HandSide handSide, float grabStrength) {
-        Map<Float, Map<HandJoint, BonePose>> handData = skeletonData.get(handSide);
-        if (handData == null) {
-            throw new IllegalArgumentException("No data for hand side: " + handSide);
-        }
-
-        // Find the two keys that are closest to the grabStrength
-        float lowerKey = 0;
-        float higherKey = 1;
-        for (float key : handData.keySet()) {
-            if (key <= grabStrength && key > lowerKey) {
-                lowerKey = key;
-            } else if (key >= grabStrength && key < higherKey) {
-                higherKey = key;
-            }
-        }
-
-        // Get the bone poses for the two keys
-        Map<HandJoint, BonePose> lowerBonePoses = handData.get(lowerKey);
-        Map<HandJoint, BonePose> higherBonePoses = handData.get(higherKey);
-
-        // Calculate the interpolation factor
-        float t = higherKey == lowerKey ? 0 : (grabStrength - lowerKey) / (higherKey - lowerKey);
-
-        // Interpolate between the two sets of bone poses
-        Map<HandJoint, BonePose> interpolatedBonePoses = new HashMap<>();
-        for (HandJoint joint : HandJoint.values()) {
-            BonePose lowerBonePose = lowerBonePoses.get(joint);
-            BonePose higherBonePose = higherBonePoses.get(joint);
-
-            if (lowerBonePose != null && higherBonePose != null) {
-                // Interpolate positions
-                Vector3f interpolatedPosition = lowerBonePose.position().clone().interpolateLocal(higherBonePose.position(), t);
-
-                // Interpolate orientations using slerp
-                Quaternion interpolatedOrientation = new Quaternion();
-                interpolatedOrientation.slerp(lowerBonePose.orientation(), higherBonePose.orientation(), t);
-
-                // Interpolate radius
-                float interpolatedRadius = lowerBonePose.radius() + t * (higherBonePose.radius() - lowerBonePose.radius());
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        synthesizeBonePositions(handSide, grabStrength, skeleton);
+        return skeleton.toMap();
+    }
 
-                // Create the new BonePose and add it to the map
-                interpolatedBonePoses.put(joint, new BonePose(interpolatedPosition, interpolatedOrientation, interpolatedRadius));
-            }
-        }
+    /**
+     * Interpolates between the recorded poses either side of the grab strength, writing the result into the store
+     */
+    public static void synthesizeBonePositions(HandSide handSide, float grabStrength, HandSkeletonPose store) {
+        HandPoseGrid handData = HandPoseDataset.get().getGrid(HandPoseDataset.GRAB_STRENGTH_DATASET, handSide)
+                .orElseThrow(() -> new IllegalArgumentException("No data for hand side: " + handSide));
 
-        return interpolatedBonePoses;
+        // the grab strength dataset only has a single trigger value
+        handData.interpolate(grabStrength, 0, store);
     }
 }
@@ -4,31 +4,24 @@ import com.jme3.math.Quaternion;
 import com.jme3.math.Vector3f;
 import com.onemillionworlds.tamarin.actions.HandSide;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 @SuppressWarnings({"ClassCanBeRecord", "unused"})
 public class DefaultSkeletonSynthesiser implements SkeletonSynthesiser {
-    private static final Logger LOGGER = Logger.getLogger(DefaultSkeletonSynthesiser.class.getName());
-
 
+    /**
+     * Deprecated, the open hand is now the grab strength dataset's grip 0 trigger 0 pose (see {@link HandPoseDataset}),
+     * which is what this class synthesises when the actions aren't available. This copy is no longer used by Tamarin.
+     */
+    @Deprecated(since="3.0.3", forRemoval = true)
     public static Map<HandSide,Map<HandJoint, BonePose>> OPEN_HAND_FALLBACK = new HashMap<>();
     
     static{
@@ -90,19 +83,22 @@ public class DefaultSkeletonSynthesiser implements SkeletonSynthesiser {
 
     }
 
-    // CSV resource path
-    private static final String RESOURCE_PATH = "Tamarin/Data/simulatedJointValues.csv";
+    private final ActionHandle triggerAction;
+    private final ActionHandle grabAction;
 
-    // Async loading control
-    private static boolean loadingStarted = false;
-    private static boolean dataLoaded = false;
-    private static ExecutorService loaderExecutor;
+    /**
+     * The trigger and grab actions resolved against each hand (lazily, the first time that hand is synthesised)
+     */
+    private final Map<HandSide, ResolvedActionHandle> resolvedTriggerActions = new EnumMap<>(HandSide.class);
+    private final Map<HandSide, ResolvedActionHandle> resolvedGrabActions = new EnumMap<>(HandSide.class);
 
-    // Per-hand grid data loaded from CSV
-    private static final Map<HandSide, GridData> HAND_GRIDS = new HashMap<>();
+    private final Map<HandSide, HandPoseGrid> grids = new EnumMap<>(HandSide.class);
 
-    private final ActionHandle triggerAction;
-    private final ActionHandle grabAction;
+    /**
+     * The last interpolated skeleton for each hand, so that if the grip and trigger haven't changed (which is most
+     * frames) the interpolation doesn't need to be repeated
+     */
+    private final Map<HandSide, InterpolatedSkeleton> lastInterpolatedSkeletons = new EnumMap<>(HandSide.class);
 
     private final SynthesiseMode synthesiseMode;
 
@@ -110,33 +106,16 @@ public class DefaultSkeletonSynthesiser implements SkeletonSynthesiser {
         this.triggerAction = triggerAction;
         this.grabAction = grabAction;
         this.synthesiseMode = synthesiseMode;
-    }
-
-    private void triggerDataLoad(){
-        if(dataLoaded || loadingStarted){
-            return;
+        for(HandSide handSide : HandSide.values()){
+            lastInterpolatedSkeletons.put(handSide, new InterpolatedSkeleton());
         }
-        loadingStarted = true;
-
-        loaderExecutor = Executors.newSingleThreadExecutor();
-        loaderExecutor.submit(() -> {
-            try{
-                loadCsvData();
-                dataLoaded = true;
-            } catch(Exception e){
-                // If loading fails, leave dataLoaded=false so fallback is used
-                LOGGER.log(Level.SEVERE, "Failed to load skeleton synthesis data", e);
-            } finally{
-                // Only ever needed once per process
-                loaderExecutor.shutdown();
-            }
-        });
     }
 
     @Override
     public void initialise() {
         if(synthesiseMode == SynthesiseMode.ALWAYS_SYNTHESISE){
-            triggerDataLoad();
+            // load the data up front rather than when the hands first appear
+            HandPoseDataset.get();
         }
     }
 
@@ -150,241 +129,70 @@ public class DefaultSkeletonSynthesiser implements SkeletonSynthesiser {
      */
     @Override
     public Map<HandJoint, BonePose> synthesiseBonePositions(BoundHand boundHand){
-        triggerDataLoad();
-
-        HandSide handSide = boundHand.getHandSide();
-        float triggerPressure = boundHand.getFloatActionState(triggerAction).getState();
-        float gripPressure = boundHand.getFloatActionState(grabAction).getState();
-
-        // If data not yet loaded, return the simple open-hand fallback
-        if(!dataLoaded){
-            return OPEN_HAND_FALLBACK.get(handSide);
-        }
-
-        GridData grid = HAND_GRIDS.get(handSide);
-        if(grid == null || grid.gripValues.length == 0 || grid.triggerValues.length == 0){
-            return OPEN_HAND_FALLBACK.get(handSide);
-        }
-
-        // Clamp inputs to [0,1]
-        float gp = Math.max(0f, Math.min(1f, gripPressure));
-        float tp = Math.max(0f, Math.min(1f, triggerPressure));
-
-        // Find surrounding indices in non-uniform grids
-        int gLowIdx = lowerIndex(grid.gripValues, gp);
-        int gHighIdx = upperIndex(grid.gripValues, gp);
-        int tLowIdx = lowerIndex(grid.triggerValues, tp);
-        int tHighIdx = upperIndex(grid.triggerValues, tp);
-
-        float g0 = grid.gripValues[gLowIdx];
-        float g1 = grid.gripValues[gHighIdx];
-        float t0 = grid.triggerValues[tLowIdx];
-        float t1 = grid.triggerValues[tHighIdx];
-
-        Map<Float, Map<Float, Map<HandJoint, BonePose>>> gMap0 = grid.data;
-
-        Map<HandJoint, BonePose> q00 = safeGet(gMap0, g0, t0);
-        Map<HandJoint, BonePose> q10 = safeGet(gMap0, g1, t0);
-        Map<HandJoint, BonePose> q01 = safeGet(gMap0, g0, t1);
-        Map<HandJoint, BonePose> q11 = safeGet(gMap0, g1, t1);
-
-        // If any corner is missing, fallback
-        if(q00 == null || q10 == null || q01 == null || q11 == null){
-            return OPEN_HAND_FALLBACK.get(handSide);
-        }
-
-        // Exact match
-        if(g0 == g1 && t0 == t1){
-            return q00;
-        }
-
-        float tg = (g1 == g0) ? 0f : (gp - g0) / (g1 - g0);
-        float tt = (t1 == t0) ? 0f : (tp - t0) / (t1 - t0);
-
-        // 1D interpolation cases
-        if(g0 == g1){
-            return lerpPoseMap(q00, q01, tt);
-        }
-        if(t0 == t1){
-            return lerpPoseMap(q00, q10, tg);
-        }
-
-        // Full bilinear: first along trigger for each grip, then along grip
-        Map<HandJoint, BonePose> a = lerpPoseMap(q00, q01, tt);
-        Map<HandJoint, BonePose> b = lerpPoseMap(q10, q11, tt);
-        return lerpPoseMap(a, b, tg);
-    }
-
-    private static Map<HandJoint, BonePose> safeGet(Map<Float, Map<Float, Map<HandJoint, BonePose>>> data,
-                                                    float grip, float trigger){
-        Map<Float, Map<HandJoint, BonePose>> byTrigger = data.get(grip);
-        if(byTrigger == null){
-            return null;
-        }
-        return byTrigger.get(trigger);
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        synthesiseBonePositions(boundHand, skeleton);
+        return skeleton.isPopulated() ? skeleton.toMap() : Map.of();
     }
 
-    private static Map<HandJoint, BonePose> lerpPoseMap(Map<HandJoint, BonePose> a,
-                                                        Map<HandJoint, BonePose> b,
-                                                        float t){
-        Map<HandJoint, BonePose> out = new HashMap<>();
-        for(HandJoint joint : HandJoint.values()){
-            BonePose pa = a.get(joint);
-            BonePose pb = b.get(joint);
-            if(pa != null && pb != null){
-                out.put(joint, lerpBonePose(pa, pb, t));
-            } else if(pa != null){
-                out.put(joint, pa);
-            } else if(pb != null){
-                out.put(joint, pb);
-            }
-        }
-        return out;
-    }
-
-    private static BonePose lerpBonePose(BonePose a, BonePose b, float t){
-        Vector3f pos = a.position().clone().interpolateLocal(b.position(), t);
-        Quaternion ori = new Quaternion();
-        ori.slerp(a.orientation(), b.orientation(), t);
-        float radius = a.radius() + t * (b.radius() - a.radius());
-        return new BonePose(pos, ori, radius);
-    }
-
-    private static int lowerIndex(float[] arr, float value){
-        int idx = Arrays.binarySearch(arr, value);
-        if(idx >= 0){
-            return idx;
-        }
-        int insertion = -idx - 1; // index of first element greater than value
-        int lower = insertion - 1;
-        return Math.max(lower, 0);
-    }
-
-    private static int upperIndex(float[] arr, float value){
-        int idx = Arrays.binarySearch(arr, value);
-        if(idx >= 0){
-            return idx;
-        }
-        int insertion = -idx - 1; // first element greater than value
-        if(insertion >= arr.length){
-            return arr.length - 1;
+    /**
+     * Given the current grip and trigger pressures, synthesise the positions of the bones in the hand skeleton,
+     * interpolating directly into the store.
+     */
+    @Override
+    public void synthesiseBonePositions(BoundHand boundHand, HandSkeletonPose store){
+        if(!synthesiseFromGrid(boundHand, store)){
+            // the open hand
+            HandPoseDataset.get().getGrid(HandPoseDataset.GRAB_STRENGTH_DATASET, boundHand.getHandSide())
+                    .ifPresent(grid -> grid.interpolate(0, 0, store));
         }
-        return insertion;
     }
 
-    private static void loadCsvData() throws IOException{
-        LOGGER.info("Loading skeleton synthesis data from " + RESOURCE_PATH);
-        InputStream is = DefaultSkeletonSynthesiser.class.getClassLoader().getResourceAsStream(RESOURCE_PATH);
-        if(is == null){
-            throw new IOException("Resource not found: " + RESOURCE_PATH);
-        }
-        try(BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))){
-            // Builders for each hand
-            CsvGridBuilder leftBuilder = new CsvGridBuilder();
-            CsvGridBuilder rightBuilder = new CsvGridBuilder();
-
-            @SuppressWarnings("UnusedAssignment")
-            String line = br.readLine(); // header
-            // Expected header: handSide,targetGrip,targetTrigger,joint,positionX,positionY,positionZ,rotationX,rotationY,rotationZ,rotationW[,radius]
-            while((line = br.readLine()) != null){
-                if(line.isBlank()){
-                    continue;
-                }
-                String[] cols = line.split(",");
-                String sideStr = cols[0].trim();
-                float grip = parseFloatSafe(cols[1]);
-                float trigger = parseFloatSafe(cols[2]);
-                String jointStr = cols[3].trim();
-                float px = parseFloatSafe(cols[4]);
-                float py = parseFloatSafe(cols[5]);
-                float pz = parseFloatSafe(cols[6]);
-                float qx = parseFloatSafe(cols[7]);
-                float qy = parseFloatSafe(cols[8]);
-                float qz = parseFloatSafe(cols[9]);
-                float qw = parseFloatSafe(cols[10]);
-                float radius = parseFloatSafe(cols[11]);
-
-                HandSide side;
-                try{
-                    side = HandSide.valueOf(sideStr);
-                } catch(IllegalArgumentException ex){
-                    throw new IOException("Invalid hand side in CSV: " + sideStr);
-                }
-                HandJoint joint;
-                try{
-                    joint = HandJoint.valueOf(jointStr);
-                } catch(IllegalArgumentException ex){
-                    throw new IOException("Invalid joint in CSV: " + jointStr);
-                }
-
-                BonePose pose = new BonePose(new Vector3f(px, py, pz), new Quaternion(qx, qy, qz, qw), radius);
-
-                if(side == HandSide.LEFT){
-                    leftBuilder.add(grip, trigger, joint, pose);
-                } else if(side == HandSide.RIGHT){
-                    rightBuilder.add(grip, trigger, joint, pose);
+    /**
+     * @return false if the grid data isn't available, in which case the open hand fallback should be used
+     */
+    private boolean synthesiseFromGrid(BoundHand boundHand, HandSkeletonPose store){
+        HandSide handSide = boundHand.getHandSide();
+        ResolvedActionHandle resolvedTriggerAction = resolvedTriggerActions.get(handSide);
+        ResolvedActionHandle resolvedGrabAction = resolvedGrabActions.get(handSide);
+        if(resolvedTriggerAction == null || resolvedGrabAction == null){
+            resolvedTriggerAction = boundHand.resolveActionHandle(triggerAction);
+            resolvedGrabAction = boundHand.resolveActionHandle(grabAction);
+            resolvedTriggerActions.put(handSide, resolvedTriggerAction);
+            resolvedGrabActions.put(handSide, resolvedGrabAction);
+        }
+        float triggerPressure = boundHand.getFloatActionState(resolvedTriggerAction).getState();
+        float gripPressure = boundHand.getFloatActionState(resolvedGrabAction).getState();
+
+        InterpolatedSkeleton lastInterpolated = lastInterpolatedSkeletons.get(handSide);
+        if(!lastInterpolated.matches(gripPressure, triggerPressure)){
+            HandPoseGrid grid = grids.get(handSide);
+            if(grid == null){
+                grid = HandPoseDataset.get().getGrid(HandPoseDataset.GRIP_AND_TRIGGER_DATASET, handSide).orElse(null);
+                if(grid == null){
+                    return false;
                 }
+                grids.put(handSide, grid);
             }
-
-            GridData leftGrid = leftBuilder.build();
-            GridData rightGrid = rightBuilder.build();
-            if(leftGrid != null){
-                HAND_GRIDS.put(HandSide.LEFT, leftGrid);
-            }
-            if(rightGrid != null){
-                HAND_GRIDS.put(HandSide.RIGHT, rightGrid);
+            if(!grid.interpolate(gripPressure, triggerPressure, lastInterpolated.skeleton)){
+                lastInterpolated.valid = false;
+                return false;
             }
+            lastInterpolated.valid = true;
+            lastInterpolated.gripPressure = gripPressure;
+            lastInterpolated.triggerPressure = triggerPressure;
         }
+        store.set(lastInterpolated.skeleton, 0);
+        return true;
     }
 
-    private static float parseFloatSafe(String s){
-        try{
-            return Float.parseFloat(s.trim());
-        } catch(Exception e){
-            return 0f;
-        }
-    }
-
-    private static class CsvGridBuilder{
-        final TreeSet<Float> grips = new TreeSet<>();
-        final TreeSet<Float> triggers = new TreeSet<>();
-        final Map<Float, Map<Float, Map<HandJoint, BonePose>>> data = new HashMap<>();
-
-        void add(float grip, float trigger, HandJoint joint, BonePose pose){
-            grips.add(grip);
-            triggers.add(trigger);
-            data.computeIfAbsent(grip, g -> new HashMap<>())
-                .computeIfAbsent(trigger, t -> new HashMap<>())
-                .put(joint, pose);
-        }
-
-        GridData build(){
-            if(grips.isEmpty() || triggers.isEmpty() || data.isEmpty()){
-                return null;
-            }
-            List<Float> gList = new ArrayList<>(grips);
-            List<Float> tList = new ArrayList<>(triggers);
-            float[] gArr = new float[gList.size()];
-            float[] tArr = new float[tList.size()];
-            for(int i=0;i<gArr.length;i++) gArr[i] = gList.get(i);
-            for(int i=0;i<tArr.length;i++) tArr[i] = tList.get(i);
-            return new GridData(gArr, tArr, data);
-        }
-    }
-
-    /**
-     * Holds a non-uniform grid of poses for efficient corner lookup.
-     */
-    private static class GridData{
-        final float[] gripValues;     // sorted ascending
-        final float[] triggerValues;  // sorted ascending
-        final Map<Float, Map<Float, Map<HandJoint, BonePose>>> data; // grip -> trigger -> joints
+    private static class InterpolatedSkeleton{
+        boolean valid = false;
+        float gripPressure;
+        float triggerPressure;
+        final float[] skeleton = new float[HandPoseGrid.FLOATS_PER_SKELETON];
 
-        GridData(float[] gripValues, float[] triggerValues,
-                 Map<Float, Map<Float, Map<HandJoint, BonePose>>> data){
-            this.gripValues = gripValues;
-            this.triggerValues = triggerValues;
-            this.data = data;
+        boolean matches(float gripPressure, float triggerPressure){
+            return valid && this.gripPressure == gripPressure && this.triggerPressure == triggerPressure;
         }
     }
 
@@ -0,0 +1,183 @@
+package com.onemillionworlds.tamarin.vrhands.skeletonsynthesis;
+
+import com.onemillionworlds.tamarin.actions.HandSide;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The recorded hand skeletons used to synthesise hands when the runtime doesn't provide real bone positions, shared
+ * by the {@link DefaultSkeletonSynthesiser}, the simple grab-strength based synthesis and the open hand fallback.
+ * <p>
+ * These are compiled at build time (by the generateHandPoseDataset gradle task) from the CSVs in
+ * tamarin-core/src/handPoseData into a single binary resource which is read (once, the first time it is needed)
+ * in a single read. The format (big endian) is:
+ * </p>
+ * <pre>
+ * int magic ("TPOS"), int version
+ * int jointCount, then jointCount strings (int byte length + UTF-8 bytes) naming the {@link HandJoint}s in file order
+ * int floatsPerJoint (8)
+ * int gridCount, then for each grid:
+ *     string name (the CSV name / hand side, e.g. "simulatedJointValues/LEFT")
+ *     int gripCount, gripCount floats (ascending)
+ *     int triggerCount, triggerCount floats (ascending)
+ *     for each grip, for each trigger, for each joint (in file order): byte present, 8 floats (position, orientation, radius)
+ * </pre>
+ */
+public class HandPoseDataset{
+
+    private static final Logger LOGGER = Logger.getLogger(HandPoseDataset.class.getName());
+
+    public static final String RESOURCE_PATH = "Tamarin/Data/handPoses.bin";
+
+    /**
+     * Poses recorded across a grid of grip and trigger pressures, used by the {@link DefaultSkeletonSynthesiser}
+     */
+    public static final String GRIP_AND_TRIGGER_DATASET = "simulatedJointValues";
+
+    /**
+     * Poses recorded across grab strength only (held as the grip, with a single trigger value of zero), used when no
+     * skeleton synthesiser is configured. Its zero grip cell is the open hand fallback.
+     */
+    public static final String GRAB_STRENGTH_DATASET = "simpleSyntheticJointValues";
+
+    static final int MAGIC = 0x54504F53;
+    static final int VERSION = 1;
+
+    private static final HandPoseDataset EMPTY = new HandPoseDataset(Map.of());
+
+    private final Map<String, HandPoseGrid> grids;
+
+    HandPoseDataset(Map<String, HandPoseGrid> grids){
+        this.grids = grids;
+    }
+
+    /**
+     * Gets the dataset, loading it on first call. If the resource can't be loaded an error is logged and an empty
+     * dataset is returned (so callers will fall back to whatever they do without data).
+     */
+    public static HandPoseDataset get(){
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @param datasetName the dataset (e.g. {@link #GRIP_AND_TRIGGER_DATASET})
+     * @param handSide the hand side
+     * @return the grid, or empty if the dataset has no such grid
+     */
+    public Optional<HandPoseGrid> getGrid(String datasetName, HandSide handSide){
+        return Optional.ofNullable(grids.get(gridName(datasetName, handSide)));
+    }
+
+    private static String gridName(String datasetName, HandSide handSide){
+        return datasetName + "/" + handSide.name();
+    }
+
+    private static HandPoseDataset load(){
+        try(InputStream is = HandPoseDataset.class.getClassLoader().getResourceAsStream(RESOURCE_PATH)){
+            if(is == null){
+                throw new IOException("Resource not found: " + RESOURCE_PATH);
+            }
+            return read(ByteBuffer.wrap(is.readAllBytes()));
+        } catch(IOException | RuntimeException e){
+            LOGGER.log(Level.SEVERE, "Failed to load hand pose dataset", e);
+            return EMPTY;
+        }
+    }
+
+    static HandPoseDataset read(ByteBuffer buffer) throws IOException{
+        if(buffer.getInt() != MAGIC){
+            throw new IOException("Not a hand pose dataset");
+        }
+        int version = buffer.getInt();
+        if(version != VERSION){
+            throw new IOException("Unsupported hand pose dataset version " + version);
+        }
+
+        int jointCount = buffer.getInt();
+        // the offset each joint in the file goes to in a HandSkeletonPose, or -1 for joints this version doesn't know
+        int[] jointOffsets = new int[jointCount];
+        boolean[] jointKnown = new boolean[HandSkeletonPose.NUMBER_OF_JOINTS];
+        for(int i = 0; i < jointCount; i++){
+            String jointName = readString(buffer);
+            try{
+                HandJoint joint = HandJoint.valueOf(jointName);
+                jointOffsets[i] = joint.getJointIndex() * HandSkeletonPose.FLOATS_PER_JOINT;
+                jointKnown[joint.getJointIndex()] = true;
+            } catch(IllegalArgumentException e){
+                jointOffsets[i] = -1;
+            }
+        }
+        boolean allJointsInFile = allTrue(jointKnown);
+
+        int floatsPerJoint = buffer.getInt();
+        if(floatsPerJoint != HandSkeletonPose.FLOATS_PER_JOINT){
+            throw new IOException("Unexpected floats per joint " + floatsPerJoint);
+        }
+
+        int gridCount = buffer.getInt();
+        Map<String, HandPoseGrid> grids = new HashMap<>();
+        for(int g = 0; g < gridCount; g++){
+            String name = readString(buffer);
+            float[] gripValues = readFloats(buffer, buffer.getInt());
+            float[] triggerValues = readFloats(buffer, buffer.getInt());
+
+            int cellCount = gripValues.length * triggerValues.length;
+            float[] poses = new float[cellCount * HandPoseGrid.FLOATS_PER_SKELETON];
+            boolean[] cellComplete = new boolean[cellCount];
+            for(int cell = 0; cell < cellCount; cell++){
+                boolean complete = allJointsInFile;
+                int cellOffset = cell * HandPoseGrid.FLOATS_PER_SKELETON;
+                for(int joint = 0; joint < jointCount; joint++){
+                    boolean present = buffer.get() != 0;
+                    if(jointOffsets[joint] >= 0){
+                        buffer.asFloatBuffer().get(poses, cellOffset + jointOffsets[joint], HandSkeletonPose.FLOATS_PER_JOINT);
+                        complete &= present;
+                    }
+                    buffer.position(buffer.position() + HandSkeletonPose.FLOATS_PER_JOINT * Float.BYTES);
+                }
+                cellComplete[cell] = complete;
+            }
+            grids.put(name, new HandPoseGrid(gripValues, triggerValues, poses, cellComplete));
+        }
+        return new HandPoseDataset(grids);
+    }
+
+    private static String readString(ByteBuffer buffer){
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static float[] readFloats(ByteBuffer buffer, int count){
+        float[] values = new float[count];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + count * Float.BYTES);
+        return values;
+    }
+
+    private static boolean allTrue(boolean[] values){
+        for(boolean value : values){
+            if(!value){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lazy holder so the dataset is only read when first needed (and then only once)
+     */
+    private static class Holder{
+        static final HandPoseDataset INSTANCE = load();
+    }
+}
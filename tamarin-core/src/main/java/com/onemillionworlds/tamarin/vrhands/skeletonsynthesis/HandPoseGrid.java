@@ -0,0 +1,215 @@
+package com.onemillionworlds.tamarin.vrhands.skeletonsynthesis;
+
+import com.jme3.math.FastMath;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+
+import java.util.Arrays;
+
+/**
+ * A non-uniform grid (by grip and trigger pressure) of recorded hand skeletons for one hand, held as dense primitive
+ * arrays so that they can be interpolated without allocation.
+ * <p>
+ * The poses are laid out [grip][trigger][joint][{@link HandSkeletonPose#FLOATS_PER_JOINT}] (i.e. each cell is a
+ * complete skeleton in the {@link HandSkeletonPose} layout).
+ * </p>
+ * <p>
+ * Grids are loaded from the {@link HandPoseDataset}.
+ * </p>
+ * <p>
+ * The interpolation uses internal scratch arrays so a grid should only be interpolated from one thread at a time
+ * (which it is, the render thread).
+ * </p>
+ */
+public class HandPoseGrid{
+
+    static final int FLOATS_PER_SKELETON = HandSkeletonPose.NUMBER_OF_JOINTS * HandSkeletonPose.FLOATS_PER_JOINT;
+
+    /**
+     * Sorted ascending
+     */
+    private final float[] gripValues;
+
+    /**
+     * Sorted ascending
+     */
+    private final float[] triggerValues;
+
+    private final float[] poses;
+
+    /**
+     * If each cell has a value for every joint, incomplete cells are not used
+     */
+    private final boolean[] cellComplete;
+
+    private final float[] scratchA = new float[FLOATS_PER_SKELETON];
+    private final float[] scratchB = new float[FLOATS_PER_SKELETON];
+    private final float[] scratchResult = new float[FLOATS_PER_SKELETON];
+
+    HandPoseGrid(float[] gripValues, float[] triggerValues, float[] poses, boolean[] cellComplete){
+        this.gripValues = gripValues;
+        this.triggerValues = triggerValues;
+        this.poses = poses;
+        this.cellComplete = cellComplete;
+    }
+
+    private int cellIndex(int gripIndex, int triggerIndex){
+        return gripIndex * triggerValues.length + triggerIndex;
+    }
+
+    /**
+     * As {@link #interpolate(float, float, float[])} but writing into a skeleton pose
+     *
+     * @return false if the surrounding grid cells aren't available (in which case the store is not written to)
+     */
+    public boolean interpolate(float gripPressure, float triggerPressure, HandSkeletonPose store){
+        if(!interpolate(gripPressure, triggerPressure, scratchResult)){
+            return false;
+        }
+        store.set(scratchResult, 0);
+        return true;
+    }
+
+    /**
+     * Bilinearly interpolates (slerping the orientations) the skeleton at the requested grip and trigger pressure into
+     * the output array (in the {@link HandSkeletonPose} layout).
+     *
+     * @param gripPressure the grip pressure, will be clamped to [0,1]
+     * @param triggerPressure the trigger pressure, will be clamped to [0,1]
+     * @param out the array to write the skeleton into, at least {@link #FLOATS_PER_SKELETON} long
+     * @return false if the surrounding grid cells aren't available (in which case out is not written to)
+     */
+    boolean interpolate(float gripPressure, float triggerPressure, float[] out){
+        if(gripValues.length == 0 || triggerValues.length == 0){
+            return false;
+        }
+
+        float gp = Math.max(0f, Math.min(1f, gripPressure));
+        float tp = Math.max(0f, Math.min(1f, triggerPressure));
+
+        // Find surrounding indices in non-uniform grids
+        int gLowIdx = lowerIndex(gripValues, gp);
+        int gHighIdx = upperIndex(gripValues, gp);
+        int tLowIdx = lowerIndex(triggerValues, tp);
+        int tHighIdx = upperIndex(triggerValues, tp);
+
+        int c00 = cellIndex(gLowIdx, tLowIdx);
+        int c10 = cellIndex(gHighIdx, tLowIdx);
+        int c01 = cellIndex(gLowIdx, tHighIdx);
+        int c11 = cellIndex(gHighIdx, tHighIdx);
+
+        if(!cellComplete[c00] || !cellComplete[c10] || !cellComplete[c01] || !cellComplete[c11]){
+            return false;
+        }
+
+        float g0 = gripValues[gLowIdx];
+        float g1 = gripValues[gHighIdx];
+        float t0 = triggerValues[tLowIdx];
+        float t1 = triggerValues[tHighIdx];
+
+        // Exact match
+        if(g0 == g1 && t0 == t1){
+            System.arraycopy(poses, c00 * FLOATS_PER_SKELETON, out, 0, FLOATS_PER_SKELETON);
+            return true;
+        }
+
+        float tg = (g1 == g0) ? 0f : (gp - g0) / (g1 - g0);
+        float tt = (t1 == t0) ? 0f : (tp - t0) / (t1 - t0);
+
+        // 1D interpolation cases
+        if(g0 == g1){
+            lerpSkeleton(poses, c00 * FLOATS_PER_SKELETON, poses, c01 * FLOATS_PER_SKELETON, tt, out);
+            return true;
+        }
+        if(t0 == t1){
+            lerpSkeleton(poses, c00 * FLOATS_PER_SKELETON, poses, c10 * FLOATS_PER_SKELETON, tg, out);
+            return true;
+        }
+
+        // Full bilinear: first along trigger for each grip, then along grip
+        lerpSkeleton(poses, c00 * FLOATS_PER_SKELETON, poses, c01 * FLOATS_PER_SKELETON, tt, scratchA);
+        lerpSkeleton(poses, c10 * FLOATS_PER_SKELETON, poses, c11 * FLOATS_PER_SKELETON, tt, scratchB);
+        lerpSkeleton(scratchA, 0, scratchB, 0, tg, out);
+        return true;
+    }
+
+    private static void lerpSkeleton(float[] a, int aOffset, float[] b, int bOffset, float t, float[] out){
+        for(int jointOffset = 0; jointOffset < FLOATS_PER_SKELETON; jointOffset += HandSkeletonPose.FLOATS_PER_JOINT){
+            int ja = aOffset + jointOffset;
+            int jb = bOffset + jointOffset;
+            // position
+            out[jointOffset] = a[ja] + t * (b[jb] - a[ja]);
+            out[jointOffset + 1] = a[ja + 1] + t * (b[jb + 1] - a[ja + 1]);
+            out[jointOffset + 2] = a[ja + 2] + t * (b[jb + 2] - a[ja + 2]);
+            // orientation
+            slerp(a, ja + 3, b, jb + 3, t, out, jointOffset + 3);
+            // radius
+            out[jointOffset + 7] = a[ja + 7] + t * (b[jb + 7] - a[ja + 7]);
+        }
+    }
+
+    /**
+     * The same algorithm as {@link com.jme3.math.Quaternion#slerp(com.jme3.math.Quaternion, com.jme3.math.Quaternion, float)}
+     * but on quaternions held as x,y,z,w in float arrays
+     */
+    static void slerp(float[] a, int aOffset, float[] b, int bOffset, float t, float[] out, int outOffset){
+        float ax = a[aOffset], ay = a[aOffset + 1], az = a[aOffset + 2], aw = a[aOffset + 3];
+        float bx = b[bOffset], by = b[bOffset + 1], bz = b[bOffset + 2], bw = b[bOffset + 3];
+
+        if(ax == bx && ay == by && az == bz && aw == bw){
+            out[outOffset] = ax;
+            out[outOffset + 1] = ay;
+            out[outOffset + 2] = az;
+            out[outOffset + 3] = aw;
+            return;
+        }
+
+        float dot = ax * bx + ay * by + az * bz + aw * bw;
+
+        if(dot < 0f){
+            // take the shorter way round
+            bx = -bx;
+            by = -by;
+            bz = -bz;
+            bw = -bw;
+            dot = -dot;
+        }
+
+        float scale0 = 1 - t;
+        float scale1 = t;
+
+        if((1 - dot) > 0.1f){
+            // not so close together that a linear interpolation is good enough
+            float theta = FastMath.acos(dot);
+            float invSinTheta = 1f / FastMath.sin(theta);
+            scale0 = FastMath.sin((1 - t) * theta) * invSinTheta;
+            scale1 = FastMath.sin(t * theta) * invSinTheta;
+        }
+
+        out[outOffset] = scale0 * ax + scale1 * bx;
+        out[outOffset + 1] = scale0 * ay + scale1 * by;
+        out[outOffset + 2] = scale0 * az + scale1 * bz;
+        out[outOffset + 3] = scale0 * aw + scale1 * bw;
+    }
+
+    private static int lowerIndex(float[] arr, float value){
+        int idx = Arrays.binarySearch(arr, value);
+        if(idx >= 0){
+            return idx;
+        }
+        int insertion = -idx - 1; // index of first element greater than value
+        int lower = insertion - 1;
+        return Math.max(lower, 0);
+    }
+
+    private static int upperIndex(float[] arr, float value){
+        int idx = Arrays.binarySearch(arr, value);
+        if(idx >= 0){
+            return idx;
+        }
+        int insertion = -idx - 1; // first element greater than value
+        if(insertion >= arr.length){
+            return arr.length - 1;
+        }
+        return insertion;
+    }
+}
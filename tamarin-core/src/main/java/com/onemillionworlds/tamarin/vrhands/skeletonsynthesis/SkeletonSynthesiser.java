@@ -1,6 +1,7 @@
 package com.onemillionworlds.tamarin.vrhands.skeletonsynthesis;
 
 import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.handskeleton.HandJoint;
 import com.onemillionworlds.tamarin.vrhands.BoundHand;
 
@@ -22,6 +23,19 @@ public interface SkeletonSynthesiser {
      */
     Map<HandJoint, BonePose> synthesiseBonePositions(BoundHand boundHand);
 
+    /**
+     * As {@link #synthesiseBonePositions(BoundHand)} but writes the bone positions into the passed skeleton pose.
+     * <p>
+     * The default implementation adapts the map version, synthesisers should override this if they can write the
+     * bones directly (as this is the version that is called every frame).
+     * </p>
+     * @param boundHand the hand to synthesise the bones for
+     * @param store the skeleton pose to write the bone positions into
+     */
+    default void synthesiseBonePositions(BoundHand boundHand, HandSkeletonPose store){
+        store.set(synthesiseBonePositions(boundHand));
+    }
+
     enum SynthesiseMode{
         /**
          * Will only be used if the call to the runtime to get bone positions fails.
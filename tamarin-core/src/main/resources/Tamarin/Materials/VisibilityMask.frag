@@ -0,0 +1,6 @@
+#import "Common/ShaderLib/GLSLCompat.glsllib"
+
+void main() {
+    // only the depth is written (colour writes are off), the hidden area keeps the viewport's clear colour
+    gl_FragColor = vec4(0.0, 0.0, 0.0, 1.0);
+}
@@ -0,0 +1,12 @@
+#import "Common/ShaderLib/GLSLCompat.glsllib"
+
+uniform mat4 g_ProjectionMatrix;
+
+// in the eye's view space, on the z = -1 plane
+attribute vec3 inPosition;
+
+void main() {
+    gl_Position = g_ProjectionMatrix * vec4(inPosition, 1.0);
+    // pushed to (just inside) the near plane so that everything in the scene behind the mask fails the depth test
+    gl_Position.z = -0.9999 * gl_Position.w;
+}
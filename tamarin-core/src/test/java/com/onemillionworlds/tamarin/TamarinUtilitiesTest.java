@@ -0,0 +1,138 @@
+package com.onemillionworlds.tamarin;
+
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Vector3f;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.control.AbstractControl;
+import com.onemillionworlds.tamarin.vrhands.BoundHand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TamarinUtilitiesTest{
+
+    Node root;
+    Node outer;
+    Node inner;
+    Geometry geometry;
+
+    @BeforeEach
+    void setUp(){
+        root = new Node("root");
+        outer = new Node("outer");
+        inner = new Node("inner");
+        geometry = new Geometry("geometry");
+        root.attachChild(outer);
+        outer.attachChild(inner);
+        inner.attachChild(geometry);
+    }
+
+    @Test
+    void findsControlsOnAllAncestors(){
+        TestControl innerControl = new TestControl();
+        TestControl outerControl = new TestControl();
+        inner.addControl(innerControl);
+        outer.addControl(outerControl);
+        outer.addControl(new OtherControl());
+
+        assertEquals(List.of(innerControl, outerControl), find(TestControl.class, geometry));
+        assertEquals(1, find(OtherControl.class, geometry).size());
+    }
+
+    @Test
+    void stopBubbling(){
+        TestControl innerControl = new TestControl();
+        inner.addControl(innerControl);
+        outer.addControl(new TestControl());
+        outer.setUserData(BoundHand.TAMARIN_STOP_BUBBLING, true);
+
+        // the controls below the stop are found, the stopping node's own controls and those above it aren't
+        assertEquals(List.of(innerControl), find(TestControl.class, geometry));
+    }
+
+    @Test
+    void noPick(){
+        inner.addControl(new TestControl());
+        geometry.setUserData(BoundHand.NO_PICK, true);
+
+        assertTrue(find(TestControl.class, geometry).isEmpty());
+    }
+
+    @Test
+    void userDataChangedAfterALookupIsRespected(){
+        TestControl innerControl = new TestControl();
+        inner.addControl(innerControl);
+        assertEquals(List.of(innerControl), find(TestControl.class, geometry));
+
+        geometry.setUserData(BoundHand.NO_PICK, true);
+        assertTrue(find(TestControl.class, geometry).isEmpty());
+
+        geometry.setUserData(BoundHand.NO_PICK, false);
+        assertEquals(List.of(innerControl), find(TestControl.class, geometry));
+
+        inner.setUserData(BoundHand.TAMARIN_STOP_BUBBLING, true);
+        assertTrue(find(TestControl.class, geometry).isEmpty());
+
+        inner.setUserData(BoundHand.TAMARIN_STOP_BUBBLING, null);
+        assertEquals(List.of(innerControl), find(TestControl.class, geometry));
+    }
+
+    @Test
+    void controlsFoundFromSeveralGeometriesAreOnlyReturnedOnce(){
+        TestControl innerControl = new TestControl();
+        inner.addControl(innerControl);
+        Geometry otherGeometry = new Geometry("otherGeometry");
+        inner.attachChild(otherGeometry);
+
+        assertEquals(List.of(innerControl), find(TestControl.class, geometry, otherGeometry));
+    }
+
+    @Test
+    void changesToTheSceneGraphAreNoticed(){
+        TestControl outerControl = new TestControl();
+        outer.addControl(outerControl);
+        assertEquals(List.of(outerControl), find(TestControl.class, geometry));
+
+        TestControl rootControl = new TestControl();
+        root.addControl(rootControl);
+        assertEquals(List.of(outerControl, rootControl), find(TestControl.class, geometry));
+
+        // move the geometry out from under the outer node
+        root.attachChild(geometry);
+        assertEquals(List.of(rootControl), find(TestControl.class, geometry));
+
+        root.removeControl(rootControl);
+        assertTrue(find(TestControl.class, geometry).isEmpty());
+    }
+
+    private static <T extends AbstractControl> List<T> find(Class<T> searchClass, Geometry... geometries){
+        CollisionResults collisionResults = new CollisionResults();
+        for(int i = 0; i < geometries.length; i++){
+            collisionResults.addCollision(new CollisionResult(geometries[i], new Vector3f(), i, 0));
+        }
+        return TamarinUtilities.findAllControlsInResults(searchClass, collisionResults);
+    }
+
+    private static class TestControl extends AbstractControl{
+        @Override
+        protected void controlUpdate(float tpf){}
+
+        @Override
+        protected void controlRender(RenderManager rm, ViewPort vp){}
+    }
+
+    private static class OtherControl extends AbstractControl{
+        @Override
+        protected void controlUpdate(float tpf){}
+
+        @Override
+        protected void controlRender(RenderManager rm, ViewPort vp){}
+    }
+}
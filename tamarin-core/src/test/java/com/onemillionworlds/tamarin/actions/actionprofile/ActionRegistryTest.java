@@ -0,0 +1,95 @@
+package com.onemillionworlds.tamarin.actions.actionprofile;
+
+import com.onemillionworlds.tamarin.actions.ActionType;
+import com.onemillionworlds.tamarin.actions.HandSide;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionRegistryTest{
+
+    private static final String PROFILE = "/interaction_profiles/oculus/touch_controller";
+
+    private static final ActionHandle FIRE = new ActionHandle("main", "fire");
+    private static final ActionHandle HAND_POSE = new ActionHandle("main", "hand_pose");
+    private static final ActionHandle WALK = new ActionHandle("walking", "walk");
+
+    private static ActionManifest manifest(){
+        return ActionManifest.builder()
+                .withActionSet(ActionSet.builder()
+                        .name("main")
+                        .translatedName("Main")
+                        .priority(0)
+                        .withAction(Action.builder()
+                                .actionHandle(FIRE)
+                                .actionType(ActionType.BOOLEAN)
+                                .translatedName("Fire")
+                                .withSuggestedBinding(PROFILE, "/user/hand/left/input/x/click"))
+                        .withAction(Action.builder()
+                                .actionHandle(HAND_POSE)
+                                .actionType(ActionType.POSE)
+                                .translatedName("Hand pose")
+                                .withSuggestAllKnownGripPoseBindings()))
+                .withActionSet(ActionSet.builder()
+                        .name("walking")
+                        .translatedName("Walking")
+                        .priority(0)
+                        .withAction(Action.builder()
+                                .actionHandle(WALK)
+                                .actionType(ActionType.VECTOR2F)
+                                .translatedName("Walk")
+                                .withSuggestedBinding(PROFILE, "/user/hand/left/input/thumbstick")))
+                .build();
+    }
+
+    @Test
+    void actionsAreIndexedInManifestOrder(){
+        ActionRegistry registry = new ActionRegistry(manifest());
+
+        assertEquals(3, registry.getNumberOfActions());
+        // each action has an unrestricted slot and one per hand
+        assertEquals(9, registry.getNumberOfSlots());
+
+        int walkIndex = registry.findActionIndex(new ActionHandle("walking", "walk"));
+        assertEquals(2, walkIndex);
+        assertEquals(WALK, registry.getAction(walkIndex));
+        assertEquals(ActionType.VECTOR2F, registry.getActionType(walkIndex));
+        assertEquals("walking", registry.getActionSetName(walkIndex));
+        assertEquals(ActionRegistry.NOT_FOUND, registry.findActionIndex(new ActionHandle("main", "unknown")));
+    }
+
+    @Test
+    void findSlot_unrestrictedAndPerHand(){
+        ActionRegistry registry = new ActionRegistry(manifest());
+        int fireIndex = registry.findActionIndex(FIRE);
+
+        int unrestricted = registry.findSlot(fireIndex, null);
+        int left = registry.findSlot(fireIndex, HandSide.LEFT.restrictToInputString);
+        int right = registry.findSlot(fireIndex, "/user/hand/right");
+
+        assertNull(registry.getSlotSubActionPath(unrestricted));
+        assertEquals(HandSide.LEFT.restrictToInputString, registry.getSlotSubActionPath(left));
+        assertEquals(HandSide.RIGHT.restrictToInputString, registry.getSlotSubActionPath(right));
+        assertEquals(fireIndex, registry.getSlotActionIndex(right));
+        assertEquals(ActionRegistry.NOT_FOUND, registry.findSlot(fireIndex, "/user/gamepad"));
+
+        assertEquals(left, registry.findHandSlot(fireIndex, HandSide.LEFT));
+        assertEquals(right, registry.findHandSlot(fireIndex, HandSide.RIGHT));
+    }
+
+    @Test
+    void resolve(){
+        ActionRegistry registry = new ActionRegistry(manifest());
+
+        ResolvedActionHandle resolved = registry.resolve(HAND_POSE, HandSide.RIGHT.restrictToInputString);
+
+        assertEquals(HAND_POSE, resolved.actionHandle());
+        assertEquals(registry.findActionIndex(HAND_POSE), resolved.actionIndex());
+        assertEquals(registry.findHandSlot(resolved.actionIndex(), HandSide.RIGHT), resolved.slot());
+        assertTrue(resolved.isResolvedBy(registry));
+        assertFalse(resolved.isResolvedBy(new ActionRegistry(manifest())));
+        assertFalse(ResolvedActionHandle.unresolved(HAND_POSE, null).isResolvedBy(registry));
+
+        assertThrows(RuntimeException.class, () -> registry.resolve(new ActionHandle("main", "unknown"), null));
+    }
+}
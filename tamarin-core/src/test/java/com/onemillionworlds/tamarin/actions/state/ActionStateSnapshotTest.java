@@ -0,0 +1,141 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.onemillionworlds.tamarin.actions.ActionType;
+import com.onemillionworlds.tamarin.actions.HandSide;
+import com.onemillionworlds.tamarin.actions.actionprofile.Action;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionManifest;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionRegistry;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionStateSnapshotTest{
+
+    private static final String PROFILE = "/interaction_profiles/oculus/touch_controller";
+
+    private static final ActionHandle FIRE = new ActionHandle("main", "fire");
+    private static final ActionHandle TRIGGER = new ActionHandle("main", "trigger");
+    private static final ActionHandle HAND_POSE = new ActionHandle("main", "hand_pose");
+    private static final ActionHandle WALK = new ActionHandle("walking", "walk");
+
+    private static ActionManifest manifest(){
+        return ActionManifest.builder()
+                .withActionSet(ActionSet.builder()
+                        .name("main")
+                        .translatedName("Main")
+                        .priority(0)
+                        .withAction(Action.builder()
+                                .actionHandle(FIRE)
+                                .actionType(ActionType.BOOLEAN)
+                                .translatedName("Fire")
+                                .withSuggestedBinding(PROFILE, "/user/hand/left/input/x/click"))
+                        .withAction(Action.builder()
+                                .actionHandle(HAND_POSE)
+                                .actionType(ActionType.POSE)
+                                .translatedName("Hand pose")
+                                .withSuggestAllKnownGripPoseBindings())
+                        .withAction(Action.builder()
+                                .actionHandle(TRIGGER)
+                                .actionType(ActionType.FLOAT)
+                                .translatedName("Trigger")
+                                .withSuggestedBinding(PROFILE, "/user/hand/left/input/trigger/value")))
+                .withActionSet(ActionSet.builder()
+                        .name("walking")
+                        .translatedName("Walking")
+                        .priority(0)
+                        .withAction(Action.builder()
+                                .actionHandle(WALK)
+                                .actionType(ActionType.VECTOR2F)
+                                .translatedName("Walk")
+                                .withSuggestedBinding(PROFILE, "/user/hand/left/input/thumbstick")))
+                .build();
+    }
+
+    private static final ActionRegistry registry = new ActionRegistry(manifest());
+
+    private static int slot(ActionHandle action, String restrictToInput){
+        return registry.findSlot(registry.findActionIndex(action), restrictToInput);
+    }
+
+    @Test
+    void canAnswer_onlyWhenValidAndTheTypeMatches(){
+        ActionStateSnapshot snapshot = new ActionStateSnapshot(registry);
+        snapshot.setActiveActionSets(List.of("main", "walking"));
+        int fireSlot = slot(FIRE, null);
+
+        assertFalse(snapshot.canAnswer(fireSlot, ActionType.BOOLEAN), "not yet sampled");
+        snapshot.markValid();
+        assertTrue(snapshot.canAnswer(fireSlot, ActionType.BOOLEAN));
+        assertFalse(snapshot.canAnswer(fireSlot, ActionType.FLOAT), "wrong type");
+        assertFalse(snapshot.canAnswer(slot(HAND_POSE, null), ActionType.POSE), "poses aren't snapshot");
+        assertFalse(snapshot.canAnswer(ActionRegistry.NOT_FOUND, ActionType.BOOLEAN), "unsupported sub action path");
+    }
+
+    @Test
+    void activeActionSets(){
+        ActionStateSnapshot snapshot = new ActionStateSnapshot(registry);
+        snapshot.setActiveActionSets(List.of("walking"));
+
+        int[] activeSlots = snapshot.getActiveSlots();
+        assertEquals(3, activeSlots.length);
+        for(int slot : activeSlots){
+            assertEquals(WALK, registry.getAction(registry.getSlotActionIndex(slot)));
+        }
+    }
+
+    @Test
+    void recordedValuesAreReturned(){
+        ActionStateSnapshot snapshot = new ActionStateSnapshot(registry);
+        snapshot.setActiveActionSets(List.of("main", "walking"));
+        assertFalse(snapshot.isValid());
+
+        int fireSlot = slot(FIRE, HandSide.LEFT.restrictToInputString);
+        int triggerSlot = slot(TRIGGER, null);
+        int walkSlot = slot(WALK, HandSide.RIGHT.restrictToInputString);
+
+        snapshot.recordBoolean(fireSlot, true, true);
+        snapshot.recordFloat(triggerSlot, 0.5f, false);
+        snapshot.recordVector2f(walkSlot, 0.25f, -0.75f, true);
+        snapshot.markValid();
+
+        assertTrue(snapshot.isValid());
+        assertTrue(snapshot.getBooleanActionState(fireSlot).hasChangedToTrue());
+        assertEquals(0.5f, snapshot.getFloatActionState(triggerSlot).getState(), 0.0001f);
+        assertFalse(snapshot.getFloatActionState(triggerSlot).hasChanged());
+        assertEquals(0.25f, snapshot.getVector2fActionState(walkSlot).getX(), 0.0001f);
+        assertEquals(-0.75f, snapshot.getVector2fActionState(walkSlot).getY(), 0.0001f);
+        assertTrue(snapshot.getVector2fActionState(walkSlot).isChanged());
+    }
+
+    @Test
+    void unchangedValuesDoNotAllocateNewStates(){
+        ActionStateSnapshot snapshot = new ActionStateSnapshot(registry);
+        int triggerSlot = slot(TRIGGER, null);
+
+        snapshot.recordFloat(triggerSlot, 0.5f, false);
+        FloatActionState first = snapshot.getFloatActionState(triggerSlot);
+        snapshot.recordFloat(triggerSlot, 0.5f, false);
+        assertSame(first, snapshot.getFloatActionState(triggerSlot));
+
+        snapshot.recordFloat(triggerSlot, 0.6f, true);
+        assertNotSame(first, snapshot.getFloatActionState(triggerSlot));
+    }
+
+    @Test
+    void deactivatingAnActionSetClearsItsValues(){
+        ActionStateSnapshot snapshot = new ActionStateSnapshot(registry);
+        snapshot.setActiveActionSets(List.of("main"));
+        int fireSlot = slot(FIRE, null);
+        snapshot.recordBoolean(fireSlot, true, false);
+        snapshot.markValid();
+
+        snapshot.setActiveActionSets(List.of("walking"));
+
+        assertFalse(snapshot.isValid());
+        assertFalse(snapshot.getBooleanActionState(fireSlot).getState());
+    }
+}
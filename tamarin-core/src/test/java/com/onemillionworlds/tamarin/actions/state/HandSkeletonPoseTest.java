@@ -0,0 +1,71 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandSkeletonPoseTest{
+
+    @Test
+    void jointsAreStoredIndependently(){
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        assertFalse(skeleton.isPopulated());
+
+        skeleton.set(HandJoint.WRIST_EXT, 1, 2, 3, 0, 0, 0, 1, 0.5f);
+        skeleton.set(HandJoint.INDEX_TIP_EXT, new Vector3f(4, 5, 6), new Quaternion(0, 1, 0, 0), 0.01f);
+
+        assertTrue(skeleton.isPopulated());
+        assertEquals(new Vector3f(1, 2, 3), skeleton.getPosition(HandJoint.WRIST_EXT, new Vector3f()));
+        assertEquals(0.5f, skeleton.getRadius(HandJoint.WRIST_EXT));
+        assertEquals(new Vector3f(4, 5, 6), skeleton.getPosition(HandJoint.INDEX_TIP_EXT, new Vector3f()));
+        Quaternion indexTipOrientation = skeleton.getOrientation(HandJoint.INDEX_TIP_EXT, new Quaternion());
+        assertEquals(1f, indexTipOrientation.getY());
+        assertEquals(0f, indexTipOrientation.getW());
+        assertEquals(0.01f, skeleton.getRadius(HandJoint.INDEX_TIP_EXT));
+        assertEquals(new Vector3f(), skeleton.getPosition(HandJoint.PALM_EXT, new Vector3f()), "unset joints are zero");
+        assertTrue(skeleton.isSet(HandJoint.WRIST_EXT));
+        assertFalse(skeleton.isSet(HandJoint.PALM_EXT));
+    }
+
+    @Test
+    void copyAndMapAdapters(){
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        skeleton.set(HandJoint.LITTLE_TIP_EXT, new BonePose(new Vector3f(7, 8, 9), new Quaternion(), 0.02f));
+
+        HandSkeletonPose copy = new HandSkeletonPose();
+        copy.set(skeleton);
+        assertTrue(copy.isPopulated());
+        assertEquals(new Vector3f(7, 8, 9), copy.getPosition(HandJoint.LITTLE_TIP_EXT, new Vector3f()));
+
+        assertTrue(copy.isSet(HandJoint.LITTLE_TIP_EXT));
+        assertFalse(copy.isSet(HandJoint.WRIST_EXT));
+
+        Map<HandJoint, BonePose> map = copy.toMap();
+        assertEquals(1, map.size(), "only set joints are in the map");
+        assertEquals(new Vector3f(7, 8, 9), map.get(HandJoint.LITTLE_TIP_EXT).position());
+        assertEquals(0.02f, map.get(HandJoint.LITTLE_TIP_EXT).radius());
+
+        HandSkeletonPose fromMap = new HandSkeletonPose();
+        fromMap.set(map);
+        assertArrayEquals(skeleton.getData(), fromMap.getData(), 0);
+
+        fromMap.clear();
+        assertFalse(fromMap.isPopulated());
+        assertFalse(fromMap.isSet(HandJoint.LITTLE_TIP_EXT));
+    }
+
+    @Test
+    void bulkSetMarksEveryJoint(){
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        skeleton.set(new float[HandSkeletonPose.NUMBER_OF_JOINTS * HandSkeletonPose.FLOATS_PER_JOINT], 0);
+        for(HandJoint joint : HandJoint.values()){
+            assertTrue(skeleton.isSet(joint));
+        }
+        assertEquals(HandJoint.values().length, skeleton.toMap().size());
+    }
+}
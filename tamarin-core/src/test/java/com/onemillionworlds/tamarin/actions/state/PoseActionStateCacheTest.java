@@ -0,0 +1,61 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoseActionStateCacheTest{
+
+    @Test
+    void posesAreHeldForTheSamePredictedTime(){
+        PoseActionStateCache cache = new PoseActionStateCache(4);
+        PoseActionState pose = new PoseActionState(new Vector3f(1, 2, 3), new Quaternion());
+
+        assertFalse(cache.isCached(2, true, 100));
+        cache.put(2, true, 100, Optional.of(pose));
+
+        assertTrue(cache.isCached(2, true, 100));
+        assertSame(pose, cache.get(2, true).orElseThrow());
+        assertFalse(cache.isCached(2, false, 100), "other reference space");
+        assertFalse(cache.isCached(3, true, 100), "other slot");
+    }
+
+    @Test
+    void emptyPosesAreCachedToo(){
+        PoseActionStateCache cache = new PoseActionStateCache(4);
+
+        cache.put(1, false, 100, Optional.empty());
+
+        assertTrue(cache.isCached(1, false, 100));
+        assertTrue(cache.get(1, false).isEmpty());
+    }
+
+    @Test
+    void aNewPredictedTimeDiscardsEverything(){
+        PoseActionStateCache cache = new PoseActionStateCache(4);
+        cache.put(0, true, 100, Optional.of(new PoseActionState(new Vector3f(), new Quaternion())));
+        cache.put(1, true, 100, Optional.empty());
+
+        assertFalse(cache.isCached(0, true, 200));
+        assertFalse(cache.isCached(1, true, 200));
+        assertFalse(cache.isCached(0, true, 100), "going back doesn't restore the old values");
+    }
+
+    @Test
+    void invalidatingLocatesAgainForTheSamePredictedTime(){
+        // this is how the poses are late latched, the predicted time stays the same but the poses are located again
+        PoseActionStateCache cache = new PoseActionStateCache(4);
+        cache.put(0, true, 100, Optional.of(new PoseActionState(new Vector3f(), new Quaternion())));
+
+        cache.invalidate();
+        assertFalse(cache.isCached(0, true, 100));
+
+        PoseActionState relocated = new PoseActionState(new Vector3f(0, 1, 0), new Quaternion());
+        cache.put(0, true, 100, Optional.of(relocated));
+        assertSame(relocated, cache.get(0, true).orElseThrow());
+    }
+}
@@ -0,0 +1,24 @@
+package com.onemillionworlds.tamarin.actions.state;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoseLocatingModeTest{
+
+    @Test
+    void posesAreLocatedOnDemandWhenBatchingIsDisabled(){
+        assertEquals(PoseLocatingMode.ON_DEMAND, PoseLocatingMode.select(false, false));
+        assertEquals(PoseLocatingMode.ON_DEMAND, PoseLocatingMode.select(false, true));
+    }
+
+    @Test
+    void eachSpaceIsLocatedInTurnWhenTheExtensionIsMissing(){
+        assertEquals(PoseLocatingMode.EACH_SPACE, PoseLocatingMode.select(true, false));
+    }
+
+    @Test
+    void allSpacesAreLocatedAtOnceWhenTheExtensionIsAvailable(){
+        assertEquals(PoseLocatingMode.ALL_SPACES_AT_ONCE, PoseLocatingMode.select(true, true));
+    }
+}
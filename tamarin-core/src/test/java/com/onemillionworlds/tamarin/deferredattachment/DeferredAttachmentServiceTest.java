@@ -0,0 +1,86 @@
+package com.onemillionworlds.tamarin.deferredattachment;
+
+import com.jme3.scene.Node;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredAttachmentServiceTest{
+
+    private final DeferredAttachmentService deferredAttachmentService = new DeferredAttachmentService();
+
+    @AfterEach
+    void shutdownExecutor(){
+        deferredAttachmentService.executor.shutdown();
+    }
+
+    @Test
+    void readySpatialsAreSpreadOverFramesByTheBudget(){
+        deferredAttachmentService.setMaxAttachmentsPerFrame(2);
+        Node parent = new Node("parent");
+        for(int i = 0; i < 5; i++){
+            deferredAttachmentService.attachWhenReady(parent, new Node("child" + i));
+        }
+        waitUntilReady(5);
+
+        deferredAttachmentService.update(0.01f);
+        assertEquals(2, parent.getQuantity());
+        assertEquals(2, deferredAttachmentService.getMetrics().lastFrameAttachCount());
+        assertEquals(3, deferredAttachmentService.getMetrics().readyToAttach());
+
+        deferredAttachmentService.update(0.01f);
+        deferredAttachmentService.update(0.01f);
+        assertEquals(5, parent.getQuantity());
+        assertEquals(0, deferredAttachmentService.getMetrics().readyToAttach());
+    }
+
+    @Test
+    void atLeastOneSpatialIsAttachedPerFrameWhateverTheTimeBudget(){
+        deferredAttachmentService.setAttachTimeBudgetMillis(0);
+        Node parent = new Node("parent");
+        deferredAttachmentService.attachWhenReady(parent, new Node("child1"));
+        deferredAttachmentService.attachWhenReady(parent, new Node("child2"));
+        waitUntilReady(2);
+
+        deferredAttachmentService.update(0.01f);
+        assertEquals(1, parent.getQuantity());
+    }
+
+    @Test
+    void higherPrioritySpatialsAreAttachedFirst(){
+        deferredAttachmentService.setMaxAttachmentsPerFrame(1);
+        Node parent = new Node("parent");
+        List<String> attachOrder = new ArrayList<>();
+        deferredAttachmentService.attachWhenReady(parent, new Node("far"), AttachmentPriority.LOW, spatial -> attachOrder.add(spatial.getName()));
+        deferredAttachmentService.attachWhenReady(parent, new Node("normal1"), AttachmentPriority.NORMAL, spatial -> attachOrder.add(spatial.getName()));
+        deferredAttachmentService.attachWhenReady(parent, new Node("near"), AttachmentPriority.HIGH, spatial -> attachOrder.add(spatial.getName()));
+        deferredAttachmentService.attachWhenReady(parent, new Node("normal2"), AttachmentPriority.NORMAL, spatial -> attachOrder.add(spatial.getName()));
+        waitUntilReady(4);
+
+        for(int i = 0; i < 4; i++){
+            deferredAttachmentService.update(0.01f);
+        }
+        assertEquals(List.of("near", "normal1", "normal2", "far"), attachOrder);
+    }
+
+    @Test
+    void invalidBudgets(){
+        assertThrows(IllegalArgumentException.class, () -> deferredAttachmentService.setMaxAttachmentsPerFrame(0));
+        assertThrows(IllegalArgumentException.class, () -> deferredAttachmentService.setAttachTimeBudgetMillis(-1));
+    }
+
+    private void waitUntilReady(int expectedReady){
+        long timeout = System.currentTimeMillis() + 5000;
+        while(deferredAttachmentService.getMetrics().readyToAttach() < expectedReady){
+            if(System.currentTimeMillis() > timeout){
+                fail("Spatials were not prepared in time, " + deferredAttachmentService.getMetrics());
+            }
+            Thread.onSpinWait();
+        }
+        assertEquals(0, deferredAttachmentService.getMetrics().preparationsInProgress());
+    }
+}
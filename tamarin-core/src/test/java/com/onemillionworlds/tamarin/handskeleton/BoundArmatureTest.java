@@ -0,0 +1,115 @@
+package com.onemillionworlds.tamarin.handskeleton;
+
+import com.jme3.anim.Armature;
+import com.jme3.anim.Joint;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.onemillionworlds.tamarin.actions.XrActionBaseAppState;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundArmatureTest{
+
+    private static final Map<HandJoint, String> MAPPINGS = Map.of(
+            HandJoint.WRIST_EXT, "wrist",
+            HandJoint.INDEX_TIP_EXT, "finger_index_tip",
+            HandJoint.THUMB_TIP_EXT, "not_in_armature"
+    );
+
+    private static Armature armature(){
+        return new Armature(new Joint[]{new Joint("wrist"), new Joint("finger_index_tip"), new Joint("unmapped")});
+    }
+
+    private static HandSkeletonPose pose(float indexTipX){
+        HandSkeletonPose pose = new HandSkeletonPose();
+        for(HandJoint joint : HandJoint.values()){
+            pose.set(joint, new Vector3f(), new Quaternion(), 0.01f);
+        }
+        pose.set(HandJoint.INDEX_TIP_EXT, new Vector3f(indexTipX, 2, 3), new Quaternion(0, 0, 0, 1), 0.01f);
+        return pose;
+    }
+
+    @Test
+    void apply(){
+        Armature armature = armature();
+        BoundArmature boundArmature = new BoundArmature(armature, MAPPINGS);
+
+        assertNull(boundArmature.getJoint(HandJoint.THUMB_TIP_EXT));
+        assertEquals(2, boundArmature.apply(pose(1)));
+        assertEquals(new Vector3f(1, 2, 3), armature.getJoint("finger_index_tip").getLocalTranslation());
+    }
+
+    @Test
+    void apply_onlyUpdatesChangedJoints(){
+        Armature armature = armature();
+        BoundArmature boundArmature = new BoundArmature(armature, MAPPINGS);
+        boundArmature.apply(pose(1));
+
+        assertEquals(0, boundArmature.apply(pose(1)));
+        assertEquals(0, boundArmature.apply(pose(1 + BoundArmature.DEFAULT_EPSILON / 2)));
+        assertEquals(1, boundArmature.apply(pose(1.5f)));
+        assertEquals(new Vector3f(1.5f, 2, 3), armature.getJoint("finger_index_tip").getLocalTranslation());
+
+        boundArmature.invalidate();
+        assertEquals(2, boundArmature.apply(pose(1.5f)));
+    }
+
+    @Test
+    void apply_skipsJointsThePoseDoesNotHave(){
+        Armature armature = armature();
+        BoundArmature boundArmature = new BoundArmature(armature, MAPPINGS);
+        armature.getJoint("wrist").setLocalTranslation(new Vector3f(4, 5, 6));
+
+        HandSkeletonPose indexTipOnly = new HandSkeletonPose();
+        indexTipOnly.set(HandJoint.INDEX_TIP_EXT, new Vector3f(1, 2, 3), new Quaternion(0, 0, 0, 1), 0.01f);
+
+        assertEquals(1, boundArmature.apply(indexTipOnly));
+        assertEquals(new Vector3f(4, 5, 6), armature.getJoint("wrist").getLocalTranslation());
+        assertEquals(new Vector3f(1, 2, 3), armature.getJoint("finger_index_tip").getLocalTranslation());
+    }
+
+    @Test
+    void updateHandSkeletonPositions_bindsTheArmatureOnce(){
+        CountingArmature armature = new CountingArmature();
+
+        XrActionBaseAppState.updateHandSkeletonPositions(armature, pose(1), MAPPINGS);
+        int lookupsToBind = armature.jointLookups;
+        XrActionBaseAppState.updateHandSkeletonPositions(armature, pose(2), MAPPINGS);
+
+        assertEquals(lookupsToBind, armature.jointLookups, "the joints shouldn't be looked up by name again");
+        assertEquals(new Vector3f(2, 2, 3), armature.getJoint("finger_index_tip").getLocalTranslation());
+
+        // joints are set even if they haven't changed, in case something else has moved them
+        armature.getJoint("finger_index_tip").setLocalTranslation(new Vector3f());
+        XrActionBaseAppState.updateHandSkeletonPositions(armature, pose(2), MAPPINGS);
+        assertEquals(new Vector3f(2, 2, 3), armature.getJoint("finger_index_tip").getLocalTranslation());
+
+        // different mappings rebind the armature
+        XrActionBaseAppState.updateHandSkeletonPositions(armature, pose(3), Map.of(HandJoint.INDEX_TIP_EXT, "wrist"));
+        assertEquals(new Vector3f(3, 2, 3), armature.getJoint("wrist").getLocalTranslation());
+    }
+
+    @Test
+    void apply_unpopulatedPoseDoesNothing(){
+        BoundArmature boundArmature = new BoundArmature(armature(), MAPPINGS);
+        assertEquals(0, boundArmature.apply(new HandSkeletonPose()));
+    }
+
+    private static class CountingArmature extends Armature{
+        int jointLookups = 0;
+
+        CountingArmature(){
+            super(new Joint[]{new Joint("wrist"), new Joint("finger_index_tip"), new Joint("unmapped")});
+        }
+
+        @Override
+        public Joint getJoint(String name){
+            jointLookups++;
+            return super.getJoint(name);
+        }
+    }
+}
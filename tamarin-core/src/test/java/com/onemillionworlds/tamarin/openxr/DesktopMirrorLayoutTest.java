@@ -0,0 +1,43 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DesktopMirrorLayoutTest{
+
+    @Test
+    void eyesAreShownAccordingToTheMode(){
+        assertNull(DesktopMirrorLayout.destinationRegion(DesktopMirrorMode.OFF, EyeSide.LEFT, 1920, 1080));
+        assertEquals(new DesktopMirrorLayout.Region(0, 0, 1920, 1080), DesktopMirrorLayout.destinationRegion(DesktopMirrorMode.LEFT_EYE, EyeSide.LEFT, 1920, 1080));
+        assertNull(DesktopMirrorLayout.destinationRegion(DesktopMirrorMode.LEFT_EYE, EyeSide.RIGHT, 1920, 1080));
+        assertEquals(new DesktopMirrorLayout.Region(0, 0, 960, 1080), DesktopMirrorLayout.destinationRegion(DesktopMirrorMode.BOTH_EYES, EyeSide.LEFT, 1920, 1080));
+        assertEquals(new DesktopMirrorLayout.Region(960, 0, 1920, 1080), DesktopMirrorLayout.destinationRegion(DesktopMirrorMode.BOTH_EYES, EyeSide.RIGHT, 1920, 1080));
+    }
+
+    @Test
+    void tallImageIsCroppedTopAndBottomForAWideWindow(){
+        DesktopMirrorLayout.Region window = new DesktopMirrorLayout.Region(0, 0, 1600, 900);
+        DesktopMirrorLayout.Region source = DesktopMirrorLayout.sourceRegion(2000, 2000, window, true);
+        assertEquals(new DesktopMirrorLayout.Region(0, 437, 2000, 1562), source);
+    }
+
+    @Test
+    void wideImageIsCroppedAtTheSidesForANarrowDestination(){
+        DesktopMirrorLayout.Region halfWindow = new DesktopMirrorLayout.Region(800, 0, 1600, 1200);
+        DesktopMirrorLayout.Region source = DesktopMirrorLayout.sourceRegion(2000, 2000, halfWindow, true);
+        assertEquals(new DesktopMirrorLayout.Region(333, 0, 1666, 2000), source);
+    }
+
+    @Test
+    void withoutCroppingTheWholeRenderedAreaIsUsed(){
+        DesktopMirrorLayout.Region window = new DesktopMirrorLayout.Region(0, 0, 1600, 900);
+        assertEquals(new DesktopMirrorLayout.Region(0, 0, 1500, 1400), DesktopMirrorLayout.sourceRegion(1500, 1400, window, false));
+    }
+
+    @Test
+    void invalidUpdateInterval(){
+        XrSettings xrSettings = new XrSettings();
+        assertThrows(IllegalArgumentException.class, () -> xrSettings.setDesktopMirrorUpdateInterval(0));
+    }
+}
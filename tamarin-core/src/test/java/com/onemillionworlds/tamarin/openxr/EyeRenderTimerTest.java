@@ -0,0 +1,137 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.post.SceneProcessor;
+import com.jme3.profile.AppProfiler;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.ViewPort;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.texture.FrameBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EyeRenderTimerTest{
+
+    private static final long SLOW_PROCESSOR_NANOS = 5_000_000;
+
+    FrameTimingStats frameTimingStats = new FrameTimingStats();
+
+    EyeRenderTimer leftEyeTimer = new EyeRenderTimer(FrameTimingStats.Phase.RENDER_LEFT_EYE, () -> frameTimingStats);
+
+    EyeRenderTimer rightEyeTimer = new EyeRenderTimer(FrameTimingStats.Phase.RENDER_RIGHT_EYE, () -> frameTimingStats);
+
+    @Test
+    void eachEyeIsRecordedAsItsOwnPhase(){
+        ViewPort leftViewPort = eyeViewPort(leftEyeTimer);
+        ViewPort rightViewPort = eyeViewPort(rightEyeTimer);
+
+        render(leftViewPort);
+        render(rightViewPort);
+        render(rightViewPort);
+
+        assertEquals(1, frameTimingStats.getSampleCount(FrameTimingStats.Phase.RENDER_LEFT_EYE));
+        assertEquals(2, frameTimingStats.getSampleCount(FrameTimingStats.Phase.RENDER_RIGHT_EYE));
+    }
+
+    @Test
+    void otherProcessorsPostFrameWorkIsIncluded(){
+        ViewPort viewPort = new ViewPort("Left Eye", new Camera(8, 8));
+        leftEyeTimer.addStartProcessor(viewPort);
+        viewPort.addProcessor(new SlowPostFrameProcessor());
+        leftEyeTimer.addEndProcessor(viewPort);
+
+        render(viewPort);
+
+        assertTrue(frameTimingStats.getLatestNanos(FrameTimingStats.Phase.RENDER_LEFT_EYE) >= SLOW_PROCESSOR_NANOS);
+    }
+
+    @Test
+    void processorsAddedLaterAreIncludedOnceTheEndIsMovedToLast(){
+        ViewPort viewPort = eyeViewPort(leftEyeTimer);
+        SlowPostFrameProcessor addedLater = new SlowPostFrameProcessor();
+        viewPort.addProcessor(addedLater);
+
+        leftEyeTimer.moveEndToLast(viewPort);
+        List<SceneProcessor> processors = new ArrayList<>(viewPort.getProcessors());
+        assertEquals(3, processors.size());
+        assertSame(addedLater, processors.get(1));
+
+        // already last, so left alone
+        leftEyeTimer.moveEndToLast(viewPort);
+        assertEquals(processors, new ArrayList<>(viewPort.getProcessors()));
+
+        render(viewPort);
+        assertTrue(frameTimingStats.getLatestNanos(FrameTimingStats.Phase.RENDER_LEFT_EYE) >= SLOW_PROCESSOR_NANOS);
+    }
+
+    private static ViewPort eyeViewPort(EyeRenderTimer eyeRenderTimer){
+        ViewPort viewPort = new ViewPort("Eye", new Camera(8, 8));
+        eyeRenderTimer.addStartProcessor(viewPort);
+        eyeRenderTimer.addEndProcessor(viewPort);
+        return viewPort;
+    }
+
+    /**
+     * Calls the processors as the RenderManager does when it renders a viewport
+     */
+    private static void render(ViewPort viewPort){
+        List<SceneProcessor> processors = new ArrayList<>(viewPort.getProcessors());
+        for(SceneProcessor processor : processors){
+            if(!processor.isInitialized()){
+                processor.initialize(null, viewPort);
+            }
+        }
+        for(SceneProcessor processor : processors){
+            processor.preFrame(0);
+        }
+        for(SceneProcessor processor : processors){
+            processor.postQueue(null);
+        }
+        for(SceneProcessor processor : processors){
+            processor.postFrame(null);
+        }
+    }
+
+    private static class SlowPostFrameProcessor implements SceneProcessor{
+        private boolean initialized = false;
+
+        @Override
+        public void initialize(RenderManager rm, ViewPort vp){
+            initialized = true;
+        }
+
+        @Override
+        public void reshape(ViewPort vp, int w, int h){}
+
+        @Override
+        public boolean isInitialized(){
+            return initialized;
+        }
+
+        @Override
+        public void preFrame(float tpf){}
+
+        @Override
+        public void postQueue(RenderQueue rq){}
+
+        @Override
+        public void postFrame(FrameBuffer out){
+            long start = System.nanoTime();
+            while(System.nanoTime() - start < SLOW_PROCESSOR_NANOS){
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public void cleanup(){
+            initialized = false;
+        }
+
+        @Override
+        public void setProfiler(AppProfiler profiler){}
+    }
+}
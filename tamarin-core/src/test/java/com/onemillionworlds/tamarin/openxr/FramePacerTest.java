@@ -0,0 +1,131 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramePacerTest{
+
+    private static final long PERIOD = 11_111_111;
+
+    /**
+     * A stand-in for a session's xrWaitFrame that hands out frames one at a time (as they are released by the test)
+     */
+    private static class SimulatedSession implements FramePacer.FrameWaiter{
+        final Semaphore framesAvailable = new Semaphore(0);
+        final AtomicInteger waitsStarted = new AtomicInteger();
+        final AtomicInteger framesReturned = new AtomicInteger();
+        volatile Thread waitingThread;
+        volatile CountDownLatch waitStarted = new CountDownLatch(1);
+
+        @Override
+        public FramePacer.FrameTiming waitFrame(){
+            waitingThread = Thread.currentThread();
+            waitsStarted.incrementAndGet();
+            waitStarted.countDown();
+            framesAvailable.acquireUninterruptibly();
+            int frame = framesReturned.incrementAndGet();
+            return new FramePacer.FrameTiming(frame * PERIOD, PERIOD, true);
+        }
+    }
+
+    @Test
+    void awaitFrameWithoutARequestWaitsForTheNextFrame(){
+        SimulatedSession session = new SimulatedSession();
+        FramePacer framePacer = new FramePacer(session, "test pacing");
+
+        session.framesAvailable.release(2);
+        assertEquals(PERIOD, framePacer.awaitFrame().predictedDisplayTime());
+        assertEquals(2 * PERIOD, framePacer.awaitFrame().predictedDisplayTime());
+        assertNotSame(Thread.currentThread(), session.waitingThread);
+        framePacer.stop();
+    }
+
+    @Test
+    void requestedFrameIsWaitedForInTheBackground() throws InterruptedException{
+        SimulatedSession session = new SimulatedSession();
+        FramePacer framePacer = new FramePacer(session, "test pacing");
+
+        framePacer.requestNextFrame();
+        // the wait starts without the main thread having to do anything more
+        assertTrue(session.waitStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(framePacer.isFramePending());
+
+        // requesting again while a frame is pending doesn't start a second wait
+        framePacer.requestNextFrame();
+        session.framesAvailable.release();
+        FramePacer.FrameTiming frame = framePacer.awaitFrame();
+
+        assertEquals(PERIOD, frame.predictedDisplayTime());
+        assertEquals(PERIOD, frame.predictedDisplayPeriod());
+        assertTrue(frame.shouldRender());
+        assertEquals(1, session.waitsStarted.get());
+        assertFalse(framePacer.isFramePending());
+        framePacer.stop();
+    }
+
+    @Test
+    void gameLogicRunsWhileTheNextFrameIsWaitedFor() throws InterruptedException{
+        SimulatedSession session = new SimulatedSession();
+        FramePacer framePacer = new FramePacer(session, "test pacing");
+        AtomicInteger gameLogicUpdates = new AtomicInteger();
+
+        for(int frame = 1; frame <= 3; frame++){
+            session.framesAvailable.release();
+            assertEquals(frame * PERIOD, framePacer.awaitFrame().predictedDisplayTime());
+            // the frame is begun, then the next is requested (as the session managers do)
+            session.waitStarted = new CountDownLatch(1);
+            framePacer.requestNextFrame();
+
+            // the rest of the update (the game logic), while the next frame's wait is still blocked in the session
+            assertTrue(session.waitStarted.await(5, TimeUnit.SECONDS));
+            assertTrue(framePacer.isFramePending());
+            assertEquals(frame, session.framesReturned.get(), "the next frame's wait shouldn't have completed yet");
+            gameLogicUpdates.incrementAndGet();
+        }
+
+        assertEquals(3, gameLogicUpdates.get());
+        assertEquals(4, session.waitsStarted.get());
+        session.framesAvailable.release();
+        framePacer.stop();
+    }
+
+    @Test
+    void waitFailuresAreRethrownOnTheMainThread(){
+        FramePacer framePacer = new FramePacer(() -> {
+            throw new IllegalStateException("Session lost");
+        }, "test pacing");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, framePacer::awaitFrame);
+        assertEquals("Session lost", exception.getMessage());
+        framePacer.stop();
+    }
+
+    @Test
+    void discardedFramesAreNotUsed() throws InterruptedException{
+        SimulatedSession session = new SimulatedSession();
+        FramePacer framePacer = new FramePacer(session, "test pacing");
+
+        framePacer.requestNextFrame();
+        assertTrue(session.waitStarted.await(5, TimeUnit.SECONDS));
+        session.framesAvailable.release();
+        framePacer.discardPendingFrame();
+        assertFalse(framePacer.isFramePending());
+
+        session.framesAvailable.release();
+        assertEquals(2 * PERIOD, framePacer.awaitFrame().predictedDisplayTime());
+        framePacer.stop();
+    }
+
+    @Test
+    void stoppedPacerCannotBeUsed(){
+        FramePacer framePacer = new FramePacer(new SimulatedSession(), "test pacing");
+        framePacer.stop();
+        assertThrows(IllegalStateException.class, framePacer::requestNextFrame);
+    }
+}
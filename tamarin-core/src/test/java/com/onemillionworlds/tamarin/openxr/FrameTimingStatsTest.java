@@ -0,0 +1,76 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameTimingStatsTest{
+
+    private static final long PERIOD = 11_111_111;
+
+    @Test
+    void percentilesAreOverTheWindow(){
+        FrameTimingStats stats = new FrameTimingStats(100);
+        for(int i = 1; i <= 100; i++){
+            stats.record(FrameTimingStats.Phase.BEGIN_FRAME, i);
+        }
+        assertEquals(50, stats.getPercentileNanos(FrameTimingStats.Phase.BEGIN_FRAME, 0.5));
+        assertEquals(99, stats.getPercentileNanos(FrameTimingStats.Phase.BEGIN_FRAME, 0.99));
+        assertEquals(100, stats.getPercentileNanos(FrameTimingStats.Phase.BEGIN_FRAME, 1));
+        assertEquals(1, stats.getPercentileNanos(FrameTimingStats.Phase.BEGIN_FRAME, 0));
+        assertEquals(50, stats.getMeanNanos(FrameTimingStats.Phase.BEGIN_FRAME));
+
+        // older samples roll out of the window
+        for(int i = 0; i < 100; i++){
+            stats.record(FrameTimingStats.Phase.BEGIN_FRAME, 1000);
+        }
+        assertEquals(1000, stats.getPercentileNanos(FrameTimingStats.Phase.BEGIN_FRAME, 0));
+        assertEquals(1000, stats.getLatestNanos(FrameTimingStats.Phase.BEGIN_FRAME));
+        assertEquals(200, stats.getSampleCount(FrameTimingStats.Phase.BEGIN_FRAME));
+    }
+
+    @Test
+    void phasesWithNoSamples(){
+        FrameTimingStats stats = new FrameTimingStats();
+        assertEquals(0, stats.getPercentileNanos(FrameTimingStats.Phase.RESOLVE, 0.99));
+        assertEquals(0, stats.getMeanNanos(FrameTimingStats.Phase.RESOLVE));
+        assertEquals(0, stats.getLatestNanos(FrameTimingStats.Phase.RESOLVE));
+        assertFalse(stats.isFrameTimeOverBudget(0.99));
+    }
+
+    @Test
+    void missedFramesAreCountedFromThePredictedDisplayTimes(){
+        FrameTimingStats stats = new FrameTimingStats();
+        long displayTime = 1_000_000_000;
+        stats.recordDisplayTiming(displayTime, PERIOD);
+        stats.recordDisplayTiming(displayTime += PERIOD, PERIOD);
+        assertEquals(0, stats.getMissedFrames());
+
+        // two frames were shown without this application providing new ones (with some jitter in the prediction)
+        stats.recordDisplayTiming(displayTime += 3 * PERIOD + 100_000, PERIOD);
+        assertEquals(2, stats.getMissedFrames());
+        assertEquals(PERIOD, stats.getPredictedDisplayPeriod());
+
+        stats.reset();
+        assertEquals(0, stats.getMissedFrames());
+    }
+
+    @Test
+    void frameTimeOverBudget(){
+        FrameTimingStats stats = new FrameTimingStats(100);
+        stats.recordDisplayTiming(1_000_000_000, PERIOD);
+        for(int i = 0; i < 100; i++){
+            stats.record(FrameTimingStats.Phase.FRAME, i < 98 ? PERIOD - 1000 : 2 * PERIOD);
+        }
+        // 2% of frames are too slow
+        assertTrue(stats.isFrameTimeOverBudget(0.99));
+        assertFalse(stats.isFrameTimeOverBudget(0.95));
+    }
+
+    @Test
+    void invalidArguments(){
+        assertThrows(IllegalArgumentException.class, () -> new FrameTimingStats(0));
+        FrameTimingStats stats = new FrameTimingStats();
+        assertThrows(IllegalArgumentException.class, () -> stats.getPercentileNanos(FrameTimingStats.Phase.FRAME, 1.5));
+    }
+}
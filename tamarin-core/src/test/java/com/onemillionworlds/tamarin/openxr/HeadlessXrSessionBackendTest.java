@@ -0,0 +1,171 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.texture.FrameBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessXrSessionBackendTest{
+
+    private static final float TOLERANCE = 0.0001f;
+
+    @Test
+    void displayTimesAreDeterministic(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        long period = backend.getDisplayPeriodNanos();
+        assertEquals(11_111_111, period);
+
+        for(int frame = 1; frame <= 5; frame++){
+            InProgressXrRender render = backend.startXrFrame();
+            assertTrue(render.isShouldRender());
+            assertEquals(frame * period, render.getPredictedDisplayTime());
+            backend.presentFrameBuffersToOpenXr(render);
+        }
+        assertEquals(5, backend.getFramesPresented());
+        assertEquals(0, backend.getFrameTimingStats().getMissedFrames());
+        assertEquals(period, backend.getFrameTimingStats().getPredictedDisplayPeriod());
+        assertEquals(5 * period / 1_000_000_000.0, backend.getPredictedFrameSeconds(), 1e-9);
+        backend.destroy();
+    }
+
+    @Test
+    void eyesAreEitherSideOfTheScriptedHead(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        backend.setInterPupillaryDistance(0.06f);
+        Quaternion facingLeft = new Quaternion().fromAngleNormalAxis(FastMath.HALF_PI, Vector3f.UNIT_Y);
+        backend.setHeadTrajectory(ScriptedTrajectory.stationary(new Vector3f(1, 2, 3), facingLeft));
+
+        InProgressXrRender render = backend.startXrFrame();
+
+        Vector3f left = render.getLeftEye().eyePosition();
+        Vector3f right = render.getRightEye().eyePosition();
+        assertEquals(0.06f, left.distance(right), TOLERANCE);
+        assertEquals(0, left.add(right).divideLocal(2).distance(new Vector3f(1, 2, 3)), TOLERANCE);
+        // the head is turned a quarter turn so the eyes are separated along z rather than x
+        assertEquals(1, left.x, TOLERANCE);
+        assertEquals(3 - 0.03f, left.z, TOLERANCE);
+        assertEquals(facingLeft, render.getLeftEye().eyeRotation());
+        backend.destroy();
+    }
+
+    @Test
+    void swapchainImagesAreRotatedThrough(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        Set<FrameBuffer> leftBuffers = new HashSet<>();
+        FrameBuffer firstLeft = null;
+        for(int frame = 0; frame < 2 * HeadlessXrSessionBackend.SWAPCHAIN_LENGTH; frame++){
+            InProgressXrRender render = backend.startXrFrame();
+            assertNotSame(render.getLeftBufferToRenderTo(), render.getRightBufferToRenderTo());
+            assertEquals(100, render.getLeftBufferToRenderTo().getWidth());
+            assertEquals(80, render.getLeftBufferToRenderTo().getHeight());
+            if(frame == 0){
+                firstLeft = render.getLeftBufferToRenderTo();
+            }
+            if(frame == HeadlessXrSessionBackend.SWAPCHAIN_LENGTH){
+                assertSame(firstLeft, render.getLeftBufferToRenderTo());
+            }
+            leftBuffers.add(render.getLeftBufferToRenderTo());
+            backend.presentFrameBuffersToOpenXr(render);
+        }
+        assertEquals(HeadlessXrSessionBackend.SWAPCHAIN_LENGTH, leftBuffers.size());
+        // the framebuffers exist up front, indexed by swapchain image index
+        assertSame(firstLeft, backend.getFrameBuffer(EyeSide.LEFT, 0));
+        assertEquals(HeadlessXrSessionBackend.SWAPCHAIN_LENGTH, backend.getSwapchainLength(EyeSide.RIGHT));
+        backend.destroy();
+    }
+
+    @Test
+    void asyncFrameWaitsGiveTheSameDisplayTimes(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 72);
+        backend.setAsyncFrameWait(true);
+        long period = backend.getDisplayPeriodNanos();
+        for(int frame = 1; frame <= 5; frame++){
+            InProgressXrRender render = backend.startXrFrame();
+            assertEquals(frame * period, render.getPredictedDisplayTime());
+            backend.presentFrameBuffersToOpenXr(render);
+        }
+        backend.destroy();
+    }
+
+    @Test
+    void relocatedViewsFollowTheLatestHeadTracking(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        backend.setHeadTrajectory(ScriptedTrajectory.stationary(new Vector3f(0, 1, 0), new Quaternion()));
+
+        InProgressXrRender render = backend.startXrFrame();
+        long predictedDisplayTime = render.getPredictedDisplayTime();
+        assertEquals(1, render.getLeftEye().eyePosition().y, TOLERANCE);
+
+        // the head moves after the frame has begun, but before it is rendered
+        backend.setHeadTrajectory(ScriptedTrajectory.stationary(new Vector3f(0, 2, 0), new Quaternion()));
+        assertTrue(backend.relocateViews(render));
+
+        assertEquals(2, render.getLeftEye().eyePosition().y, TOLERANCE);
+        assertEquals(2, render.getRightEye().eyePosition().y, TOLERANCE);
+        assertEquals(predictedDisplayTime, render.getPredictedDisplayTime(), "late latching doesn't change the frame being rendered");
+        assertEquals(1, backend.getFrameTimingStats().getSampleCount(FrameTimingStats.Phase.LATE_LATCH_VIEWS));
+        backend.presentFrameBuffersToOpenXr(render);
+
+        assertFalse(backend.relocateViews(InProgressXrRender.NO_XR_FRAME));
+        backend.destroy();
+    }
+
+    @Test
+    void noFramesWhileTheSessionIsNotRunning(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        backend.setSessionRunning(false);
+        InProgressXrRender render = backend.startXrFrame();
+        assertFalse(render.isInProgressXr());
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(0, backend.getFramesPresented());
+    }
+
+    @Test
+    void quadLayersAreSubmittedOnceTheyHaveAnImage(){
+        HeadlessXrSessionBackend backend = new HeadlessXrSessionBackend(100, 80, 90);
+        QuadLayer quadLayer = new QuadLayer(64, 32, 0.5f, 0.25f);
+        backend.addQuadLayer(quadLayer);
+
+        InProgressXrRender render = backend.startXrFrame();
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(0, backend.getQuadLayersSubmitted());
+
+        render = backend.startXrFrame();
+        FrameBuffer firstImage = backend.acquireQuadLayerFrameBuffer(quadLayer);
+        assertEquals(64, firstImage.getWidth());
+        assertSame(firstImage, backend.acquireQuadLayerFrameBuffer(quadLayer));
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(1, backend.getQuadLayersSubmitted());
+
+        // the compositor keeps showing the last image without it being rendered again
+        render = backend.startXrFrame();
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(1, backend.getQuadLayersSubmitted());
+
+        render = backend.startXrFrame();
+        assertNotSame(firstImage, backend.acquireQuadLayerFrameBuffer(quadLayer));
+        quadLayer.setVisible(false);
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(0, backend.getQuadLayersSubmitted());
+
+        quadLayer.setVisible(true);
+        backend.removeQuadLayer(quadLayer);
+        render = backend.startXrFrame();
+        backend.presentFrameBuffersToOpenXr(render);
+        assertEquals(0, backend.getQuadLayersSubmitted());
+        assertThrows(IllegalArgumentException.class, () -> backend.acquireQuadLayerFrameBuffer(quadLayer));
+        backend.destroy();
+    }
+
+    @Test
+    void invalidArguments(){
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessXrSessionBackend(0, 80, 90));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessXrSessionBackend(100, 80, 0));
+    }
+}
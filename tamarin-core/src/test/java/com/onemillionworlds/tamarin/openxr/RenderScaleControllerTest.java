@@ -0,0 +1,113 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderScaleControllerTest{
+
+    private static final long PERIOD = 11_111_111;
+
+    private static final long OVER_BUDGET = (long)(PERIOD * 0.95);
+
+    private static final long UNDER_BUDGET = (long)(PERIOD * 0.5);
+
+    private static final long WITHIN_BUDGET = (long)(PERIOD * 0.8);
+
+    private static final float TOLERANCE = 0.0001f;
+
+    @Test
+    void fixedScaleIsNotAdjusted(){
+        RenderScaleController controller = new RenderScaleController(0.8f, 0.5f, 1, false);
+        for(int i = 0; i < 10; i++){
+            controller.update(OVER_BUDGET, PERIOD, true);
+        }
+        assertEquals(0.8f, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void scaleDropsAfterSeveralFramesOverBudget(){
+        RenderScaleController controller = new RenderScaleController(1, 0.5f, 1, true);
+        for(int i = 1; i < RenderScaleController.FRAMES_BEFORE_DECREASE; i++){
+            controller.update(OVER_BUDGET, PERIOD, false);
+        }
+        assertEquals(1, controller.getRenderScale(), TOLERANCE);
+        controller.update(OVER_BUDGET, PERIOD, false);
+        assertEquals(1 - RenderScaleController.SCALE_STEP, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void scaleDropsImmediatelyOnAMissedFrame(){
+        RenderScaleController controller = new RenderScaleController(1, 0.5f, 1, true);
+        controller.update(UNDER_BUDGET, PERIOD, true);
+        assertEquals(1 - RenderScaleController.SCALE_STEP, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void scaleOnlyRisesAfterASustainedPeriodUnderBudget(){
+        RenderScaleController controller = new RenderScaleController(0.7f, 0.5f, 1, true);
+        for(int i = 1; i < RenderScaleController.FRAMES_BEFORE_INCREASE; i++){
+            controller.update(UNDER_BUDGET, PERIOD, false);
+        }
+        assertEquals(0.7f, controller.getRenderScale(), TOLERANCE);
+
+        // a frame between the thresholds restarts the count
+        controller.update(WITHIN_BUDGET, PERIOD, false);
+        controller.update(UNDER_BUDGET, PERIOD, false);
+        assertEquals(0.7f, controller.getRenderScale(), TOLERANCE);
+
+        for(int i = 1; i < RenderScaleController.FRAMES_BEFORE_INCREASE; i++){
+            controller.update(UNDER_BUDGET, PERIOD, false);
+        }
+        assertEquals(0.7f + RenderScaleController.SCALE_STEP, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void scaleStaysWithinItsRange(){
+        RenderScaleController controller = new RenderScaleController(0.55f, 0.5f, 1, true);
+        for(int i = 0; i < 10; i++){
+            controller.update(OVER_BUDGET, PERIOD, true);
+        }
+        assertEquals(0.5f, controller.getRenderScale(), TOLERANCE);
+
+        controller.setRenderScale(2);
+        assertEquals(1, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void updatesFromFrameTimingStats(){
+        RenderScaleController controller = new RenderScaleController(1, 0.5f, 1, true);
+        FrameTimingStats stats = new FrameTimingStats();
+        long displayTime = 1_000_000_000;
+        stats.recordDisplayTiming(displayTime, PERIOD);
+        stats.record(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED, 0);
+        stats.record(FrameTimingStats.Phase.FRAME, UNDER_BUDGET);
+        controller.update(stats);
+        assertEquals(1, controller.getRenderScale(), TOLERANCE);
+
+        // a missed frame drops the scale, but the same frame isn't counted twice
+        stats.recordDisplayTiming(displayTime + 2 * PERIOD, PERIOD);
+        stats.record(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED, 0);
+        stats.record(FrameTimingStats.Phase.FRAME, UNDER_BUDGET);
+        controller.update(stats);
+        controller.update(stats);
+        assertEquals(1 - RenderScaleController.SCALE_STEP, controller.getRenderScale(), TOLERANCE);
+    }
+
+    @Test
+    void scaledSizeIsWithinTheSwapchain(){
+        RenderScaleController controller = new RenderScaleController(0.5f, 0.5f, 1.2f, false);
+        assertEquals(1000, controller.scaledSize(2000, 2400));
+        controller.setRenderScale(1.2f);
+        assertEquals(2400, controller.scaledSize(2000, 2400));
+        assertEquals(2200, controller.scaledSize(2000, 2200));
+    }
+
+    @Test
+    void invalidRanges(){
+        assertThrows(IllegalArgumentException.class, () -> new RenderScaleController(1, 0, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> new RenderScaleController(1, 1, 0.5f, true));
+        XrSettings xrSettings = new XrSettings();
+        assertThrows(IllegalArgumentException.class, () -> xrSettings.setRenderScaleRange(0.8f, 0.5f));
+    }
+}
@@ -0,0 +1,112 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.material.Material;
+import com.jme3.math.FastMath;
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
+import com.jme3.post.SceneProcessor;
+import com.jme3.renderer.Camera;
+import com.jme3.renderer.queue.RenderQueue;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.shape.Box;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StereoCullerTest{
+
+    private static final float HALF_IPD = 0.032f;
+
+    private static final InProgressXrRender.FieldOfViewData FIELD_OF_VIEW = new InProgressXrRender.FieldOfViewData(-FastMath.QUARTER_PI, FastMath.QUARTER_PI, FastMath.QUARTER_PI, -FastMath.QUARTER_PI);
+
+    @Test
+    void cullingFrustumEnclosesBothEyes(){
+        StereoCuller stereoCuller = newCullerForEyes();
+        Camera cullingCamera = stereoCuller.getCullingCamera();
+
+        // the apex is moved back behind the eyes so that the edges of each eye's frustum, close to the eye, are still inside
+        assertEquals(0, cullingCamera.getLocation().x, 0.0001f);
+        assertEquals(-HALF_IPD, cullingCamera.getLocation().z, 0.0001f);
+        assertEquals(Vector3f.UNIT_Z, cullingCamera.getDirection());
+    }
+
+    @Test
+    void onlyGeometriesVisibleToAnEyeSurvive(){
+        StereoCuller stereoCuller = newCullerForEyes();
+        float edgeOfEye = HALF_IPD + 0.2f * FastMath.tan(43 * FastMath.DEG_TO_RAD);
+
+        Node scene = new Node("scene");
+        // near the outer edges of each eye's frustum (outside a frustum with its apex between the eyes)
+        scene.attachChild(geometryAt(edgeOfEye, 0, 0.2f));
+        scene.attachChild(geometryAt(-edgeOfEye, 0, 0.2f));
+        // behind, to the side, and beyond the far clip
+        scene.attachChild(geometryAt(0, 0, -1));
+        scene.attachChild(geometryAt(1, 0, 0.2f));
+        scene.attachChild(geometryAt(0, 0, 600));
+        scene.updateGeometricState();
+        stereoCuller.attachScene(scene);
+
+        stereoCuller.cull(null, null);
+        assertEquals(2, stereoCuller.getCulledGeometryCount());
+
+        // every eye's queue gets the same geometries
+        RenderQueue renderQueue = new RenderQueue();
+        stereoCuller.queueCulled(renderQueue);
+        assertEquals(2, renderQueue.getList(RenderQueue.Bucket.Opaque).size());
+
+        // culling again replaces the previous result
+        stereoCuller.detachScene(scene);
+        stereoCuller.cull(null, null);
+        assertEquals(0, stereoCuller.getCulledGeometryCount());
+    }
+
+    @Test
+    void requestedCullsAreMadeWhenTheFirstViewportIsRendered(){
+        StereoCuller stereoCuller = newCullerForEyes();
+        Node scene = new Node("scene");
+        Geometry hand = geometryAt(0, 0, -1);
+        scene.attachChild(hand);
+        scene.updateGeometricState();
+        stereoCuller.attachScene(scene);
+        SceneProcessor leftProcessor = stereoCuller.newQueueProcessor();
+        SceneProcessor rightProcessor = stereoCuller.newQueueProcessor();
+
+        stereoCuller.cullBeforeRender(null, null);
+        // moved into view after the cull was requested (as late latched hands are)
+        hand.setLocalTranslation(0, 0, 0.2f);
+        scene.updateGeometricState();
+
+        leftProcessor.preFrame(0);
+        assertEquals(1, stereoCuller.getCulledGeometryCount(), "the geometry should be culled where it is drawn");
+
+        // only culled once per request, so the right eye gets the same geometries
+        hand.setLocalTranslation(0, 0, -1);
+        scene.updateGeometricState();
+        rightProcessor.preFrame(0);
+        assertEquals(1, stereoCuller.getCulledGeometryCount());
+        RenderQueue renderQueue = new RenderQueue();
+        rightProcessor.postQueue(renderQueue);
+        assertEquals(1, renderQueue.getList(RenderQueue.Bucket.Opaque).size());
+    }
+
+    private static StereoCuller newCullerForEyes(){
+        Camera leftCamera = new Camera(100, 100);
+        Camera rightCamera = new Camera(100, 100);
+        // an unrotated camera looks along +z with its left along +x
+        leftCamera.setFrame(new Vector3f(HALF_IPD, 0, 0), new Quaternion());
+        rightCamera.setFrame(new Vector3f(-HALF_IPD, 0, 0), new Quaternion());
+
+        StereoCuller stereoCuller = new StereoCuller();
+        stereoCuller.updateCullingCamera(leftCamera, rightCamera, FIELD_OF_VIEW, FIELD_OF_VIEW, 0.1f, 500);
+        return stereoCuller;
+    }
+
+    private static Geometry geometryAt(float x, float y, float z){
+        Geometry geometry = new Geometry("geometry", new Box(0.001f, 0.001f, 0.001f));
+        // culling only requires that there is a material, not what it is
+        geometry.setMaterial(new Material());
+        geometry.setLocalTranslation(x, y, z);
+        return geometry;
+    }
+}
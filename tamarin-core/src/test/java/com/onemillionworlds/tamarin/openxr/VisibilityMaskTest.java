@@ -0,0 +1,40 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import com.jme3.scene.Mesh;
+import com.jme3.scene.VertexBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisibilityMaskTest{
+
+    @Test
+    void meshVerticesAreOnTheTangentPlane(){
+        // a single triangle in the bottom left corner of the image
+        VisibilityMask visibilityMask = new VisibilityMask(new float[]{-1, -1, -0.8f, -1, -1, -0.8f}, new int[]{0, 1, 2});
+        assertEquals(3, visibilityMask.getVertexCount());
+        assertEquals(1, visibilityMask.getTriangleCount());
+
+        Mesh mesh = visibilityMask.toMesh();
+        assertEquals(1, mesh.getTriangleCount());
+        FloatBuffer positions = (FloatBuffer) mesh.getBuffer(VertexBuffer.Type.Position).getData();
+        assertEquals(-0.8f, positions.get(3), 0.0001f);
+        assertEquals(-1, positions.get(4), 0.0001f);
+        assertEquals(-1, positions.get(5), 0.0001f);
+    }
+
+    @Test
+    void emptyMask(){
+        VisibilityMask visibilityMask = new VisibilityMask(new float[0], new int[0]);
+        assertTrue(visibilityMask.isEmpty());
+    }
+
+    @Test
+    void invalidMasks(){
+        assertThrows(IllegalArgumentException.class, () -> new VisibilityMask(new float[]{0, 0, 1}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new VisibilityMask(new float[]{0, 0, 1, 0, 0, 1}, new int[]{0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new VisibilityMask(new float[]{0, 0, 1, 0, 0, 1}, new int[]{0, 1, 3}));
+    }
+}
@@ -0,0 +1,21 @@
+package com.onemillionworlds.tamarin.openxr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XrSettingsTest{
+
+    @Test
+    void locateSpacesIsOnlyRequestedWhenBatchPoseLocatingIsEnabled(){
+        XrSettings xrSettings = new XrSettings();
+        assertFalse(xrSettings.isBatchPoseLocating());
+        assertFalse(xrSettings.getRequiredXrExtensions().contains("XR_KHR_locate_spaces"));
+
+        xrSettings.setBatchPoseLocating(true);
+        assertTrue(xrSettings.getRequiredXrExtensions().contains("XR_KHR_locate_spaces"));
+
+        xrSettings.setBatchPoseLocating(false);
+        assertFalse(xrSettings.getRequiredXrExtensions().contains("XR_KHR_locate_spaces"));
+    }
+}
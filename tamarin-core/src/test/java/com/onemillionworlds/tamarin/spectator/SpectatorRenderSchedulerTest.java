@@ -0,0 +1,55 @@
+package com.onemillionworlds.tamarin.spectator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorRenderSchedulerTest{
+
+    private static final long PERIOD = 11_111_111;
+
+    @Test
+    void rendersEveryIntervalFrames(){
+        SpectatorRenderScheduler scheduler = new SpectatorRenderScheduler(3, 0.9f);
+        // the first frame is always due
+        assertTrue(scheduler.shouldRender(0, PERIOD));
+        assertFalse(scheduler.shouldRender(0, PERIOD));
+        assertFalse(scheduler.shouldRender(0, PERIOD));
+        assertTrue(scheduler.shouldRender(0, PERIOD));
+    }
+
+    @Test
+    void renderIsPutOffWhileTheHeadsetFrameHasNoRoom(){
+        SpectatorRenderScheduler scheduler = new SpectatorRenderScheduler(1, 0.9f);
+        scheduler.recordRenderCost(2_000_000);
+
+        // 9ms + 2ms doesn't fit in 90% of 11.1ms
+        assertFalse(scheduler.shouldRender(9_000_000, PERIOD));
+        assertFalse(scheduler.shouldRender(9_000_000, PERIOD));
+        // but is rendered as soon as there is room
+        assertTrue(scheduler.shouldRender(5_000_000, PERIOD));
+    }
+
+    @Test
+    void withoutADisplayPeriodThereIsNoBudget(){
+        SpectatorRenderScheduler scheduler = new SpectatorRenderScheduler(1, 0.9f);
+        scheduler.recordRenderCost(2_000_000);
+        assertTrue(scheduler.shouldRender(100_000_000, 0));
+    }
+
+    @Test
+    void renderCostIsSmoothed(){
+        SpectatorRenderScheduler scheduler = new SpectatorRenderScheduler(1, 0.9f);
+        scheduler.recordRenderCost(1_000_000);
+        assertEquals(1_000_000, scheduler.getEstimatedRenderCostNanos());
+        scheduler.recordRenderCost(2_000_000);
+        assertEquals(1_000_000 + (long) (1_000_000 * SpectatorRenderScheduler.COST_SMOOTHING), scheduler.getEstimatedRenderCostNanos());
+    }
+
+    @Test
+    void invalidSettings(){
+        assertThrows(IllegalArgumentException.class, () -> new SpectatorRenderScheduler(0, 0.9f));
+        assertThrows(IllegalArgumentException.class, () -> new SpectatorRenderScheduler(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SpectatorRenderScheduler(1, 1.5f));
+    }
+}
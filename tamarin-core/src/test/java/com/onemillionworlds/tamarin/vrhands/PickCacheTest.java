@@ -0,0 +1,74 @@
+package com.onemillionworlds.tamarin.vrhands;
+
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PickCacheTest{
+
+    PickCache pickCache = new PickCache();
+
+    Node target = new Node("target");
+
+    @Test
+    void resultsAreCachedPerPickTypeTargetAndFilter(){
+        CollisionResults results = new CollisionResults();
+        pickCache.putResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT, results);
+
+        assertSame(results, pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+        assertSame(results, pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS)), "equal filters are the same pick");
+        assertNull(pickCache.getResults(PickCache.PickType.GRAB, target, PickFilter.DEFAULT));
+        assertNull(pickCache.getResults(PickCache.PickType.BULK_HAND, new Node("otherTarget"), PickFilter.DEFAULT));
+        assertNull(pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT.withMaximumDistance(5)));
+    }
+
+    @Test
+    void invalidateForgetsThePicks(){
+        pickCache.putResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT, new CollisionResults());
+        pickCache.putFirstHit(PickCache.PickType.GRAB, target, PickFilter.DEFAULT, Optional.empty());
+
+        pickCache.invalidate();
+
+        assertNull(pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+        assertFalse(pickCache.hasFirstHit(PickCache.PickType.GRAB, target, PickFilter.DEFAULT));
+
+        // the entries are reused
+        CollisionResults newResults = new CollisionResults();
+        pickCache.putResults(PickCache.PickType.PALM, target, PickFilter.DEFAULT, newResults);
+        assertSame(newResults, pickCache.getResults(PickCache.PickType.PALM, target, PickFilter.DEFAULT));
+        assertNull(pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+    }
+
+    @Test
+    void firstHitIsTakenFromTheFullResults(){
+        Geometry noPickGeometry = new Geometry("noPick");
+        noPickGeometry.setUserData(BoundHand.NO_PICK, true);
+        Geometry pickableGeometry = new Geometry("pickable");
+
+        CollisionResults results = new CollisionResults();
+        results.addCollision(new CollisionResult(noPickGeometry, new Vector3f(), 1, 0));
+        results.addCollision(new CollisionResult(pickableGeometry, new Vector3f(), 2, 0));
+
+        assertFalse(pickCache.hasFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+        pickCache.putResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT, results);
+
+        assertTrue(pickCache.hasFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+        assertEquals(pickableGeometry, pickCache.getFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT).orElseThrow().getGeometry());
+    }
+
+    @Test
+    void firstHitCanBeCachedWithoutTheFullResults(){
+        pickCache.putFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT, Optional.empty());
+
+        assertTrue(pickCache.hasFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT));
+        assertTrue(pickCache.getFirstHit(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT).isEmpty());
+        assertNull(pickCache.getResults(PickCache.PickType.BULK_HAND, target, PickFilter.DEFAULT), "a first hit doesn't give the full results");
+    }
+}
@@ -0,0 +1,204 @@
+package com.onemillionworlds.tamarin.vrhands;
+
+import com.jme3.collision.Collidable;
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Ray;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.shape.Box;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PickFilterTest{
+
+    static final int LAYER_2 = 0b10;
+    static final int LAYER_3 = 0b100;
+
+    Node root;
+
+    /**
+     * On LAYER_2, containing layeredGeometry
+     */
+    Node layeredNode;
+
+    /**
+     * Inherits LAYER_2 from layeredNode, in front of the ray cast from x = 0
+     */
+    CountingGeometry layeredGeometry;
+
+    /**
+     * On the default layer, in front of the ray cast from x = 3
+     */
+    CountingGeometry defaultGeometry;
+
+    @BeforeEach
+    void setUp(){
+        root = new Node("root");
+        layeredNode = new Node("layeredNode");
+        PickFilter.setPickLayers(layeredNode, LAYER_2);
+        layeredGeometry = box("layeredGeometry", 0, -5);
+        layeredNode.attachChild(layeredGeometry);
+        defaultGeometry = box("defaultGeometry", 3, -5);
+        root.attachChild(layeredNode);
+        root.attachChild(defaultGeometry);
+        root.updateGeometricState();
+    }
+
+    @Test
+    void layersAreInheritedFromAncestors(){
+        PickFilter excludingLayer2 = PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS & ~LAYER_2);
+        assertNull(firstGeometryHit(excludingLayer2, rayFromX(0)));
+        assertEquals(defaultGeometry, firstGeometryHit(excludingLayer2, rayFromX(3)));
+
+        PickFilter defaultAndLayer2 = PickFilter.DEFAULT.withLayerMask(PickFilter.DEFAULT_LAYER | LAYER_2);
+        assertEquals(layeredGeometry, firstGeometryHit(defaultAndLayer2, rayFromX(0)));
+        assertEquals(defaultGeometry, firstGeometryHit(defaultAndLayer2, rayFromX(3)));
+
+        PickFilter excludingDefault = PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS & ~PickFilter.DEFAULT_LAYER);
+        assertNull(firstGeometryHit(excludingDefault, rayFromX(0)), "the root is on the default layer, so nothing is reached");
+    }
+
+    @Test
+    void ownLayersOverrideInheritedLayers(){
+        PickFilter.setPickLayers(layeredGeometry, LAYER_3);
+
+        assertNull(firstGeometryHit(PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS & ~LAYER_3), rayFromX(0)));
+        // the geometry is on layer 3, but its parent isn't so it isn't reached
+        assertNull(firstGeometryHit(PickFilter.DEFAULT.withLayerMask(PickFilter.DEFAULT_LAYER | LAYER_3), rayFromX(0)));
+        assertEquals(layeredGeometry, firstGeometryHit(PickFilter.DEFAULT, rayFromX(0)));
+
+        PickFilter.clearPickLayers(layeredGeometry);
+        assertEquals(layeredGeometry, firstGeometryHit(PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS & ~LAYER_3), rayFromX(0)));
+    }
+
+    @Test
+    void noPickSubtreesAreNotDescendedInto(){
+        layeredNode.setUserData(BoundHand.NO_PICK, true);
+
+        assertNull(firstGeometryHit(PickFilter.DEFAULT, rayFromX(0)));
+        assertEquals(0, layeredGeometry.collisionChecks, "NO_PICK node's children should not be collided against");
+        assertEquals(defaultGeometry, firstGeometryHit(PickFilter.DEFAULT, rayFromX(3)));
+    }
+
+    @Test
+    void maximumDistanceLimitsRays(){
+        assertNull(firstGeometryHit(PickFilter.DEFAULT.withMaximumDistance(3), rayFromX(3)));
+        assertEquals(0, defaultGeometry.collisionChecks, "out of range geometries should not be collided against");
+        assertEquals(defaultGeometry, firstGeometryHit(PickFilter.DEFAULT.withMaximumDistance(10), rayFromX(3)));
+    }
+
+    @Test
+    void firstHit_skipsGeometriesBeyondTheNearestHit(){
+        CountingGeometry near = box("near", 6, -2);
+        CountingGeometry far = box("far", 6, -10);
+        root.attachChild(near);
+        root.attachChild(far);
+        root.updateGeometricState();
+
+        Optional<CollisionResult> firstHit = PickFilter.DEFAULT.firstHit(root, rayFromX(6));
+
+        assertEquals(near, firstHit.orElseThrow().getGeometry());
+        assertEquals(1.5f, firstHit.get().getDistance(), 0.001f);
+        assertEquals(1, near.collisionChecks);
+        assertEquals(0, far.collisionChecks, "far geometry is entirely beyond the nearest hit");
+    }
+
+    @Test
+    void firstHit_findsTheNearestRegardlessOfOrder(){
+        CountingGeometry far = box("far", 6, -10);
+        CountingGeometry near = box("near", 6, -2);
+        root.attachChild(far);
+        root.attachChild(near);
+        root.updateGeometricState();
+
+        assertEquals(near, firstGeometryHit(PickFilter.DEFAULT, rayFromX(6)));
+    }
+
+    @Test
+    void collideWithSubtree_honoursAncestorLayers(){
+        CollisionResults results = new CollisionResults();
+        assertEquals(0, PickFilter.DEFAULT.withLayerMask(PickFilter.ALL_LAYERS & ~LAYER_2).collideWithSubtree(layeredGeometry, root, rayFromX(0), results));
+        assertEquals(0, results.size());
+
+        assertTrue(PickFilter.DEFAULT.collideWithSubtree(layeredGeometry, root, rayFromX(0), results) > 0);
+        assertEquals(layeredGeometry, results.getClosestCollision().getGeometry());
+    }
+
+    @Test
+    void collideWithSubtree_honoursAncestorNoPick(){
+        layeredNode.setUserData(BoundHand.NO_PICK, true);
+
+        CollisionResults results = new CollisionResults();
+        assertEquals(0, PickFilter.DEFAULT.collideWithSubtree(layeredGeometry, root, rayFromX(0), results));
+    }
+
+    @Test
+    void collideWithSubtree_ignoresAncestorsAboveTheNodePickedAgainst(){
+        Node outer = new Node("outer");
+        outer.attachChild(root);
+        outer.setUserData(BoundHand.NO_PICK, true);
+        outer.updateGeometricState();
+
+        CollisionResults results = new CollisionResults();
+        assertTrue(PickFilter.DEFAULT.collideWithSubtree(layeredGeometry, root, rayFromX(0), results) > 0);
+    }
+
+    @Test
+    void settingsChangedBetweenPicksAreRespected(){
+        PickFilter defaultLayerOnly = PickFilter.DEFAULT.withLayerMask(PickFilter.DEFAULT_LAYER);
+        assertEquals(defaultGeometry, firstGeometryHit(defaultLayerOnly, rayFromX(3)));
+
+        defaultGeometry.setUserData(BoundHand.NO_PICK, true);
+        assertNull(firstGeometryHit(defaultLayerOnly, rayFromX(3)));
+
+        PickFilter.setNoPick(defaultGeometry, false);
+        assertEquals(defaultGeometry, firstGeometryHit(defaultLayerOnly, rayFromX(3)));
+
+        PickFilter.setPickLayers(defaultGeometry, LAYER_2);
+        assertNull(firstGeometryHit(defaultLayerOnly, rayFromX(3)));
+
+        // changing the value of existing user data directly
+        defaultGeometry.setUserData(PickFilter.TAMARIN_PICK_LAYERS, PickFilter.DEFAULT_LAYER);
+        assertEquals(defaultGeometry, firstGeometryHit(defaultLayerOnly, rayFromX(3)));
+    }
+
+    private Geometry firstGeometryHit(PickFilter pickFilter, Ray ray){
+        return pickFilter.firstHit(root, ray).map(CollisionResult::getGeometry).orElse(null);
+    }
+
+    /**
+     * A ray pointing down -z from (x, 0, 0)
+     */
+    private static Ray rayFromX(float x){
+        return new Ray(new Vector3f(x, 0, 0), new Vector3f(0, 0, -1));
+    }
+
+    private static CountingGeometry box(String name, float x, float z){
+        CountingGeometry geometry = new CountingGeometry(name);
+        geometry.setLocalTranslation(x, 0, z);
+        return geometry;
+    }
+
+    /**
+     * A half metre box that counts how many times it is collided against
+     */
+    private static class CountingGeometry extends Geometry{
+        int collisionChecks = 0;
+
+        CountingGeometry(String name){
+            super(name, new Box(0.5f, 0.5f, 0.5f));
+        }
+
+        @Override
+        public int collideWith(Collidable other, CollisionResults results){
+            collisionChecks++;
+            return super.collideWith(other, results);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.onemillionworlds.tamarin.vrhands.broadphase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicAabbTreeTest{
+
+    private static final float MARGIN = 0.1f;
+
+    private static float[] box(float x, float y, float z, float halfSize){
+        return new float[]{x - halfSize, y - halfSize, z - halfSize, x + halfSize, y + halfSize, z + halfSize};
+    }
+
+    private static float[] randomBox(Random random){
+        return box(random.nextFloat() * 20, random.nextFloat() * 20, random.nextFloat() * 20, 0.05f + random.nextFloat() * 0.5f);
+    }
+
+    private static boolean overlaps(float[] a, float[] b){
+        return a[0] <= b[3] && a[3] >= b[0] && a[1] <= b[4] && a[4] >= b[1] && a[2] <= b[5] && a[5] >= b[2];
+    }
+
+    @Test
+    void query_findsOverlappingProxies(){
+        DynamicAabbTree<String> tree = new DynamicAabbTree<>(MARGIN);
+        tree.createProxy(box(0, 0, 0, 0.5f), "origin");
+        tree.createProxy(box(5, 0, 0, 0.5f), "far");
+        tree.createProxy(box(0.8f, 0, 0, 0.25f), "nearby");
+
+        List<String> results = new ArrayList<>();
+        tree.query(box(0.45f, 0, 0, 0.01f), results);
+
+        assertEquals(Set.of("origin", "nearby"), new HashSet<>(results));
+        assertEquals(3, tree.getProxyCount());
+    }
+
+    @Test
+    void moveProxy_onlyReinsertsWhenLeavingFatBox(){
+        DynamicAabbTree<String> tree = new DynamicAabbTree<>(MARGIN);
+        int proxy = tree.createProxy(box(0, 0, 0, 0.5f), "moving");
+
+        assertFalse(tree.moveProxy(proxy, box(0.05f, 0, 0, 0.5f)));
+        assertTrue(tree.moveProxy(proxy, box(3, 0, 0, 0.5f)));
+
+        List<String> results = new ArrayList<>();
+        tree.query(box(0, 0, 0, 0.1f), results);
+        assertTrue(results.isEmpty());
+        tree.query(box(3, 0, 0, 0.1f), results);
+        assertEquals(List.of("moving"), results);
+    }
+
+    /**
+     * Randomly creates, moves and destroys proxies, checking that the queries always agree with a brute force search
+     * and the tree stays balanced
+     */
+    @Test
+    void randomisedAgainstBruteForce(){
+        Random random = new Random(42);
+        DynamicAabbTree<Integer> tree = new DynamicAabbTree<>(MARGIN);
+        Map<Integer, float[]> boxes = new HashMap<>();
+        Map<Integer, Integer> proxies = new HashMap<>();
+
+        int nextItem = 0;
+        for(int step = 0; step < 5000; step++){
+            int operation = random.nextInt(10);
+            if(operation < 4 || boxes.isEmpty()){
+                float[] box = randomBox(random);
+                boxes.put(nextItem, box);
+                proxies.put(nextItem, tree.createProxy(box, nextItem));
+                nextItem++;
+            } else if(operation < 8){
+                Integer item = new ArrayList<>(boxes.keySet()).get(random.nextInt(boxes.size()));
+                float[] box = randomBox(random);
+                boxes.put(item, box);
+                tree.moveProxy(proxies.get(item), box);
+            } else{
+                Integer item = new ArrayList<>(boxes.keySet()).get(random.nextInt(boxes.size()));
+                boxes.remove(item);
+                tree.destroyProxy(proxies.remove(item));
+            }
+
+            if(step % 50 == 0){
+                float[] queryBox = randomBox(random);
+                List<Integer> results = new ArrayList<>();
+                tree.query(queryBox, results);
+                Set<Integer> found = new HashSet<>(results);
+                for(Map.Entry<Integer, float[]> entry : boxes.entrySet()){
+                    if(overlaps(entry.getValue(), queryBox)){
+                        assertTrue(found.contains(entry.getKey()), "Missing " + entry.getKey());
+                    }
+                }
+                assertEquals(boxes.size(), tree.getProxyCount());
+            }
+        }
+        // a balanced tree of a few hundred proxies should be nowhere near as tall as the number of proxies
+        assertTrue(tree.getHeight() < 4 * (32 - Integer.numberOfLeadingZeros(boxes.size())), "Height " + tree.getHeight());
+    }
+}
@@ -0,0 +1,197 @@
+package com.onemillionworlds.tamarin.vrhands.broadphase;
+
+import com.jme3.bounding.BoundingSphere;
+import com.jme3.collision.CollisionResult;
+import com.jme3.collision.CollisionResults;
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Geometry;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+import com.jme3.scene.shape.Box;
+import com.onemillionworlds.tamarin.vrhands.PickFilter;
+import com.onemillionworlds.tamarin.vrhands.grabbing.AbstractGrabControl;
+import com.onemillionworlds.tamarin.vrhands.touching.AbstractTouchControl;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InteractableIndexTest{
+
+    Node rootNode = new Node("root");
+
+    InteractableIndex index = new InteractableIndex(rootNode);
+
+    @Test
+    void insertAndQuery(){
+        rootNode.attachChild(touchable("origin", new Vector3f(0, 0, 0)));
+        rootNode.attachChild(touchable("far", new Vector3f(5, 0, 0)));
+        nextFrame();
+
+        assertEquals(2, index.getIndexedCount());
+        assertEquals(1, touchedSpatials(new Vector3f(0, 0, 0)));
+        assertEquals(1, touchedSpatials(new Vector3f(5, 0, 0)));
+        assertEquals(0, touchedSpatials(new Vector3f(2.5f, 0, 0)));
+    }
+
+    @Test
+    void spatialsAddedLaterAreIndexed(){
+        nextFrame();
+        assertEquals(0, index.getIndexedCount());
+
+        Node group = new Node("group");
+        group.attachChild(touchable("nested", new Vector3f(1, 0, 0)));
+        rootNode.attachChild(group);
+        nextFrame();
+
+        assertEquals(1, index.getIndexedCount());
+        assertEquals(1, touchedSpatials(new Vector3f(1, 0, 0)));
+    }
+
+    @Test
+    void movedSpatialsAreFoundAtTheirNewPosition(){
+        Geometry touchable = touchable("moving", new Vector3f(0, 0, 0));
+        rootNode.attachChild(touchable);
+        nextFrame();
+        assertEquals(1, touchedSpatials(new Vector3f(0, 0, 0)));
+
+        touchable.setLocalTranslation(3, 0, 0);
+        nextFrame();
+
+        assertEquals(0, touchedSpatials(new Vector3f(0, 0, 0)));
+        assertEquals(1, touchedSpatials(new Vector3f(3, 0, 0)));
+    }
+
+    @Test
+    void removedSpatialsAndControlsAreDropped(){
+        Geometry detached = touchable("detached", new Vector3f(0, 0, 0));
+        Geometry controlRemoved = touchable("controlRemoved", new Vector3f(1, 0, 0));
+        rootNode.attachChild(detached);
+        rootNode.attachChild(controlRemoved);
+        nextFrame();
+        assertEquals(2, index.getIndexedCount());
+
+        detached.removeFromParent();
+        controlRemoved.removeControl(AbstractTouchControl.class);
+        nextFrame();
+
+        assertEquals(0, index.getIndexedCount());
+        assertEquals(0, touchedSpatials(new Vector3f(0, 0, 0)));
+        assertEquals(0, touchedSpatials(new Vector3f(1, 0, 0)));
+    }
+
+    @Test
+    void onlyTheIndexedRootsAreIndexed(){
+        Node otherRoot = new Node("otherRoot");
+        otherRoot.attachChild(touchable("elsewhere", new Vector3f(0, 0, 0)));
+        otherRoot.updateGeometricState();
+        nextFrame();
+
+        assertEquals(0, index.getIndexedCount());
+    }
+
+    @Test
+    void onlyTheRequestedControlTypeIsCollidedWith(){
+        rootNode.attachChild(touchable("touchable", new Vector3f(0, 0, 0)));
+        nextFrame();
+
+        CollisionResults results = new CollisionResults();
+        index.collideWith(AbstractGrabControl.class, new BoundingSphere(0.15f, new Vector3f(0, 0, 0)), rootNode, PickFilter.DEFAULT, results);
+        assertEquals(0, results.size());
+    }
+
+    @Test
+    void controlsAddedBeforeTheIndexWasCreatedAreFound(){
+        Node existingRoot = new Node("existingRoot");
+        existingRoot.attachChild(touchable("existing", new Vector3f(0, 0, 0)));
+        existingRoot.updateGeometricState();
+
+        InteractableIndex laterIndex = new InteractableIndex(existingRoot);
+        assertEquals(1, laterIndex.getIndexedCount());
+    }
+
+    @Test
+    void reindexFindsControlsAddedBeforeTheIndexButAttachedAfterItsFirstRefresh(){
+        Geometry preparedEarly = touchable("preparedEarly", new Vector3f(0, 0, 0));
+        InteractableIndex laterIndex = new InteractableIndex(rootNode);
+        laterIndex.getIndexedCount();
+
+        rootNode.attachChild(preparedEarly);
+        rootNode.updateGeometricState();
+        laterIndex.update(0);
+        assertEquals(0, laterIndex.getIndexedCount(), "the control was added to its spatial before the index existed");
+
+        laterIndex.reindex();
+
+        assertEquals(1, laterIndex.getIndexedCount());
+    }
+
+    @Test
+    void theSceneIsOnlySearchedOnce(){
+        CountingNode scenery = new CountingNode();
+        for(int i = 0; i < 10; i++){
+            scenery.attachChild(new Geometry("scenery" + i, new Box(1, 1, 1)));
+        }
+        rootNode.attachChild(scenery);
+        rootNode.attachChild(touchable("touchable", new Vector3f(0, 0, 0)));
+        nextFrame();
+        assertEquals(1, touchedSpatials(new Vector3f(0, 0, 0)));
+        int searchesOfScenery = scenery.childListRequests;
+
+        for(int frame = 0; frame < 3; frame++){
+            nextFrame();
+            assertEquals(1, touchedSpatials(new Vector3f(0, 0, 0)));
+        }
+        assertEquals(searchesOfScenery, scenery.childListRequests, "only the tracked controls should be refreshed");
+    }
+
+    /**
+     * Simulates a frame passing, so that the index refreshes on its next query
+     */
+    private void nextFrame(){
+        rootNode.updateGeometricState();
+        index.update(0);
+    }
+
+    /**
+     * The number of different spatials touched by a small sphere at the position
+     */
+    private int touchedSpatials(Vector3f position){
+        CollisionResults results = new CollisionResults();
+        index.collideWith(AbstractTouchControl.class, new BoundingSphere(0.15f, position), rootNode, PickFilter.DEFAULT, results);
+        Set<Geometry> touched = new HashSet<>();
+        for(CollisionResult result : results){
+            touched.add(result.getGeometry());
+        }
+        return touched.size();
+    }
+
+    private static Geometry touchable(String name, Vector3f position){
+        Geometry geometry = new Geometry(name, new Box(0.1f, 0.1f, 0.1f));
+        geometry.setLocalTranslation(position);
+        geometry.addControl(new TestTouchControl());
+        return geometry;
+    }
+
+    private static class CountingNode extends Node{
+        int childListRequests = 0;
+
+        CountingNode(){
+            super("scenery");
+        }
+
+        @Override
+        public List<Spatial> getChildren(){
+            childListRequests++;
+            return super.getChildren();
+        }
+    }
+
+    private static class TestTouchControl extends AbstractTouchControl{
+        @Override
+        protected void controlUpdate(float tpf){}
+    }
+}
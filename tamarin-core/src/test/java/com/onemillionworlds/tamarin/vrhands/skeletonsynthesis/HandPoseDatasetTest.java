@@ -0,0 +1,99 @@
+package com.onemillionworlds.tamarin.vrhands.skeletonsynthesis;
+
+import com.jme3.math.Vector3f;
+import com.onemillionworlds.tamarin.actions.HandSide;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandPoseDatasetTest{
+
+    /**
+     * Writes a dataset in the same format as the generateHandPoseDataset gradle task, with a single grid
+     * ("test/LEFT") of grip values 0 and 1 (and a single trigger value of 0). Each joint's position is
+     * (joint index, grip, 0). The joints are written in reverse order and with an extra joint this version doesn't know.
+     */
+    private static ByteBuffer writeDataset(boolean leaveAJointOutOfSecondCell) throws IOException{
+        List<String> jointNames = new ArrayList<>();
+        for(int i = HandJoint.values().length - 1; i >= 0; i--){
+            jointNames.add(HandJoint.values()[i].name());
+        }
+        jointNames.add("SIXTH_FINGER_EXT");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(HandPoseDataset.MAGIC);
+        out.writeInt(HandPoseDataset.VERSION);
+        out.writeInt(jointNames.size());
+        for(String jointName : jointNames){
+            writeString(out, jointName);
+        }
+        out.writeInt(HandSkeletonPose.FLOATS_PER_JOINT);
+        out.writeInt(1);
+        writeString(out, "test/LEFT");
+        float[] grips = {0, 1};
+        out.writeInt(grips.length);
+        for(float grip : grips){
+            out.writeFloat(grip);
+        }
+        out.writeInt(1);
+        out.writeFloat(0);
+        for(float grip : grips){
+            for(String jointName : jointNames){
+                boolean present = !(leaveAJointOutOfSecondCell && grip == 1 && jointName.equals(HandJoint.WRIST_EXT.name()));
+                float jointIndex = jointName.startsWith("SIXTH") ? -1 : HandJoint.valueOf(jointName).getJointIndex();
+                out.writeByte(present ? 1 : 0);
+                float[] values = {jointIndex, grip, 0, 0, 0, 0, 1, 0.01f};
+                for(float value : values){
+                    out.writeFloat(present ? value : 0);
+                }
+            }
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException{
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Test
+    void read(){
+        HandPoseDataset dataset = assertDoesNotThrow(() -> HandPoseDataset.read(writeDataset(false)));
+
+        assertTrue(dataset.getGrid("test", HandSide.RIGHT).isEmpty());
+        HandPoseGrid grid = dataset.getGrid("test", HandSide.LEFT).orElseThrow();
+
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        assertTrue(grid.interpolate(0.5f, 0, skeleton));
+        assertEquals(new Vector3f(HandJoint.INDEX_TIP_EXT.getJointIndex(), 0.5f, 0), skeleton.getPosition(HandJoint.INDEX_TIP_EXT, new Vector3f()));
+        assertEquals(new Vector3f(HandJoint.PALM_EXT.getJointIndex(), 0.5f, 0), skeleton.getPosition(HandJoint.PALM_EXT, new Vector3f()));
+        assertEquals(0.01f, skeleton.getRadius(HandJoint.LITTLE_TIP_EXT), 0.0001f);
+    }
+
+    @Test
+    void read_cellsWithMissingJointsAreNotUsed(){
+        HandPoseDataset dataset = assertDoesNotThrow(() -> HandPoseDataset.read(writeDataset(true)));
+        HandPoseGrid grid = dataset.getGrid("test", HandSide.LEFT).orElseThrow();
+
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+        assertTrue(grid.interpolate(0, 0, skeleton));
+        assertFalse(grid.interpolate(0.5f, 0, skeleton));
+    }
+
+    @Test
+    void read_rejectsOtherFiles(){
+        assertThrows(IOException.class, () -> HandPoseDataset.read(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8})));
+    }
+}
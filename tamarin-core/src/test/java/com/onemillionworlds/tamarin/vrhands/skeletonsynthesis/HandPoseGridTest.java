@@ -0,0 +1,91 @@
+package com.onemillionworlds.tamarin.vrhands.skeletonsynthesis;
+
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
+import com.onemillionworlds.tamarin.handskeleton.HandJoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandPoseGridTest{
+
+    private static final float TOLERANCE = 0.0001f;
+
+    /**
+     * A grid with a cell at each grip and trigger value, each with every joint at (grip, trigger, 0) with an identity
+     * orientation and a radius of grip + trigger
+     */
+    private static HandPoseGrid grid(float[] gripValues, float[] triggerValues){
+        float[] poses = new float[gripValues.length * triggerValues.length * HandPoseGrid.FLOATS_PER_SKELETON];
+        boolean[] cellComplete = new boolean[gripValues.length * triggerValues.length];
+        for(int g = 0; g < gripValues.length; g++){
+            for(int t = 0; t < triggerValues.length; t++){
+                int cell = g * triggerValues.length + t;
+                cellComplete[cell] = true;
+                for(int joint = 0; joint < HandSkeletonPose.NUMBER_OF_JOINTS; joint++){
+                    int offset = cell * HandPoseGrid.FLOATS_PER_SKELETON + joint * HandSkeletonPose.FLOATS_PER_JOINT;
+                    poses[offset] = gripValues[g];
+                    poses[offset + 1] = triggerValues[t];
+                    poses[offset + 6] = 1;
+                    poses[offset + 7] = gripValues[g] + triggerValues[t];
+                }
+            }
+        }
+        return new HandPoseGrid(gripValues, triggerValues, poses, cellComplete);
+    }
+
+    private static HandPoseGrid twoByTwoGrid(){
+        return grid(new float[]{0, 1}, new float[]{0, 1});
+    }
+
+    @Test
+    void interpolate_bilinear(){
+        HandPoseGrid grid = twoByTwoGrid();
+        float[] out = new float[HandPoseGrid.FLOATS_PER_SKELETON];
+
+        assertTrue(grid.interpolate(0.25f, 0.5f, out));
+
+        int offset = HandJoint.INDEX_TIP_EXT.getJointIndex() * HandSkeletonPose.FLOATS_PER_JOINT;
+        assertEquals(0.25f, out[offset], TOLERANCE);
+        assertEquals(0.5f, out[offset + 1], TOLERANCE);
+        assertEquals(1f, out[offset + 6], TOLERANCE);
+        assertEquals(0.75f, out[offset + 7], TOLERANCE);
+    }
+
+    @Test
+    void interpolate_clampsAndExactMatches(){
+        HandPoseGrid grid = twoByTwoGrid();
+        float[] out = new float[HandPoseGrid.FLOATS_PER_SKELETON];
+
+        assertTrue(grid.interpolate(2, -1, out));
+
+        assertEquals(1f, out[0], TOLERANCE);
+        assertEquals(0f, out[1], TOLERANCE);
+    }
+
+    @Test
+    void interpolate_intoSkeletonPose(){
+        HandPoseGrid grid = grid(new float[]{0, 0.5f, 1}, new float[]{0});
+        HandSkeletonPose skeleton = new HandSkeletonPose();
+
+        assertTrue(grid.interpolate(0.75f, 0, skeleton));
+
+        assertTrue(skeleton.isPopulated());
+        assertEquals(0.75f, skeleton.getRadius(HandJoint.WRIST_EXT), TOLERANCE);
+    }
+
+    @Test
+    void slerp_halfway(){
+        float halfRoot2 = (float)Math.sqrt(0.5);
+        float[] a = {0, 0, 0, 1};
+        // 90 degrees about z
+        float[] b = {0, 0, halfRoot2, halfRoot2};
+        float[] out = new float[4];
+
+        HandPoseGrid.slerp(a, 0, b, 0, 0.5f, out, 0);
+
+        // 45 degrees about z
+        assertEquals(0f, out[0], TOLERANCE);
+        assertEquals((float)Math.sin(Math.PI / 8), out[2], TOLERANCE);
+        assertEquals((float)Math.cos(Math.PI / 8), out[3], TOLERANCE);
+    }
+}
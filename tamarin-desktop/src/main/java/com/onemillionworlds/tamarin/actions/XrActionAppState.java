@@ -8,10 +8,15 @@ import com.jme3.scene.Node;
 import com.onemillionworlds.tamarin.actions.actionprofile.Action;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionHandle;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionManifest;
+import com.onemillionworlds.tamarin.actions.actionprofile.ActionRegistry;
 import com.onemillionworlds.tamarin.actions.actionprofile.ActionSet;
+import com.onemillionworlds.tamarin.actions.actionprofile.ResolvedActionHandle;
 import com.onemillionworlds.tamarin.actions.actionprofile.SuggestedBindingsProfileView;
+import com.onemillionworlds.tamarin.actions.state.ActionStateSnapshot;
+import com.onemillionworlds.tamarin.actions.state.PoseActionStateCache;
+import com.onemillionworlds.tamarin.actions.state.PoseLocatingMode;
 import com.onemillionworlds.tamarin.actions.state.Vector2fActionState;
-import com.onemillionworlds.tamarin.actions.state.BonePose;
+import com.onemillionworlds.tamarin.actions.state.HandSkeletonPose;
 import com.onemillionworlds.tamarin.actions.state.BooleanActionState;
 import com.onemillionworlds.tamarin.actions.state.PoseActionState;
 import com.onemillionworlds.tamarin.actions.state.FloatActionState;
@@ -53,7 +58,12 @@ import org.lwjgl.openxr.XrSession;
 import org.lwjgl.openxr.XrSessionActionSetsAttachInfo;
 import org.lwjgl.openxr.XrSpace;
 import org.lwjgl.openxr.XrSpaceLocation;
+import org.lwjgl.openxr.XrSpaceLocationDataKHR;
+import org.lwjgl.openxr.XrSpaceLocationsKHR;
+import org.lwjgl.openxr.XrSpaceVelocitiesKHR;
 import org.lwjgl.openxr.XrSpaceVelocity;
+import org.lwjgl.openxr.XrSpaceVelocityDataKHR;
+import org.lwjgl.openxr.XrSpacesLocateInfoKHR;
 import org.lwjgl.openxr.XrVector3f;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
@@ -75,6 +85,7 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.lwjgl.openxr.EXTHandTracking;
+import org.lwjgl.openxr.KHRLocateSpaces;
 
 import com.onemillionworlds.tamarin.logging.SingleOccurrenceLog;
 
@@ -101,12 +112,14 @@ public class XrActionAppState extends XrActionBaseAppState{
     public static final String ID = XrActionBaseAppState.ID;
 
     private static final Logger LOGGER = Logger.getLogger(XrActionAppState.class.getName());
+
+    private static final HandJoint[] HAND_JOINTS = HandJoint.values();
     private final SingleOccurrenceLog singleLog = new SingleOccurrenceLog(LOGGER);
 
     /**
-     * A map of the action -> input -> handle for action space. Typically one for each hand.
+     * Gives each action and each (action, sub action path) a dense index that the arrays below are indexed by.
      */
-    private final Map<ActionHandle,Map<String, Long>> poseActionInputSpaceHandles = new HashMap<>();
+    private final ActionRegistry actionRegistry;
 
     /**
      * A map of paths (e.g. /user/hand/right) to the handle used to address it.
@@ -114,9 +127,9 @@ public class XrActionAppState extends XrActionBaseAppState{
     private final Map<String, Long> pathCache = new HashMap<>();
 
     /**
-     * Holds things like XR10.XR_REFERENCE_SPACE_TYPE_STAGE -> the memory handle of the reference space.
+     * Holds things like XR10.XR_REFERENCE_SPACE_TYPE_STAGE -> the reference space.
      */
-    private final Map<Long, Long> referenceSpaceHandles = new HashMap<>();
+    private final Map<Integer, XrSpace> referenceSpaces = new HashMap<>();
 
     private XrSession xrSessionHandle;
     private XrInstance xrInstance;
@@ -126,12 +139,49 @@ public class XrActionAppState extends XrActionBaseAppState{
     private Map<String, XrActionSet> actionSets;
 
     /**
-     * This is action set -> action name -> action
+     * The XrAction for each action, indexed by the action's registry index. Null until the actions are registered
+     */
+    private XrAction[] registeredActions;
+
+    /**
+     * The sub action path handle for each registry slot (NULL for the unrestricted slots).
+     */
+    private long[] slotSubActionPaths;
+
+    /**
+     * The action space for each registry slot of a pose action (null for other slots). Typically one for each hand.
      */
-    private Map<String, Map<String,XrAction>> actions;
+    private XrSpace[] slotSpaces;
 
     private final EnumMap<HandSide,XrHandTrackerEXT> handTrackers = new EnumMap<>(HandSide.class);
 
+    /**
+     * Holds the boolean/float/vector2f action states as sampled just after the last sync (if snapshots are enabled).
+     */
+    private final ActionStateSnapshot actionStateSnapshot;
+
+    /**
+     * Holds the poses located for the current predicted frame time, so repeated queries within a frame don't
+     * locate the space again (and all consumers see the same pose).
+     */
+    private final PoseActionStateCache poseCache;
+
+    /**
+     * The registry slots that have a pose action space, in the order they are batch located.
+     */
+    private int[] poseSlots = new int[0];
+
+    /**
+     * These are only used when batch locating poses. They are created once (after the actions are registered)
+     * and reused every frame. The spaceLocateInfo etc. are only used if XR_KHR_locate_spaces is available, the
+     * batchSpaceLocation etc. are the fallback.
+     */
+    private XrSpacesLocateInfoKHR spacesLocateInfo;
+    private XrSpaceLocationsKHR spaceLocations;
+    private XrSpaceVelocitiesKHR spaceVelocities;
+    private XrSpaceLocation batchSpaceLocation;
+    private XrSpaceVelocity batchSpaceVelocity;
+
     /**
      * Contains the currently active profiles
      */
@@ -178,6 +228,9 @@ public class XrActionAppState extends XrActionBaseAppState{
             throw new RuntimeException("No starting action sets specified, that means no actions will be usable. Probably not what you want. If you really really want that then set anything here then call setActiveActionSets() with no arguments later");
         }
         this.pendingActions = new PendingActions(manifest, startingActionSets);
+        this.actionRegistry = new ActionRegistry(manifest);
+        this.actionStateSnapshot = new ActionStateSnapshot(actionRegistry);
+        this.poseCache = new PoseActionStateCache(actionRegistry.getNumberOfSlots());
     }
 
 
@@ -187,6 +240,9 @@ public class XrActionAppState extends XrActionBaseAppState{
         this.openXRGL = xrAppState.getXrSession();
         this.xrSessionHandle = openXRGL.getXrSession();
         this.xrInstance = xrSessionHandle.getInstance();
+        if (xrAppState.getXrSettings().isBatchPoseLocating()){
+            setBatchPoseLocatingEnabled(true);
+        }
     }
 
     @Override
@@ -281,7 +337,8 @@ public class XrActionAppState extends XrActionBaseAppState{
         LOGGER.log(Level.INFO, "Registering manifest");
 
         actionSets = new HashMap<>();
-        actions = new HashMap<>();
+        registeredActions = new XrAction[actionRegistry.getNumberOfActions()];
+        slotSpaces = new XrSpace[actionRegistry.getNumberOfSlots()];
 
         Map<List<String>, LongBuffer> subActionPaths = new HashMap<>();
 
@@ -328,7 +385,8 @@ public class XrActionAppState extends XrActionBaseAppState{
                     PointerBuffer actionPointer = stack.mallocPointer(1);
                     withResponseCodeLogging("xrStringToPath", XR10.xrCreateAction(xrActionSet, xrActionCreateInfo, actionPointer));
                     XrAction xrAction = new XrAction(actionPointer.get(), xrActionSet);
-                    actions.computeIfAbsent(actionSet.getName(), name -> new HashMap<>()).put(action.getActionName(), xrAction);
+                    int actionIndex = actionRegistry.findActionIndex(action.getActionHandle());
+                    registeredActions[actionIndex] = xrAction;
 
                     if(action.getActionType() == ActionType.POSE){
                         if(action.getSupportedSubActionPaths().isEmpty()){
@@ -349,7 +407,7 @@ public class XrActionAppState extends XrActionBaseAppState{
 
                             withResponseCodeLogging("Create pose space", XR10.xrCreateActionSpace(xrSessionHandle, actionSpaceCreateInfo, spacePointer));
 
-                            poseActionInputSpaceHandles.computeIfAbsent(new ActionHandle(action.getActionSetName(), action.getActionName()), key -> new HashMap<>()).put(input, spacePointer.get(0));
+                            slotSpaces[actionRegistry.findSlot(actionIndex, input)] = new XrSpace(spacePointer.get(0), xrSessionHandle);
                         }
 
                     }
@@ -370,7 +428,7 @@ public class XrActionAppState extends XrActionBaseAppState{
                     LongBuffer bindingHandleBuffer = BufferUtils.createLongBuffer(1);
                     withResponseCodeLogging("xrStringToPath:" + actionAndBinding.getValue(), XR10.xrStringToPath(xrInstance, actionAndBinding.getValue(), bindingHandleBuffer));
 
-                    XrAction action = actions.get(actionAndBinding.getKey().getActionSet()).get(actionAndBinding.getKey().getActionName());
+                    XrAction action = obtainActionHandle(new ActionHandle(actionAndBinding.getKey().getActionSet(), actionAndBinding.getKey().getActionName()));
                     suggestedBindingsBuffer.position(i);
                     suggestedBindingsBuffer.action(action);
                     suggestedBindingsBuffer.binding(bindingHandleBuffer.get());
@@ -395,8 +453,16 @@ public class XrActionAppState extends XrActionBaseAppState{
             actionSetsAttachInfo.actionSets(actionSetsBuffer);
             withResponseCodeLogging("xrAttachSessionActionSets", XR10.xrAttachSessionActionSets(xrSessionHandle, actionSetsAttachInfo));
 
+            slotSubActionPaths = new long[actionRegistry.getNumberOfSlots()];
+            for(int slot = 0; slot < slotSubActionPaths.length; slot++){
+                String subActionPath = actionRegistry.getSlotSubActionPath(slot);
+                slotSubActionPaths[slot] = subActionPath == null ? NULL : pathToLong(subActionPath, true);
+            }
+
             setActiveActionSets(startingActionSets);
 
+            createBatchPoseLocationBuffers();
+
             if(xrAppState.checkExtensionLoaded(EXTHandTracking.XR_EXT_HAND_TRACKING_EXTENSION_NAME)){
                 for(HandSide handSide : HandSide.values()){
                     XrHandTrackerCreateInfoEXT createHandTracking = XrHandTrackerCreateInfoEXT.calloc(stack)
@@ -422,6 +488,71 @@ public class XrActionAppState extends XrActionBaseAppState{
         }
     }
 
+    /**
+     * Samples every action in the active action sets into the snapshot. If any sample fails the snapshot is left
+     * invalid, so the getters fall back to querying directly (and report the problem there).
+     */
+    private void sampleActionStateSnapshot(){
+        actionStateSnapshot.invalidate();
+        boolean allSucceeded = true;
+        try(MemoryStack stack = stackPush()){
+            XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack).type$Default();
+            XrActionStateBoolean booleanState = XrActionStateBoolean.calloc(stack).type$Default();
+            XrActionStateFloat floatState = XrActionStateFloat.calloc(stack).type$Default();
+            XrActionStateVector2f vector2fState = XrActionStateVector2f.calloc(stack).type$Default();
+
+            for(int slot : actionStateSnapshot.getActiveSlots()){
+                actionInfo.action(registeredActions[actionRegistry.getSlotActionIndex(slot)]);
+                actionInfo.subactionPath(slotSubActionPaths[slot]);
+                switch(actionStateSnapshot.getSlotType(slot)){
+                    case BOOLEAN -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateBoolean", XR10.xrGetActionStateBoolean(xrSessionHandle, actionInfo, booleanState));
+                        actionStateSnapshot.recordBoolean(slot, booleanState.currentState(), booleanState.changedSinceLastSync());
+                    }
+                    case FLOAT -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateFloat", XR10.xrGetActionStateFloat(xrSessionHandle, actionInfo, floatState));
+                        actionStateSnapshot.recordFloat(slot, floatState.currentState(), floatState.changedSinceLastSync());
+                    }
+                    case VECTOR2F -> {
+                        allSucceeded &= withResponseCodeLogging("snapshot xrGetActionStateVector2f", XR10.xrGetActionStateVector2f(xrSessionHandle, actionInfo, vector2fState));
+                        actionStateSnapshot.recordVector2f(slot, vector2fState.currentState().x(), vector2fState.currentState().y(), vector2fState.changedSinceLastSync());
+                    }
+                    default -> throw new IllegalStateException("Unexpected snapshot action type " + actionStateSnapshot.getSlotType(slot));
+                }
+            }
+        }
+        if (allSucceeded){
+            actionStateSnapshot.markValid();
+        }
+    }
+
+    /**
+     * @return if the query can be answered from the snapshot, rather than going to OpenXR directly
+     */
+    private boolean useSnapshot(int slot, ActionType actionType){
+        return isActionStateSnapshotsEnabled() && actionStateSnapshot.canAnswer(slot, actionType);
+    }
+
+    /**
+     * @return the path handle for the restriction, the slot's handle if available otherwise looked up from the string
+     */
+    private long subActionPathHandle(int slot, String restrictToInput){
+        return slot == ActionRegistry.NOT_FOUND ? pathToLong(restrictToInput, true) : slotSubActionPaths[slot];
+    }
+
+    private int findActionIndex(ActionHandle actionHandle){
+        int actionIndex = actionRegistry.findActionIndex(actionHandle);
+        if (actionIndex == ActionRegistry.NOT_FOUND){
+            throw new RuntimeException("No action found for " + actionHandle + ". Have you registered it in the manifest?");
+        }
+        return actionIndex;
+    }
+
+    @Override
+    public ResolvedActionHandle resolveActionHandle(ActionHandle action, String restrictToInput){
+        return actionRegistry.resolve(action, restrictToInput);
+    }
+
     @Override
     public void setActiveActionSets(List<String> actionSets){
 
@@ -448,6 +579,8 @@ public class XrActionAppState extends XrActionBaseAppState{
         }
         activeActionSetsBuffer.position(0);
         this.xrActionsSyncInfo.activeActionSets(activeActionSetsBuffer);
+
+        actionStateSnapshot.setActiveActionSets(actionSets);
     }
 
     private static ByteBuffer stringToByte(String str){
@@ -506,6 +639,25 @@ public class XrActionAppState extends XrActionBaseAppState{
         if (!isReady()){
             return new BooleanActionState(false, false);
         }
+        int actionIndex = findActionIndex(action);
+        return getBooleanActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
+
+    @Override
+    public BooleanActionState getBooleanActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getBooleanActionState(action.actionHandle(), action.restrictToInput());
+        }
+        if (!isReady()){
+            return new BooleanActionState(false, false);
+        }
+        return getBooleanActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private BooleanActionState getBooleanActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.BOOLEAN)){
+            return actionStateSnapshot.getBooleanActionState(slot);
+        }
 
         try(MemoryStack stack = stackPush()){
 
@@ -513,10 +665,10 @@ public class XrActionAppState extends XrActionBaseAppState{
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
 
             if (restrictToInput != null){
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
 
             int responseCode = XR10.xrGetActionStateBoolean(xrSessionHandle, actionInfo, actionState);
@@ -531,11 +683,19 @@ public class XrActionAppState extends XrActionBaseAppState{
     }
 
     private XrAction obtainActionHandle(ActionHandle actionHandle){
-        try{
-            return actions.get(actionHandle.actionSetName()).get(actionHandle.actionName());
-        }catch(NullPointerException nullPointerException){
-            throw new RuntimeException("No action found for " + actionHandle + ". Have you registered it in the manifest?", nullPointerException);
+        return registeredActions[findActionIndex(actionHandle)];
+    }
+
+    /**
+     * @return the registry slot of the pose action on that hand (which will have an action space)
+     */
+    private int obtainPoseSlot(ActionHandle poseAction, HandSide handSide){
+        int actionIndex = actionRegistry.findActionIndex(poseAction);
+        int slot = actionIndex == ActionRegistry.NOT_FOUND ? ActionRegistry.NOT_FOUND : actionRegistry.findHandSlot(actionIndex, handSide);
+        if (slot == ActionRegistry.NOT_FOUND || slotSpaces[slot] == null){
+            throw new RuntimeException("No pose action found for " + poseAction + " and handSide " + handSide + ". Have you registered it in the manifest?");
         }
+        return slot;
     }
 
     @Override
@@ -562,13 +722,23 @@ public class XrActionAppState extends XrActionBaseAppState{
         if (!isReady()){
             return Optional.empty();
         }
-        try (MemoryStack stack = stackPush()) {
-            long predictedTime = openXRGL.getPredictedFrameTime();
-            if (predictedTime == 0) {
-                //not set up yet
-                return Optional.empty();
-            }
+        long predictedTime = openXRGL.getPredictedFrameTime();
+        if (predictedTime == 0) {
+            //not set up yet
+            return Optional.empty();
+        }
+
+        int slot = obtainPoseSlot(action, handSide);
+        if (poseCache.isCached(slot, stageRelative, predictedTime)){
+            return poseCache.get(slot, stageRelative);
+        }
+        Optional<PoseActionState> pose = locatePose(slotSpaces[slot], stageRelative, predictedTime);
+        poseCache.put(slot, stageRelative, predictedTime, pose);
+        return pose;
+    }
 
+    private Optional<PoseActionState> locatePose(XrSpace poseSpace, boolean stageRelative, long predictedTime){
+        try (MemoryStack stack = stackPush()) {
             XrSpaceVelocity spaceVelocity = XrSpaceVelocity.calloc(stack)
                     .type$Default();
 
@@ -576,57 +746,122 @@ public class XrActionAppState extends XrActionBaseAppState{
                     .type$Default()
                     .next(spaceVelocity);
 
-            long spaceHandle;
-            try {
-                spaceHandle = poseActionInputSpaceHandles.get(action).get(handSide.restrictToInputString);
-            } catch (NullPointerException nullPointerException) {
-                throw new RuntimeException("No pose action found for " + action + " and handSide " + handSide + ". Have you registered in it the manifest?", nullPointerException);
-            }
+            XrSpace relativeToSpace = getOrCreateReferenceSpace(stageRelative ?  XR10.XR_REFERENCE_SPACE_TYPE_STAGE : XR10.XR_REFERENCE_SPACE_TYPE_LOCAL);
+            withResponseCodeLogging("getPose", XR10.xrLocateSpace(poseSpace, relativeToSpace, predictedTime, spaceLocation));
 
-            XrSpace poseSpace = new XrSpace(spaceHandle, xrSessionHandle);
+            return toPoseActionState(spaceLocation.locationFlags(), spaceLocation.pose(), spaceVelocity.velocityFlags(), spaceVelocity.linearVelocity(), spaceVelocity.angularVelocity());
+        }
+    }
 
-            long handleForReferenceSpace = getOrCreateReferenceSpaceHandle(stageRelative ?  XR10.XR_REFERENCE_SPACE_TYPE_STAGE : XR10.XR_REFERENCE_SPACE_TYPE_LOCAL);
-            XrSpace relativeToSpace = new XrSpace(handleForReferenceSpace, xrSessionHandle);
-            withResponseCodeLogging("getPose", XR10.xrLocateSpace(poseSpace, relativeToSpace, predictedTime, spaceLocation));
+    private Optional<PoseActionState> toPoseActionState(long locationFlags, XrPosef pose, long velocityFlags, XrVector3f linearVelocity, XrVector3f angularVelocity){
+        if ((locationFlags & XR10.XR_SPACE_LOCATION_POSITION_VALID_BIT) != 0 &&
+                (locationFlags & XR10.XR_SPACE_LOCATION_ORIENTATION_VALID_BIT) != 0) {
+            // The pose is valid
+            Vector3f position = xrVector3fToJME(pose.position$());
+            Quaternion rotation = xrQuaternionToJme(pose.orientation());
 
-            long locationFlags = spaceLocation.locationFlags();
-            if ((locationFlags & XR10.XR_SPACE_LOCATION_POSITION_VALID_BIT) != 0 &&
-                    (locationFlags & XR10.XR_SPACE_LOCATION_ORIENTATION_VALID_BIT) != 0) {
-                // The pose is valid. You can use spaceLocation.pose() to get the position and orientation of the hand.
-                XrPosef handPose = spaceLocation.pose();
-                Vector3f position = xrVector3fToJME(handPose.position$());
-                Quaternion rotation = xrQuaternionToJme(handPose.orientation());
-
-                long velocityFlags = spaceVelocity.velocityFlags();
-                if ((velocityFlags & XR10.XR_SPACE_VELOCITY_ANGULAR_VALID_BIT) != 0 && (velocityFlags & XR10.XR_SPACE_VELOCITY_LINEAR_VALID_BIT) != 0) {
-                    // full data available, yay!
-                    return Optional.of(new PoseActionState(position, rotation, xrVector3fToJME(spaceVelocity.linearVelocity()), xrVector3fToJME(spaceVelocity.angularVelocity())));
-                } else {
-                    //fall back to just the position data
-                    return Optional.of(new PoseActionState(position, rotation));
-                }
+            if ((velocityFlags & XR10.XR_SPACE_VELOCITY_ANGULAR_VALID_BIT) != 0 && (velocityFlags & XR10.XR_SPACE_VELOCITY_LINEAR_VALID_BIT) != 0) {
+                // full data available, yay!
+                return Optional.of(new PoseActionState(position, rotation, xrVector3fToJME(linearVelocity), xrVector3fToJME(angularVelocity)));
             } else {
-                // The pose is not valid. The hand may be out of tracking range. Probably fine
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.fine("Hand pose is not valid. But may just be out of tracking range.");
-                }
-                return Optional.empty();
+                //fall back to just the position data
+                return Optional.of(new PoseActionState(position, rotation));
             }
+        } else {
+            // The pose is not valid. The hand may be out of tracking range. Probably fine
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Hand pose is not valid. But may just be out of tracking range.");
+            }
+            return Optional.empty();
         }
     }
 
+    private void createBatchPoseLocationBuffers(){
+        List<Integer> slotsWithSpaces = new ArrayList<>();
+        for(int slot = 0; slot < slotSpaces.length; slot++){
+            if (slotSpaces[slot] != null){
+                slotsWithSpaces.add(slot);
+            }
+        }
+        poseSlots = slotsWithSpaces.stream().mapToInt(Integer::intValue).toArray();
+
+        // because these are reused every frame they are intentionally not on the stack
+        if (xrAppState.checkExtensionLoaded(KHRLocateSpaces.XR_KHR_LOCATE_SPACES_EXTENSION_NAME)){
+            PointerBuffer spaceHandles = BufferUtils.createPointerBuffer(poseSlots.length);
+            for(int i = 0; i < poseSlots.length; i++){
+                spaceHandles.put(i, slotSpaces[poseSlots[i]]);
+            }
+            spacesLocateInfo = XrSpacesLocateInfoKHR.create()
+                    .type$Default()
+                    .spaces(spaceHandles);
+            spaceVelocities = XrSpaceVelocitiesKHR.create()
+                    .type$Default()
+                    .velocities(XrSpaceVelocityDataKHR.create(poseSlots.length));
+            spaceLocations = XrSpaceLocationsKHR.create()
+                    .type$Default()
+                    .next(spaceVelocities.address())
+                    .locations(XrSpaceLocationDataKHR.create(poseSlots.length));
+        }
+        batchSpaceVelocity = XrSpaceVelocity.create()
+                .type$Default();
+        batchSpaceLocation = XrSpaceLocation.create()
+                .type$Default()
+                .next(batchSpaceVelocity);
+    }
+
+    private PoseLocatingMode getPoseLocatingMode(){
+        return PoseLocatingMode.select(isBatchPoseLocatingEnabled(), spacesLocateInfo != null);
+    }
+
     /**
-     * Gets the joint positions of the hand in the coordinate system defined by the pose (So if the pose is a grip
-     * pose it's relative to the grip, if it's the aim pose its relative to the aim).
-     * <p>
-     * It's only really a good idea to call this if the pose fetch has already succeeded
-     * </p>
-     * @param poseAction the pose (just for the coordinate system)
-     * @param handSide the handside to get the joint positions for
+     * Locates every pose action space against the stage and publishes the results into the pose cache, so the
+     * getPose calls for the rest of the frame make no native calls.
      */
-    public Optional<Map<HandJoint, BonePose>> getSkeleton(ActionHandle poseAction, HandSide handSide){
+    private void batchLocatePoses(){
+        long predictedTime = openXRGL.getPredictedFrameTime();
+        if (predictedTime == 0 || poseSlots.length == 0){
+            return;
+        }
+        XrSpace stageSpace = getOrCreateReferenceSpace(XR10.XR_REFERENCE_SPACE_TYPE_STAGE);
+
+        if (getPoseLocatingMode() == PoseLocatingMode.ALL_SPACES_AT_ONCE){
+            spacesLocateInfo.baseSpace(stageSpace).time(predictedTime);
+            if (withResponseCodeLogging("xrLocateSpacesKHR", KHRLocateSpaces.xrLocateSpacesKHR(xrSessionHandle, spacesLocateInfo, spaceLocations))){
+                XrSpaceLocationDataKHR.Buffer locations = spaceLocations.locations();
+                XrSpaceVelocityDataKHR.Buffer velocities = spaceVelocities.velocities();
+                for(int i = 0; i < poseSlots.length; i++){
+                    XrSpaceLocationDataKHR location = locations.get(i);
+                    XrSpaceVelocityDataKHR velocity = velocities.get(i);
+                    poseCache.put(poseSlots[i], true, predictedTime, toPoseActionState(location.locationFlags(), location.pose(), velocity.velocityFlags(), velocity.linearVelocity(), velocity.angularVelocity()));
+                }
+                return;
+            }
+        }
+
+        for(int poseSlot : poseSlots){
+            withResponseCodeLogging("getPose", XR10.xrLocateSpace(slotSpaces[poseSlot], stageSpace, predictedTime, batchSpaceLocation));
+            poseCache.put(poseSlot, true, predictedTime, toPoseActionState(batchSpaceLocation.locationFlags(), batchSpaceLocation.pose(), batchSpaceVelocity.velocityFlags(), batchSpaceVelocity.linearVelocity(), batchSpaceVelocity.angularVelocity()));
+        }
+    }
+
+    @Override
+    public boolean relocatePoses(){
+        if (!isReady() || !sessionFocussed()){
+            return false;
+        }
+        // same predicted time as when the poses were first located but the runtime now has more recent tracking data
+        poseCache.invalidate();
+        if (getPoseLocatingMode() != PoseLocatingMode.ON_DEMAND){
+            batchLocatePoses();
+        }
+        // otherwise each pose is located again (with xrLocateSpace) when it is next asked for
+        return true;
+    }
+
+    @Override
+    public boolean getSkeleton(ActionHandle poseAction, HandSide handSide, HandSkeletonPose store){
         if (!isReady()){
-            return Optional.empty();
+            return false;
         }
 
         try(MemoryStack stack = stackPush()) {
@@ -634,18 +869,10 @@ public class XrActionAppState extends XrActionBaseAppState{
             long predictedTime = openXRGL.getPredictedFrameTime();
             if (predictedTime == 0) {
                 //not set up yet
-                return Optional.empty();
-            }
-
-            long spaceHandle;
-            try {
-                spaceHandle = poseActionInputSpaceHandles.get(poseAction).get(handSide.restrictToInputString);
-            } catch (NullPointerException nullPointerException) {
-                throw new RuntimeException("No pose action found for " + poseAction + " and handSide " + handSide + ". Have you registered it in the manifest?", nullPointerException);
+                return false;
             }
 
-
-            XrSpace poseSpace = new XrSpace(spaceHandle, xrSessionHandle);
+            XrSpace poseSpace = slotSpaces[obtainPoseSlot(poseAction, handSide)];
 
             XrHandJointLocationsEXT handJointLocations = XrHandJointLocationsEXT.calloc(stack)
                     .type$Default()
@@ -655,34 +882,53 @@ public class XrActionAppState extends XrActionBaseAppState{
                     .type$Default()
                     .baseSpace(poseSpace)
                     .time(predictedTime);
-            if (handTrackers.containsKey(handSide)) {
-                Map<HandJoint, BonePose> results = new HashMap<>();
-
-                withResponseCodeLogging("Get joint locations", EXTHandTracking.xrLocateHandJointsEXT(handTrackers.get(handSide), locateInfo, handJointLocations));
+            XrHandTrackerEXT handTracker = handTrackers.get(handSide);
+            if (handTracker != null) {
+                withResponseCodeLogging("Get joint locations", EXTHandTracking.xrLocateHandJointsEXT(handTracker, locateInfo, handJointLocations));
 
                 XrHandJointLocationEXT.Buffer xrHandJointLocationEXTS = handJointLocations.jointLocations();
 
-                for (HandJoint joint : HandJoint.values()) {
+                for (HandJoint joint : HAND_JOINTS) {
                     XrHandJointLocationEXT xrHandJointLocationEXT = xrHandJointLocationEXTS.get(joint.getJointIndex());
-                    results.put(joint, new BonePose(
-                            xrVector3fToJME(xrHandJointLocationEXT.pose().position$()),
-                            xrQuaternionToJme(xrHandJointLocationEXT.pose().orientation()),
-                            xrHandJointLocationEXT.radius())
-                    );
+                    XrVector3f position = xrHandJointLocationEXT.pose().position$();
+                    XrQuaternionf orientation = xrHandJointLocationEXT.pose().orientation();
+                    store.set(joint,
+                            position.x(), position.y(), position.z(),
+                            orientation.x(), orientation.y(), orientation.z(), orientation.w(),
+                            xrHandJointLocationEXT.radius());
                 }
-                return Optional.of(results);
+                return true;
             } else {
                 LOGGER.warning("No hand tracker for handSide " + handSide);
-                return Optional.empty();
+                return false;
             }
         }
     }
 
     @Override
-    public FloatActionState getFloatActionState(ActionHandle action, String restrictToInput ){
+    public FloatActionState getFloatActionState(ActionHandle action, String restrictToInput){
+        if (!isReady()){
+            return new FloatActionState(0, false);
+        }
+        int actionIndex = findActionIndex(action);
+        return getFloatActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
+
+    @Override
+    public FloatActionState getFloatActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getFloatActionState(action.actionHandle(), action.restrictToInput());
+        }
         if (!isReady()){
             return new FloatActionState(0, false);
         }
+        return getFloatActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private FloatActionState getFloatActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.FLOAT)){
+            return actionStateSnapshot.getFloatActionState(slot);
+        }
 
         try(MemoryStack stack = stackPush()) {
 
@@ -690,10 +936,10 @@ public class XrActionAppState extends XrActionBaseAppState{
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
 
             if (restrictToInput != null) {
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
             int responseCode = XR10.xrGetActionStateFloat(xrSessionHandle, actionInfo, actionState);
             if (responseCode == XR10.XR_ERROR_ACTION_TYPE_MISMATCH) {
@@ -710,20 +956,38 @@ public class XrActionAppState extends XrActionBaseAppState{
     }
 
     @Override
-    public Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput ){
+    public Vector2fActionState getVector2fActionState(ActionHandle action, String restrictToInput){
+        if (!isReady()){
+            return new Vector2fActionState(0, 0, false);
+        }
+        int actionIndex = findActionIndex(action);
+        return getVector2fActionState(actionIndex, actionRegistry.findSlot(actionIndex, restrictToInput), restrictToInput);
+    }
 
+    @Override
+    public Vector2fActionState getVector2fActionState(ResolvedActionHandle action){
+        if (!action.isResolvedBy(actionRegistry)){
+            return getVector2fActionState(action.actionHandle(), action.restrictToInput());
+        }
         if (!isReady()){
             return new Vector2fActionState(0, 0, false);
         }
+        return getVector2fActionState(action.actionIndex(), action.slot(), action.restrictToInput());
+    }
+
+    private Vector2fActionState getVector2fActionState(int actionIndex, int slot, String restrictToInput){
+        if (useSnapshot(slot, ActionType.VECTOR2F)){
+            return actionStateSnapshot.getVector2fActionState(slot);
+        }
 
         try(MemoryStack stack = stackPush()) {
             XrActionStateVector2f actionState = XrActionStateVector2f.calloc(stack);
             actionState.type$Default();
             XrActionStateGetInfo actionInfo = XrActionStateGetInfo.calloc(stack);
             actionInfo.type$Default();
-            actionInfo.action(obtainActionHandle(action));
+            actionInfo.action(registeredActions[actionIndex]);
             if (restrictToInput != null) {
-                actionInfo.subactionPath(pathToLong(restrictToInput, true));
+                actionInfo.subactionPath(subActionPathHandle(slot, restrictToInput));
             }
 
             int responseCode = XR10.xrGetActionStateVector2f(xrSessionHandle, actionInfo, actionState);
@@ -784,6 +1048,16 @@ public class XrActionAppState extends XrActionBaseAppState{
         if (xrActionsSyncInfo !=null){
             boolean success = withResponseCodeLogging("xrSyncActions", XR10.xrSyncActions(xrSessionHandle, this.xrActionsSyncInfo));
 
+            if (success && isActionStateSnapshotsEnabled()){
+                sampleActionStateSnapshot();
+            }else{
+                actionStateSnapshot.invalidate();
+            }
+
+            if (success && getPoseLocatingMode() != PoseLocatingMode.ON_DEMAND){
+                batchLocatePoses();
+            }
+
             if (success && !runAfterActionsSync.isEmpty()){
                 runAfterActionsSync.forEach(Runnable::run);
                 runAfterActionsSync.clear();
@@ -793,7 +1067,7 @@ public class XrActionAppState extends XrActionBaseAppState{
 
     @Override
     public boolean isReady(){
-        return actions!=null;
+        return registeredActions!=null;
     }
 
     @Override
@@ -813,24 +1087,24 @@ public class XrActionAppState extends XrActionBaseAppState{
     /**
      * @param referenceSpaceEnum Things like XR10.XR_REFERENCE_SPACE_TYPE_STAGE
      */
-    private long getOrCreateReferenceSpaceHandle(int referenceSpaceEnum){
-        if (this.referenceSpaceHandles.containsKey(referenceSpaceEnum)){
-            return referenceSpaceHandles.get(referenceSpaceEnum);
+    private XrSpace getOrCreateReferenceSpace(int referenceSpaceEnum){
+        XrSpace existing = referenceSpaces.get(referenceSpaceEnum);
+        if (existing != null){
+            return existing;
         }
 
         // because these are cached they are intentionally not on the stack
 
-
         XrReferenceSpaceCreateInfo spaceInfo = XrReferenceSpaceCreateInfo.create()
                 .type$Default()
                 .referenceSpaceType(referenceSpaceEnum)
                 .poseInReferenceSpace(identityPose);
         PointerBuffer space = BufferUtils.createPointerBuffer(1);
         withResponseCodeLogging("Get space for " +referenceSpaceEnum, XR10.xrCreateReferenceSpace(xrSessionHandle, spaceInfo, space));
-        long handle = space.get(0);
-        referenceSpaceHandles.put((long)referenceSpaceEnum, handle);
+        XrSpace referenceSpace = new XrSpace(space.get(0), xrSessionHandle);
+        referenceSpaces.put(referenceSpaceEnum, referenceSpace);
 
-        return handle;
+        return referenceSpace;
     }
 
     private long pathToLong(String path, boolean cache){
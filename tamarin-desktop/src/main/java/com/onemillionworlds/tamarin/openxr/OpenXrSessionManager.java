@@ -1,5 +1,7 @@
 package com.onemillionworlds.tamarin.openxr;
 
+import com.jme3.math.Quaternion;
+import com.jme3.math.Vector3f;
 import com.jme3.renderer.Renderer;
 import com.jme3.system.AppSettings;
 import com.jme3.texture.FrameBuffer;
@@ -9,12 +11,16 @@ import org.lwjgl.PointerBuffer;
 import org.lwjgl.opengl.GL31;
 import org.lwjgl.openxr.EXTDebugUtils;
 import org.lwjgl.openxr.EXTHandTracking;
+import org.lwjgl.openxr.KHRCompositionLayerDepth;
 import org.lwjgl.openxr.KHROpenGLEnable;
+import org.lwjgl.openxr.KHRVisibilityMask;
 import org.lwjgl.openxr.XR10;
 import org.lwjgl.openxr.XrApiLayerProperties;
 import org.lwjgl.openxr.XrApplicationInfo;
 import org.lwjgl.openxr.XrCompositionLayerProjection;
+import org.lwjgl.openxr.XrCompositionLayerDepthInfoKHR;
 import org.lwjgl.openxr.XrCompositionLayerProjectionView;
+import org.lwjgl.openxr.XrCompositionLayerQuad;
 import org.lwjgl.openxr.XrDebugUtilsMessengerCallbackDataEXT;
 import org.lwjgl.openxr.XrDebugUtilsMessengerCreateInfoEXT;
 import org.lwjgl.openxr.XrDebugUtilsMessengerEXT;
@@ -23,6 +29,7 @@ import org.lwjgl.openxr.XrEventDataBuffer;
 import org.lwjgl.openxr.XrEventDataEventsLost;
 import org.lwjgl.openxr.XrEventDataInstanceLossPending;
 import org.lwjgl.openxr.XrEventDataSessionStateChanged;
+import org.lwjgl.openxr.XrEventDataVisibilityMaskChangedKHR;
 import org.lwjgl.openxr.XrExtensionProperties;
 import org.lwjgl.openxr.XrFovf;
 import org.lwjgl.openxr.XrFrameBeginInfo;
@@ -50,11 +57,13 @@ import org.lwjgl.openxr.XrSystemGetInfo;
 import org.lwjgl.openxr.XrSystemGraphicsProperties;
 import org.lwjgl.openxr.XrSystemProperties;
 import org.lwjgl.openxr.XrSystemTrackingProperties;
+import org.lwjgl.openxr.XrVector2f;
 import org.lwjgl.openxr.XrVector3f;
 import org.lwjgl.openxr.XrView;
 import org.lwjgl.openxr.XrViewConfigurationView;
 import org.lwjgl.openxr.XrViewLocateInfo;
 import org.lwjgl.openxr.XrViewState;
+import org.lwjgl.openxr.XrVisibilityMaskKHR;
 import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
 
@@ -87,12 +96,13 @@ import static org.lwjgl.system.MemoryUtil.memLengthNT1;
 
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL14;
 import org.lwjgl.opengl.GL30;
 import org.lwjgl.system.Struct;
 
 import java.nio.LongBuffer;
 
-public class OpenXrSessionManager{
+public class OpenXrSessionManager implements XrSessionBackend{
 
     /**
      * In pixels the width of the swapchain (aka the width of the eye-screen)
@@ -120,6 +130,10 @@ public class OpenXrSessionManager{
     long systemID;
     long window;
     int glColorFormat;
+    /**
+     * The format of the depth swapchains, or 0 if depth isn't being submitted (see {@link XrSettings#setSubmitDepth(boolean)})
+     */
+    int glDepthFormat;
 
     XrSession xrSession;
     XrDebugUtilsMessengerEXT xrDebugMessenger;
@@ -133,7 +147,13 @@ public class OpenXrSessionManager{
 
     XrViewConfigurationView.Buffer viewConfigs;
     XrView.Buffer views; //Each view represents an eye in the headset with views[0] being left and views[1] being right
+    /**
+     * The views are late latched into this, and only copied into the views if they are valid (so that a failed late
+     * latch doesn't lose the views that were located at the start of the frame)
+     */
+    XrView.Buffer lateLatchedViews;
     Swapchain[] swapchains;  //One swapchain per view
+    Swapchain[] depthSwapchains; //One depth swapchain per view, null if depth isn't being submitted
 
     SessionState sessionState;
 
@@ -155,9 +175,10 @@ public class OpenXrSessionManager{
 
     /**
      * Because of buffering the OpenXR swapchains ask for a series of images to be used to write to, these are
-     * the buffers that are used to write to those images.
+     * the buffers that are used to write to those images. Indexed by view (i.e. eye) then by swapchain image index,
+     * they are all created along with the swapchains.
      */
-    private final Map<Integer, FrameBuffer> frameBuffers_direct = new HashMap<>();
+    private FrameBuffer[][] frameBuffers_direct = new FrameBuffer[0][];
 
     /**
      * These bufferes are used to write to a texture, then copy the texture into the swapchain images. This is an
@@ -165,12 +186,66 @@ public class OpenXrSessionManager{
      */
     private final EnumMap<EyeSide, FrameBuffer> frameBuffers_copied = new EnumMap<>(EyeSide.class);
 
+    /**
+     * Depth only framebuffers for each image of the depth swapchains, the eyes' depth is copied into these. Indexed by
+     * view then by depth swapchain image index.
+     */
+    private FrameBuffer[][] depthFrameBuffers = new FrameBuffer[0][];
+
+    /**
+     * The depth swapchain image acquired for each view in the current frame
+     */
+    private final int[] acquiredDepthImageIndices = {-1, -1};
+
+    /**
+     * The clip distances the eyes are rendered with, submitted alongside the depth so the runtime can interpret it
+     */
+    private float nearClip = 0.1f;
+    private float farClip = 500;
+
+    /**
+     * The hidden area of each view, fetched when the session begins and again whenever the runtime changes it (only if
+     * {@link XrSettings#isVisibilityMask()})
+     */
+    private final VisibilityMask[] visibilityMasks = new VisibilityMask[2];
+
+    /**
+     * When mirroring to the window (see {@link XrSettings#setDesktopMirrorMode(DesktopMirrorMode)}) the eyes' images
+     * are copied into this window sized framebuffer (every few frames), which is then copied to the window every frame
+     * (as the window's buffers are swapped every frame). 0 until first needed.
+     */
+    private int mirrorFramebuffer = 0;
+    private int mirrorRenderbuffer = 0;
+    private int mirrorWidth = 0;
+    private int mirrorHeight = 0;
+    private long mirrorFrameCount = 0;
+
     private final static Map<Integer, Image.Format> DESIRED_SWAPCHAIN_FORMATS = new LinkedHashMap<>();
 
+    private final static Map<Integer, Image.Format> DESIRED_DEPTH_SWAPCHAIN_FORMATS = new LinkedHashMap<>();
+
     private final Renderer renderer;
 
     private XrVrMode xrVrBlendMode = XrVrMode.ENVIRONMENT_BLEND_MODE_OPAQUE;
 
+    /**
+     * Makes the xrWaitFrame calls on its own thread (if async frame waits are enabled, otherwise null)
+     */
+    private FramePacer framePacer;
+
+    private final FrameTimingStats frameTimingStats = new FrameTimingStats();
+
+    private RenderScaleController renderScaleController;
+
+    /**
+     * In pixels the runtime's recommended size for each eye, that the render scale is relative to (the swapchains may
+     * be bigger, see {@link XrSettings#setRenderScaleRange(float, float)})
+     */
+    private int recommendedWidth;
+    private int recommendedHeight;
+
+    private final Map<QuadLayer, QuadLayerSwapchain> quadLayerSwapchains = new LinkedHashMap<>();
+
     static {
         DESIRED_SWAPCHAIN_FORMATS.put(GL30.GL_RGBA16F, Image.Format.RGBA16F);
         DESIRED_SWAPCHAIN_FORMATS.put(GL11.GL_RGB10_A2, Image.Format.RGB10A2);
@@ -181,6 +256,11 @@ public class OpenXrSessionManager{
         //other formats that were not mentioned in the helloOpenXRGL example
         DESIRED_SWAPCHAIN_FORMATS.put(GL11.GL_RGB8, Image.Format.RGB8);
         DESIRED_SWAPCHAIN_FORMATS.put(GL11.GL_RGB5_A1, Image.Format.RGB5A1);
+
+        DESIRED_DEPTH_SWAPCHAIN_FORMATS.put(GL14.GL_DEPTH_COMPONENT24, Image.Format.Depth24);
+        DESIRED_DEPTH_SWAPCHAIN_FORMATS.put(GL30.GL_DEPTH24_STENCIL8, Image.Format.Depth24Stencil8);
+        DESIRED_DEPTH_SWAPCHAIN_FORMATS.put(GL30.GL_DEPTH_COMPONENT32F, Image.Format.Depth32F);
+        DESIRED_DEPTH_SWAPCHAIN_FORMATS.put(GL14.GL_DEPTH_COMPONENT16, Image.Format.Depth16);
     }
 
     public static OpenXrSessionManager createOpenXrSession(long windowHandle, XrSettings xrSettings, AppSettings regularSettings,  Renderer renderer){
@@ -191,6 +271,9 @@ public class OpenXrSessionManager{
         openXrSessionManager.initializeAndBindOpenGL();
         openXrSessionManager.createXRReferenceSpace();
         openXrSessionManager.createXRSwapchains();
+        if(xrSettings.isAsyncFrameWait()){
+            openXrSessionManager.framePacer = new FramePacer(openXrSessionManager::waitFrame, "OpenXR frame pacing");
+        }
 
         openXrSessionManager.pollEvents();
         return openXrSessionManager;
@@ -203,10 +286,12 @@ public class OpenXrSessionManager{
         this.renderer = renderer;
     }
 
+    @Override
     public int getSwapchainWidth(){
         return swapchainWidth;
     }
 
+    @Override
     public int getSwapchainHeight(){
         return swapchainHeight;
     }
@@ -219,6 +304,7 @@ public class OpenXrSessionManager{
         return xrSession;
     }
 
+    @Override
     public long getPredictedFrameTime(){
         return predictedFrameTime;
     }
@@ -228,18 +314,46 @@ public class OpenXrSessionManager{
      * it was successfully loaded. This is provided for library clients to check if the requested extensions were
      * available before using optional features (or giving a user-friendly error message if they aren't optional.
      */
+    @Override
     public Map<String, Boolean> getExtensionsLoaded(){
         return extensionsLoaded;
     }
 
+    /**
+     * The pacer making the xrWaitFrame calls, or null if frame waits are made on the main thread
+     * (see {@link XrSettings#setAsyncFrameWait(boolean)})
+     */
+    public FramePacer getFramePacer(){
+        return framePacer;
+    }
+
+    /**
+     * Chooses the resolution each frame is rendered at (within the swapchains), can be used to change the render scale
+     * while running
+     */
+    public RenderScaleController getRenderScaleController(){
+        return renderScaleController;
+    }
+
+    /**
+     * The timings of each phase of the frame loop
+     */
+    @Override
+    public FrameTimingStats getFrameTimingStats(){
+        return frameTimingStats;
+    }
+
+    @Override
     public boolean isSessionRunning(){
         return sessionState.isAtLeastReady();
     }
 
+    @Override
     public boolean isSessionFocused(){
         return sessionState == SessionState.FOCUSED;
     }
 
+    @Override
     public void setXrVrBlendMode(XrVrMode xrVrBlendMode){
         this.xrVrBlendMode = xrVrBlendMode;
     }
@@ -309,6 +423,7 @@ public class OpenXrSessionManager{
         }
     }
 
+    @Override
     public String getSystemName(){
         try (MemoryStack stack = stackPush()){
             XrSystemProperties systemProperties = XrSystemProperties.calloc(stack)
@@ -463,6 +578,11 @@ public class OpenXrSessionManager{
                     XrView.TYPE,
                     XR10.XR_TYPE_VIEW
             );
+            lateLatchedViews = XrUtils.fill(
+                    XrView.calloc(viewCountNumber),
+                    XrView.TYPE,
+                    XR10.XR_TYPE_VIEW
+            );
 
             if (viewCountNumber != 2){
                 throw new IllegalStateException("Expected 2 views, got " + viewCountNumber);
@@ -492,9 +612,31 @@ public class OpenXrSessionManager{
                 LOGGER.info("Selected colour format " + glColorFormat + " from options " + availableFormats);
             }
 
+            if (xrSettings.isSubmitDepth()){
+                if (!extensionsLoaded.getOrDefault(KHRCompositionLayerDepth.XR_KHR_COMPOSITION_LAYER_DEPTH_EXTENSION_NAME, false)){
+                    LOGGER.warning("Depth submission requested but " + KHRCompositionLayerDepth.XR_KHR_COMPOSITION_LAYER_DEPTH_EXTENSION_NAME + " is not available, depth will not be submitted");
+                }else{
+                    for (int glFormatIter : DESIRED_DEPTH_SWAPCHAIN_FORMATS.keySet()) {
+                        if (availableFormats.contains(glFormatIter)){
+                            glDepthFormat = glFormatIter;
+                            break;
+                        }
+                    }
+                    if (glDepthFormat == 0){
+                        LOGGER.warning("No compatible depth swapchain format available, depth will not be submitted. Available formats: " + availableFormats);
+                    }else{
+                        LOGGER.info("Selected depth format " + glDepthFormat + " from options " + availableFormats);
+                        depthSwapchains = new Swapchain[viewCountNumber];
+                    }
+                }
+            }
+
             swapchains = new Swapchain[viewCountNumber];
             for (int i = 0; i < viewCountNumber; i++) {
                 XrViewConfigurationView viewConfig = viewConfigs.get(i);
+                // allocated at the maximum render scale, each frame only the part needed for the current scale is used
+                int allocatedWidth = Math.min(Math.round(viewConfig.recommendedImageRectWidth() * xrSettings.getMaxRenderScale()), viewConfig.maxImageRectWidth());
+                int allocatedHeight = Math.min(Math.round(viewConfig.recommendedImageRectHeight() * xrSettings.getMaxRenderScale()), viewConfig.maxImageRectHeight());
 
                 XrSwapchainCreateInfo swapchainCreateInfo = XrSwapchainCreateInfo.malloc(stack)
                         .type$Default()
@@ -503,14 +645,16 @@ public class OpenXrSessionManager{
                         .usageFlags(XR10.XR_SWAPCHAIN_USAGE_SAMPLED_BIT | XR10.XR_SWAPCHAIN_USAGE_COLOR_ATTACHMENT_BIT)
                         .format(glColorFormat)
                         .sampleCount(viewConfig.recommendedSwapchainSampleCount())
-                        .width(viewConfig.recommendedImageRectWidth())
-                        .height(viewConfig.recommendedImageRectHeight())
+                        .width(allocatedWidth)
+                        .height(allocatedHeight)
                         .faceCount(1)
                         .arraySize(1)
                         .mipCount(1);
 
-                this.swapchainHeight = viewConfig.recommendedImageRectHeight();
-                this.swapchainWidth = viewConfig.recommendedImageRectWidth();
+                this.recommendedWidth = viewConfig.recommendedImageRectWidth();
+                this.recommendedHeight = viewConfig.recommendedImageRectHeight();
+                this.swapchainWidth = allocatedWidth;
+                this.swapchainHeight = allocatedHeight;
 
                 PointerBuffer swapchainHanglePointerBuffer = stack.mallocPointer(1);
                 checkResponseCode(XR10.xrCreateSwapchain(xrSession, swapchainCreateInfo, swapchainHanglePointerBuffer));
@@ -529,7 +673,12 @@ public class OpenXrSessionManager{
                 checkResponseCode(XR10.xrEnumerateSwapchainImages(swapchainHandle, viewCountPointer, XrSwapchainImageBaseHeader.create(swapchainImageBuffer.address(), swapchainImageBuffer.capacity())));
 
                 swapchains[i] = new Swapchain(swapchainHandle, swapchainCreateInfo.width(), swapchainCreateInfo.height(), swapchainImageBuffer);
+                if (depthSwapchains != null){
+                    depthSwapchains[i] = createSwapchain(glDepthFormat, XR10.XR_SWAPCHAIN_USAGE_DEPTH_STENCIL_ATTACHMENT_BIT, allocatedWidth, allocatedHeight);
+                }
             }
+            createFrameBuffers();
+            renderScaleController = new RenderScaleController(xrSettings);
 
         }
     }
@@ -559,6 +708,13 @@ public class OpenXrSessionManager{
                 }
                 case XR10.XR_TYPE_EVENT_DATA_INTERACTION_PROFILE_CHANGED:
                     break;
+                case KHRVisibilityMask.XR_TYPE_EVENT_DATA_VISIBILITY_MASK_CHANGED_KHR: {
+                    XrEventDataVisibilityMaskChangedKHR visibilityMaskChangedEvent = XrEventDataVisibilityMaskChangedKHR.create(event.address());
+                    if (visibilityMaskChangedEvent.viewConfigurationType() == viewConfigType){
+                        fetchVisibilityMask(visibilityMaskChangedEvent.viewIndex());
+                    }
+                    break;
+                }
                 case XR10.XR_TYPE_EVENT_DATA_REFERENCE_SPACE_CHANGE_PENDING:
                 default: {
                     LOGGER.info("Ignoring event type: " + event.type());
@@ -612,14 +768,20 @@ public class OpenXrSessionManager{
                                     .next(NULL)
                                     .primaryViewConfigurationType(viewConfigType)
                     ));
-                    return false;
                 }
+                for(int viewIndex = 0; viewIndex < visibilityMasks.length; viewIndex++){
+                    fetchVisibilityMask(viewIndex);
+                }
+                return false;
             }
             case FOCUSED: {
                 return false;
             }
             case STOPPING: {
                 assert (xrSession != null);
+                if (framePacer != null){
+                    framePacer.discardPendingFrame();
+                }
                 checkResponseCode(XR10.xrEndSession(xrSession));
                 return false;
             }
@@ -636,32 +798,86 @@ public class OpenXrSessionManager{
         }
     }
 
+    /**
+     * Fetches the hidden area mesh of a view from the runtime, if the visibility mask is enabled and supported.
+     */
+    private void fetchVisibilityMask(int viewIndex){
+        if (!xrSettings.isVisibilityMask() || !extensionsLoaded.getOrDefault(KHRVisibilityMask.XR_KHR_VISIBILITY_MASK_EXTENSION_NAME, false)){
+            return;
+        }
+        try (MemoryStack stack = stackPush()) {
+            // first call gets the sizes, the second fills the buffers
+            XrVisibilityMaskKHR xrVisibilityMask = XrVisibilityMaskKHR.calloc(stack).type$Default();
+            checkResponseCode(KHRVisibilityMask.xrGetVisibilityMaskKHR(xrSession, viewConfigType, viewIndex, KHRVisibilityMask.XR_VISIBILITY_MASK_TYPE_HIDDEN_TRIANGLE_MESH_KHR, xrVisibilityMask));
+            int vertexCount = xrVisibilityMask.vertexCountOutput();
+            int indexCount = xrVisibilityMask.indexCountOutput();
+            if (vertexCount == 0 || indexCount == 0){
+                visibilityMasks[viewIndex] = new VisibilityMask(new float[0], new int[0]);
+                return;
+            }
+
+            XrVector2f.Buffer vertexBuffer = XrVector2f.calloc(vertexCount);
+            IntBuffer indexBuffer = MemoryUtil.memAllocInt(indexCount);
+            try{
+                xrVisibilityMask.vertices(vertexBuffer).indices(indexBuffer);
+                checkResponseCode(KHRVisibilityMask.xrGetVisibilityMaskKHR(xrSession, viewConfigType, viewIndex, KHRVisibilityMask.XR_VISIBILITY_MASK_TYPE_HIDDEN_TRIANGLE_MESH_KHR, xrVisibilityMask));
+
+                float[] vertices = new float[xrVisibilityMask.vertexCountOutput() * 2];
+                for(int i = 0; i < xrVisibilityMask.vertexCountOutput(); i++){
+                    XrVector2f vertex = vertexBuffer.get(i);
+                    vertices[i * 2] = vertex.x();
+                    vertices[i * 2 + 1] = vertex.y();
+                }
+                int[] indices = new int[xrVisibilityMask.indexCountOutput()];
+                indexBuffer.get(0, indices);
+                visibilityMasks[viewIndex] = new VisibilityMask(vertices, indices);
+                LOGGER.fine("Visibility mask for view " + viewIndex + " has " + (indices.length / 3) + " triangles");
+            }finally{
+                vertexBuffer.free();
+                MemoryUtil.memFree(indexBuffer);
+            }
+        }
+    }
+
+    @Override
+    public VisibilityMask getVisibilityMask(EyeSide eyeSide){
+        return visibilityMasks[eyeSide.ordinal()];
+    }
+
     /**
      * This begins the XR frame and reports where the cameras should be for this frame.
      * The frame is left open, and must be completed within the post render phase.
      */
+    @Override
     public InProgressXrRender startXrFrame(){
+        long time = frameTimingStats.frameStarted();
         pollEvents();
+        time = frameTimingStats.recordSince(FrameTimingStats.Phase.POLL_EVENTS, time);
+        // based on the frame that has just finished (before this frame's wait is recorded)
+        renderScaleController.update(frameTimingStats);
         if (!isSessionRunning()){
+            if (framePacer != null){
+                framePacer.discardPendingFrame();
+            }
             return InProgressXrRender.NO_XR_FRAME;
         }
 
         try (MemoryStack stack = stackPush()) {
-            XrFrameState frameState = XrFrameState.calloc(stack)
-                    .type$Default();
-
-            checkResponseCode(XR10.xrWaitFrame(
-                    xrSession,
-                    XrFrameWaitInfo.calloc(stack)
-                            .type$Default(),
-                    frameState
-            ));
+            // with a frame pacer the wait was (usually) started while the previous frame was being updated and rendered
+            FramePacer.FrameTiming frameTiming = framePacer != null ? framePacer.awaitFrame() : waitFrame();
+            time = frameTimingStats.recordSince(FrameTimingStats.Phase.WAIT_FRAME_BLOCKED, time);
+            frameTimingStats.recordDisplayTiming(frameTiming.predictedDisplayTime(), frameTiming.predictedDisplayPeriod());
 
             checkResponseCode(XR10.xrBeginFrame(
                     xrSession,
                     XrFrameBeginInfo.calloc(stack)
                             .type$Default()
             ));
+            time = frameTimingStats.recordSince(FrameTimingStats.Phase.BEGIN_FRAME, time);
+
+            if (framePacer != null){
+                framePacer.requestNextFrame();
+            }
 
             XrViewState viewState = XrViewState.calloc(stack)
                     .type$Default();
@@ -673,14 +889,15 @@ public class OpenXrSessionManager{
                             .type$Default()
                             .next(NULL)
                             .viewConfigurationType(viewConfigType)
-                            .displayTime(frameState.predictedDisplayTime())
+                            .displayTime(frameTiming.predictedDisplayTime())
                             .space(xrAppSpace),
                     viewState,
                     pi,
                     views
             ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.LOCATE_VIEWS, time);
 
-            this.predictedFrameTime = frameState.predictedDisplayTime();
+            this.predictedFrameTime = frameTiming.predictedDisplayTime();
 
             if ((viewState.viewStateFlags() & XR10.XR_VIEW_STATE_POSITION_VALID_BIT) == 0 ||
                     (viewState.viewStateFlags() & XR10.XR_VIEW_STATE_ORIENTATION_VALID_BIT) == 0) {
@@ -692,36 +909,22 @@ public class OpenXrSessionManager{
             assert (viewCountOutput == viewConfigs.capacity());
             assert (viewCountOutput == swapchains.length);
 
-            InProgressXrRender.EyePositionData leftEye = null;
-            InProgressXrRender.EyePositionData rightEye = null;
-            for(int i = 0; i < 2; i++){
-                XrPosef pose = views.get(i).pose();
-                XrFovf fov = views.get(i).fov();
-                XrVector3f position = pose.position$();
-                XrQuaternionf orientation = pose.orientation();
-                InProgressXrRender.EyePositionData eyePositionData = new InProgressXrRender.EyePositionData(
-                        XrUtils.convertOpenXRToJme(position),
-                        XrUtils.convertOpenXRQuaternionToJme(orientation),
-                        new InProgressXrRender.FieldOfViewData(fov.angleLeft(), fov.angleRight(), fov.angleUp(), fov.angleDown())
-                );
-                if (i == 0){
-                    leftEye = eyePositionData;
-                }else{
-                    rightEye = eyePositionData;
-                }
-            }
+            InProgressXrRender.EyePositionData leftEye = toEyePositionData(views.get(0));
+            InProgressXrRender.EyePositionData rightEye = toEyePositionData(views.get(1));
 
             FrameBuffer leftFrameBuffer =null;
             FrameBuffer rightFrameBuffer =null;
             int leftSwapchainImageIndex = -1;
             int rightSwapchainImageIndex = -1;
 
-            if (frameState.shouldRender()){
+            if (frameTiming.shouldRender()){
+                long acquireNanos = 0;
 
                 // set up to render view to the appropriate part of the swapchain image.
                 for (int viewIndex = 0; viewIndex < 2; viewIndex++) {
                     // Each view has a separate swapchain which is acquired, rendered to, and released.
                     Swapchain viewSwapchain = swapchains[viewIndex];
+                    long acquireStart = System.nanoTime();
 
                     checkResponseCode(XR10.xrAcquireSwapchainImage(
                             viewSwapchain.handle,
@@ -740,24 +943,23 @@ public class OpenXrSessionManager{
                                     .next(NULL)
                                     .timeout(XR10.XR_INFINITE_DURATION)
                     ));
-
-                    int image = viewSwapchain.images.get(swapchainImageIndex).image();
+                    acquireNanos += System.nanoTime() - acquireStart;
 
                     if(viewIndex == 0){
-                        leftSwapchainImageIndex = image;
+                        leftSwapchainImageIndex = swapchainImageIndex;
                     }else{
-                        rightSwapchainImageIndex = image;
+                        rightSwapchainImageIndex = swapchainImageIndex;
                     }
 
-                    FrameBuffer frameBuffer;
-                    if(xrSettings.getDrawMode() == DrawMode.DIRECT){
-                        frameBuffer = getOrCreateDirectFrameBuffer(image);
-                    }else if(xrSettings.getDrawMode() == DrawMode.BLITTED){
-                        frameBuffer = getOrCreateCopiedFrameBuffer(viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT);
-                    } else {
-                        throw new IllegalStateException("Unsupported draw mode " + xrSettings.getDrawMode());
+                    if (depthSwapchains != null){
+                        // acquired independently of the colour image, so the index may not match
+                        long depthAcquireStart = System.nanoTime();
+                        acquiredDepthImageIndices[viewIndex] = acquireSwapchainImage(stack, depthSwapchains[viewIndex]);
+                        acquireNanos += System.nanoTime() - depthAcquireStart;
                     }
 
+                    FrameBuffer frameBuffer = getFrameBuffer(viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT, swapchainImageIndex);
+
                     if (viewIndex == 0){
                         leftFrameBuffer = frameBuffer;
                     }else{
@@ -765,23 +967,165 @@ public class OpenXrSessionManager{
                     }
 
                 }
+                frameTimingStats.record(FrameTimingStats.Phase.ACQUIRE_SWAPCHAIN, acquireNanos);
+            }
+
+            return new InProgressXrRender(true, frameTiming.shouldRender(), frameTiming.predictedDisplayTime(), leftEye, rightEye, leftFrameBuffer, rightFrameBuffer, leftSwapchainImageIndex, rightSwapchainImageIndex, renderScaleController.scaledSize(recommendedWidth, swapchainWidth), renderScaleController.scaledSize(recommendedHeight, swapchainHeight));
+        }
+    }
+
+    /**
+     * Locates the views again, against the in progress frame's predicted display time, and updates the frame's eye
+     * positions with them. Because the runtime has more recent tracking data than it did at the start of the frame the
+     * prediction is better. The relocated views are also the ones submitted with the frame so the compositor reprojects
+     * from the poses that were actually rendered.
+     *
+     * @param continuation the in progress frame (which must have been begun but not yet presented)
+     * @return true if the views were relocated, false if the runtime didn't have valid poses (in which case the views
+     *         from the start of the frame are kept)
+     */
+    @Override
+    public boolean relocateViews(InProgressXrRender continuation){
+        if (!continuation.inProgressXr){
+            return false;
+        }
+        long time = System.nanoTime();
+        try (MemoryStack stack = stackPush()) {
+            XrViewState viewState = XrViewState.calloc(stack)
+                    .type$Default();
 
+            IntBuffer pi = stack.mallocInt(1);
+            checkResponseCode(XR10.xrLocateViews(
+                    xrSession,
+                    XrViewLocateInfo.malloc(stack)
+                            .type$Default()
+                            .next(NULL)
+                            .viewConfigurationType(viewConfigType)
+                            .displayTime(continuation.getPredictedDisplayTime())
+                            .space(xrAppSpace),
+                    viewState,
+                    pi,
+                    lateLatchedViews
+            ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.LATE_LATCH_VIEWS, time);
+
+            if ((viewState.viewStateFlags() & XR10.XR_VIEW_STATE_POSITION_VALID_BIT) == 0 ||
+                    (viewState.viewStateFlags() & XR10.XR_VIEW_STATE_ORIENTATION_VALID_BIT) == 0) {
+                return false;
+            }
+            for(int i = 0; i < 2; i++){
+                views.get(i).pose(lateLatchedViews.get(i).pose());
+                views.get(i).fov(lateLatchedViews.get(i).fov());
             }
+            continuation.leftEye = toEyePositionData(views.get(0));
+            continuation.rightEye = toEyePositionData(views.get(1));
+            return true;
+        }
+    }
+
+    private static InProgressXrRender.EyePositionData toEyePositionData(XrView view){
+        XrPosef pose = view.pose();
+        XrFovf fov = view.fov();
+        XrVector3f position = pose.position$();
+        XrQuaternionf orientation = pose.orientation();
+        return new InProgressXrRender.EyePositionData(
+                XrUtils.convertOpenXRToJme(position),
+                XrUtils.convertOpenXRQuaternionToJme(orientation),
+                new InProgressXrRender.FieldOfViewData(fov.angleLeft(), fov.angleRight(), fov.angleUp(), fov.angleDown())
+        );
+    }
 
-            return new InProgressXrRender(true, frameState.shouldRender(), frameState.predictedDisplayTime(), leftEye, rightEye, leftFrameBuffer, rightFrameBuffer, leftSwapchainImageIndex, rightSwapchainImageIndex);
+    /**
+     * Blocks until the runtime is ready for the next frame. Called either on the main thread or on the frame pacing
+     * thread (which is fine as it allocates from that thread's own stack).
+     */
+    private FramePacer.FrameTiming waitFrame(){
+        long time = System.nanoTime();
+        try (MemoryStack stack = stackPush()) {
+            XrFrameState frameState = XrFrameState.calloc(stack)
+                    .type$Default();
+
+            checkResponseCode(XR10.xrWaitFrame(
+                    xrSession,
+                    XrFrameWaitInfo.calloc(stack)
+                            .type$Default(),
+                    frameState
+            ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.WAIT_FRAME, time);
+            return new FramePacer.FrameTiming(frameState.predictedDisplayTime(), frameState.predictedDisplayPeriod(), frameState.shouldRender());
         }
     }
 
-    private FrameBuffer getOrCreateDirectFrameBuffer(int swapchainImageId){
-        return frameBuffers_direct.computeIfAbsent(swapchainImageId, id -> {
-            Image.Format format = DESIRED_SWAPCHAIN_FORMATS.get(glColorFormat);
-            Texture2D texture = new Texture2D(new SwapchainImage(id, format, swapchainWidth, swapchainHeight));
-            FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
-            frameBuffer.setName("OpenXR direct buffer " + id);
-            frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
-            frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(Image.Format.Depth));
-            return frameBuffer;
-        });
+    /**
+     * Creates all the framebuffers up front (rather than as each swapchain image is first acquired) so that the first
+     * frames don't hitch. Each eye has a single depth buffer shared by the framebuffers of all its swapchain images, as
+     * only one of them is ever being rendered to at a time.
+     */
+    private void createFrameBuffers(){
+        Image.Format format = DESIRED_SWAPCHAIN_FORMATS.get(glColorFormat);
+        frameBuffers_direct = new FrameBuffer[swapchains.length][];
+        for(int viewIndex = 0; viewIndex < swapchains.length; viewIndex++){
+            EyeSide eyeSide = viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT;
+            Swapchain viewSwapchain = swapchains[viewIndex];
+            // in blitted mode the swapchain images are only ever blitted into (colour only), so don't need a depth buffer
+            Texture2D sharedDepth = xrSettings.getDrawMode() == DrawMode.DIRECT ? new Texture2D(swapchainWidth, swapchainHeight, getEyeDepthFormat()) : null;
+
+            FrameBuffer[] eyeFrameBuffers = new FrameBuffer[viewSwapchain.images.capacity()];
+            for(int imageIndex = 0; imageIndex < eyeFrameBuffers.length; imageIndex++){
+                int image = viewSwapchain.images.get(imageIndex).image();
+                Texture2D texture = new Texture2D(new SwapchainImage(image, format, swapchainWidth, swapchainHeight));
+                FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
+                frameBuffer.setName("OpenXR " + eyeSide + " direct buffer " + imageIndex);
+                frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
+                if(sharedDepth != null){
+                    frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(sharedDepth));
+                }
+                eyeFrameBuffers[imageIndex] = frameBuffer;
+            }
+            frameBuffers_direct[viewIndex] = eyeFrameBuffers;
+
+            if(xrSettings.getDrawMode() == DrawMode.BLITTED){
+                getOrCreateCopiedFrameBuffer(eyeSide);
+            }
+        }
+
+        if(depthSwapchains != null){
+            Image.Format depthFormat = getEyeDepthFormat();
+            depthFrameBuffers = new FrameBuffer[depthSwapchains.length][];
+            for(int viewIndex = 0; viewIndex < depthSwapchains.length; viewIndex++){
+                Swapchain depthSwapchain = depthSwapchains[viewIndex];
+                FrameBuffer[] eyeDepthFrameBuffers = new FrameBuffer[depthSwapchain.images.capacity()];
+                for(int imageIndex = 0; imageIndex < eyeDepthFrameBuffers.length; imageIndex++){
+                    int image = depthSwapchain.images.get(imageIndex).image();
+                    FrameBuffer frameBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, 1);
+                    frameBuffer.setName("OpenXR " + (viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT) + " depth buffer " + imageIndex);
+                    frameBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(new Texture2D(new SwapchainImage(image, depthFormat, swapchainWidth, swapchainHeight))));
+                    eyeDepthFrameBuffers[imageIndex] = frameBuffer;
+                }
+                depthFrameBuffers[viewIndex] = eyeDepthFrameBuffers;
+            }
+        }
+    }
+
+    /**
+     * The format of the depth buffers the eyes are rendered with. If depth is being submitted it is copied into the
+     * depth swapchains, which requires the formats to match.
+     */
+    private Image.Format getEyeDepthFormat(){
+        return glDepthFormat != 0 ? DESIRED_DEPTH_SWAPCHAIN_FORMATS.get(glDepthFormat) : Image.Format.Depth;
+    }
+
+    @Override
+    public int getSwapchainLength(EyeSide eyeSide){
+        return frameBuffers_direct[eyeSide == EyeSide.LEFT ? 0 : 1].length;
+    }
+
+    @Override
+    public FrameBuffer getFrameBuffer(EyeSide eyeSide, int swapchainImageIndex){
+        if(xrSettings.getDrawMode() == DrawMode.BLITTED){
+            return getOrCreateCopiedFrameBuffer(eyeSide);
+        }
+        return frameBuffers_direct[eyeSide == EyeSide.LEFT ? 0 : 1][swapchainImageIndex];
     }
 
     public FrameBuffer getOrCreateCopiedFrameBuffer(EyeSide side){
@@ -791,7 +1135,7 @@ public class OpenXrSessionManager{
             FrameBuffer eyeBuffer = new FrameBuffer(swapchainWidth, swapchainHeight, samples);
             eyeBuffer.setName("OpenXR " + side + " eye buffer copied mode");
             Texture2D texture = new Texture2D(swapchainWidth, swapchainHeight, samples, format);
-            Texture2D msDepth = new Texture2D(swapchainWidth, swapchainHeight, samples, Image.Format.Depth);
+            Texture2D msDepth = new Texture2D(swapchainWidth, swapchainHeight, samples, getEyeDepthFormat());
             eyeBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
             eyeBuffer.setDepthTarget(FrameBuffer.FrameBufferTarget.newTarget(msDepth));
             return eyeBuffer;
@@ -816,6 +1160,111 @@ public class OpenXrSessionManager{
         glErrorCheck("Resolve");
     }
 
+    /**
+     * Blit the depth an eye was rendered with into a depth swapchain image (resolving samples if the eye was
+     * multisampled).
+     */
+    private void copyDepth(FrameBuffer renderedFrameBuffer, FrameBuffer depthFrameBuffer){
+        renderer.clearClipRect();
+        renderer.copyFrameBuffer(renderedFrameBuffer, depthFrameBuffer, false, true);
+        glErrorCheck("Depth copy");
+    }
+
+    /**
+     * Checks if the eyes should be copied to the mirror this frame (creating or resizing the mirror's framebuffer if
+     * needed).
+     */
+    private boolean isMirrorUpdateDue(){
+        if (xrSettings.getDesktopMirrorMode() == DesktopMirrorMode.OFF){
+            return false;
+        }
+        int windowWidth;
+        int windowHeight;
+        try (MemoryStack stack = stackPush()) {
+            IntBuffer widthPointer = stack.mallocInt(1);
+            IntBuffer heightPointer = stack.mallocInt(1);
+            GLFW.glfwGetFramebufferSize(window, widthPointer, heightPointer);
+            windowWidth = widthPointer.get(0);
+            windowHeight = heightPointer.get(0);
+        }
+        if (windowWidth <= 0 || windowHeight <= 0){
+            // minimised
+            return false;
+        }
+        if (mirrorFramebuffer == 0 || windowWidth != mirrorWidth || windowHeight != mirrorHeight){
+            createMirrorFramebuffer(windowWidth, windowHeight);
+            // the new framebuffer is empty so needs filling straight away
+            mirrorFrameCount = 0;
+        }
+        return mirrorFrameCount++ % xrSettings.getDesktopMirrorUpdateInterval() == 0;
+    }
+
+    private void createMirrorFramebuffer(int width, int height){
+        if (mirrorFramebuffer == 0){
+            mirrorFramebuffer = GL30.glGenFramebuffers();
+            mirrorRenderbuffer = GL30.glGenRenderbuffers();
+        }
+        // jME tracks what is bound, so it is put back as it was
+        int previousRenderbuffer = GL11.glGetInteger(GL30.GL_RENDERBUFFER_BINDING);
+        int previousDrawFramebuffer = GL11.glGetInteger(GL30.GL_DRAW_FRAMEBUFFER_BINDING);
+        GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, mirrorRenderbuffer);
+        GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, GL11.GL_RGBA8, width, height);
+        GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, mirrorFramebuffer);
+        GL30.glFramebufferRenderbuffer(GL30.GL_DRAW_FRAMEBUFFER, GL30.GL_COLOR_ATTACHMENT0, GL30.GL_RENDERBUFFER, mirrorRenderbuffer);
+        GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, previousRenderbuffer);
+        GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, previousDrawFramebuffer);
+        mirrorWidth = width;
+        mirrorHeight = height;
+        glErrorCheck("Mirror framebuffer creation");
+    }
+
+    /**
+     * Copies the rendered part of an eye's image into its part of the mirror (if it is shown in the current mode)
+     */
+    private void copyEyeToMirror(EyeSide eyeSide, FrameBuffer eyeFrameBuffer, InProgressXrRender continuation){
+        DesktopMirrorLayout.Region destination = DesktopMirrorLayout.destinationRegion(xrSettings.getDesktopMirrorMode(), eyeSide, mirrorWidth, mirrorHeight);
+        if (destination == null){
+            return;
+        }
+        DesktopMirrorLayout.Region source = DesktopMirrorLayout.sourceRegion(continuation.renderWidth, continuation.renderHeight, destination, xrSettings.isDesktopMirrorCropToAspect());
+        renderer.clearClipRect();
+        blitFramebuffer(eyeFrameBuffer.getId(), source, mirrorFramebuffer, destination, GL11.GL_LINEAR);
+    }
+
+    /**
+     * Copies the mirror to the window's (back) buffer, ready for it to be swapped at the end of the jME frame
+     */
+    private void presentMirror(){
+        if (xrSettings.getDesktopMirrorMode() == DesktopMirrorMode.OFF || mirrorFramebuffer == 0){
+            return;
+        }
+        DesktopMirrorLayout.Region wholeWindow = new DesktopMirrorLayout.Region(0, 0, mirrorWidth, mirrorHeight);
+        renderer.clearClipRect();
+        blitFramebuffer(mirrorFramebuffer, wholeWindow, 0, wholeWindow, GL11.GL_NEAREST);
+    }
+
+    private void blitFramebuffer(int sourceFramebuffer, DesktopMirrorLayout.Region source, int destinationFramebuffer, DesktopMirrorLayout.Region destination, int filter){
+        // jME tracks what is bound, so it is put back as it was
+        int previousReadFramebuffer = GL11.glGetInteger(GL30.GL_READ_FRAMEBUFFER_BINDING);
+        int previousDrawFramebuffer = GL11.glGetInteger(GL30.GL_DRAW_FRAMEBUFFER_BINDING);
+        GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, sourceFramebuffer);
+        GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, destinationFramebuffer);
+        GL30.glBlitFramebuffer(
+                source.x0(), source.y0(), source.x1(), source.y1(),
+                destination.x0(), destination.y0(), destination.x1(), destination.y1(),
+                GL11.GL_COLOR_BUFFER_BIT, filter);
+        GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, previousReadFramebuffer);
+        GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, previousDrawFramebuffer);
+        glErrorCheck("Mirror blit");
+    }
+
+    @Override
+    public void setClipDistances(float nearClip, float farClip){
+        this.nearClip = nearClip;
+        this.farClip = farClip;
+    }
+
+    @Override
     public void presentFrameBuffersToOpenXr(InProgressXrRender continuation){
 
         if (!continuation.inProgressXr){
@@ -827,10 +1276,12 @@ public class OpenXrSessionManager{
             XrCompositionLayerProjection layerProjection = XrCompositionLayerProjection.calloc(stack)
                     .type$Default();
 
-            PointerBuffer layers = stack.callocPointer(1);
+            PointerBuffer layers = stack.callocPointer(1 + quadLayerSwapchains.size());
             boolean didRender = false;
 
             if (continuation.isShouldRender()) {
+                long resolveNanos = 0;
+                long releaseNanos = 0;
 
                 XrCompositionLayerProjectionView.Buffer projectionLayerViews = XrUtils.fill(
                         XrCompositionLayerProjectionView.calloc(2, stack),
@@ -838,6 +1289,8 @@ public class OpenXrSessionManager{
                         XR10.XR_TYPE_COMPOSITION_LAYER_PROJECTION_VIEW
                 );
 
+                boolean mirrorUpdateDue = isMirrorUpdateDue();
+
                 for(int viewIndex=0;viewIndex<2;viewIndex++){
                     Swapchain viewSwapchain = swapchains[viewIndex];
                     if(xrSettings.drawMode == DrawMode.BLITTED){
@@ -845,10 +1298,54 @@ public class OpenXrSessionManager{
                         // into the final swapchain buffer (which resolves samples as it goes)
                         int viewSwapchainImageIndex = viewIndex == 0 ? continuation.leftSwapchainImageIndex : continuation.rightSwapchainImageIndex;
                         FrameBuffer viewBuffer = viewIndex == 0 ? continuation.leftBufferToRenderTo : continuation.rightBufferToRenderTo;
-                        resolveDownMultiSampled(viewBuffer, getOrCreateDirectFrameBuffer(viewSwapchainImageIndex));
+                        long resolveStart = System.nanoTime();
+                        resolveDownMultiSampled(viewBuffer, frameBuffers_direct[viewIndex][viewSwapchainImageIndex]);
+                        resolveNanos += System.nanoTime() - resolveStart;
+                    }
+
+                    if (mirrorUpdateDue){
+                        // (by now, in either mode, the swapchain image's framebuffer holds the final single sampled image)
+                        int viewSwapchainImageIndex = viewIndex == 0 ? continuation.leftSwapchainImageIndex : continuation.rightSwapchainImageIndex;
+                        copyEyeToMirror(viewIndex == 0 ? EyeSide.LEFT : EyeSide.RIGHT, frameBuffers_direct[viewIndex][viewSwapchainImageIndex], continuation);
+                    }
+
+                    long depthInfoAddress = NULL;
+                    if (depthSwapchains != null){
+                        Swapchain depthSwapchain = depthSwapchains[viewIndex];
+                        FrameBuffer viewBuffer = viewIndex == 0 ? continuation.leftBufferToRenderTo : continuation.rightBufferToRenderTo;
+                        long resolveStart = System.nanoTime();
+                        copyDepth(viewBuffer, depthFrameBuffers[viewIndex][acquiredDepthImageIndices[viewIndex]]);
+                        resolveNanos += System.nanoTime() - resolveStart;
+
+                        depthInfoAddress = XrCompositionLayerDepthInfoKHR.calloc(stack)
+                                .type$Default()
+                                .subImage(si -> si
+                                        .swapchain(depthSwapchain.handle)
+                                        .imageRect(rect -> rect
+                                                .offset(offset -> offset
+                                                        .x(0)
+                                                        .y(0))
+                                                .extent(extent -> extent
+                                                        .width(continuation.renderWidth)
+                                                        .height(continuation.renderHeight)
+                                                )))
+                                .minDepth(0)
+                                .maxDepth(1)
+                                .nearZ(nearClip)
+                                .farZ(farClip)
+                                .address();
+
+                        long releaseStart = System.nanoTime();
+                        checkResponseCode(XR10.xrReleaseSwapchainImage(
+                                depthSwapchain.handle,
+                                XrSwapchainImageReleaseInfo.calloc(stack)
+                                        .type$Default()
+                        ));
+                        releaseNanos += System.nanoTime() - releaseStart;
                     }
 
                     XrCompositionLayerProjectionView projectionLayerView = projectionLayerViews.get(viewIndex)
+                            .next(depthInfoAddress)
                             .pose(views.get(viewIndex).pose())
                             .fov(views.get(viewIndex).fov())
                             .subImage(si -> si
@@ -858,26 +1355,57 @@ public class OpenXrSessionManager{
                                                     .x(0)
                                                     .y(0))
                                             .extent(extent -> extent
-                                                    .width(viewSwapchain.width)
-                                                    .height(viewSwapchain.height)
+                                                    .width(continuation.renderWidth)
+                                                    .height(continuation.renderHeight)
                                             )));
 
+                    long releaseStart = System.nanoTime();
                     checkResponseCode(XR10.xrReleaseSwapchainImage(
                             viewSwapchain.handle,
                             XrSwapchainImageReleaseInfo.calloc(stack)
                                     .type$Default()
                     ));
+                    releaseNanos += System.nanoTime() - releaseStart;
 
                 }
+                long releaseStart = System.nanoTime();
+                for(QuadLayerSwapchain quadLayerSwapchain : quadLayerSwapchains.values()){
+                    if (quadLayerSwapchain.imageAcquired){
+                        checkResponseCode(XR10.xrReleaseSwapchainImage(
+                                quadLayerSwapchain.swapchain.handle,
+                                XrSwapchainImageReleaseInfo.calloc(stack)
+                                        .type$Default()
+                        ));
+                        quadLayerSwapchain.imageAcquired = false;
+                        quadLayerSwapchain.hasImage = true;
+                    }
+                }
+                releaseNanos += System.nanoTime() - releaseStart;
+                if (xrSettings.drawMode == DrawMode.BLITTED || depthSwapchains != null){
+                    frameTimingStats.record(FrameTimingStats.Phase.RESOLVE, resolveNanos);
+                }
+                frameTimingStats.record(FrameTimingStats.Phase.RELEASE_SWAPCHAIN, releaseNanos);
 
                 layerProjection.space(xrAppSpace);
                 layerProjection.views(projectionLayerViews);
                 layers.put(0, layerProjection.address());
+                int layerCount = 1;
+                // quad layers are drawn over the projection layer (in the order they were added)
+                for(Map.Entry<QuadLayer, QuadLayerSwapchain> quadLayerEntry : quadLayerSwapchains.entrySet()){
+                    QuadLayer quadLayer = quadLayerEntry.getKey();
+                    QuadLayerSwapchain quadLayerSwapchain = quadLayerEntry.getValue();
+                    if (quadLayer.isVisible() && quadLayerSwapchain.hasImage){
+                        layers.put(layerCount, toCompositionLayerQuad(stack, quadLayer, quadLayerSwapchain).address());
+                        layerCount++;
+                    }
+                }
+                layers.limit(layerCount);
                 didRender = true;
             } else {
                 LOGGER.fine("Shouldn't render");
             }
 
+            long endFrameStart = System.nanoTime();
             checkResponseCode(XR10.xrEndFrame(
                     xrSession,
                     XrFrameEndInfo.malloc(stack)
@@ -888,7 +1416,153 @@ public class OpenXrSessionManager{
                             .layers(didRender ? layers : null)
                             .layerCount(didRender ? layers.remaining() : 0)
             ));
+            frameTimingStats.recordSince(FrameTimingStats.Phase.END_FRAME, endFrameStart);
         }
+        // after the frame is submitted so the headset isn't kept waiting for the window
+        presentMirror();
+    }
+
+    private XrCompositionLayerQuad toCompositionLayerQuad(MemoryStack stack, QuadLayer quadLayer, QuadLayerSwapchain quadLayerSwapchain){
+        Vector3f position = quadLayer.getPosition();
+        Quaternion orientation = quadLayer.getOrientation();
+        // both jME and OpenXR put the quad in its local xy plane, facing +z, so (unlike the views) no conversion is needed
+        return XrCompositionLayerQuad.calloc(stack)
+                .type$Default()
+                .layerFlags(XR10.XR_COMPOSITION_LAYER_BLEND_TEXTURE_SOURCE_ALPHA_BIT)
+                .space(xrAppSpace)
+                .eyeVisibility(XR10.XR_EYE_VISIBILITY_BOTH)
+                .subImage(si -> si
+                        .swapchain(quadLayerSwapchain.swapchain.handle)
+                        .imageRect(rect -> rect
+                                .offset(offset -> offset
+                                        .x(0)
+                                        .y(0))
+                                .extent(extent -> extent
+                                        .width(quadLayerSwapchain.swapchain.width)
+                                        .height(quadLayerSwapchain.swapchain.height)
+                                )))
+                .pose(pose -> pose
+                        .orientation(quaternion -> quaternion.set(orientation.getX(), orientation.getY(), orientation.getZ(), orientation.getW()))
+                        .position$(vector -> vector.set(position.x, position.y, position.z)))
+                .size(size -> size.set(quadLayer.getWidthMetres(), quadLayer.getHeightMetres()));
+    }
+
+    @Override
+    public boolean isQuadLayersSupported(){
+        return true;
+    }
+
+    @Override
+    public boolean isDesktopMirrorSupported(){
+        return true;
+    }
+
+    @Override
+    public void addQuadLayer(QuadLayer quadLayer){
+        if (quadLayerSwapchains.containsKey(quadLayer)){
+            throw new IllegalStateException("Quad layer has already been added");
+        }
+        Swapchain swapchain = createSwapchain(glColorFormat, XR10.XR_SWAPCHAIN_USAGE_SAMPLED_BIT | XR10.XR_SWAPCHAIN_USAGE_COLOR_ATTACHMENT_BIT, quadLayer.getWidthPixels(), quadLayer.getHeightPixels());
+
+        // the layers are flat images so only need colour
+        Image.Format format = DESIRED_SWAPCHAIN_FORMATS.get(glColorFormat);
+        FrameBuffer[] frameBuffers = new FrameBuffer[swapchain.images.capacity()];
+        for(int imageIndex = 0; imageIndex < frameBuffers.length; imageIndex++){
+            Texture2D texture = new Texture2D(new SwapchainImage(swapchain.images.get(imageIndex).image(), format, swapchain.width, swapchain.height));
+            FrameBuffer frameBuffer = new FrameBuffer(swapchain.width, swapchain.height, 1);
+            frameBuffer.setName("OpenXR quad layer buffer " + imageIndex);
+            frameBuffer.addColorTarget(FrameBuffer.FrameBufferTarget.newTarget(texture));
+            frameBuffers[imageIndex] = frameBuffer;
+        }
+        quadLayerSwapchains.put(quadLayer, new QuadLayerSwapchain(swapchain, frameBuffers));
+    }
+
+    @Override
+    public void removeQuadLayer(QuadLayer quadLayer){
+        QuadLayerSwapchain quadLayerSwapchain = quadLayerSwapchains.remove(quadLayer);
+        if (quadLayerSwapchain != null){
+            destroySwapchain(quadLayerSwapchain.swapchain);
+        }
+    }
+
+    @Override
+    public FrameBuffer acquireQuadLayerFrameBuffer(QuadLayer quadLayer){
+        QuadLayerSwapchain quadLayerSwapchain = quadLayerSwapchains.get(quadLayer);
+        if (quadLayerSwapchain == null){
+            throw new IllegalArgumentException("Quad layer has not been added");
+        }
+        try (MemoryStack stack = stackPush()) {
+            if (!quadLayerSwapchain.imageAcquired){
+                quadLayerSwapchain.acquiredImageIndex = acquireSwapchainImage(stack, quadLayerSwapchain.swapchain);
+                quadLayerSwapchain.imageAcquired = true;
+            }
+            return quadLayerSwapchain.frameBuffers[quadLayerSwapchain.acquiredImageIndex];
+        }
+    }
+
+    /**
+     * Creates a single sampled swapchain (with its images enumerated), used for the quad layers and the depth
+     * swapchains.
+     */
+    private Swapchain createSwapchain(int glFormat, long usageFlags, int width, int height){
+        try (MemoryStack stack = stackPush()) {
+            XrSwapchainCreateInfo swapchainCreateInfo = XrSwapchainCreateInfo.malloc(stack)
+                    .type$Default()
+                    .next(NULL)
+                    .createFlags(0)
+                    .usageFlags(usageFlags)
+                    .format(glFormat)
+                    .sampleCount(1)
+                    .width(width)
+                    .height(height)
+                    .faceCount(1)
+                    .arraySize(1)
+                    .mipCount(1);
+
+            PointerBuffer swapchainHandlePointerBuffer = stack.mallocPointer(1);
+            checkResponseCode(XR10.xrCreateSwapchain(xrSession, swapchainCreateInfo, swapchainHandlePointerBuffer));
+            XrSwapchain swapchainHandle = new XrSwapchain(swapchainHandlePointerBuffer.get(0), xrSession);
+
+            IntBuffer imageCountPointer = stack.mallocInt(1);
+            checkResponseCode(XR10.xrEnumerateSwapchainImages(swapchainHandle, imageCountPointer, null));
+            int imageCount = imageCountPointer.get(0);
+
+            XrSwapchainImageOpenGLKHR.Buffer swapchainImageBuffer = XrUtils.fill(
+                    XrSwapchainImageOpenGLKHR.calloc(imageCount),
+                    XrSwapchainImageOpenGLKHR.TYPE,
+                    KHROpenGLEnable.XR_TYPE_SWAPCHAIN_IMAGE_OPENGL_KHR
+            );
+            checkResponseCode(XR10.xrEnumerateSwapchainImages(swapchainHandle, imageCountPointer, XrSwapchainImageBaseHeader.create(swapchainImageBuffer.address(), swapchainImageBuffer.capacity())));
+
+            return new Swapchain(swapchainHandle, width, height, swapchainImageBuffer);
+        }
+    }
+
+    /**
+     * Acquires the next image of a swapchain and waits until it can be rendered to.
+     * @return the index of the acquired image
+     */
+    private int acquireSwapchainImage(MemoryStack stack, Swapchain swapchain){
+        IntBuffer imageIndexPointer = stack.mallocInt(1);
+        checkResponseCode(XR10.xrAcquireSwapchainImage(
+                swapchain.handle,
+                XrSwapchainImageAcquireInfo.calloc(stack)
+                        .type$Default(),
+                imageIndexPointer
+        ));
+        checkResponseCode(XR10.xrWaitSwapchainImage(
+                swapchain.handle,
+                XrSwapchainImageWaitInfo.malloc(stack)
+                        .type$Default()
+                        .next(NULL)
+                        .timeout(XR10.XR_INFINITE_DURATION)
+        ));
+        return imageIndexPointer.get(0);
+    }
+
+    private static void destroySwapchain(Swapchain swapchain){
+        XR10.xrDestroySwapchain(swapchain.handle);
+        swapchain.images.free();
     }
 
     /*
@@ -994,13 +1668,30 @@ public class OpenXrSessionManager{
         }
     }
 
+    @Override
     public void destroy(){
+        if (framePacer != null){
+            framePacer.stop();
+        }
         eventDataBuffer.free();
         views.free();
+        lateLatchedViews.free();
         viewConfigs.free();
         for (Swapchain swapchain : swapchains) {
-            XR10.xrDestroySwapchain(swapchain.handle);
-            swapchain.images.free();
+            destroySwapchain(swapchain);
+        }
+        if (depthSwapchains != null){
+            for (Swapchain depthSwapchain : depthSwapchains) {
+                destroySwapchain(depthSwapchain);
+            }
+        }
+        for (QuadLayerSwapchain quadLayerSwapchain : quadLayerSwapchains.values()) {
+            destroySwapchain(quadLayerSwapchain.swapchain);
+        }
+        quadLayerSwapchains.clear();
+        if (mirrorFramebuffer != 0){
+            GL30.glDeleteFramebuffers(mirrorFramebuffer);
+            GL30.glDeleteRenderbuffers(mirrorRenderbuffer);
         }
         XR10.xrDestroySpace(xrAppSpace);
         if (xrDebugMessenger != null) {
@@ -1053,4 +1744,20 @@ public class OpenXrSessionManager{
         XrSwapchainImageOpenGLKHR.Buffer images
     ){}
 
+    private static class QuadLayerSwapchain{
+        private final Swapchain swapchain;
+        private final FrameBuffer[] frameBuffers;
+        private boolean imageAcquired = false;
+        private int acquiredImageIndex = -1;
+        /**
+         * If an image has ever been released (so the layer has something to show)
+         */
+        private boolean hasImage = false;
+
+        private QuadLayerSwapchain(Swapchain swapchain, FrameBuffer[] frameBuffers){
+            this.swapchain = swapchain;
+            this.frameBuffers = frameBuffers;
+        }
+    }
+
 }
@@ -4,8 +4,6 @@ import com.jme3.app.Application;
 import com.jme3.system.AppSettings;
 import com.jme3.system.lwjgl.LwjglWindow;
 
-import java.util.Map;
-
 public class XrAppState extends XrVrAppState{
 
     OpenXrSessionManager xrSession;
@@ -45,48 +43,9 @@ public class XrAppState extends XrVrAppState{
         return xrSession;
     }
 
-
-    @Override
-    public String getSystemName(){
-        return xrSession.getSystemName();
-    }
-
-    @Override
-    protected void cleanup(Application app){
-        super.cleanup(app);
-        xrSession.destroy();
-    }
-
-    @Override
-    public void update(float tpf){
-        super.update(tpf);
-        inProgressXrRender = xrSession.startXrFrame();
-        if (inProgressXrRender.shouldRender){
-            render();
-        }
-    }
-
     @Override
-    public Map<String, Boolean> getExtensionsLoaded(){
-        return xrSession.getExtensionsLoaded();
-    }
-
-
-
-    @Override
-    public void postRender(){
-        super.postRender();
-        if (inProgressXrRender !=null){
-            xrSession.presentFrameBuffersToOpenXr(inProgressXrRender);
-            inProgressXrRender = null;
-        }
-    }
-
-
-    @Override
-    public void setXrVrMode(XrVrMode xrVrMode){
-        xrSession.setXrVrBlendMode(xrVrMode);
+    protected XrSessionBackend getSessionBackend(){
+        return xrSession;
     }
 
-
 }